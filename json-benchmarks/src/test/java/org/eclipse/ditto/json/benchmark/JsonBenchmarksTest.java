@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonValue;
+import org.junit.Test;
+
+/**
+ * Simple Test executing the JSON benchmarks once for each {@link PayloadSize} in order to ensure that they work on
+ * valid payloads.
+ */
+public final class JsonBenchmarksTest {
+
+    @Test
+    public void parseBenchmarksProduceTheOriginalPayload() throws IOException {
+        final JsonParseBenchmark underTest = new JsonParseBenchmark();
+        for (final ThingPayload payload : createPayloads()) {
+            assertThat(underTest.jsonFactoryReadFrom(payload)).isEqualTo(payload.jsonObject);
+            assertThat(underTest.jsonFactoryNewObject(payload)).isEqualTo(payload.jsonObject);
+            assertThat(underTest.jsonFactoryReadFromReader(payload)).isEqualTo(payload.jsonObject);
+            assertThat(underTest.parseAndAccessNestedValue(payload)).isEqualTo(JsonValue.of("connected"));
+            assertThat(underTest.jsonFactoryNewObjectLazily(payload)).isEqualTo(payload.jsonObject);
+            assertThat(underTest.parseLazilyAndAccessNestedValue(payload)).isEqualTo(JsonValue.of("connected"));
+        }
+    }
+
+    @Test
+    public void serializationBenchmarksProduceTheOriginalPayload() throws IOException {
+        final JsonSerializationBenchmark underTest = new JsonSerializationBenchmark();
+        for (final ThingPayload payload : createPayloads()) {
+            final JsonSerializationBenchmark.UncachedPayload uncachedPayload =
+                    new JsonSerializationBenchmark.UncachedPayload();
+            uncachedPayload.setup(payload);
+
+            assertThat(underTest.toStringCached(payload)).isEqualTo(payload.jsonString);
+            assertThat(underTest.toStringUncached(uncachedPayload)).isEqualTo(payload.jsonString);
+            assertThat(underTest.writeValueCbor(payload)).isEqualTo(payload.cborBytes);
+            assertThat(ThingPayload.CBOR_FACTORY.readFrom(underTest.writeValueCborOfModifiedObject(payload))
+                    .asObject()
+                    .getValue("features/feature0/properties/status/value"))
+                    .contains(JsonValue.of("disconnected"));
+        }
+    }
+
+    @Test
+    public void cborBenchmarksProduceTheOriginalPayload() throws IOException {
+        final CborRoundTripBenchmark underTest = new CborRoundTripBenchmark();
+        for (final ThingPayload payload : createPayloads()) {
+            assertThat(underTest.readFromByteArray(payload)).isEqualTo(payload.jsonObject);
+            assertThat(underTest.readFromByteBuffer(payload)).isEqualTo(payload.jsonObject);
+            assertThat(underTest.readFromByteBufferLazilyAndAccessNestedValue(payload))
+                    .isEqualTo(JsonValue.of("connected"));
+            assertThat(underTest.roundTrip(payload)).isEqualTo(payload.jsonObject);
+            assertThat(ThingPayload.CBOR_FACTORY.readFrom(underTest.parseJsonStringAndWriteCbor(payload)))
+                    .isEqualTo(payload.jsonObject);
+        }
+    }
+
+    @Test
+    public void fieldSelectorBenchmarkSelectsFields() throws IOException {
+        final JsonFieldSelectorBenchmark underTest = new JsonFieldSelectorBenchmark();
+        underTest.fieldSelectorString = "thingId,attributes(manufacturer,location)";
+        underTest.setup();
+        for (final ThingPayload payload : createPayloads()) {
+            assertThat(underTest.applyFieldSelector(payload).getKeys())
+                    .containsExactly(JsonFactory.newKey("thingId"), JsonFactory.newKey("attributes"));
+        }
+    }
+
+    @Test
+    public void modificationBenchmarksProduceEqualResults() {
+        final JsonObjectModificationBenchmark underTest = new JsonObjectModificationBenchmark();
+        underTest.fieldCount = 100;
+        underTest.modificationCount = 100;
+        underTest.setup();
+
+        assertThat(underTest.setFieldsStructurallyShared()).isEqualTo(underTest.setFieldsCopyOnWrite());
+        assertThat(underTest.removeAndSetFieldsStructurallyShared())
+                .isEqualTo(underTest.removeAndSetFieldsCopyOnWrite());
+    }
+
+    private static ThingPayload[] createPayloads() throws IOException {
+        final PayloadSize[] payloadSizes = PayloadSize.values();
+        final ThingPayload[] result = new ThingPayload[payloadSizes.length];
+        for (int i = 0; i < payloadSizes.length; i++) {
+            result[i] = new ThingPayload();
+            result[i].payloadSize = payloadSizes[i];
+            result[i].setup();
+        }
+        return result;
+    }
+
+}
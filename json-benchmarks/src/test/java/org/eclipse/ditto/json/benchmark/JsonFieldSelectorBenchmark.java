@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonParseOptions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH Benchmark for parsing {@link JsonFieldSelector}s and applying them to thing payloads.
+ */
+@State(Scope.Benchmark)
+public class JsonFieldSelectorBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 10;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    private static final JsonParseOptions PARSE_OPTIONS = JsonParseOptions.newBuilder()
+            .withoutUrlDecoding()
+            .build();
+
+    @Param({
+            "thingId",
+            "thingId,attributes(manufacturer,location)",
+            "thingId,policyId,attributes,features/feature0/properties(status,property0,property3/max)"
+    })
+    public String fieldSelectorString;
+
+    private JsonFieldSelector fieldSelector;
+
+    @Setup
+    public void setup() {
+        fieldSelector = JsonFactory.newFieldSelector(fieldSelectorString, PARSE_OPTIONS);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonFieldSelector parseFieldSelector() {
+        return JsonFactory.newFieldSelector(fieldSelectorString, PARSE_OPTIONS);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonObject applyFieldSelector(final ThingPayload payload) {
+        return payload.jsonObject.get(fieldSelector);
+    }
+
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH Benchmark comparing repeated modifications of a {@link JsonObject} which are based on the structurally shared
+ * field map with modifications which copy all fields into a new JSON object each time, as it was done before.
+ */
+@State(Scope.Benchmark)
+public class JsonObjectModificationBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 10;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    /**
+     * Number of fields of the modified JSON object, e.g. the number of feature properties.
+     */
+    @Param({"10", "100", "1000"})
+    public int fieldCount;
+
+    /**
+     * Number of modifications applied to the JSON object within one benchmark invocation.
+     */
+    @Param({"1", "100"})
+    public int modificationCount;
+
+    private JsonObject jsonObject;
+    private JsonField[] modifiedFields;
+
+    @Setup
+    public void setup() {
+        final JsonObjectBuilder builder = JsonFactory.newObjectBuilder();
+        for (int i = 0; i < fieldCount; i++) {
+            builder.set("property" + i, i);
+        }
+        jsonObject = builder.build();
+        modifiedFields = new JsonField[modificationCount];
+        for (int i = 0; i < modificationCount; i++) {
+            modifiedFields[i] = JsonField.newInstance("property" + (i * 7 % fieldCount), JsonValue.of(-i - 1));
+        }
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public String setFieldsStructurallyShared() {
+        JsonObject result = jsonObject;
+        for (final JsonField modifiedField : modifiedFields) {
+            result = result.set(modifiedField);
+        }
+        return result.toString();
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public String setFieldsCopyOnWrite() {
+        JsonObject result = jsonObject;
+        for (final JsonField modifiedField : modifiedFields) {
+            result = JsonFactory.newObjectBuilder(result).set(modifiedField).build();
+        }
+        return result.toString();
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public String removeAndSetFieldsStructurallyShared() {
+        JsonObject result = jsonObject;
+        for (final JsonField modifiedField : modifiedFields) {
+            result = result.remove(modifiedField.getKey()).set(modifiedField);
+        }
+        return result.toString();
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public String removeAndSetFieldsCopyOnWrite() {
+        JsonObject result = jsonObject;
+        for (final JsonField modifiedField : modifiedFields) {
+            final JsonObject withoutField = JsonFactory.newObjectBuilder(result).remove(modifiedField.getKey()).build();
+            result = JsonFactory.newObjectBuilder(withoutField).set(modifiedField).build();
+        }
+        return result.toString();
+    }
+
+}
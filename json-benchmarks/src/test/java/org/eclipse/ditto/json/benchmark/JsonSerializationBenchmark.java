@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH Benchmark for serializing an {@code ImmutableJsonObject} to a JSON string via {@code toString()} and to CBOR
+ * via {@code writeValue}.
+ */
+@State(Scope.Benchmark)
+public class JsonSerializationBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 10;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    private static final JsonPointer STATUS_VALUE_POINTER = JsonPointer.of("features/feature0/properties/status/value");
+
+    /**
+     * Provides a fresh copy of the payload for each invocation, so that no JSON string representation is cached yet.
+     */
+    @State(Scope.Thread)
+    public static class UncachedPayload {
+
+        JsonObject jsonObject;
+
+        @Setup(Level.Invocation)
+        public void setup(final ThingPayload payload) {
+            jsonObject = payload.copyWithoutCachedStrings();
+        }
+
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public String toStringCached(final ThingPayload payload) {
+        return payload.jsonObject.toString();
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public String toStringUncached(final UncachedPayload payload) {
+        return payload.jsonObject.toString();
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public byte[] writeValueCbor(final ThingPayload payload) throws IOException {
+        return ThingPayload.CBOR_FACTORY.toByteArray(payload.jsonObject);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public byte[] writeValueCborOfModifiedObject(final ThingPayload payload) throws IOException {
+        final JsonObject modified = payload.jsonObject.setValue(STATUS_VALUE_POINTER, JsonValue.of("disconnected"));
+        return ThingPayload.CBOR_FACTORY.toByteArray(modified);
+    }
+
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json.benchmark;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+
+/**
+ * Sizes of the thing payloads the benchmarks are executed with.
+ */
+public enum PayloadSize {
+
+    /**
+     * A thing with one feature with a few properties, about 1 KB.
+     */
+    SMALL(1, 5),
+
+    /**
+     * A thing with several features with some properties each, about 15 KB.
+     */
+    MEDIUM(10, 20),
+
+    /**
+     * A thing with many features with many properties each, about 300 KB.
+     */
+    LARGE(50, 100);
+
+    private final int featureCount;
+    private final int propertyCount;
+
+    PayloadSize(final int featureCount, final int propertyCount) {
+        this.featureCount = featureCount;
+        this.propertyCount = propertyCount;
+    }
+
+    /**
+     * Creates the JSON of a thing of this size.
+     *
+     * @return the thing JSON.
+     */
+    public JsonObject createThingJson() {
+        final JsonObjectBuilder features = JsonFactory.newObjectBuilder();
+        for (int featureIndex = 0; featureIndex < featureCount; featureIndex++) {
+            features.set(getFeatureId(featureIndex), createFeatureJson(featureIndex));
+        }
+
+        return JsonFactory.newObjectBuilder()
+                .set("thingId", "org.eclipse.ditto.benchmark:thing-" + name().toLowerCase())
+                .set("policyId", "org.eclipse.ditto.benchmark:policy")
+                .set("definition", "org.eclipse.ditto:benchmark:1.0.0")
+                .set("attributes", JsonFactory.newObjectBuilder()
+                        .set("manufacturer", "ACME Corporation")
+                        .set("serialNumber", "SN-4711-0815")
+                        .set("location", JsonFactory.newObjectBuilder()
+                                .set("latitude", 47.682170)
+                                .set("longitude", 9.386372)
+                                .build())
+                        .set("tags", JsonArray.of("benchmark", "ditto", "thing"))
+                        .set("commissioned", true)
+                        .build())
+                .set("features", features.build())
+                .set("_revision", 42L)
+                .set("_modified", "2021-01-01T12:00:00.000Z")
+                .build();
+    }
+
+    private JsonObject createFeatureJson(final int featureIndex) {
+        final JsonObjectBuilder properties = JsonFactory.newObjectBuilder()
+                .set("status", JsonFactory.newObjectBuilder()
+                        .set("value", "connected")
+                        .set("timestamp", "2021-01-01T12:00:00." + featureIndex + "Z")
+                        .build());
+        for (int propertyIndex = 0; propertyIndex < propertyCount; propertyIndex++) {
+            final String propertyName = getPropertyName(propertyIndex);
+            switch (propertyIndex % 4) {
+                case 0:
+                    properties.set(propertyName, featureIndex * 1000 + propertyIndex);
+                    break;
+                case 1:
+                    properties.set(propertyName, propertyIndex * 0.25);
+                    break;
+                case 2:
+                    properties.set(propertyName, "value of " + propertyName + " in feature " + featureIndex);
+                    break;
+                default:
+                    properties.set(propertyName, JsonFactory.newObjectBuilder()
+                            .set("min", -propertyIndex)
+                            .set("max", propertyIndex)
+                            .set("enabled", 0 == featureIndex % 2)
+                            .build());
+            }
+        }
+        return JsonFactory.newObjectBuilder()
+                .set("definition", JsonArray.of("[\"org.eclipse.ditto:sensor:1.0.0\"]"))
+                .set("properties", properties.build())
+                .build();
+    }
+
+    /**
+     * Returns the ID of the feature with the given index.
+     *
+     * @param featureIndex the index of the feature.
+     * @return the feature ID.
+     */
+    public static String getFeatureId(final int featureIndex) {
+        return "feature" + featureIndex;
+    }
+
+    /**
+     * Returns the name of the property with the given index.
+     *
+     * @param propertyIndex the index of the property.
+     * @return the property name.
+     */
+    public static String getPropertyName(final int propertyIndex) {
+        return "property" + propertyIndex;
+    }
+
+}
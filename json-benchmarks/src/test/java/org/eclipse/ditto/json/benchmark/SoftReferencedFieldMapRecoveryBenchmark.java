@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH Benchmark for accessing fields of JSON objects whose softly referenced fields are cleared by the garbage
+ * collector and therefore have to be recovered from their JSON string or CBOR representation.
+ * <p>
+ * The benchmark is forked with a small heap and a soft reference policy which clears all soft references on each GC.
+ * GC pressure is produced by allocating garbage on each invocation; {@code garbageKilobytesPerInvocation = 0}
+ * serves as baseline without pressure.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@Fork(jvmArgsAppend = {"-Xmx256m", "-XX:SoftRefLRUPolicyMSPerMB=0"})
+public class SoftReferencedFieldMapRecoveryBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 10;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    private static final int RETAINED_OBJECTS = 256;
+
+    @Param({"0", "64"})
+    public int garbageKilobytesPerInvocation;
+
+    @Param({"SMALL", "MEDIUM"})
+    public PayloadSize payloadSize;
+
+    private JsonObject[] retainedObjects;
+    private int nextIndex;
+
+    @Setup
+    public void setup() {
+        final String jsonString = payloadSize.createThingJson().toString();
+        retainedObjects = new JsonObject[RETAINED_OBJECTS];
+        for (int i = 0; i < RETAINED_OBJECTS; i++) {
+            retainedObjects[i] = JsonFactory.newObject(jsonString);
+        }
+        nextIndex = 0;
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonValue accessNestedValue() {
+        final byte[] garbage = new byte[garbageKilobytesPerInvocation * 1024];
+        final JsonObject jsonObject = retainedObjects[nextIndex];
+        nextIndex = (nextIndex + 1) % RETAINED_OBJECTS;
+        return jsonObject.getValue("features/feature0/properties/status/value")
+                .orElseGet(() -> JsonValue.of(garbage.length));
+    }
+
+}
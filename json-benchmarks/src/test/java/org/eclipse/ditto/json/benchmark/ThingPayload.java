@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json.benchmark;
+
+import java.io.IOException;
+
+import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.json.cbor.JacksonCborFactory;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * JMH state providing a thing payload of each {@link PayloadSize} in its different representations.
+ */
+@State(Scope.Benchmark)
+public class ThingPayload {
+
+    static final JacksonCborFactory CBOR_FACTORY = new JacksonCborFactory();
+
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    public PayloadSize payloadSize;
+
+    String jsonString;
+    byte[] cborBytes;
+    JsonObject jsonObject;
+
+    @Setup
+    public void setup() throws IOException {
+        jsonString = payloadSize.createThingJson().toString();
+        jsonObject = JsonFactory.newObject(jsonString);
+        cborBytes = CBOR_FACTORY.toByteArray(jsonObject);
+    }
+
+    /**
+     * Creates a deep copy of the thing JSON whose objects did not yet create their JSON string representation.
+     *
+     * @return the copy.
+     */
+    JsonObject copyWithoutCachedStrings() {
+        return deepCopy(jsonObject).asObject();
+    }
+
+    private static JsonValue deepCopy(final JsonValue jsonValue) {
+        if (jsonValue.isObject()) {
+            return jsonValue.asObject().stream()
+                    .map(field -> JsonFactory.newField(field.getKey(), deepCopy(field.getValue())))
+                    .collect(JsonCollectors.fieldsToObject());
+        }
+        if (jsonValue.isArray()) {
+            return jsonValue.asArray().stream()
+                    .map(ThingPayload::deepCopy)
+                    .collect(JsonCollectors.valuesToArray());
+        }
+        return jsonValue;
+    }
+
+}
@@ -15,6 +15,7 @@ package org.eclipse.ditto.json.cbor;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
 import java.text.MessageFormat;
 import java.util.LinkedHashMap;
@@ -74,14 +75,13 @@ public final class JacksonCborFactory implements CborFactory {
 
     @Override
     public JsonValue readFrom(final byte[] bytes, final int offset, final int length) {
-        // ensure that buffers position is zero so that offsets determined by CBORParser map directly to positions in
-        // this buffer.
-        final ByteBuffer byteBuffer = ByteBuffer.wrap(bytes, offset, length).slice();
+        // offsets determined by CBORParser are positions within the whole array and not relative to the offset.
+        final ByteBuffer byteBuffer = ByteBuffer.wrap(bytes);
         try {
             final CBORParser parser = JACKSON_CBOR_FACTORY.createParser(bytes, offset, length);
             return parseValue(parser, byteBuffer);
-        } catch (final IOException | IllegalArgumentException e) {
-            throw createJsonParseException(byteBuffer, e);
+        } catch (final IOException | IllegalArgumentException | BufferUnderflowException e) {
+            throw createJsonParseException(ByteBuffer.wrap(bytes, offset, length).slice(), e);
         }
     }
 
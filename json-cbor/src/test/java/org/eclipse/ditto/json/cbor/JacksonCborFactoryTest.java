@@ -85,6 +85,15 @@ public final class JacksonCborFactoryTest {
         assertThat(result).isEqualTo(testValue);
     }
 
+    @Test
+    public void readFromByteArrayWithOffsetKeepsCborRepresentation() throws IOException {
+        final int paddingFront = 20;
+        final byte[] arrayWithOffset = new byte[paddingFront + testBytes.length];
+        System.arraycopy(testBytes, 0, arrayWithOffset, paddingFront, testBytes.length);
+        final JsonValue result = cborFactory.readFrom(arrayWithOffset, paddingFront, testBytes.length);
+        assertThat(cborFactory.toByteArray(result)).isEqualTo(testBytes);
+    }
+
     @Test
     public void readFromByteBuffer() {
         final JsonValue result = cborFactory.readFrom(ByteBuffer.wrap(testBytes));
@@ -100,6 +109,30 @@ public final class JacksonCborFactoryTest {
         assertThat(result).isEqualTo(testValue);
     }
 
+    @Test
+    public void readLazilyFromByteArrayWithOffset() {
+        final int paddingFront = 20;
+        final int paddingBack = 42;
+        final byte[] arrayWithOffsetAndLength = new byte[paddingFront + testBytes.length + paddingBack];
+        System.arraycopy(testBytes, 0, arrayWithOffsetAndLength, paddingFront, testBytes.length);
+        final JsonValue result = cborFactory.readFromLazily(arrayWithOffsetAndLength, paddingFront, testBytes.length);
+        assertThat(result).isEqualTo(testValue);
+    }
+
+    @Test
+    public void readLazilyFromByteBufferWithInaccessibleArray() {
+        final ByteBuffer readOnlyBuffer = ByteBuffer.wrap(testBytes).asReadOnlyBuffer();
+        final JsonValue result = cborFactory.readFromLazily(readOnlyBuffer);
+        assertThat(result).isEqualTo(testValue);
+    }
+
+    @Test
+    public void lazilyReadValueIsSerializedToSameBytes() throws IOException {
+        final JsonValue result = cborFactory.readFromLazily(ByteBuffer.wrap(testBytes));
+        assertThat(cborFactory.toByteArray(result)).isEqualTo(testBytes);
+        assertThat(result.toString()).isEqualTo(testValue.toString());
+    }
+
     @Test
     public void toBytebufferWorks() throws IOException {
         Assertions.assertThat(BinaryToHexConverter.toHexString(cborFactory.toByteBuffer(testValue)))
@@ -67,6 +67,45 @@ public interface CborFactory {
      */
     JsonValue readFrom(ByteBuffer byteBuffer);
 
+    /**
+     * Deserializes a {@code JsonValue} from the passed {@code bytes} with CBOR applying a {@code offset} and
+     * {@code length}. If the bytes represent a JSON object, only the keys and offsets of its top-level fields are
+     * indexed; the field values are parsed on first access.
+     *
+     * @param bytes the bytes to parse with CBOR.
+     * @param offset the offset where to start reading from.
+     * @param length the length of how much bytes to read.
+     * @return the JsonValue.
+     * @throws JsonParseException if the bytes do not represent a CBOR map with text keys.
+     * @since 2.0.0
+     */
+    default JsonValue readFromLazily(final byte[] bytes, final int offset, final int length) {
+        if (0 < length && LazyFieldMap.isCborMap(bytes[offset])) {
+            return ImmutableJsonObject.lazyOf(this, bytes, offset, length);
+        }
+        return readFrom(bytes, offset, length);
+    }
+
+    /**
+     * Deserializes a {@code JsonValue} from the passed {@code byteBuffer} with CBOR. If the bytes represent a JSON
+     * object, only the keys and offsets of its top-level fields are indexed; the field values are parsed on first
+     * access.
+     *
+     * @param byteBuffer the ByteBuffer to parse with CBOR.
+     * @return the JsonValue.
+     * @throws JsonParseException if the bytes do not represent a CBOR map with text keys.
+     * @since 2.0.0
+     */
+    default JsonValue readFromLazily(final ByteBuffer byteBuffer) {
+        final int length = byteBuffer.remaining();
+        if (byteBuffer.hasArray()) {
+            return readFromLazily(byteBuffer.array(), byteBuffer.arrayOffset() + byteBuffer.position(), length);
+        }
+        final byte[] bytes = new byte[length];
+        byteBuffer.duplicate().get(bytes);
+        return readFromLazily(bytes, 0, length);
+    }
+
     /**
      * Serializes a CBOR byte array from the passed {@code jsonValue}.
      *
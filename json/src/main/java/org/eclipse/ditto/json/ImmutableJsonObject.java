@@ -37,6 +37,7 @@ import java.util.stream.StreamSupport;
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 import javax.annotation.concurrent.NotThreadSafe;
+import javax.annotation.concurrent.ThreadSafe;
 
 /**
  * An immutable implementation of a JSON object.
@@ -115,6 +116,42 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         ));
     }
 
+    /**
+     * Returns a new {@code ImmutableJsonObject} instance which only indexes the top-level fields of the given JSON
+     * object string. The field values are parsed on first access.
+     *
+     * @param jsonObjectString the string representation of a JSON object.
+     * @return the lazily parsed JSON object.
+     * @throws NullPointerException if {@code jsonObjectString} is {@code null}.
+     * @throws JsonParseException if {@code jsonObjectString} does not represent a JSON object.
+     * @since 2.0.0
+     */
+    static ImmutableJsonObject lazyOf(final String jsonObjectString) {
+        return new ImmutableJsonObject(SoftReferencedFieldMap.lazyOf(LazyFieldMap.ofJsonObjectString(jsonObjectString)));
+    }
+
+    /**
+     * Returns a new {@code ImmutableJsonObject} instance which only indexes the top-level fields of the given CBOR
+     * map. The field values are parsed on first access.
+     *
+     * @param cborFactory the factory to parse the field values with.
+     * @param bytes the bytes containing the CBOR representation of a JSON object.
+     * @param offset the offset where the CBOR map starts.
+     * @param length the length of the CBOR map.
+     * @return the lazily parsed JSON object.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @throws JsonParseException if the bytes do not represent a CBOR map with text keys.
+     * @since 2.0.0
+     */
+    static ImmutableJsonObject lazyOf(final CborFactory cborFactory, final byte[] bytes, final int offset,
+            final int length) {
+
+        final byte[] cborObjectRepresentation = 0 == offset && bytes.length == length
+                ? bytes
+                : Arrays.copyOfRange(bytes, offset, offset + length);
+        return new ImmutableJsonObject(SoftReferencedFieldMap.lazyOf(cborFactory, cborObjectRepresentation));
+    }
+
     @Override
     public JsonObject setValue(final CharSequence key, final int value) {
         return setValue(key, JsonValue.of(value));
@@ -194,7 +231,7 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
 
         final JsonField existingField = fieldMap.getOrNull(field.getKeyName());
         if (!field.equals(existingField)) {
-            result = new ImmutableJsonObject(fieldMap.put(field.getKeyName(), field));
+            result = new ImmutableJsonObject(fieldMap.put(field));
         }
 
         return result;
@@ -540,7 +577,24 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         return fieldMap.upperBoundForStringSize();
     }
 
-    @Immutable
+    /**
+     * Holds the fields of a JSON object softly referenced next to a serialized (JSON string or CBOR) representation
+     * from which the fields can be recovered after they were garbage collected.
+     * <p>
+     * Modifications are based on a {@link PersistentFieldMap} which shares its structure with the field map it was
+     * derived from. The serialized representation of a modified map is only created on demand; until then its fields
+     * are strongly referenced so that chained modifications do neither copy nor serialize all fields each time.
+     * </p>
+     * <p>
+     * Lazily parsed maps are backed by a {@link LazyFieldMap} which only indexes the top-level fields of the serialized
+     * JSON object and parses the field values on first access.
+     * </p>
+     * <p>
+     * The fields and the serialized representations are published lazily by whichever thread needs them first;
+     * they are volatile so that other threads never see a released field map without its serialized representation.
+     * </p>
+     */
+    @ThreadSafe
     static final class SoftReferencedFieldMap {
 
         private static final long CBOR_MAX_COMPRESSION_RATIO = 5; // "false" compressed to one byte
@@ -553,16 +607,22 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
                     .orElseGet(NoopCborFactory::new); // when no Service could be found -> CBOR not available
         }
 
-        private String jsonObjectStringRepresentation;
-        private byte[] cborObjectRepresentation;
-        private int hashCode;
-        private SoftReference<Map<String, JsonField>> fieldsReference;
+        @Nullable private volatile String jsonObjectStringRepresentation;
+        @Nullable private volatile byte[] cborObjectRepresentation;
+        private volatile int hashCode;
+        private volatile SoftReference<Map<String, JsonField>> fieldsReference;
+        @Nullable private volatile Map<String, JsonField> unserializedFields;
+        @Nullable private final CborFactory lazyCborFactory;
 
         private SoftReferencedFieldMap(final Map<String, JsonField> jsonFieldMap,
                 @Nullable final String stringRepresentation, @Nullable final byte[] cborObjectRepresentation) {
 
             requireNonNull(jsonFieldMap, "The fields of JSON object must not be null!");
-            fieldsReference = new SoftReference<>(Collections.unmodifiableMap(new LinkedHashMap<>(jsonFieldMap)));
+            fieldsReference = new SoftReference<>(jsonFieldMap instanceof PersistentFieldMap
+                    ? jsonFieldMap
+                    : Collections.unmodifiableMap(new LinkedHashMap<>(jsonFieldMap)));
+            unserializedFields = null;
+            lazyCborFactory = null;
             jsonObjectStringRepresentation = stringRepresentation;
             this.cborObjectRepresentation = cborObjectRepresentation;
             if (jsonObjectStringRepresentation == null && cborObjectRepresentation == null) {
@@ -581,6 +641,25 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
             hashCode = 0;
         }
 
+        private SoftReferencedFieldMap(final Map<String, JsonField> unserializedFieldMap) {
+            fieldsReference = new SoftReference<>(unserializedFieldMap);
+            unserializedFields = unserializedFieldMap;
+            lazyCborFactory = null;
+            jsonObjectStringRepresentation = null;
+            cborObjectRepresentation = null;
+            hashCode = 0;
+        }
+
+        private SoftReferencedFieldMap(final CborFactory cborFactory, final byte[] cborObjectRepresentation) {
+            fieldsReference = new SoftReference<>(
+                    LazyFieldMap.ofCbor(cborFactory, cborObjectRepresentation, 0, cborObjectRepresentation.length));
+            unserializedFields = null;
+            lazyCborFactory = cborFactory;
+            jsonObjectStringRepresentation = null;
+            this.cborObjectRepresentation = cborObjectRepresentation;
+            hashCode = 0;
+        }
+
         static SoftReferencedFieldMap empty() {
             return of(Collections.emptyMap(), "{}", new byte[]{(byte) 0xA0});
         }
@@ -605,6 +684,30 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
             return new SoftReferencedFieldMap(jsonFieldMap, stringRepresentation, cborObjectRepresentation);
         }
 
+        /**
+         * Returns a map of the fields of a JSON object string which are parsed on first access.
+         * As the string may contain insignificant whitespace, it is not used as string representation of the map;
+         * the fields are strongly referenced until the map gets serialized.
+         *
+         * @param lazyFieldMap the lazily parsed fields of a JSON object string.
+         * @return the map.
+         */
+        static SoftReferencedFieldMap lazyOf(final LazyFieldMap lazyFieldMap) {
+            return new SoftReferencedFieldMap(lazyFieldMap);
+        }
+
+        /**
+         * Returns a map of the fields of a CBOR map which are parsed on first access.
+         * The CBOR bytes are kept as CBOR representation of the map; recovered fields are parsed lazily as well.
+         *
+         * @param cborFactory the factory to parse the field values with.
+         * @param cborObjectRepresentation the CBOR representation of a JSON object.
+         * @return the map.
+         */
+        static SoftReferencedFieldMap lazyOf(final CborFactory cborFactory, final byte[] cborObjectRepresentation) {
+            return new SoftReferencedFieldMap(cborFactory, cborObjectRepresentation);
+        }
+
         private String createStringRepresentation(final Map<String, JsonField> jsonFieldMap) {
             final StringBuilder stringBuilder = new StringBuilder(guessSerializedSize());
             stringBuilder.append('{');
@@ -636,26 +739,42 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
             return fields().get(key);
         }
 
-        SoftReferencedFieldMap put(final String key, final JsonField value) {
-            final Map<String, JsonField> fieldsCopy = copyFields();
-            fieldsCopy.put(key, value);
-            return of(fieldsCopy);
-        }
-
-        private Map<String, JsonField> copyFields() {
-            return new LinkedHashMap<>(fields());
+        SoftReferencedFieldMap put(final JsonField jsonField) {
+            return new SoftReferencedFieldMap(persistentFields().with(jsonField));
         }
 
         SoftReferencedFieldMap putAll(final Iterable<JsonField> jsonFields) {
-            final Map<String, JsonField> fieldsCopy = copyFields();
-            jsonFields.forEach(jsonField -> fieldsCopy.put(jsonField.getKeyName(), jsonField));
-            return of(fieldsCopy);
+            PersistentFieldMap result = persistentFields();
+            for (final JsonField jsonField : jsonFields) {
+                result = result.with(jsonField);
+            }
+            return new SoftReferencedFieldMap(result);
         }
 
         SoftReferencedFieldMap remove(final String key) {
-            final Map<String, JsonField> fieldsCopy = copyFields();
-            fieldsCopy.remove(key);
-            return of(fieldsCopy);
+            return new SoftReferencedFieldMap(persistentFields().without(key));
+        }
+
+        /**
+         * Returns the fields of this map as {@code PersistentFieldMap}. Fields which were parsed or built are
+         * converted only once; the converted map replaces the softly referenced fields so that further
+         * modifications of this map share the structure.
+         */
+        private PersistentFieldMap persistentFields() {
+            final Map<String, JsonField> fields = fields();
+            if (fields instanceof PersistentFieldMap) {
+                return (PersistentFieldMap) fields;
+            }
+            final PersistentFieldMap result = PersistentFieldMap.copyOf(fields);
+            fieldsReference = new SoftReference<>(result);
+            if (null != unserializedFields) {
+                unserializedFields = result;
+            }
+            return result;
+        }
+
+        private void releaseUnserializedFields() {
+            unserializedFields = null;
         }
 
         Stream<JsonField> getStream() {
@@ -667,6 +786,10 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         }
 
         private Map<String, JsonField> fields() {
+            final Map<String, JsonField> strongFields = unserializedFields;
+            if (null != strongFields) {
+                return strongFields;
+            }
             Map<String, JsonField> result = fieldsReference.get();
             if (null == result) {
                 result = recoverFields();
@@ -676,11 +799,16 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         }
 
         private Map<String, JsonField> recoverFields() {
-            if (CBOR_FACTORY.isCborAvailable() && cborObjectRepresentation != null) {
-                return parseToMap(cborObjectRepresentation);
+            final byte[] cbor = cborObjectRepresentation;
+            if (null != lazyCborFactory && null != cbor) {
+                return LazyFieldMap.ofCbor(lazyCborFactory, cbor, 0, cbor.length);
+            }
+            if (CBOR_FACTORY.isCborAvailable() && cbor != null) {
+                return parseToMap(cbor);
             }
-            if (jsonObjectStringRepresentation != null) {
-                return parseToMap(jsonObjectStringRepresentation);
+            final String jsonString = jsonObjectStringRepresentation;
+            if (jsonString != null) {
+                return parseToMap(jsonString);
             }
             throw new IllegalStateException("Fatal cache miss on JsonObject");
         }
@@ -710,16 +838,19 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
             }
             final SoftReferencedFieldMap that = (SoftReferencedFieldMap) o;
 
-            if (jsonObjectStringRepresentation != null && that.jsonObjectStringRepresentation != null) {
-                if (jsonObjectStringRepresentation.equals(that.jsonObjectStringRepresentation)) {
+            final String jsonString = jsonObjectStringRepresentation;
+            final String thatJsonString = that.jsonObjectStringRepresentation;
+            if (jsonString != null && thatJsonString != null) {
+                if (jsonString.equals(thatJsonString)) {
                     return true;
-                } else if (jsonObjectStringRepresentation.length() == that.jsonObjectStringRepresentation.length()) {
+                } else if (jsonString.length() == thatJsonString.length()) {
                     return Objects.equals(fields(), that.fields());
                 }
                 return false;
             }
-            if (cborObjectRepresentation != null && that.cborObjectRepresentation != null &&
-                    Arrays.equals(cborObjectRepresentation, that.cborObjectRepresentation)) {
+            final byte[] cbor = cborObjectRepresentation;
+            final byte[] thatCbor = that.cborObjectRepresentation;
+            if (cbor != null && thatCbor != null && Arrays.equals(cbor, thatCbor)) {
                 return true;
             }
             return Objects.equals(fields(), that.fields());
@@ -736,39 +867,50 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         }
 
         String asJsonObjectString() {
-            if (jsonObjectStringRepresentation == null) {
-                jsonObjectStringRepresentation = createStringRepresentation(this.fields());
+            String result = jsonObjectStringRepresentation;
+            if (result == null) {
+                result = createStringRepresentation(this.fields());
+                // publish the representation before the fields may no longer be recovered without it
+                jsonObjectStringRepresentation = result;
+                releaseUnserializedFields();
             }
-            return jsonObjectStringRepresentation;
+            return result;
         }
 
         void writeValue(final SerializationContext serializationContext) throws IOException {
-            if (CBOR_FACTORY.isCborAvailable() && cborObjectRepresentation == null) {
-                cborObjectRepresentation = CBOR_FACTORY.createCborRepresentation(this.fields(), guessSerializedSize());
+            byte[] cbor = cborObjectRepresentation;
+            if (CBOR_FACTORY.isCborAvailable() && cbor == null) {
+                cbor = CBOR_FACTORY.createCborRepresentation(this.fields(), guessSerializedSize());
+                cborObjectRepresentation = cbor;
+                releaseUnserializedFields();
             }
-            serializationContext.writeCachedElement(cborObjectRepresentation);
+            serializationContext.writeCachedElement(cbor);
         }
 
         private int guessSerializedSize() {
             // This function currently overestimates for CBOR and underestimates for JSON, but it should be better than a static guess.
-            if (jsonObjectStringRepresentation != null) {
-                return jsonObjectStringRepresentation.length();
+            final String jsonString = jsonObjectStringRepresentation;
+            if (jsonString != null) {
+                return jsonString.length();
             }
-            if (cborObjectRepresentation != null) {
-                return cborObjectRepresentation.length;
+            final byte[] cbor = cborObjectRepresentation;
+            if (cbor != null) {
+                return cbor.length;
             }
             return 512;
         }
 
         public long upperBoundForStringSize() {
-            if (jsonObjectStringRepresentation != null) {
-                return jsonObjectStringRepresentation.length();
+            final String jsonString = jsonObjectStringRepresentation;
+            if (jsonString != null) {
+                return jsonString.length();
             }
-            if (cborObjectRepresentation != null) {
-                return cborObjectRepresentation.length * CBOR_MAX_COMPRESSION_RATIO;
+            final byte[] cbor = cborObjectRepresentation;
+            if (cbor != null) {
+                return cbor.length * CBOR_MAX_COMPRESSION_RATIO;
             }
-            assert false; // this should never happen
-            return Long.MAX_VALUE;
+            // fields of a modified map are serialized lazily
+            return asJsonObjectString().length();
         }
 
     }
@@ -255,6 +255,33 @@ public final class JsonFactory {
         }
     }
 
+    /**
+     * Creates a JSON object from the given string which only indexes the top-level fields of the string.
+     * The field values are parsed on first access, nested JSON objects are again parsed lazily.
+     * This pays off for large JSON objects of which only a few fields are accessed.
+     * <p>
+     * Syntax errors within field values are not detected before the affected field is accessed.
+     * </p>
+     *
+     * @param jsonString the string that represents the JSON object.
+     * @return the lazily parsed JSON object.
+     * @throws NullPointerException if {@code jsonString} is {@code null}.
+     * @throws IllegalArgumentException if {@code jsonString} is empty.
+     * @throws JsonParseException if {@code jsonString} does not represent a JSON object.
+     * @since 2.0.0
+     */
+    public static JsonObject newObjectLazily(final String jsonString) {
+        requireNonNull(jsonString, "The JSON string to create a JSON object from must not be null!");
+        if (jsonString.isEmpty()) {
+            throw new IllegalArgumentException("The JSON string to create a JSON object from must not be empty!");
+        }
+
+        if (isJsonNullLiteralString(jsonString)) {
+            return nullObject();
+        }
+        return ImmutableJsonObject.lazyOf(jsonString);
+    }
+
     private static boolean isJsonNullLiteralString(final String s) {
         return "null".equals(s);
     }
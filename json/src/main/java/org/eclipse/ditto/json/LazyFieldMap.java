@@ -0,0 +1,631 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * A read-only map of the top-level fields of a serialized JSON object.
+ * On creation only the keys of the top-level fields and the offsets of their values within the serialized JSON object
+ * string resp. CBOR bytes are indexed.
+ * A field value is parsed on first access; nested JSON objects are again represented lazily.
+ * <p>
+ * As nested values are only skipped while indexing, syntax errors within them are detected when they are accessed.
+ * If the serialized object contains duplicate keys, the last value wins while the position of the first occurrence is
+ * kept, like {@link java.util.LinkedHashMap} would do.
+ * </p>
+ */
+@Immutable
+final class LazyFieldMap extends AbstractMap<String, JsonField> {
+
+    /**
+     * Objects with up to this amount of fields are searched linearly for a key.
+     */
+    private static final int LINEAR_SEARCH_THRESHOLD = 8;
+
+    private final ValueSource valueSource;
+    private final String[] keys;
+    private final int[] valueStarts;
+    private final int[] valueEnds;
+    private final int size;
+    @Nullable private final Map<String, Integer> positions;
+
+    // Materialized fields are published racily: JsonFields are immutable and materializing is idempotent.
+    private final JsonField[] fields;
+
+    private LazyFieldMap(final ValueSource valueSource, final IndexBuilder indexBuilder) {
+        this.valueSource = valueSource;
+        keys = indexBuilder.keys;
+        valueStarts = indexBuilder.valueStarts;
+        valueEnds = indexBuilder.valueEnds;
+        size = indexBuilder.size;
+        positions = indexBuilder.positions;
+        fields = new JsonField[size];
+    }
+
+    /**
+     * Indexes the top-level fields of the specified JSON object string.
+     *
+     * @param jsonObjectString the string representation of a JSON object.
+     * @return the lazily parsed fields of the JSON object.
+     * @throws NullPointerException if {@code jsonObjectString} is {@code null}.
+     * @throws JsonParseException if {@code jsonObjectString} does not represent a JSON object.
+     */
+    static LazyFieldMap ofJsonObjectString(final String jsonObjectString) {
+        requireNonNull(jsonObjectString, "The JSON object string must not be null!");
+        final JsonStringIndexer indexer = new JsonStringIndexer(jsonObjectString, 0, jsonObjectString.length());
+        return new LazyFieldMap(indexer, indexer.indexObject(true));
+    }
+
+    private static LazyFieldMap ofJsonObjectString(final String source, final int start, final int end) {
+        final JsonStringIndexer indexer = new JsonStringIndexer(source, start, end);
+        return new LazyFieldMap(indexer, indexer.indexObject(false));
+    }
+
+    /**
+     * Indexes the top-level fields of the CBOR map within the specified bytes.
+     *
+     * @param cborFactory the factory to parse field values which are no CBOR map.
+     * @param cborObjectRepresentation the bytes containing the CBOR representation of a JSON object.
+     * @param offset the offset where the CBOR map starts.
+     * @param length the length of the CBOR map.
+     * @return the lazily parsed fields of the JSON object.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @throws JsonParseException if the bytes do not represent a CBOR map with text keys.
+     */
+    static LazyFieldMap ofCbor(final CborFactory cborFactory, final byte[] cborObjectRepresentation,
+            final int offset, final int length) {
+
+        requireNonNull(cborFactory, "The CBOR factory must not be null!");
+        requireNonNull(cborObjectRepresentation, "The CBOR representation must not be null!");
+        final CborIndexer indexer = new CborIndexer(cborFactory, cborObjectRepresentation, offset, offset + length);
+        return new LazyFieldMap(indexer, indexer.indexObject());
+    }
+
+    /**
+     * Indicates whether the specified byte is the initial byte of a CBOR map.
+     *
+     * @param initialByte the byte to check.
+     * @return {@code true} if {@code initialByte} starts a CBOR map.
+     */
+    static boolean isCborMap(final byte initialByte) {
+        return CborIndexer.MAJOR_TYPE_MAP == (initialByte & 0xFF) >>> 5;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return 0 == size;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return key instanceof String && 0 <= indexOf(keys, size, positions, (String) key);
+    }
+
+    @Override
+    @Nullable
+    public JsonField get(final Object key) {
+        if (key instanceof String) {
+            final int index = indexOf(keys, size, positions, (String) key);
+            if (0 <= index) {
+                return getField(index);
+            }
+        }
+        return null;
+    }
+
+    private JsonField getField(final int index) {
+        JsonField result = fields[index];
+        if (null == result) {
+            result = JsonField.newInstance(keys[index], valueSource.materialize(valueStarts[index], valueEnds[index]));
+            fields[index] = result;
+        }
+        return result;
+    }
+
+    @Override
+    public Collection<JsonField> values() {
+        return new AbstractCollection<JsonField>() {
+            @Override
+            public Iterator<JsonField> iterator() {
+                return new FieldIterator();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    @Override
+    public Set<Entry<String, JsonField>> entrySet() {
+        return new AbstractSet<Entry<String, JsonField>>() {
+            @Override
+            public Iterator<Entry<String, JsonField>> iterator() {
+                final FieldIterator fieldIterator = new FieldIterator();
+                return new Iterator<Entry<String, JsonField>>() {
+                    @Override
+                    public boolean hasNext() {
+                        return fieldIterator.hasNext();
+                    }
+
+                    @Override
+                    public Entry<String, JsonField> next() {
+                        final JsonField field = fieldIterator.next();
+                        return new SimpleImmutableEntry<>(field.getKeyName(), field);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private static int indexOf(final String[] keys, final int size, @Nullable final Map<String, Integer> positions,
+            final String key) {
+
+        if (null != positions) {
+            final Integer position = positions.get(key);
+            return null != position ? position : -1;
+        }
+        for (int i = 0; i < size; i++) {
+            if (keys[i].equals(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private final class FieldIterator implements Iterator<JsonField> {
+
+        private int index = 0;
+
+        @Override
+        public boolean hasNext() {
+            return index < size;
+        }
+
+        @Override
+        public JsonField next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return getField(index++);
+        }
+
+    }
+
+    /**
+     * Collects the keys and value offsets of the top-level fields while a serialized JSON object is indexed.
+     */
+    private static final class IndexBuilder {
+
+        private String[] keys = new String[LINEAR_SEARCH_THRESHOLD];
+        private int[] valueStarts = new int[LINEAR_SEARCH_THRESHOLD];
+        private int[] valueEnds = new int[LINEAR_SEARCH_THRESHOLD];
+        private int size = 0;
+        @Nullable private Map<String, Integer> positions = null;
+
+        void add(final String key, final int valueStart, final int valueEnd) {
+            final int existing = indexOf(keys, size, positions, key);
+            if (0 <= existing) {
+                valueStarts[existing] = valueStart;
+                valueEnds[existing] = valueEnd;
+                return;
+            }
+            if (keys.length == size) {
+                keys = Arrays.copyOf(keys, size * 2);
+                valueStarts = Arrays.copyOf(valueStarts, size * 2);
+                valueEnds = Arrays.copyOf(valueEnds, size * 2);
+            }
+            keys[size] = key;
+            valueStarts[size] = valueStart;
+            valueEnds[size] = valueEnd;
+            size++;
+            if (null != positions) {
+                positions.put(key, size - 1);
+            } else if (LINEAR_SEARCH_THRESHOLD < size) {
+                positions = new HashMap<>(size * 4);
+                for (int i = 0; i < size; i++) {
+                    positions.put(keys[i], i);
+                }
+            }
+        }
+
+    }
+
+    /**
+     * Source of the serialized field values.
+     */
+    private interface ValueSource {
+
+        JsonValue materialize(int start, int end);
+
+    }
+
+    /**
+     * Indexes a JSON object string and materializes its values.
+     */
+    @Immutable
+    private static final class JsonStringIndexer implements ValueSource {
+
+        private final String source;
+        private final int start;
+        private final int end;
+
+        private JsonStringIndexer(final String source, final int start, final int end) {
+            this.source = source;
+            this.start = start;
+            this.end = end;
+        }
+
+        IndexBuilder indexObject(final boolean isTopLevel) {
+            final IndexBuilder result = new IndexBuilder();
+            int pos = skipWhitespace(start);
+            pos = expect(pos, '{');
+            pos = skipWhitespace(pos);
+            if (pos < end && '}' == source.charAt(pos)) {
+                pos++;
+            } else {
+                boolean hasMoreFields = true;
+                while (hasMoreFields) {
+                    final int keyStart = expectChar(pos, '"');
+                    final int keyEnd = skipString(keyStart);
+                    pos = skipWhitespace(keyEnd);
+                    pos = skipWhitespace(expect(pos, ':'));
+                    final int valueStart = pos;
+                    final int valueEnd = skipValue(valueStart);
+                    result.add(requireNonEmpty(decodeKey(keyStart, keyEnd)), valueStart, valueEnd);
+                    pos = skipWhitespace(valueEnd);
+                    if (pos < end && ',' == source.charAt(pos)) {
+                        pos = skipWhitespace(pos + 1);
+                    } else {
+                        pos = expect(pos, '}');
+                        hasMoreFields = false;
+                    }
+                }
+            }
+            if (isTopLevel && skipWhitespace(pos) != end) {
+                throw parseException("Unexpected content after the end of the JSON object");
+            }
+            return result;
+        }
+
+        @Override
+        public JsonValue materialize(final int valueStart, final int valueEnd) {
+            if ('{' == source.charAt(valueStart)) {
+                return new ImmutableJsonObject(
+                        ImmutableJsonObject.SoftReferencedFieldMap.lazyOf(
+                                ofJsonObjectString(source, valueStart, valueEnd)));
+            }
+            return JsonValueParser.fromString().apply(source.substring(valueStart, valueEnd));
+        }
+
+        private String decodeKey(final int keyStart, final int keyEnd) {
+            final String quotedKey = source.substring(keyStart, keyEnd);
+            if (quotedKey.indexOf('\\') < 0) {
+                return quotedKey.substring(1, quotedKey.length() - 1);
+            }
+            return JsonValueParser.fromString().apply(quotedKey).asString();
+        }
+
+        private String requireNonEmpty(final String key) {
+            if (key.isEmpty()) {
+                throw parseException("Keys must not be empty");
+            }
+            return key;
+        }
+
+        private int skipWhitespace(final int pos) {
+            int result = pos;
+            while (result < end && isWhitespace(source.charAt(result))) {
+                result++;
+            }
+            return result;
+        }
+
+        private static boolean isWhitespace(final char c) {
+            return ' ' == c || '\t' == c || '\n' == c || '\r' == c;
+        }
+
+        private int expect(final int pos, final char expected) {
+            return expectChar(pos, expected) + 1;
+        }
+
+        private int expectChar(final int pos, final char expected) {
+            if (end <= pos || expected != source.charAt(pos)) {
+                throw parseException(MessageFormat.format("Expected <{0}> at position {1}", expected, pos - start));
+            }
+            return pos;
+        }
+
+        /**
+         * Returns the position after the closing quote of the string starting at {@code pos}.
+         */
+        private int skipString(final int pos) {
+            int result = pos + 1;
+            while (result < end) {
+                final char c = source.charAt(result);
+                if ('"' == c) {
+                    return result + 1;
+                }
+                result += '\\' == c ? 2 : 1;
+            }
+            throw parseException("Unterminated string");
+        }
+
+        /**
+         * Returns the position after the end of the value starting at {@code pos}.
+         */
+        private int skipValue(final int pos) {
+            if (end <= pos) {
+                throw parseException("Expected a value");
+            }
+            final char first = source.charAt(pos);
+            if ('"' == first) {
+                return skipString(pos);
+            }
+            if ('{' == first || '[' == first) {
+                return skipContainer(pos);
+            }
+            int result = pos;
+            while (result < end && !isEndOfLiteral(source.charAt(result))) {
+                result++;
+            }
+            if (result == pos) {
+                throw parseException(MessageFormat.format("Expected a value at position {0}", pos - start));
+            }
+            return result;
+        }
+
+        private static boolean isEndOfLiteral(final char c) {
+            return ',' == c || '}' == c || ']' == c || isWhitespace(c);
+        }
+
+        private int skipContainer(final int pos) {
+            int depth = 0;
+            int result = pos;
+            while (result < end) {
+                final char c = source.charAt(result);
+                if ('"' == c) {
+                    result = skipString(result);
+                    continue;
+                }
+                if ('{' == c || '[' == c) {
+                    depth++;
+                } else if ('}' == c || ']' == c) {
+                    depth--;
+                    if (0 == depth) {
+                        return result + 1;
+                    }
+                }
+                result++;
+            }
+            throw parseException("Unterminated JSON object or array");
+        }
+
+        private JsonParseException parseException(final String reason) {
+            final String pattern = "Failed to parse JSON string ''{0}''! {1}.";
+            return JsonParseException.newBuilder()
+                    .message(MessageFormat.format(pattern, source.substring(start, end), reason))
+                    .build();
+        }
+
+    }
+
+    /**
+     * Indexes a CBOR map and materializes its values.
+     * Only the item structure defined by RFC 7049 is evaluated; parsing of the values is delegated to a
+     * {@link CborFactory}.
+     */
+    @Immutable
+    private static final class CborIndexer implements ValueSource {
+
+        private static final int MAJOR_TYPE_BYTE_STRING = 2;
+        private static final int MAJOR_TYPE_TEXT_STRING = 3;
+        private static final int MAJOR_TYPE_ARRAY = 4;
+        private static final int MAJOR_TYPE_MAP = 5;
+        private static final int MAJOR_TYPE_TAG = 6;
+        private static final int MAJOR_TYPE_SIMPLE_AND_FLOAT = 7;
+        private static final int INDEFINITE_LENGTH = 31;
+        private static final int BREAK = 0xFF;
+
+        private final CborFactory cborFactory;
+        private final byte[] bytes;
+        private final int start;
+        private final int end;
+
+        private CborIndexer(final CborFactory cborFactory, final byte[] bytes, final int start, final int end) {
+            if (start < 0 || bytes.length < end || end < start) {
+                throw new IndexOutOfBoundsException(MessageFormat.format("Invalid range [{0}, {1}) of {2} bytes!",
+                        start, end, bytes.length));
+            }
+            this.cborFactory = cborFactory;
+            this.bytes = bytes;
+            this.start = start;
+            this.end = end;
+        }
+
+        IndexBuilder indexObject() {
+            final IndexBuilder result = new IndexBuilder();
+            if (start == end || !isCborMap(bytes[start])) {
+                throw parseException("Expected a CBOR map");
+            }
+            final boolean isIndefinite = INDEFINITE_LENGTH == additionalInfo(start);
+            final long fieldCount = isIndefinite ? Long.MAX_VALUE : argument(start);
+            int pos = start + headerLength(start);
+            for (long i = 0; i < fieldCount && !(isIndefinite && isBreak(pos)); i++) {
+                final int keyEnd = skipItem(pos);
+                final String key = requireNonEmpty(decodeKey(pos, keyEnd));
+                final int valueEnd = skipItem(keyEnd);
+                result.add(key, keyEnd, valueEnd);
+                pos = valueEnd;
+            }
+            if (isIndefinite) {
+                pos++;
+            }
+            if (pos != end) {
+                throw parseException("Unexpected content after the end of the CBOR map");
+            }
+            return result;
+        }
+
+        @Override
+        public JsonValue materialize(final int valueStart, final int valueEnd) {
+            if (isCborMap(bytes[valueStart])) {
+                return new ImmutableJsonObject(ImmutableJsonObject.SoftReferencedFieldMap.lazyOf(cborFactory,
+                        Arrays.copyOfRange(bytes, valueStart, valueEnd)));
+            }
+            return cborFactory.readFrom(bytes, valueStart, valueEnd - valueStart);
+        }
+
+        private String decodeKey(final int keyStart, final int keyEnd) {
+            if (MAJOR_TYPE_TEXT_STRING != majorType(keyStart)) {
+                throw parseException("Expected a text string as key of the CBOR map");
+            }
+            if (INDEFINITE_LENGTH == additionalInfo(keyStart)) {
+                return cborFactory.readFrom(bytes, keyStart, keyEnd - keyStart).asString();
+            }
+            final int headerLength = headerLength(keyStart);
+            return new String(bytes, keyStart + headerLength, keyEnd - keyStart - headerLength,
+                    StandardCharsets.UTF_8);
+        }
+
+        private String requireNonEmpty(final String key) {
+            if (key.isEmpty()) {
+                throw parseException("Keys must not be empty");
+            }
+            return key;
+        }
+
+        /**
+         * Returns the position after the end of the data item starting at {@code pos}.
+         */
+        private int skipItem(final int pos) {
+            final int majorType = majorType(pos);
+            final boolean isIndefinite = INDEFINITE_LENGTH == additionalInfo(pos);
+            int result = pos + headerLength(pos);
+            if (MAJOR_TYPE_SIMPLE_AND_FLOAT == majorType) {
+                if (isIndefinite) {
+                    throw parseException("Unexpected break");
+                }
+                return result;
+            }
+            if (isIndefinite) {
+                while (!isBreak(result)) {
+                    result = skipItem(result);
+                }
+                return result + 1;
+            }
+            switch (majorType) {
+                case MAJOR_TYPE_BYTE_STRING:
+                case MAJOR_TYPE_TEXT_STRING:
+                    return checkedPosition(result + argument(pos));
+                case MAJOR_TYPE_ARRAY:
+                case MAJOR_TYPE_MAP:
+                    final long itemCount = MAJOR_TYPE_MAP == majorType ? 2 * argument(pos) : argument(pos);
+                    for (long i = 0; i < itemCount; i++) {
+                        result = skipItem(result);
+                    }
+                    return result;
+                case MAJOR_TYPE_TAG:
+                    return skipItem(result);
+                default: // unsigned and negative integers
+                    return result;
+            }
+        }
+
+        private boolean isBreak(final int pos) {
+            return BREAK == (checkedByte(pos) & 0xFF);
+        }
+
+        private int majorType(final int pos) {
+            return (checkedByte(pos) & 0xFF) >>> 5;
+        }
+
+        private int additionalInfo(final int pos) {
+            return checkedByte(pos) & 0x1F;
+        }
+
+        private int headerLength(final int pos) {
+            final int additionalInfo = additionalInfo(pos);
+            if (additionalInfo < 24 || INDEFINITE_LENGTH == additionalInfo) {
+                return 1;
+            }
+            if (additionalInfo <= 27) {
+                return checkedPosition(pos + 1L + (1L << (additionalInfo - 24))) - pos;
+            }
+            throw parseException(MessageFormat.format("Invalid additional information at position {0}", pos - start));
+        }
+
+        private long argument(final int pos) {
+            final int additionalInfo = additionalInfo(pos);
+            if (additionalInfo < 24) {
+                return additionalInfo;
+            }
+            final int argumentLength = headerLength(pos) - 1;
+            long result = 0;
+            for (int i = 1; i <= argumentLength; i++) {
+                result = (result << 8) | (bytes[pos + i] & 0xFF);
+            }
+            if (result < 0 || Integer.MAX_VALUE < result) {
+                throw parseException(MessageFormat.format("Unsupported length at position {0}", pos - start));
+            }
+            return result;
+        }
+
+        private byte checkedByte(final int pos) {
+            return bytes[checkedPosition(pos + 1L) - 1];
+        }
+
+        private int checkedPosition(final long pos) {
+            if (end < pos) {
+                throw parseException("Unexpected end of the CBOR input");
+            }
+            return (int) pos;
+        }
+
+        private JsonParseException parseException(final String reason) {
+            return JsonParseException.newBuilder()
+                    .message(MessageFormat.format("Failed to index CBOR map! {0}.", reason))
+                    .build();
+        }
+
+    }
+
+}
@@ -0,0 +1,624 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Package-private persistent map of JSON fields keyed by their key name which preserves insertion order.
+ * <p>
+ * Each modification returns a new map which shares most of its structure with the map it was derived from, thus
+ * setting or removing a single field costs {@code O(log n)} instead of copying all {@code n} fields.
+ * The map consists of two structures:
+ * </p>
+ * <ul>
+ * <li>a hash array mapped trie (HAMT) which maps each key name to the slot of its field and</li>
+ * <li>a 32-ary vector trie which holds the fields in insertion order; removed fields leave an empty slot which is
+ * compacted away as soon as more than half of the slots are empty.</li>
+ * </ul>
+ * Replacing the field of an existing key keeps its position like {@link java.util.LinkedHashMap} does.
+ * The map is read-only with regard to the {@link Map} interface; modifications are only possible via
+ * {@link #with(JsonField)} and {@link #without(String)}.
+ */
+@Immutable
+final class PersistentFieldMap extends AbstractMap<String, JsonField> {
+
+    private static final PersistentFieldMap EMPTY = new PersistentFieldMap(BitmapNode.EMPTY, FieldVector.EMPTY, 0);
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+    private static final int NOT_FOUND = -1;
+
+    private final TrieNode index;
+    private final FieldVector fields;
+    private final int size;
+
+    private PersistentFieldMap(final TrieNode index, final FieldVector fields, final int size) {
+        this.index = index;
+        this.fields = fields;
+        this.size = size;
+    }
+
+    /**
+     * Returns an empty persistent field map.
+     *
+     * @return the empty map.
+     */
+    static PersistentFieldMap empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a persistent field map with the same fields in the same order as the given map.
+     * If the given map already is a {@code PersistentFieldMap} it is returned as it is.
+     *
+     * @param fieldMap the map to copy.
+     * @return the persistent map.
+     * @throws NullPointerException if {@code fieldMap} is {@code null}.
+     */
+    static PersistentFieldMap copyOf(final Map<String, JsonField> fieldMap) {
+        requireNonNull(fieldMap, "The field map to copy must not be null!");
+        if (fieldMap instanceof PersistentFieldMap) {
+            return (PersistentFieldMap) fieldMap;
+        }
+        return ofDistinctFields(fieldMap.values().toArray(new JsonField[0]));
+    }
+
+    private static PersistentFieldMap ofDistinctFields(final JsonField[] distinctFields) {
+        final int fieldCount = distinctFields.length;
+        if (0 == fieldCount) {
+            return EMPTY;
+        }
+        final String[] keys = new String[fieldCount];
+        final int[] hashes = new int[fieldCount];
+        final int[] slots = new int[fieldCount];
+        for (int i = 0; i < fieldCount; i++) {
+            keys[i] = distinctFields[i].getKeyName();
+            hashes[i] = keys[i].hashCode();
+            slots[i] = i;
+        }
+        return new PersistentFieldMap(buildNode(keys, hashes, slots, 0), FieldVector.of(distinctFields), fieldCount);
+    }
+
+    /**
+     * Returns a map which contains the given field in addition to the fields of this map.
+     * If this map already contains a field with the same key name, it is replaced in place.
+     *
+     * @param field the field to set.
+     * @return the new map or this map if it already contains an equal field.
+     */
+    PersistentFieldMap with(final JsonField field) {
+        final String key = field.getKeyName();
+        final int hash = key.hashCode();
+        final int slot = index.find(0, hash, key);
+        if (NOT_FOUND != slot) {
+            if (field.equals(fields.get(slot))) {
+                return this;
+            }
+            return new PersistentFieldMap(index, fields.set(slot, field), size);
+        }
+        final int newSlot = fields.count;
+        return new PersistentFieldMap(index.assoc(0, hash, key, newSlot), fields.append(field), size + 1);
+    }
+
+    /**
+     * Returns a map which does not contain the field with the given key name.
+     *
+     * @param key the key name of the field to remove.
+     * @return the new map or this map if it does not contain a field for {@code key}.
+     */
+    PersistentFieldMap without(final String key) {
+        final int hash = key.hashCode();
+        final int slot = index.find(0, hash, key);
+        if (NOT_FOUND == slot) {
+            return this;
+        }
+        final int newSize = size - 1;
+        if (0 == newSize) {
+            return EMPTY;
+        }
+        final FieldVector newFields = fields.set(slot, null);
+        final int emptySlots = newFields.count - newSize;
+        if (WIDTH < emptySlots && newSize < emptySlots) {
+            return ofDistinctFields(newFields.toArray(newSize));
+        }
+        final TrieNode newIndex = index.without(0, hash, key);
+        return new PersistentFieldMap(null != newIndex ? newIndex : BitmapNode.EMPTY, newFields, newSize);
+    }
+
+    @Nullable
+    JsonField getOrNull(final String key) {
+        final int slot = index.find(0, key.hashCode(), key);
+        return NOT_FOUND != slot ? fields.get(slot) : null;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return 0 == size;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return key instanceof String && null != getOrNull((String) key);
+    }
+
+    @Override
+    @Nullable
+    public JsonField get(final Object key) {
+        return key instanceof String ? getOrNull((String) key) : null;
+    }
+
+    @Override
+    public Collection<JsonField> values() {
+        return new AbstractCollection<JsonField>() {
+            @Override
+            public Iterator<JsonField> iterator() {
+                return new FieldIterator<>(fields, Function.identity());
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    @Override
+    public Set<Entry<String, JsonField>> entrySet() {
+        return new AbstractSet<Entry<String, JsonField>>() {
+            @Override
+            public Iterator<Entry<String, JsonField>> iterator() {
+                return new FieldIterator<>(fields,
+                        jsonField -> new SimpleImmutableEntry<>(jsonField.getKeyName(), jsonField));
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private static TrieNode buildNode(final String[] keys, final int[] hashes, final int[] members, final int shift) {
+        if (1 < members.length && haveSameHash(hashes, members)) {
+            final Object[] pairs = new Object[2 * members.length];
+            for (int i = 0; i < members.length; i++) {
+                pairs[2 * i] = keys[members[i]];
+                pairs[2 * i + 1] = members[i];
+            }
+            return new CollisionNode(hashes[members[0]], pairs);
+        }
+
+        final int[] bucketSizes = new int[WIDTH];
+        int bitmap = 0;
+        for (final int member : members) {
+            final int fragment = fragment(hashes[member], shift);
+            bucketSizes[fragment]++;
+            bitmap |= 1 << fragment;
+        }
+        final int[][] buckets = new int[WIDTH][];
+        for (int fragment = 0; fragment < WIDTH; fragment++) {
+            if (0 < bucketSizes[fragment]) {
+                buckets[fragment] = new int[bucketSizes[fragment]];
+                bucketSizes[fragment] = 0;
+            }
+        }
+        for (final int member : members) {
+            final int fragment = fragment(hashes[member], shift);
+            buckets[fragment][bucketSizes[fragment]++] = member;
+        }
+
+        final Object[] array = new Object[2 * Integer.bitCount(bitmap)];
+        int arrayIndex = 0;
+        for (final int[] bucket : buckets) {
+            if (null != bucket) {
+                if (1 == bucket.length) {
+                    array[arrayIndex] = keys[bucket[0]];
+                    array[arrayIndex + 1] = bucket[0];
+                } else {
+                    array[arrayIndex + 1] = buildNode(keys, hashes, bucket, shift + BITS);
+                }
+                arrayIndex += 2;
+            }
+        }
+        return new BitmapNode(bitmap, array);
+    }
+
+    private static boolean haveSameHash(final int[] hashes, final int[] members) {
+        final int firstHash = hashes[members[0]];
+        for (final int member : members) {
+            if (hashes[member] != firstHash) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int fragment(final int hash, final int shift) {
+        return (hash >>> shift) & MASK;
+    }
+
+    private static Object[] cloneAndSet(final Object[] array, final int i, final Object value) {
+        final Object[] result = array.clone();
+        result[i] = value;
+        return result;
+    }
+
+    private static Object[] removePair(final Object[] array, final int pairIndex) {
+        final Object[] result = new Object[array.length - 2];
+        System.arraycopy(array, 0, result, 0, 2 * pairIndex);
+        System.arraycopy(array, 2 * (pairIndex + 1), result, 2 * pairIndex, result.length - 2 * pairIndex);
+        return result;
+    }
+
+    /**
+     * A node of the hash array mapped trie which maps key names to slots of the field vector.
+     * Nodes are only ever asked to associate absent keys and to remove present keys.
+     */
+    private abstract static class TrieNode {
+
+        abstract int find(int shift, int hash, String key);
+
+        abstract TrieNode assoc(int shift, int hash, String key, int slot);
+
+        @Nullable
+        abstract TrieNode without(int shift, int hash, String key);
+
+    }
+
+    /**
+     * Trie node whose array holds key-slot pairs; a {@code null} key means that the slot position holds a sub-node.
+     */
+    @Immutable
+    private static final class BitmapNode extends TrieNode {
+
+        private static final BitmapNode EMPTY = new BitmapNode(0, new Object[0]);
+
+        private final int bitmap;
+        private final Object[] array;
+
+        private BitmapNode(final int bitmap, final Object[] array) {
+            this.bitmap = bitmap;
+            this.array = array;
+        }
+
+        private int pairIndex(final int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        @Override
+        int find(final int shift, final int hash, final String key) {
+            final int bit = 1 << fragment(hash, shift);
+            if (0 == (bitmap & bit)) {
+                return NOT_FOUND;
+            }
+            final int i = 2 * pairIndex(bit);
+            final Object keyOrNull = array[i];
+            if (null == keyOrNull) {
+                return ((TrieNode) array[i + 1]).find(shift + BITS, hash, key);
+            }
+            return key.equals(keyOrNull) ? (Integer) array[i + 1] : NOT_FOUND;
+        }
+
+        @Override
+        TrieNode assoc(final int shift, final int hash, final String key, final int slot) {
+            final int bit = 1 << fragment(hash, shift);
+            final int pairIndex = pairIndex(bit);
+            final int i = 2 * pairIndex;
+            if (0 != (bitmap & bit)) {
+                final Object keyOrNull = array[i];
+                final Object slotOrNode = array[i + 1];
+                final Object[] newArray;
+                if (null == keyOrNull) {
+                    newArray = cloneAndSet(array, i + 1,
+                            ((TrieNode) slotOrNode).assoc(shift + BITS, hash, key, slot));
+                } else {
+                    newArray = cloneAndSet(array, i + 1,
+                            createNode(shift + BITS, (String) keyOrNull, (Integer) slotOrNode, hash, key, slot));
+                    newArray[i] = null;
+                }
+                return new BitmapNode(bitmap, newArray);
+            }
+            final Object[] newArray = new Object[array.length + 2];
+            System.arraycopy(array, 0, newArray, 0, i);
+            newArray[i] = key;
+            newArray[i + 1] = slot;
+            System.arraycopy(array, i, newArray, i + 2, array.length - i);
+            return new BitmapNode(bitmap | bit, newArray);
+        }
+
+        private static TrieNode createNode(final int shift, final String key1, final int slot1, final int hash2,
+                final String key2, final int slot2) {
+
+            final int hash1 = key1.hashCode();
+            if (hash1 == hash2) {
+                return new CollisionNode(hash1, new Object[]{key1, slot1, key2, slot2});
+            }
+            return EMPTY.assoc(shift, hash1, key1, slot1).assoc(shift, hash2, key2, slot2);
+        }
+
+        @Nullable
+        @Override
+        TrieNode without(final int shift, final int hash, final String key) {
+            final int bit = 1 << fragment(hash, shift);
+            if (0 == (bitmap & bit)) {
+                return this;
+            }
+            final int pairIndex = pairIndex(bit);
+            final int i = 2 * pairIndex;
+            final Object keyOrNull = array[i];
+            if (null == keyOrNull) {
+                final TrieNode subNode = (TrieNode) array[i + 1];
+                final TrieNode newSubNode = subNode.without(shift + BITS, hash, key);
+                if (newSubNode == subNode) {
+                    return this;
+                }
+                if (null != newSubNode) {
+                    return new BitmapNode(bitmap, cloneAndSet(array, i + 1, newSubNode));
+                }
+            } else if (!key.equals(keyOrNull)) {
+                return this;
+            }
+            if (bitmap == bit) {
+                return null;
+            }
+            return new BitmapNode(bitmap ^ bit, removePair(array, pairIndex));
+        }
+
+    }
+
+    /**
+     * Trie node for keys whose hash codes are completely equal.
+     */
+    @Immutable
+    private static final class CollisionNode extends TrieNode {
+
+        private final int hash;
+        private final Object[] array;
+
+        private CollisionNode(final int hash, final Object[] array) {
+            this.hash = hash;
+            this.array = array;
+        }
+
+        private int findPairIndex(final String key) {
+            for (int i = 0; i < array.length; i += 2) {
+                if (key.equals(array[i])) {
+                    return i / 2;
+                }
+            }
+            return NOT_FOUND;
+        }
+
+        @Override
+        int find(final int shift, final int hash, final String key) {
+            if (this.hash != hash) {
+                return NOT_FOUND;
+            }
+            final int pairIndex = findPairIndex(key);
+            return NOT_FOUND != pairIndex ? (Integer) array[2 * pairIndex + 1] : NOT_FOUND;
+        }
+
+        @Override
+        TrieNode assoc(final int shift, final int hash, final String key, final int slot) {
+            if (this.hash == hash) {
+                final Object[] newArray = Arrays.copyOf(array, array.length + 2);
+                newArray[array.length] = key;
+                newArray[array.length + 1] = slot;
+                return new CollisionNode(hash, newArray);
+            }
+            return new BitmapNode(1 << fragment(this.hash, shift), new Object[]{null, this})
+                    .assoc(shift, hash, key, slot);
+        }
+
+        @Nullable
+        @Override
+        TrieNode without(final int shift, final int hash, final String key) {
+            final int pairIndex = this.hash == hash ? findPairIndex(key) : NOT_FOUND;
+            if (NOT_FOUND == pairIndex) {
+                return this;
+            }
+            if (2 == array.length) {
+                return null;
+            }
+            return new CollisionNode(hash, removePair(array, pairIndex));
+        }
+
+    }
+
+    /**
+     * Persistent vector of fields organised as trie with a branching factor of 32. Nodes are sized exactly to their
+     * content, so small JSON objects only occupy a single small array.
+     */
+    @Immutable
+    private static final class FieldVector {
+
+        private static final FieldVector EMPTY = new FieldVector(0, 0, new Object[0]);
+
+        private final int count;
+        private final int shift;
+        private final Object[] root;
+
+        private FieldVector(final int count, final int shift, final Object[] root) {
+            this.count = count;
+            this.shift = shift;
+            this.root = root;
+        }
+
+        private static FieldVector of(final JsonField[] jsonFields) {
+            Object[][] nodes = chunk(jsonFields);
+            int shift = 0;
+            while (1 < nodes.length) {
+                nodes = chunk(nodes);
+                shift += BITS;
+            }
+            return new FieldVector(jsonFields.length, shift, nodes[0]);
+        }
+
+        private static Object[][] chunk(final Object[] elements) {
+            final int chunkCount = (elements.length + MASK) / WIDTH;
+            final Object[][] result = new Object[chunkCount][];
+            for (int i = 0; i < chunkCount; i++) {
+                final int from = i * WIDTH;
+                result[i] = Arrays.copyOfRange(elements, from, Math.min(from + WIDTH, elements.length), Object[].class);
+            }
+            return result;
+        }
+
+        private Object[] leafFor(final int i) {
+            Object[] node = root;
+            for (int level = shift; level > 0; level -= BITS) {
+                node = (Object[]) node[(i >>> level) & MASK];
+            }
+            return node;
+        }
+
+        @Nullable
+        private JsonField get(final int i) {
+            return (JsonField) leafFor(i)[i & MASK];
+        }
+
+        private FieldVector set(final int i, @Nullable final JsonField jsonField) {
+            return new FieldVector(count, shift, doSet(shift, root, i, jsonField));
+        }
+
+        private static Object[] doSet(final int level, final Object[] node, final int i,
+                @Nullable final JsonField jsonField) {
+
+            final Object[] result = node.clone();
+            if (0 == level) {
+                result[i & MASK] = jsonField;
+            } else {
+                final int subIndex = (i >>> level) & MASK;
+                result[subIndex] = doSet(level - BITS, (Object[]) node[subIndex], i, jsonField);
+            }
+            return result;
+        }
+
+        private FieldVector append(final JsonField jsonField) {
+            if (count == 1 << (shift + BITS)) {
+                final Object[] newRoot = new Object[]{root, newPath(shift, jsonField)};
+                return new FieldVector(count + 1, shift + BITS, newRoot);
+            }
+            return new FieldVector(count + 1, shift, pushLast(shift, root, count, jsonField));
+        }
+
+        private static Object[] pushLast(final int level, final Object[] node, final int i,
+                final JsonField jsonField) {
+
+            final int subIndex = (i >>> level) & MASK;
+            final Object[] result;
+            if (0 == level) {
+                result = Arrays.copyOf(node, node.length + 1);
+                result[subIndex] = jsonField;
+            } else if (subIndex < node.length) {
+                result = cloneAndSet(node, subIndex, pushLast(level - BITS, (Object[]) node[subIndex], i, jsonField));
+            } else {
+                result = Arrays.copyOf(node, node.length + 1);
+                result[subIndex] = newPath(level - BITS, jsonField);
+            }
+            return result;
+        }
+
+        private static Object[] newPath(final int level, final JsonField jsonField) {
+            if (0 == level) {
+                return new Object[]{jsonField};
+            }
+            return new Object[]{newPath(level - BITS, jsonField)};
+        }
+
+        private JsonField[] toArray(final int liveFieldCount) {
+            final JsonField[] result = new JsonField[liveFieldCount];
+            final Iterator<JsonField> iterator = new FieldIterator<>(this, Function.identity());
+            for (int i = 0; i < liveFieldCount; i++) {
+                result[i] = iterator.next();
+            }
+            return result;
+        }
+
+    }
+
+    /**
+     * Iterates the non-empty slots of a field vector leaf by leaf.
+     *
+     * @param <T> the type of the iterated elements.
+     */
+    private static final class FieldIterator<T> implements Iterator<T> {
+
+        private final FieldVector fieldVector;
+        private final Function<JsonField, T> mapper;
+        private Object[] leaf;
+        private int i;
+        @Nullable private JsonField next;
+
+        private FieldIterator(final FieldVector fieldVector, final Function<JsonField, T> mapper) {
+            this.fieldVector = fieldVector;
+            this.mapper = mapper;
+            leaf = fieldVector.root;
+            i = 0;
+            next = advance();
+        }
+
+        @Nullable
+        private JsonField advance() {
+            while (i < fieldVector.count) {
+                if (0 == (i & MASK)) {
+                    leaf = fieldVector.leafFor(i);
+                }
+                final JsonField jsonField = (JsonField) leaf[i & MASK];
+                i++;
+                if (null != jsonField) {
+                    return jsonField;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return null != next;
+        }
+
+        @Override
+        public T next() {
+            final JsonField result = next;
+            if (null == result) {
+                throw new NoSuchElementException();
+            }
+            next = advance();
+            return mapper.apply(result);
+        }
+
+    }
+
+}
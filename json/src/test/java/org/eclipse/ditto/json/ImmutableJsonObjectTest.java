@@ -1410,6 +1410,33 @@ public final class ImmutableJsonObjectTest {
         assertThat(jsonObject.getValue(KNOWN_KEY_FOO).isPresent()).isTrue();
     }
 
+    @Test
+    public void modifiedObjectIsSerializedLazilyAndSurvivesClearedSoftReference()
+            throws IllegalAccessException, NoSuchFieldException {
+
+        final JsonObject modified = ImmutableJsonObject.of(KNOWN_FIELDS)
+                .setValue("newKey", JsonValue.of(4711))
+                .remove(KNOWN_KEY_FOO);
+        assertInternalCachesAreAsExpected(modified, false);
+
+        final Field valueListField = modified.getClass().getDeclaredField("fieldMap");
+        valueListField.setAccessible(true);
+        final ImmutableJsonObject.SoftReferencedFieldMap
+                valueList = (ImmutableJsonObject.SoftReferencedFieldMap) valueListField.get(modified);
+        final Field softReferenceField = valueList.getClass().getDeclaredField("fieldsReference");
+        softReferenceField.setAccessible(true);
+
+        ((SoftReference) softReferenceField.get(valueList)).clear();
+        assertThat(modified.getValue("newKey")).contains(JsonValue.of(4711));
+
+        final String expectedString = modified.toString();
+        assertInternalCachesAreAsExpected(modified, true);
+        ((SoftReference) softReferenceField.get(valueList)).clear();
+        assertThat(modified.getValue("newKey")).contains(JsonValue.of(4711));
+        assertThat(modified.contains(KNOWN_KEY_FOO)).isFalse();
+        assertThat(modified.toString()).isEqualTo(expectedString);
+    }
+
     private void assertInternalCachesAreAsExpected(final JsonObject jsonObject, final boolean jsonExpected) {
         try {
             final Field valueListField = jsonObject.getClass().getDeclaredField("fieldMap");
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.ArrayList;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link LazyFieldMap} and lazily parsed JSON objects.
+ */
+public final class LazyFieldMapTest {
+
+    private static final String JSON_STRING = " {\n" +
+            "  \"thingId\" : \"org.eclipse.ditto:thing\",\n" +
+            "  \"attributes\": {\"location\": {\"lat\": 47.7, \"lon\": 9.6}, \"tags\": [\"a\", \"}\", {\"b\": []}]},\n" +
+            "  \"esc\\\"aped\": \"\\\"quoted\\\" \\\\ value\",\n" +
+            "  \"number\": -1.5,\n" +
+            "  \"flag\": true,\n" +
+            "  \"nothing\": null\n" +
+            "}\t";
+
+    @Test
+    public void lazilyParsedObjectEqualsEagerlyParsedObject() {
+        final JsonObject expected = JsonFactory.newObject(JSON_STRING);
+
+        final JsonObject underTest = JsonFactory.newObjectLazily(JSON_STRING);
+
+        assertThat(underTest).isEqualTo(expected);
+        assertThat(underTest.hashCode()).isEqualTo(expected.hashCode());
+        assertThat(underTest.toString()).isEqualTo(expected.toString());
+        assertThat(underTest.getKeys()).isEqualTo(expected.getKeys());
+    }
+
+    @Test
+    public void fieldValuesAreMaterializedOnFirstAccess() {
+        final LazyFieldMap underTest = LazyFieldMap.ofJsonObjectString(JSON_STRING);
+
+        assertThat(underTest.keySet())
+                .containsExactly("thingId", "attributes", "esc\"aped", "number", "flag", "nothing");
+        final JsonField attributes = underTest.get("attributes");
+        assertThat(underTest.get("attributes")).isSameAs(attributes);
+        assertThat(attributes.getValue().asObject().getValue("location/lat")).contains(JsonValue.of(47.7));
+        assertThat(underTest.get("esc\"aped").getValue()).isEqualTo(JsonValue.of("\"quoted\" \\ value"));
+        assertThat(underTest.get("nothing").getValue().isNull()).isTrue();
+        assertThat(underTest.get("unknown")).isNull();
+    }
+
+    @Test
+    public void lastDuplicateKeyWinsAtPositionOfFirstOccurrence() {
+        final LazyFieldMap underTest = LazyFieldMap.ofJsonObjectString("{\"a\":1,\"b\":2,\"a\":3}");
+
+        assertThat(new ArrayList<>(underTest.values())).containsExactly(
+                JsonField.newInstance("a", JsonValue.of(3)),
+                JsonField.newInstance("b", JsonValue.of(2)));
+    }
+
+    @Test
+    public void largeObjectsAreIndexedByKey() {
+        final JsonObjectBuilder builder = JsonFactory.newObjectBuilder();
+        for (int i = 0; i < 100; i++) {
+            builder.set("key" + i, i);
+        }
+        final JsonObject expected = builder.build();
+
+        final JsonObject underTest = JsonFactory.newObjectLazily(expected.toString());
+
+        assertThat(underTest.getValue("key42")).contains(JsonValue.of(42));
+        assertThat(underTest.contains("key100")).isFalse();
+        assertThat(underTest).isEqualTo(expected);
+    }
+
+    @Test
+    public void modifyingLazilyParsedObjectKeepsNestedObjectsLazy() {
+        final JsonObject underTest = JsonFactory.newObjectLazily(JSON_STRING);
+
+        final JsonObject modified = underTest.setValue(JsonPointer.of("attributes/location/lat"), 48.0);
+
+        assertThat(modified.getValue("attributes/location/lat")).contains(JsonValue.of(48.0));
+        assertThat(modified.getValue("attributes/tags").map(JsonValue::asArray).flatMap(tags -> tags.get(1)))
+                .contains(JsonValue.of("}"));
+        assertThat(underTest.getValue("attributes/location/lat")).contains(JsonValue.of(47.7));
+    }
+
+    @Test
+    public void emptyObjectIsIndexed() {
+        assertThat(JsonFactory.newObjectLazily(" { } ")).isEqualTo(JsonFactory.newObject());
+    }
+
+    @Test
+    public void malformedTopLevelObjectIsRejected() {
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> JsonFactory.newObjectLazily("[1, 2]"));
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> JsonFactory.newObjectLazily("{\"a\": {\"b\": 1}"));
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> JsonFactory.newObjectLazily("{\"a\": 1} trailing"));
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> JsonFactory.newObjectLazily("{\"\": 1}"));
+    }
+
+    @Test
+    public void malformedFieldValueIsRejectedOnAccess() {
+        final JsonObject underTest = JsonFactory.newObjectLazily("{\"valid\": 1, \"invalid\": tru}");
+
+        assertThat(underTest.getValue("valid")).contains(JsonValue.of(1));
+        assertThatExceptionOfType(JsonParseException.class).isThrownBy(() -> underTest.getValue("invalid"));
+    }
+
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link PersistentFieldMap}.
+ */
+public final class PersistentFieldMapTest {
+
+    @Test
+    public void emptyMapIsEmpty() {
+        final PersistentFieldMap underTest = PersistentFieldMap.empty();
+
+        assertThat(underTest).isEmpty();
+        assertThat(underTest.getOrNull("foo")).isNull();
+        assertThat(underTest.without("foo")).isSameAs(underTest);
+    }
+
+    @Test
+    public void copyOfPreservesOrder() {
+        final Map<String, JsonField> expected = new LinkedHashMap<>();
+        for (int i = 100; i > 0; i--) {
+            putField(expected, "key" + i, i);
+        }
+
+        final PersistentFieldMap underTest = PersistentFieldMap.copyOf(expected);
+
+        assertThat(underTest).isEqualTo(expected);
+        assertThat(underTest.hashCode()).isEqualTo(expected.hashCode());
+        assertThat(new ArrayList<>(underTest.values())).isEqualTo(new ArrayList<>(expected.values()));
+        assertThat(PersistentFieldMap.copyOf(underTest)).isSameAs(underTest);
+    }
+
+    @Test
+    public void replacingFieldKeepsPositionAndLeavesOriginalUntouched() {
+        final PersistentFieldMap original = PersistentFieldMap.empty()
+                .with(JsonField.newInstance("a", JsonValue.of(1)))
+                .with(JsonField.newInstance("b", JsonValue.of(2)))
+                .with(JsonField.newInstance("c", JsonValue.of(3)));
+
+        final PersistentFieldMap modified = original.with(JsonField.newInstance("b", JsonValue.of(42)));
+
+        assertThat(modified.keySet()).containsExactly("a", "b", "c");
+        assertThat(modified.getOrNull("b")).isEqualTo(JsonField.newInstance("b", JsonValue.of(42)));
+        assertThat(original.getOrNull("b")).isEqualTo(JsonField.newInstance("b", JsonValue.of(2)));
+    }
+
+    @Test
+    public void settingEqualFieldReturnsSameMap() {
+        final PersistentFieldMap underTest = PersistentFieldMap.empty().with(JsonField.newInstance("a", JsonValue.of(1)));
+
+        assertThat(underTest.with(JsonField.newInstance("a", JsonValue.of(1)))).isSameAs(underTest);
+    }
+
+    @Test
+    public void removedAndReAddedFieldMovesToTheEnd() {
+        final PersistentFieldMap underTest = PersistentFieldMap.empty()
+                .with(JsonField.newInstance("a", JsonValue.of(1)))
+                .with(JsonField.newInstance("b", JsonValue.of(2)))
+                .without("a")
+                .with(JsonField.newInstance("a", JsonValue.of(3)));
+
+        assertThat(underTest.keySet()).containsExactly("b", "a");
+    }
+
+    @Test
+    public void keysWithEqualHashCodesAreDistinguished() {
+        // "Aa" and "BB" have the same hash code
+        final PersistentFieldMap underTest = PersistentFieldMap.empty()
+                .with(JsonField.newInstance("Aa", JsonValue.of(1)))
+                .with(JsonField.newInstance("BB", JsonValue.of(2)))
+                .with(JsonField.newInstance("AaAa", JsonValue.of(3)))
+                .with(JsonField.newInstance("BBBB", JsonValue.of(4)));
+
+        assertThat(underTest.getOrNull("Aa").getValue()).isEqualTo(JsonValue.of(1));
+        assertThat(underTest.getOrNull("BB").getValue()).isEqualTo(JsonValue.of(2));
+        assertThat(underTest.without("Aa").getOrNull("BB").getValue()).isEqualTo(JsonValue.of(2));
+        assertThat(underTest.without("Aa").without("BB").keySet()).containsExactly("AaAa", "BBBB");
+        assertThat(PersistentFieldMap.copyOf(underTest.without("BBBB")).keySet()).containsExactly("Aa", "BB", "AaAa");
+    }
+
+    @Test
+    public void randomModificationsBehaveLikeLinkedHashMap() {
+        final Random random = new Random(4711L);
+        final List<PersistentFieldMap> snapshots = new ArrayList<>();
+        final List<Map<String, JsonField>> expectedSnapshots = new ArrayList<>();
+        final Map<String, JsonField> expected = new LinkedHashMap<>();
+        PersistentFieldMap underTest = PersistentFieldMap.empty();
+
+        for (int i = 0; i < 20_000; i++) {
+            final String key = "key" + random.nextInt(2_000);
+            if (random.nextInt(3) == 0) {
+                expected.remove(key);
+                underTest = underTest.without(key);
+            } else {
+                final JsonField field = putField(expected, key, i);
+                underTest = underTest.with(field);
+            }
+            if (i % 1_000 == 0) {
+                snapshots.add(underTest);
+                expectedSnapshots.add(new LinkedHashMap<>(expected));
+            }
+        }
+
+        assertThat(underTest).isEqualTo(expected);
+        assertThat(new ArrayList<>(underTest.keySet())).isEqualTo(new ArrayList<>(expected.keySet()));
+        for (int i = 0; i < snapshots.size(); i++) {
+            assertThat(new ArrayList<>(snapshots.get(i).values()))
+                    .isEqualTo(new ArrayList<>(expectedSnapshots.get(i).values()));
+        }
+    }
+
+    private static JsonField putField(final Map<String, JsonField> map, final String key, final int value) {
+        final JsonField field = JsonField.newInstance(key, JsonValue.of(value));
+        map.put(key, field);
+        return field;
+    }
+
+}
@@ -22,6 +22,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -61,39 +62,69 @@ public abstract class AbstractDittoHeaders extends AbstractMap<String, String> i
 
     private final Map<String, String> headers;
 
+    // values parsed from the headers; derived from the headers and hence not part of equals, hashCode and JSON
+    private final ParsedHeaderValues parsedValues;
+
     /**
      * Constructs a new {@code AbstractDittoHeaders} object.
+     * If {@code headers} are already {@code AbstractDittoHeaders}, their values which were parsed before are reused.
      *
      * @param headers the key-value-pairs of the result.
      * @throws NullPointerException if {@code headers} is {@code null}.
      */
     protected AbstractDittoHeaders(final Map<String, String> headers) {
+        this(headers, headers instanceof AbstractDittoHeaders ? ((AbstractDittoHeaders) headers).parsedValues : null);
+    }
+
+    /**
+     * Constructs a new {@code AbstractDittoHeaders} object reusing values which were already parsed from the
+     * headers.
+     *
+     * @param headers the key-value-pairs of the result.
+     * @param parsedValues values parsed from the headers or {@code null}. Only values whose header values did not
+     * change are reused.
+     * @throws NullPointerException if {@code headers} is {@code null}.
+     */
+    AbstractDittoHeaders(final Map<String, String> headers, @Nullable final ParsedHeaderValues parsedValues) {
         checkNotNull(headers, "headers map");
-        final Map<String, String> headersWithOnlyPrefixedSubjects = keepAuthContextSubjectsWithIssuer(headers);
-        this.headers = Collections.unmodifiableMap(new HashMap<>(headersWithOnlyPrefixedSubjects));
-    }
-
-    private static Map<String, String> keepAuthContextSubjectsWithIssuer(final Map<String, String> headers) {
-        if (headers.containsKey(DittoHeaderDefinition.AUTHORIZATION_CONTEXT.getKey())) {
-            final Map<String, String> newHeaders = new HashMap<>(headers);
-            final AuthorizationContext authContext = AuthorizationModelFactory.newAuthContext(
-                    getJsonObject(headers, DittoHeaderDefinition.AUTHORIZATION_CONTEXT));
-            final AuthorizationContext authContextWithoutDups = keepAuthContextSubjectsWithIssuer(authContext);
-            newHeaders.put(DittoHeaderDefinition.AUTHORIZATION_CONTEXT.getKey(), authContextWithoutDups.toJsonString());
-            return newHeaders;
+        this.parsedValues = null != parsedValues ? parsedValues.copy() : new ParsedHeaderValues();
+        if (headers instanceof AbstractDittoHeaders) {
+            // already unmodifiable and with only prefixed subjects
+            this.headers = ((AbstractDittoHeaders) headers).headers;
+        } else {
+            final Map<String, String> headersWithOnlyPrefixedSubjects =
+                    keepAuthContextSubjectsWithIssuer(headers, this.parsedValues);
+            this.headers = Collections.unmodifiableMap(new HashMap<>(headersWithOnlyPrefixedSubjects));
         }
-        return headers;
     }
 
-    private static JsonObject getJsonObject(final Map<String, String> headers, final HeaderDefinition definition) {
-        final String jsonObjectString = headers.get(definition.getKey());
-        final JsonObject result;
-        if (null != jsonObjectString) {
-            result = JsonObject.of(jsonObjectString);
-        } else {
-            result = JsonObject.empty();
+    private static Map<String, String> keepAuthContextSubjectsWithIssuer(final Map<String, String> headers,
+            final ParsedHeaderValues parsedValues) {
+
+        final String authContextKey = DittoHeaderDefinition.AUTHORIZATION_CONTEXT.getKey();
+        @Nullable final String authContextString = headers.get(authContextKey);
+        if (null == authContextString ||
+                parsedValues.isParsed(ParsedHeaderValues.Key.STORED_AUTHORIZATION_CONTEXT, authContextString)) {
+            return headers;
         }
-        return result;
+        final Map<String, String> newHeaders = new HashMap<>(headers);
+        final AuthorizationContext authContext =
+                AuthorizationModelFactory.newAuthContext(JsonObject.of(authContextString));
+        final AuthorizationContext authContextWithoutDups = keepAuthContextSubjectsWithIssuer(authContext);
+        final String authContextWithoutDupsString = authContextWithoutDups.toJsonString();
+        newHeaders.put(authContextKey, authContextWithoutDupsString);
+        parsedValues.put(ParsedHeaderValues.Key.STORED_AUTHORIZATION_CONTEXT, authContextWithoutDupsString,
+                authContextWithoutDups);
+        return newHeaders;
+    }
+
+    /**
+     * Returns the values parsed from these headers so far.
+     *
+     * @return the parsed values.
+     */
+    ParsedHeaderValues getParsedValues() {
+        return parsedValues;
     }
 
     protected static AuthorizationContext keepAuthContextSubjectsWithIssuer(final AuthorizationContext authContext) {
@@ -147,8 +178,15 @@ public abstract class AbstractDittoHeaders extends AbstractMap<String, String> i
         /**
          * TODO: remove this duplication when removing {@link JsonSchemaVersion#V_1}.
          */
-        return duplicateSubjectsByStrippingIssuerPrefix(AuthorizationModelFactory.newAuthContext(
-                getJsonObject(headers, DittoHeaderDefinition.AUTHORIZATION_CONTEXT)));
+        @Nullable final String authContextString = headers.get(DittoHeaderDefinition.AUTHORIZATION_CONTEXT.getKey());
+        if (null == authContextString) {
+            return duplicateSubjectsByStrippingIssuerPrefix(
+                    AuthorizationModelFactory.newAuthContext(JsonObject.empty()));
+        }
+        return parsedValues.getOrParse(ParsedHeaderValues.Key.AUTHORIZATION_CONTEXT, authContextString,
+                value -> duplicateSubjectsByStrippingIssuerPrefix(
+                        parsedValues.getOrParse(ParsedHeaderValues.Key.STORED_AUTHORIZATION_CONTEXT, value,
+                                json -> AuthorizationModelFactory.newAuthContext(JsonObject.of(json)))));
     }
 
     private static AuthorizationContext duplicateSubjectsByStrippingIssuerPrefix(
@@ -194,7 +232,13 @@ public abstract class AbstractDittoHeaders extends AbstractMap<String, String> i
 
     @Override
     public Set<AuthorizationSubject> getReadGrantedSubjects() {
-        return getAuthorizationSubjectSet(DittoHeaderDefinition.READ_SUBJECTS);
+        @Nullable final String readSubjectsString = headers.get(DittoHeaderDefinition.READ_SUBJECTS.getKey());
+        if (null == readSubjectsString) {
+            return new HashSet<>();
+        }
+        return new HashSet<>(parsedValues.getOrParse(ParsedHeaderValues.Key.READ_GRANTED_SUBJECTS,
+                readSubjectsString,
+                value -> Collections.unmodifiableSet(getAuthorizationSubjectSet(DittoHeaderDefinition.READ_SUBJECTS))));
     }
 
     private Set<AuthorizationSubject> getAuthorizationSubjectSet(final HeaderDefinition definition) {
@@ -314,18 +358,27 @@ public abstract class AbstractDittoHeaders extends AbstractMap<String, String> i
 
     @Override
     public Set<AcknowledgementRequest> getAcknowledgementRequests() {
-        final JsonArray jsonValueArray = getJsonArrayForDefinition(DittoHeaderDefinition.REQUESTED_ACKS);
-        return jsonValueArray.stream()
+        @Nullable final String requestedAcksString = headers.get(DittoHeaderDefinition.REQUESTED_ACKS.getKey());
+        if (null == requestedAcksString) {
+            return new LinkedHashSet<>();
+        }
+        return new LinkedHashSet<>(parsedValues.getOrParse(ParsedHeaderValues.Key.ACKNOWLEDGEMENT_REQUESTS,
+                requestedAcksString, AbstractDittoHeaders::parseAcknowledgementRequests));
+    }
+
+    private static Set<AcknowledgementRequest> parseAcknowledgementRequests(final String requestedAcksString) {
+        final Set<AcknowledgementRequest> acknowledgementRequests = JsonArray.of(requestedAcksString).stream()
                 .map(JsonValue::asString)
                 .map(AcknowledgementRequest::parseAcknowledgementRequest)
                 .collect(Collectors.toCollection(LinkedHashSet::new));
+        return Collections.unmodifiableSet(acknowledgementRequests);
     }
 
     @Override
     public Optional<Duration> getTimeout() {
         return getStringForDefinition(DittoHeaderDefinition.TIMEOUT)
-                .map(DittoDuration::parseDuration)
-                .map(DittoDuration::getDuration);
+                .map(timeoutString -> parsedValues.getOrParse(ParsedHeaderValues.Key.TIMEOUT, timeoutString,
+                        value -> DittoDuration.parseDuration(value).getDuration()));
     }
 
     @Override
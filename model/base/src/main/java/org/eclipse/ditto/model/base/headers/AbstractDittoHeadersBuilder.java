@@ -22,6 +22,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -73,6 +74,7 @@ public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeaders
     private final Map<String, String> headers;
     private MetadataHeaders metadataHeaders;
     private final Map<String, HeaderDefinition> definitions;
+    private final ParsedHeaderValues parsedValues;
 
     /**
      * Constructs a new {@code AbstractDittoHeadersBuilder} object.
@@ -96,6 +98,7 @@ public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeaders
         metadataHeaders = MetadataHeaders.newInstance();
         metadataHeaders.addAll(extractMetadataHeaders(headers));
         this.definitions = getHeaderDefinitionsAsMap(definitions);
+        parsedValues = new ParsedHeaderValues();
     }
 
     private static MetadataHeaders extractMetadataHeaders(final Map<String, String> headers) {
@@ -125,7 +128,8 @@ public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeaders
     /**
      * Constructs a new {@code AbstractDittoHeadersBuilder} object based on an existing {@code DittoHeaders} instance
      * applying a performance optimization: skipping the validation of values types as we can be sure that they already
-     * are valid when being passed in as DittoHeaders.
+     * are valid when being passed in as DittoHeaders. Header values which were already parsed by the initial
+     * DittoHeaders are not parsed again by the built headers as long as they are not changed.
      *
      * @param initialHeaders initial DittoHeaders.
      * @param definitions a collection of all well known {@link HeaderDefinition}s of this builder. The definitions
@@ -145,6 +149,11 @@ public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeaders
         metadataHeaders = MetadataHeaders.newInstance();
         metadataHeaders.addAll(extractMetadataHeaders(headers));
         this.definitions = getHeaderDefinitionsAsMap(definitions);
+        if (initialHeaders instanceof AbstractDittoHeaders) {
+            parsedValues = ((AbstractDittoHeaders) initialHeaders).getParsedValues().copy();
+        } else {
+            parsedValues = new ParsedHeaderValues();
+        }
     }
 
     /**
@@ -212,7 +221,14 @@ public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeaders
     @Override
     public S authorizationContext(@Nullable final AuthorizationContext authorizationContext) {
         if (null != authorizationContext) {
-            putJsonValue(DittoHeaderDefinition.AUTHORIZATION_CONTEXT, authorizationContext.toJson());
+            final String authorizationContextString = authorizationContext.toJsonString();
+            putCharSequence(DittoHeaderDefinition.AUTHORIZATION_CONTEXT, authorizationContextString);
+            if (authorizationContext.equals(
+                    AbstractDittoHeaders.keepAuthContextSubjectsWithIssuer(authorizationContext))) {
+                // the built headers need not parse the authorization context to remove subjects without issuer
+                parsedValues.put(ParsedHeaderValues.Key.STORED_AUTHORIZATION_CONTEXT, authorizationContextString,
+                        authorizationContext);
+            }
         } else {
             removeHeader(DittoHeaderDefinition.AUTHORIZATION_CONTEXT.getKey());
         }
@@ -402,10 +418,14 @@ public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeaders
     @Override
     public S acknowledgementRequests(final Collection<AcknowledgementRequest> acknowledgementRequests) {
         checkNotNull(acknowledgementRequests, "acknowledgementRequests");
-        putJsonValue(DittoHeaderDefinition.REQUESTED_ACKS, acknowledgementRequests.stream()
+        final String acknowledgementRequestsString = acknowledgementRequests.stream()
                 .map(AcknowledgementRequest::toString)
                 .map(JsonValue::of)
-                .collect(JsonCollectors.valuesToArray()));
+                .collect(JsonCollectors.valuesToArray())
+                .toString();
+        putCharSequence(DittoHeaderDefinition.REQUESTED_ACKS, acknowledgementRequestsString);
+        parsedValues.put(ParsedHeaderValues.Key.ACKNOWLEDGEMENT_REQUESTS, acknowledgementRequestsString,
+                Collections.unmodifiableSet(new LinkedHashSet<>(acknowledgementRequests)));
         return myself;
     }
 
@@ -451,7 +471,9 @@ public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeaders
     private S timeout(@Nullable final DittoDuration timeout) {
         final DittoHeaderDefinition definition = DittoHeaderDefinition.TIMEOUT;
         if (null != timeout) {
-            putCharSequence(definition, timeout.toString());
+            final String timeoutString = timeout.toString();
+            putCharSequence(definition, timeoutString);
+            parsedValues.put(ParsedHeaderValues.Key.TIMEOUT, timeoutString, timeout.getDuration());
         } else {
             removeHeader(definition.getKey());
         }
@@ -526,7 +548,7 @@ public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeaders
     public R build() {
         // do it here
         putMetadataHeadersToRegularHeaders();
-        final ImmutableDittoHeaders dittoHeaders = ImmutableDittoHeaders.of(headers);
+        final ImmutableDittoHeaders dittoHeaders = ImmutableDittoHeaders.of(headers, parsedValues);
         return doBuild(dittoHeaders);
     }
 
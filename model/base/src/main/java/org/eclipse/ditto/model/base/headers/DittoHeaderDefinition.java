@@ -273,6 +273,45 @@ public enum DittoHeaderDefinition implements HeaderDefinition {
      * @since 1.3.0
      */
     ALLOW_POLICY_LOCKOUT("allow-policy-lockout", boolean.class, true, false,
+            HeaderValueValidators.getBooleanValidator()),
+
+    /**
+     * Header definition for the internal header "ditto-streamed-response". The HTTP endpoint of the gateway sets this
+     * header to indicate that the result of a command may be streamed to the client in chunks instead of being
+     * collected into one response.
+     * <p>
+     * Key {@code "ditto-streamed-response"}, Java type: {@link boolean}.
+     * </p>
+     *
+     * @since 2.0.0
+     */
+    STREAMED_RESPONSE("ditto-streamed-response", boolean.class, false, false,
+            HeaderValueValidators.getBooleanValidator()),
+
+    /**
+     * Header definition for the internal header "ditto-search-index-projection". The search service sets this header
+     * on a search response whose items are the things themselves, reconstructed from the search index, so that they
+     * need not be retrieved from the things service.
+     * <p>
+     * Key {@code "ditto-search-index-projection"}, Java type: {@link boolean}.
+     * </p>
+     *
+     * @since 2.0.0
+     */
+    SEARCH_INDEX_PROJECTION("ditto-search-index-projection", boolean.class, false, false,
+            HeaderValueValidators.getBooleanValidator()),
+
+    /**
+     * Header definition for the internal header "ditto-search-cursor-routed". A search actor sets this header on a
+     * search command it routes to the search actor holding the open database cursor of the command's cursor, so that
+     * the command is answered there and not routed again.
+     * <p>
+     * Key {@code "ditto-search-cursor-routed"}, Java type: {@link boolean}.
+     * </p>
+     *
+     * @since 2.0.0
+     */
+    SEARCH_CURSOR_ROUTED("ditto-search-cursor-routed", boolean.class, false, false,
             HeaderValueValidators.getBooleanValidator());
 
     /**
@@ -27,6 +27,10 @@ final class ImmutableDittoHeaders extends AbstractDittoHeaders implements DittoH
         super(headers);
     }
 
+    private ImmutableDittoHeaders(final Map<String, String> headers, final ParsedHeaderValues parsedValues) {
+        super(headers, parsedValues);
+    }
+
     /**
      * Returns an instance of {@code ImmutableDittoHeaders} which is based on the specified map.
      *
@@ -38,6 +42,19 @@ final class ImmutableDittoHeaders extends AbstractDittoHeaders implements DittoH
         return new ImmutableDittoHeaders(headers);
     }
 
+    /**
+     * Returns an instance of {@code ImmutableDittoHeaders} which is based on the specified map and reuses the values
+     * which were already parsed from it.
+     *
+     * @param headers the key-value-pairs of the result.
+     * @param parsedValues values parsed from {@code headers}. Only values whose header values are unchanged are used.
+     * @return the instance.
+     * @throws NullPointerException if {@code headers} is {@code null}.
+     */
+    static ImmutableDittoHeaders of(final Map<String, String> headers, final ParsedHeaderValues parsedValues) {
+        return new ImmutableDittoHeaders(headers, parsedValues);
+    }
+
     @Override
     protected Optional<HeaderDefinition> getSpecificDefinitionByKey(final CharSequence key) {
         // there is no specific header defined for this class; all headers are already defined
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.base.headers;
+
+import java.util.Arrays;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Typed values of headers which are parsed at most once per header value.
+ * Each parsed value is remembered together with the header value it was parsed from and only returned for that
+ * header value. Thus the parsed values may be carried over to headers or builders derived from the headers they
+ * were parsed for: parsed values of changed headers are simply not used.
+ * <p>
+ * Parsed values must be immutable. They are published without synchronization just like the hash code of a
+ * {@link String}: concurrent readers parse the same value at most once more.
+ * </p>
+ */
+@ThreadSafe
+final class ParsedHeaderValues {
+
+    private final Entry<?>[] entries;
+
+    /**
+     * Constructs a new {@code ParsedHeaderValues} object without any parsed values.
+     */
+    ParsedHeaderValues() {
+        entries = new Entry<?>[Key.values().length];
+    }
+
+    private ParsedHeaderValues(final Entry<?>[] entries) {
+        this.entries = entries;
+    }
+
+    /**
+     * Returns a copy of these parsed values which may be changed independently.
+     *
+     * @return the copy.
+     */
+    ParsedHeaderValues copy() {
+        return new ParsedHeaderValues(Arrays.copyOf(entries, entries.length));
+    }
+
+    /**
+     * Returns the value parsed from the given header value, parsing it if it was not parsed before.
+     *
+     * @param key the key of the parsed value.
+     * @param headerValue the header value.
+     * @param parser parses the header value. The result must be immutable.
+     * @param <T> the type of the parsed value.
+     * @return the parsed value.
+     * @throws RuntimeException any exception of {@code parser}. Nothing is remembered in that case.
+     */
+    @SuppressWarnings("unchecked")
+    <T> T getOrParse(final Key key, final String headerValue, final Function<String, T> parser) {
+        final Entry<?> entry = entries[key.ordinal()];
+        if (null != entry && entry.isParsedFrom(headerValue)) {
+            return (T) entry.parsedValue;
+        }
+        final T parsedValue = parser.apply(headerValue);
+        put(key, headerValue, parsedValue);
+        return parsedValue;
+    }
+
+    /**
+     * Indicates whether a value was parsed from the given header value.
+     *
+     * @param key the key of the parsed value.
+     * @param headerValue the header value.
+     * @return {@code true} if a value was parsed from {@code headerValue}.
+     */
+    boolean isParsed(final Key key, @Nullable final String headerValue) {
+        final Entry<?> entry = entries[key.ordinal()];
+        return null != entry && null != headerValue && entry.isParsedFrom(headerValue);
+    }
+
+    /**
+     * Remembers a value parsed from or serialized to the given header value.
+     *
+     * @param key the key of the parsed value.
+     * @param headerValue the header value.
+     * @param parsedValue the immutable parsed value.
+     */
+    void put(final Key key, final String headerValue, final Object parsedValue) {
+        entries[key.ordinal()] = new Entry<>(headerValue, parsedValue);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "entries=" + Arrays.toString(entries) +
+                "]";
+    }
+
+    /**
+     * Keys of parsed header values.
+     */
+    enum Key {
+
+        /**
+         * The authorization context as it is stored in the headers, i.e. with subjects without issuer removed.
+         */
+        STORED_AUTHORIZATION_CONTEXT,
+
+        /**
+         * The authorization context with duplicated subjects without issuer prefix.
+         */
+        AUTHORIZATION_CONTEXT,
+
+        /**
+         * The unmodifiable set of requested acknowledgements.
+         */
+        ACKNOWLEDGEMENT_REQUESTS,
+
+        /**
+         * The unmodifiable set of subjects with granted READ permission.
+         */
+        READ_GRANTED_SUBJECTS,
+
+        /**
+         * The timeout duration.
+         */
+        TIMEOUT
+
+    }
+
+    private static final class Entry<T> {
+
+        private final String headerValue;
+        private final T parsedValue;
+
+        private Entry(final String headerValue, final T parsedValue) {
+            this.headerValue = headerValue;
+            this.parsedValue = parsedValue;
+        }
+
+        private boolean isParsedFrom(final String headerValue) {
+            // header values are mostly carried over as the same instance
+            return this.headerValue == headerValue || this.headerValue.equals(headerValue);
+        }
+
+        @Override
+        public String toString() {
+            return headerValue;
+        }
+
+    }
+
+}
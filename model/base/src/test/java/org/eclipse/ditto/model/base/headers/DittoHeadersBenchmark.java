@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.base.headers;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.model.base.acks.AcknowledgementLabel;
+import org.eclipse.ditto.model.base.acks.AcknowledgementRequest;
+import org.eclipse.ditto.model.base.acks.DittoAcknowledgementLabel;
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
+import org.eclipse.ditto.model.base.auth.DittoAuthorizationContextType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH Benchmark of a header-heavy signal hop: headers are derived from the headers of the previous hop and their
+ * authorization context, acknowledgement requests and timeout are read several times.
+ * Compares headers derived by a builder, which carries over parsed values, with headers created from a plain map.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DittoHeadersBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    private static final int READS_PER_HOP = 4;
+
+    private DittoHeaders dittoHeaders;
+    private long counter;
+
+    @Setup
+    public void setUp() {
+        dittoHeaders = DittoHeaders.newBuilder()
+                .correlationId("correlation-id")
+                .authorizationContext(AuthorizationContext.newInstance(
+                        DittoAuthorizationContextType.PRE_AUTHENTICATED_HTTP,
+                        AuthorizationSubject.newInstance("integration:solution:connection"),
+                        AuthorizationSubject.newInstance("nginx:ditto"),
+                        AuthorizationSubject.newInstance("google:some-user-id")))
+                .acknowledgementRequest(AcknowledgementRequest.of(DittoAcknowledgementLabel.TWIN_PERSISTED),
+                        AcknowledgementRequest.of(AcknowledgementLabel.of("custom-ack")))
+                .timeout(Duration.ofSeconds(10))
+                .responseRequired(true)
+                .build();
+        // the headers of the previous hop were read as well
+        dittoHeaders.getAuthorizationContext();
+        dittoHeaders.getAcknowledgementRequests();
+        dittoHeaders.getTimeout();
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public void deriveWithBuilderAndRead(final Blackhole blackhole) {
+        final DittoHeaders derivedHeaders = dittoHeaders.toBuilder()
+                .correlationId("correlation-id-" + counter++)
+                .build();
+        read(derivedHeaders, blackhole);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public void deriveFromMapAndRead(final Blackhole blackhole) {
+        final Map<String, String> derivedMap = new HashMap<>(dittoHeaders);
+        derivedMap.put(DittoHeaderDefinition.CORRELATION_ID.getKey(), "correlation-id-" + counter++);
+        read(DittoHeaders.of(derivedMap), blackhole);
+    }
+
+    private static void read(final DittoHeaders headers, final Blackhole blackhole) {
+        for (int i = 0; i < READS_PER_HOP; i++) {
+            blackhole.consume(headers.getAuthorizationContext());
+            blackhole.consume(headers.getAcknowledgementRequests());
+            blackhole.consume(headers.getTimeout());
+        }
+    }
+
+}
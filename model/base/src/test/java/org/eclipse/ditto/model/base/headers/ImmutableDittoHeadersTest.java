@@ -25,6 +25,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -112,6 +113,9 @@ public final class ImmutableDittoHeadersTest {
     private static final JsonValue KNOWN_METADATA_VALUE = JsonValue.of("knownMetadata");
     private static final MetadataHeaders KNOWN_METADATA_HEADERS;
     private static final boolean KNOWN_ALLOW_POLICY_LOCKOUT = true;
+    private static final boolean KNOWN_STREAMED_RESPONSE = true;
+    private static final boolean KNOWN_SEARCH_INDEX_PROJECTION = true;
+    private static final boolean KNOWN_SEARCH_CURSOR_ROUTED = true;
 
     static {
         KNOWN_METADATA_HEADERS = MetadataHeaders.newInstance();
@@ -161,6 +165,11 @@ public final class ImmutableDittoHeadersTest {
                 .putHeader(DittoHeaderDefinition.CONNECTION_ID.getKey(), KNOWN_CONNECTION_ID)
                 .expectedResponseTypes(KNOWN_EXPECTED_RESPONSE_TYPES)
                 .allowPolicyLockout(KNOWN_ALLOW_POLICY_LOCKOUT)
+                .putHeader(DittoHeaderDefinition.STREAMED_RESPONSE.getKey(), String.valueOf(KNOWN_STREAMED_RESPONSE))
+                .putHeader(DittoHeaderDefinition.SEARCH_INDEX_PROJECTION.getKey(),
+                        String.valueOf(KNOWN_SEARCH_INDEX_PROJECTION))
+                .putHeader(DittoHeaderDefinition.SEARCH_CURSOR_ROUTED.getKey(),
+                        String.valueOf(KNOWN_SEARCH_CURSOR_ROUTED))
                 .build();
 
         assertThat(underTest).isEqualTo(expectedHeaderMap);
@@ -379,6 +388,9 @@ public final class ImmutableDittoHeadersTest {
                         expectedResponseTypesToJsonArray(KNOWN_EXPECTED_RESPONSE_TYPES))
                 .set(DittoHeaderDefinition.PUT_METADATA.getKey(), KNOWN_METADATA_HEADERS.toJson())
                 .set(DittoHeaderDefinition.ALLOW_POLICY_LOCKOUT.getKey(), KNOWN_ALLOW_POLICY_LOCKOUT)
+                .set(DittoHeaderDefinition.STREAMED_RESPONSE.getKey(), KNOWN_STREAMED_RESPONSE)
+                .set(DittoHeaderDefinition.SEARCH_INDEX_PROJECTION.getKey(), KNOWN_SEARCH_INDEX_PROJECTION)
+                .set(DittoHeaderDefinition.SEARCH_CURSOR_ROUTED.getKey(), KNOWN_SEARCH_CURSOR_ROUTED)
                 .build();
         final Map<String, String> allKnownHeaders = createMapContainingAllKnownHeaders();
 
@@ -551,6 +563,45 @@ public final class ImmutableDittoHeadersTest {
         assertThat(truncatedHeaders).isEqualTo(expected);
     }
 
+    @Test
+    public void parsedHeaderValuesAreReused() {
+        final DittoHeaders underTest = DittoHeaders.newBuilder()
+                .authorizationContext(AUTH_CONTEXT_WITHOUT_DUPLICATES)
+                .timeout(KNOWN_TIMEOUT)
+                .build();
+
+        assertThat(underTest.getAuthorizationContext()).isSameAs(underTest.getAuthorizationContext());
+        assertThat(underTest.getTimeout()).contains(KNOWN_TIMEOUT);
+        assertThat(underTest.getTimeout().orElse(null)).isSameAs(underTest.getTimeout().orElse(null));
+    }
+
+    @Test
+    public void parsedHeaderValuesAreCarriedOverToDerivedHeadersUntilChanged() {
+        final DittoHeaders dittoHeaders = ImmutableDittoHeaders.of(createMapContainingAllKnownHeaders());
+        final AuthorizationContext authorizationContext = dittoHeaders.getAuthorizationContext();
+        final Duration timeout = dittoHeaders.getTimeout().orElseThrow(IllegalStateException::new);
+
+        final DittoHeaders derivedHeaders = dittoHeaders.toBuilder()
+                .correlationId("derived")
+                .timeout(Duration.ofSeconds(1))
+                .build();
+
+        assertThat(derivedHeaders.getAuthorizationContext()).isSameAs(authorizationContext);
+        assertThat(derivedHeaders.getTimeout()).contains(Duration.ofSeconds(1)).isNotEqualTo(Optional.of(timeout));
+    }
+
+    @Test
+    public void returnedSetsOfParsedHeaderValuesAreCopies() {
+        final DittoHeaders underTest = ImmutableDittoHeaders.of(createMapContainingAllKnownHeaders());
+
+        underTest.getAcknowledgementRequests().clear();
+        underTest.getReadGrantedSubjects().clear();
+
+        assertThat(underTest.getAcknowledgementRequests()).containsExactlyElementsOf(KNOWN_ACK_REQUESTS);
+        assertThat(underTest.getReadGrantedSubjects())
+                .containsExactly(AuthorizationSubject.newInstance(KNOWN_READ_SUBJECT));
+    }
+
     private static Map<String, String> createMapContainingAllKnownHeaders() {
         final Map<String, String> result = new HashMap<>();
         result.put(DittoHeaderDefinition.AUTHORIZATION_CONTEXT.getKey(),
@@ -584,6 +635,10 @@ public final class ImmutableDittoHeadersTest {
                 expectedResponseTypesToJsonArray(KNOWN_EXPECTED_RESPONSE_TYPES).toString());
         result.put(DittoHeaderDefinition.PUT_METADATA.getKey(), KNOWN_METADATA_HEADERS.toJsonString());
         result.put(DittoHeaderDefinition.ALLOW_POLICY_LOCKOUT.getKey(), String.valueOf(KNOWN_ALLOW_POLICY_LOCKOUT));
+        result.put(DittoHeaderDefinition.STREAMED_RESPONSE.getKey(), String.valueOf(KNOWN_STREAMED_RESPONSE));
+        result.put(DittoHeaderDefinition.SEARCH_INDEX_PROJECTION.getKey(),
+                String.valueOf(KNOWN_SEARCH_INDEX_PROJECTION));
+        result.put(DittoHeaderDefinition.SEARCH_CURSOR_ROUTED.getKey(), String.valueOf(KNOWN_SEARCH_CURSOR_ROUTED));
 
         return result;
     }
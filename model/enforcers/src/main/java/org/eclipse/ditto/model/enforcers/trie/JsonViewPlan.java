@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.enforcers.trie;
+
+import java.util.Collections;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonArrayBuilder;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonValue;
+
+/**
+ * A JSON view of a {@link PolicyTrie} compiled for one set of authorization subject IDs and one set of permissions.
+ * <p>
+ * Each node of the plan holds the precomputed decision whether the permissions are granted at the corresponding trie
+ * node. Subtrees in which the permissions are granted or revoked everywhere are not descended into while building a
+ * JSON view: their values are either taken over as they are or dropped. The JSON views built by a plan are equal to
+ * those built by {@link PolicyTrie#buildJsonView(Iterable, java.util.Collection, java.util.Collection)}.
+ * </p>
+ */
+@Immutable
+final class JsonViewPlan {
+
+    private final boolean granted;
+    private final boolean grantedEverywhere;
+    private final boolean revokedEverywhere;
+    private final Map<JsonKey, JsonViewPlan> children;
+    @Nullable private final JsonViewPlan defaultChild;
+
+    private JsonViewPlan(final boolean granted, final Map<JsonKey, JsonViewPlan> children) {
+        this.granted = granted;
+        this.children = children;
+        boolean allChildrenGranted = true;
+        boolean allChildrenRevoked = true;
+        for (final JsonViewPlan child : children.values()) {
+            allChildrenGranted &= child.grantedEverywhere;
+            allChildrenRevoked &= child.revokedEverywhere;
+        }
+        grantedEverywhere = granted && allChildrenGranted;
+        revokedEverywhere = !granted && allChildrenRevoked;
+
+        // JSON keys without trie node are evaluated like this node without children
+        defaultChild = children.isEmpty() ? null : new JsonViewPlan(granted, Collections.emptyMap());
+    }
+
+    /**
+     * Returns a new plan node.
+     *
+     * @param granted whether the permissions are granted at the trie node of the plan node.
+     * @param children the compiled children of the trie node.
+     * @return the plan node.
+     */
+    static JsonViewPlan of(final boolean granted, final Map<JsonKey, JsonViewPlan> children) {
+        return new JsonViewPlan(granted, children);
+    }
+
+    /**
+     * Builds the JSON view of the given JSON fields in a single pass.
+     *
+     * @param jsonFields the JSON fields to filter.
+     * @return the JSON view.
+     */
+    JsonObject buildJsonView(final Iterable<JsonField> jsonFields) {
+        if (jsonFields instanceof JsonObject) {
+            final JsonObject jsonObject = (JsonObject) jsonFields;
+            if (jsonObject.isNull() || grantedEverywhere) {
+                return jsonObject;
+            }
+        }
+        if (revokedEverywhere) {
+            return JsonFactory.newObject();
+        }
+
+        final JsonObjectBuilder outputObjectBuilder = JsonFactory.newObjectBuilder();
+        for (final JsonField field : jsonFields) {
+            final JsonValue jsonView = getChild(field.getKey()).getViewOrNull(field.getValue());
+            if (null != jsonView) {
+                outputObjectBuilder.set(field.getKey(), jsonView);
+            }
+        }
+        return outputObjectBuilder.build();
+    }
+
+    private JsonViewPlan getChild(final JsonKey key) {
+        final JsonViewPlan child = children.get(key);
+        if (null != child) {
+            return child;
+        }
+        return null != defaultChild ? defaultChild : this;
+    }
+
+    @Nullable
+    private JsonValue getViewOrNull(final JsonValue jsonValue) {
+        if (grantedEverywhere) {
+            return jsonValue;
+        } else if (revokedEverywhere) {
+            return null;
+        } else if (jsonValue.isObject()) {
+            return filterCandidate(buildJsonView(jsonValue.asObject()));
+        } else if (jsonValue.isArray()) {
+            return filterCandidate(getViewForJsonArray(jsonValue.asArray()));
+        } else {
+            return granted ? jsonValue : null;
+        }
+    }
+
+    private JsonArray getViewForJsonArray(final JsonArray jsonArray) {
+        final JsonArrayBuilder outputArrayBuilder = JsonFactory.newArrayBuilder();
+        for (final JsonValue value : jsonArray) {
+            final JsonValue jsonView = getViewOrNull(value);
+            if (null != jsonView) {
+                outputArrayBuilder.add(jsonView);
+            }
+        }
+        return outputArrayBuilder.build();
+    }
+
+    @Nullable
+    private <T extends JsonValue> T filterCandidate(final T candidate) {
+        final boolean isEmpty = candidate.isObject() ? candidate.asObject().isEmpty() : candidate.asArray().isEmpty();
+        if (!isEmpty || granted) {
+            return candidate;
+        }
+        return null;
+    }
+
+}
@@ -228,6 +228,20 @@ final class PolicyTrie {
         return children.containsKey(childKey);
     }
 
+    /**
+     * Compiles a plan to build JSON views starting at this node for the given subject IDs and permissions.
+     *
+     * @param subjectIds Authorization subject IDs to compile the plan for.
+     * @param permissions Permissions to compile the plan for.
+     * @return The compiled plan.
+     */
+    JsonViewPlan compileJsonViewPlan(final Collection<String> subjectIds, final Collection<String> permissions) {
+        final Map<JsonKey, JsonViewPlan> compiledChildren = new HashMap<>(children.size());
+        children.forEach((key, child) -> compiledChildren.put(key, child.compileJsonViewPlan(subjectIds, permissions)));
+
+        return JsonViewPlan.of(grantRevokeIndex.hasPermissions(subjectIds, permissions), compiledChildren);
+    }
+
     @SuppressWarnings("unchecked")
     JsonObject buildJsonView(final Iterable<JsonField> jsonFields, final Collection<String> subjectIds,
             final Permissions permissions) {
@@ -14,6 +14,10 @@ package org.eclipse.ditto.model.enforcers.trie;
 
 import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
 import org.eclipse.ditto.json.JsonFactory;
@@ -62,9 +66,20 @@ import org.eclipse.ditto.model.policies.ResourceKey;
  * permissions, e. g., a resource is considered writable only if all sub-resources are writable, and any WRITE-revoked
  * resource make all its super-resources non-writable. To build it, start from {@code inheritedTrie}, push revoked
  * subjects from descendants up to ancestors. </li> </ol> See Javadoc of individual methods for more details.
+ * <p>
+ * JSON views are built with {@link JsonViewPlan}s which are compiled from {@code inheritedTrie} once per resource,
+ * set of authorization subject IDs and set of permissions, and then cached. The least recently used plan is evicted
+ * when the cache is full. As an enforcer is created for one revision of a policy, the cached plans are discarded
+ * together with the enforcer when the policy changes.
+ * </p>
  */
 public final class TrieBasedPolicyEnforcer implements Enforcer {
 
+    /**
+     * Default maximum number of JSON view plans cached per enforcer.
+     */
+    public static final int DEFAULT_MAX_CACHED_JSON_VIEW_PLANS = 64;
+
     /**
      * PolicyTrie obtained by propagating grant & revoke sets down from ancestors to descendants.
      */
@@ -80,11 +95,21 @@ public final class TrieBasedPolicyEnforcer implements Enforcer {
      */
     private final PolicyTrie bottomUpRevokeTrie;
 
-    private TrieBasedPolicyEnforcer(final Iterable<PolicyEntry> policy) {
+    private final int maxCachedJsonViewPlans;
+    private final Map<JsonViewPlanKey, JsonViewPlan> jsonViewPlans;
+
+    private TrieBasedPolicyEnforcer(final Iterable<PolicyEntry> policy, final int maxCachedJsonViewPlans) {
         final PolicyTrie rawTree = PolicyTrie.fromPolicy(policy);
         inheritedTrie = rawTree.getTransitiveClosure();
         bottomUpGrantTrie = inheritedTrie.getBottomUpGrantTrie();
         bottomUpRevokeTrie = inheritedTrie.getBottomUpRevokeTrie();
+        this.maxCachedJsonViewPlans = maxCachedJsonViewPlans;
+        jsonViewPlans = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<JsonViewPlanKey, JsonViewPlan> eldest) {
+                return size() > maxCachedJsonViewPlans;
+            }
+        };
     }
 
     /**
@@ -95,7 +120,28 @@ public final class TrieBasedPolicyEnforcer implements Enforcer {
      * @throws NullPointerException if {@code policy} is {@code null}.
      */
     public static TrieBasedPolicyEnforcer newInstance(final Policy policy) {
-        return new TrieBasedPolicyEnforcer(checkNotNull(policy, "policy to interpret"));
+        return newInstance(policy, DEFAULT_MAX_CACHED_JSON_VIEW_PLANS);
+    }
+
+    /**
+     * Constructs a trie-based policy enforcer from a policy which caches at most the given number of compiled JSON
+     * view plans. Once the limit is reached, the least recently used plan is evicted for each further combination of
+     * resource, authorization subjects and permissions.
+     *
+     * @param policy The policy to interpret.
+     * @param maxCachedJsonViewPlans The maximum number of cached JSON view plans, {@code 0} disables caching and builds
+     * JSON views without plans.
+     * @return The policy enforcer.
+     * @throws NullPointerException if {@code policy} is {@code null}.
+     * @throws IllegalArgumentException if {@code maxCachedJsonViewPlans} is negative.
+     * @since 2.0.0
+     */
+    public static TrieBasedPolicyEnforcer newInstance(final Policy policy, final int maxCachedJsonViewPlans) {
+        checkNotNull(policy, "policy to interpret");
+        if (maxCachedJsonViewPlans < 0) {
+            throw new IllegalArgumentException("The maximum number of cached JSON view plans must not be negative!");
+        }
+        return new TrieBasedPolicyEnforcer(policy, maxCachedJsonViewPlans);
     }
 
     /**
@@ -198,12 +244,35 @@ public final class TrieBasedPolicyEnforcer implements Enforcer {
 
         if (inheritedTrie.hasChild(typeKey)) {
             final PolicyTrie start = inheritedTrie.seekToLeastAncestor(PolicyTrie.getJsonKeyIterator(resourceKey));
-            return start.buildJsonView(jsonFields, authorizationContext.getAuthorizationSubjectIds(), permissions);
+            if (0 == maxCachedJsonViewPlans) {
+                return start.buildJsonView(jsonFields, authorizationContext.getAuthorizationSubjectIds(), permissions);
+            }
+            final Set<String> subjectIds = new HashSet<>(authorizationContext.getAuthorizationSubjectIds());
+            return getJsonViewPlan(start, subjectIds, permissions).buildJsonView(jsonFields);
         } else {
             return JsonFactory.newObject();
         }
     }
 
+    private JsonViewPlan getJsonViewPlan(final PolicyTrie start, final Set<String> subjectIds,
+            final Permissions permissions) {
+
+        final JsonViewPlanKey key = new JsonViewPlanKey(start, subjectIds, new HashSet<>(permissions));
+        final JsonViewPlan cachedPlan;
+        synchronized (jsonViewPlans) {
+            cachedPlan = jsonViewPlans.get(key);
+        }
+        if (null != cachedPlan) {
+            return cachedPlan;
+        }
+        // compile outside the lock; a plan compiled concurrently for the same key is equivalent
+        final JsonViewPlan plan = start.compileJsonViewPlan(subjectIds, permissions);
+        synchronized (jsonViewPlans) {
+            jsonViewPlans.put(key, plan);
+        }
+        return plan;
+    }
+
     /**
      * Returns a node in the trie {@code firstTry} whose path from root matches the given resource key exactly if it
      * exists, otherwise seek to the node in the trie {@code fallback} whose path from root matches the resource key the
@@ -221,4 +290,41 @@ public final class TrieBasedPolicyEnforcer implements Enforcer {
                 .orElseGet(() -> fallback.seekToLeastAncestor(PolicyTrie.getJsonKeyIterator(resourceKey)));
     }
 
+    /**
+     * Key of a cached {@link JsonViewPlan}: the trie node where the JSON view starts, the authorization subject IDs and
+     * the permissions. Trie nodes are compared by identity.
+     */
+    private static final class JsonViewPlanKey {
+
+        private final PolicyTrie start;
+        private final Set<String> subjectIds;
+        private final Set<String> permissions;
+
+        private JsonViewPlanKey(final PolicyTrie start, final Set<String> subjectIds, final Set<String> permissions) {
+            this.start = start;
+            this.subjectIds = subjectIds;
+            this.permissions = permissions;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final JsonViewPlanKey that = (JsonViewPlanKey) o;
+            return start == that.start &&
+                    Objects.equals(subjectIds, that.subjectIds) &&
+                    Objects.equals(permissions, that.permissions);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(System.identityHashCode(start), subjectIds, permissions);
+        }
+
+    }
+
 }
@@ -13,7 +13,9 @@
 package org.eclipse.ditto.model.enforcers.testbench;
 
 import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.ditto.json.JsonObject;
@@ -112,8 +114,10 @@ public abstract class AbstractPoliciesBenchmark {
     private static final int MEASUREMENT_TIME = 1000;
 
     private final HashMap<String, PolicyAlgorithm> policyAlgorithms;
+    private final Map<ScenarioSetup, JsonObject> fullJsonOfScenarios;
 
     public AbstractPoliciesBenchmark() {
+        fullJsonOfScenarios = new ConcurrentHashMap<>();
         policyAlgorithms = new HashMap<>();
         policyAlgorithms.put(JsonViewScenario.SCENARIO_GROUP_NAME, getPolicyAlgorithm(JsonViewScenario.POLICY));
         policyAlgorithms.put(Scenario1Simple.SCENARIO_GROUP_NAME, getPolicyAlgorithm(Scenario1Simple.POLICY));
@@ -628,6 +632,47 @@ public abstract class AbstractPoliciesBenchmark {
         return runScenarioWithAlgorithm(scenario);
     }
 
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonObject benchmark_buildJsonView_JsonViewScenario1(final JsonViewScenario1 scenario) {
+        return buildJsonViewWithAlgorithm(scenario);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonObject benchmark_buildJsonView_JsonViewScenario5(final JsonViewScenario5 scenario) {
+        return buildJsonViewWithAlgorithm(scenario);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonObject benchmark_buildJsonView_JsonViewScenario9(final JsonViewScenario9 scenario) {
+        return buildJsonViewWithAlgorithm(scenario);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonObject benchmark_buildJsonView_JsonViewScenario12(final JsonViewScenario12 scenario) {
+        return buildJsonViewWithAlgorithm(scenario);
+    }
+
+    /**
+     * Builds only the JSON view of the scenario without checking permissions so that the costs of building the JSON
+     * view are measured in isolation. The JSON of the scenario is created once.
+     */
+    private JsonObject buildJsonViewWithAlgorithm(final Scenario scenario) {
+        final PolicyAlgorithm algorithm = policyAlgorithms.get(scenario.getScenarioGroup());
+        final ScenarioSetup setup = scenario.getSetup();
+        final JsonObject fullJson = fullJsonOfScenarios.computeIfAbsent(setup, s -> s.getFullJsonifiable()
+                .map(jsonifiable -> jsonifiable.toJson())
+                .orElseThrow(() -> new IllegalStateException("ScenarioSetup has no Jsonifiable: " + s)));
+        return algorithm.buildJsonView(fullJson, setup);
+    }
+
     private boolean runScenarioWithAlgorithm(final Scenario scenario) {
         final PolicyAlgorithm algorithm = policyAlgorithms.get(scenario.getScenarioGroup());
         final ScenarioSetup setup = scenario.getSetup();
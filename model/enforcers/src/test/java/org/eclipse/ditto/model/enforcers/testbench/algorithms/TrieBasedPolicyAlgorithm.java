@@ -34,6 +34,10 @@ public final class TrieBasedPolicyAlgorithm implements PolicyAlgorithm {
         trieBasedPolicyEvaluator = TrieBasedPolicyEnforcer.newInstance(policy);
     }
 
+    public TrieBasedPolicyAlgorithm(final Policy policy, final int maxCachedJsonViewPlans) {
+        trieBasedPolicyEvaluator = TrieBasedPolicyEnforcer.newInstance(policy, maxCachedJsonViewPlans);
+    }
+
     @Override
     public boolean hasUnrestrictedPermissions(final ResourceKey resourceKey,
             final AuthorizationContext authorizationContext,
@@ -14,17 +14,24 @@ package org.eclipse.ditto.model.enforcers.trie;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.auth.AuthorizationContext;
 import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
 import org.eclipse.ditto.model.base.auth.DittoAuthorizationContextType;
+import org.eclipse.ditto.model.enforcers.testbench.scenarios.jsonview.JsonViewScenario;
 import org.eclipse.ditto.model.policies.Permissions;
 import org.eclipse.ditto.model.policies.PoliciesModelFactory;
 import org.eclipse.ditto.model.policies.Policy;
 import org.eclipse.ditto.model.policies.PolicyId;
 import org.eclipse.ditto.model.policies.ResourceKey;
+import org.eclipse.ditto.model.policies.SubjectId;
+import org.eclipse.ditto.model.policies.SubjectIssuer;
 import org.eclipse.ditto.model.policies.SubjectType;
 import org.junit.Test;
 
@@ -47,6 +54,83 @@ public class TrieBasedPolicyEnforcerTest {
         assertThat(createdJsonView).isEqualTo(expectedJsonView);
     }
 
+    @Test
+    public void compiledJsonViewsEqualJsonViewsOfPolicyTrie() {
+        final Policy policy = JsonViewScenario.POLICY;
+        final JsonObject thingJson = JsonViewScenario.THING.toJson()
+                .setValue(JsonPointer.of("attributes/list"), JsonFactory.newArrayBuilder()
+                        .add(1, 2)
+                        .add(JsonFactory.newObjectBuilder().set("latitude", 1.0).build())
+                        .build())
+                .setValue(JsonPointer.of("attributes/location/empty"), JsonFactory.newObject())
+                .setValue(JsonPointer.of("features/foo/properties/nothing"), JsonFactory.nullObject());
+        final PolicyTrie inheritedTrie = PolicyTrie.fromPolicy(policy).getTransitiveClosure();
+        final TrieBasedPolicyEnforcer underTest = TrieBasedPolicyEnforcer.newInstance(policy);
+        final TrieBasedPolicyEnforcer uncached = TrieBasedPolicyEnforcer.newInstance(policy, 0);
+        // evicts plans all the time
+        final TrieBasedPolicyEnforcer smallCache = TrieBasedPolicyEnforcer.newInstance(policy, 2);
+
+        final List<String> subjects = Arrays.asList(JsonViewScenario.SUBJECT_ALL_GRANTED,
+                JsonViewScenario.SUBJECT_ATTRIBUTES_ALL_GRANTED,
+                JsonViewScenario.SUBJECT_ALL_GRANTED_ATTRIBUTES_REVOKED,
+                JsonViewScenario.SUBJECT_NONEXISTENT_ATTRIBUTE_GRANTED,
+                JsonViewScenario.SUBJECT_FEATURES_READ_GRANTED_FIRMWARE_READ_REVOKED,
+                JsonViewScenario.SUBJECT_FEATURE_FOO_ALL_GRANTED_SPECIAL_PROPERTY_REVOKED,
+                JsonViewScenario.SUBJECT_ALL_FEATURES_REVOKED,
+                JsonViewScenario.SUBJECT_SOME_GRANTED,
+                JsonViewScenario.SUBJECT_SOME_REVOKED,
+                "google:unknown");
+        final List<String> resources = Arrays.asList("/", "/attributes", "/features/foo", "/features/foo/properties");
+        final List<Permissions> permissionsList =
+                Arrays.asList(Permissions.newInstance("READ"), Permissions.newInstance("READ", "WRITE"));
+
+        for (int i = 0; i < subjects.size(); i++) {
+            final AuthorizationContext authorizationContext =
+                    AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED,
+                            AuthorizationSubject.newInstance(toSubjectId(subjects.get(i))),
+                            AuthorizationSubject.newInstance(toSubjectId(subjects.get((i + 3) % subjects.size()))));
+            for (final String resource : resources) {
+                final ResourceKey resourceKey = ResourceKey.newInstance("thing", resource);
+                final JsonObject jsonFields = thingJson.getValue(resource)
+                        .map(JsonValue::asObject)
+                        .orElseThrow(IllegalStateException::new);
+                for (final Permissions permissions : permissionsList) {
+                    final JsonObject expected = inheritedTrie
+                            .seekToLeastAncestor(PolicyTrie.getJsonKeyIterator(resourceKey))
+                            .buildJsonView(jsonFields, authorizationContext.getAuthorizationSubjectIds(),
+                                    permissions);
+
+                    // twice to use the cached plan
+                    assertThat(underTest.buildJsonView(resourceKey, jsonFields, authorizationContext, permissions))
+                            .isEqualTo(expected);
+                    assertThat(underTest.buildJsonView(resourceKey, jsonFields, authorizationContext, permissions))
+                            .isEqualTo(expected);
+                    assertThat(uncached.buildJsonView(resourceKey, jsonFields, authorizationContext, permissions))
+                            .isEqualTo(expected);
+                    assertThat(smallCache.buildJsonView(resourceKey, jsonFields, authorizationContext, permissions))
+                            .isEqualTo(expected);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void jsonViewOfUnknownResourceTypeIsEmpty() {
+        final TrieBasedPolicyEnforcer underTest = TrieBasedPolicyEnforcer.newInstance(JsonViewScenario.POLICY);
+
+        final JsonObject createdJsonView = underTest.buildJsonView(ResourceKey.newInstance("policy", "/"),
+                JsonViewScenario.THING.toJson(),
+                AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED,
+                        AuthorizationSubject.newInstance(toSubjectId(JsonViewScenario.SUBJECT_ALL_GRANTED))),
+                Permissions.newInstance("READ"));
+
+        assertThat(createdJsonView).isEqualTo(JsonFactory.newObject());
+    }
+
+    private static String toSubjectId(final String subject) {
+        return subject.contains(":") ? subject : SubjectId.newInstance(SubjectIssuer.GOOGLE, subject).toString();
+    }
+
     private static Policy defaultPolicy(final PolicyId policyId) {
         final Permissions permissions = Permissions.newInstance("READ", "WRITE");
         return PoliciesModelFactory.newPolicyBuilder(policyId)
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.placeholders;
+
+import static org.eclipse.ditto.model.placeholders.Expression.SEPARATOR;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
+
+/**
+ * A single pipeline expression like {@code thing:name | fn:substring-before(':') | fn:default(thing:name)}, parsed
+ * once into the lookup of its input placeholder and its pipeline functions with parsed parameters.
+ */
+@Immutable
+final class CompiledExpression {
+
+    private final String expression;
+    private final Function<ExpressionResolver, PipelineElement> input;
+    private final List<PipelineFunction.CompiledFunction> functions;
+
+    private CompiledExpression(final String expression, final Function<ExpressionResolver, PipelineElement> input,
+            final List<PipelineFunction.CompiledFunction> functions) {
+
+        this.expression = expression;
+        this.input = input;
+        this.functions = functions;
+    }
+
+    /**
+     * Compiles a pipeline expression.
+     * Expressions which are invalid regardless of the resolver are resolved by
+     * {@link ExpressionResolver#resolveAsPipelineElement(String)} just like uncompiled expressions, which reports
+     * their errors on resolution.
+     *
+     * @param expression the pipeline expression.
+     * @return the compiled expression.
+     */
+    static CompiledExpression of(final String expression) {
+        try {
+            return compile(expression);
+        } catch (final DittoRuntimeException e) {
+            return new CompiledExpression(expression, resolver -> resolver.resolveAsPipelineElement(expression),
+                    Collections.emptyList());
+        }
+    }
+
+    private static CompiledExpression compile(final String expression) {
+        final List<String> stages = ImmutableExpressionResolver.getPipelineStagesExpressions(expression);
+        final String firstStage = stages.get(0);
+        final Function<ExpressionResolver, PipelineElement> input;
+        final List<String> functionStages;
+        if (ImmutableExpressionResolver.isFirstPlaceholderFunction(firstStage)) {
+            input = resolver -> PipelineElement.unresolved();
+            functionStages = stages;
+        } else {
+            final String prefix = ImmutableExpressionResolver.getPlaceholderPrefix(firstStage)
+                    .orElseThrow(() -> UnresolvedPlaceholderException.newBuilder(firstStage).build());
+            final String name = firstStage.substring(prefix.length() + SEPARATOR.length());
+            input = resolver -> resolver.resolvePlaceholder(prefix, name);
+            functionStages = stages.subList(1, stages.size());
+        }
+        final List<PipelineFunction.CompiledFunction> functions = new ArrayList<>(functionStages.size());
+        for (final String functionStage : functionStages) {
+            functions.add(ImmutableFunctionExpression.INSTANCE.compile(functionStage));
+        }
+        return new CompiledExpression(expression, input, Collections.unmodifiableList(functions));
+    }
+
+    /**
+     * Resolves the input placeholder of the expression and applies its pipeline functions.
+     *
+     * @param expressionResolver resolves the placeholders of the expression.
+     * @return the pipeline element after evaluation.
+     * @throws UnresolvedPlaceholderException if a placeholder is not supported by {@code expressionResolver}.
+     */
+    PipelineElement resolve(final ExpressionResolver expressionResolver) {
+        PipelineElement result = input.apply(expressionResolver);
+        for (final PipelineFunction.CompiledFunction function : functions) {
+            result = function.apply(result, expressionResolver);
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.placeholders;
+
+/**
+ * A template containing placeholders ({@code {{ ... }}}) with optional pipeline stages, which is parsed once and
+ * may then be resolved repeatedly by different {@link ExpressionResolver}s without being parsed again.
+ *
+ * @since 2.0.0
+ */
+public interface CompiledTemplate {
+
+    /**
+     * Returns the template this was compiled from.
+     *
+     * @return the template.
+     */
+    String getTemplate();
+
+    /**
+     * Resolves the placeholders of the template and executes their pipeline stages.
+     *
+     * @param expressionResolver resolves the placeholders of the template.
+     * @return the resolved String, a signifier for resolution failure, or one for deletion.
+     * @throws UnresolvedPlaceholderException if a placeholder of the template is not supported by
+     * {@code expressionResolver}.
+     * @throws PlaceholderFunctionTooComplexException thrown if the template contains a placeholder
+     * function chain which is too complex (e.g. too much chained function calls)
+     */
+    PipelineElement resolve(ExpressionResolver expressionResolver);
+
+}
@@ -46,6 +46,20 @@ public interface ExpressionResolver {
      */
     PipelineElement resolveAsPipelineElement(String pipelineExpression);
 
+    /**
+     * Resolve a single placeholder whose prefix and name are already known, e.g. prefix {@code thing} and name
+     * {@code id} for the placeholder {@code thing:id}.
+     *
+     * @param prefix the prefix of the placeholder.
+     * @param name the name of the placeholder.
+     * @return the pipeline element of the resolved placeholder.
+     * @throws UnresolvedPlaceholderException if the placeholder is not supported.
+     * @since 2.0.0
+     */
+    default PipelineElement resolvePlaceholder(final String prefix, final String name) {
+        return resolveAsPipelineElement(prefix + Expression.SEPARATOR + name);
+    }
+
     /**
      * Resolves a complete expression template starting with a {@link Placeholder} followed by optional pipeline stages
      * (e.g. functions).
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.placeholders;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Matcher;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.model.base.common.Placeholders;
+
+/**
+ * Immutable implementation of {@link CompiledTemplate}. The template is split into the constant text between
+ * placeholders and the compiled pipeline expressions of the placeholders.
+ */
+@Immutable
+final class ImmutableCompiledTemplate implements CompiledTemplate {
+
+    private final String template;
+    private final List<String> texts;
+    private final List<CompiledExpression> expressions;
+
+    private ImmutableCompiledTemplate(final String template, final List<String> texts,
+            final List<CompiledExpression> expressions) {
+
+        this.template = template;
+        this.texts = texts;
+        this.expressions = expressions;
+    }
+
+    /**
+     * Compiles a template.
+     *
+     * @param template the template.
+     * @return the compiled template.
+     */
+    static ImmutableCompiledTemplate of(final String template) {
+        final List<String> texts = new ArrayList<>();
+        final List<CompiledExpression> expressions = new ArrayList<>();
+        final Matcher matcher = Placeholders.pattern().matcher(template);
+        int textStart = 0;
+        while (matcher.find()) {
+            final String placeholderExpression = Placeholders.groupNames()
+                    .stream()
+                    .map(matcher::group)
+                    .filter(Objects::nonNull)
+                    .findAny()
+                    .orElse("");
+            texts.add(template.substring(textStart, matcher.start()));
+            expressions.add(CompiledExpression.of(placeholderExpression));
+            textStart = matcher.end();
+        }
+        texts.add(template.substring(textStart));
+        return new ImmutableCompiledTemplate(template, Collections.unmodifiableList(texts),
+                Collections.unmodifiableList(expressions));
+    }
+
+    @Override
+    public String getTemplate() {
+        return template;
+    }
+
+    @Override
+    public PipelineElement resolve(final ExpressionResolver expressionResolver) {
+        if (expressions.isEmpty()) {
+            return PipelineElement.resolved(template);
+        }
+        final StringBuilder resultBuilder = new StringBuilder();
+        for (int i = 0; i < expressions.size(); i++) {
+            final PipelineElement element = expressions.get(i).resolve(expressionResolver);
+            switch (element.getType()) {
+                case DELETED:
+                case UNRESOLVED:
+                    // abort pipeline execution: resolution failed or the string has been deleted.
+                    return element;
+                default:
+                    // proceed to append resolution result and evaluate the next pipeline expression
+            }
+            resultBuilder.append(texts.get(i));
+            element.forEach(resultBuilder::append);
+        }
+        resultBuilder.append(texts.get(expressions.size()));
+        return PipelineElement.resolved(resultBuilder.toString());
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final ImmutableCompiledTemplate that = (ImmutableCompiledTemplate) o;
+        return template.equals(that.template);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(template);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "template=" + template +
+                ", expressions=" + expressions +
+                "]";
+    }
+
+}
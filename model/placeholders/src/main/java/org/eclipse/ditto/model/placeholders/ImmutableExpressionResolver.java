@@ -104,10 +104,22 @@ final class ImmutableExpressionResolver implements ExpressionResolver {
         final Map.Entry<PlaceholderResolver<?>, String> resolverPair = findPlaceholderResolver(placeholderInPipeline)
                 .orElseThrow(() -> UnresolvedPlaceholderException.newBuilder(placeholderInPipeline).build());
 
+        return resolveWith(resolverPair.getKey(), resolverPair.getValue());
+    }
+
+    @Override
+    public PipelineElement resolvePlaceholder(final String prefix, final String name) {
+        @Nullable final PlaceholderResolver<?> placeholderResolver = placeholderResolvers.get(prefix);
+        if (null == placeholderResolver || !placeholderResolver.supports(name)) {
+            throw UnresolvedPlaceholderException.newBuilder(prefix + SEPARATOR + name).build();
+        }
+        return resolveWith(placeholderResolver, name);
+    }
+
+    private PipelineElement resolveWith(final PlaceholderResolver<?> placeholderResolver, final String name) {
         if (placeholderReplacementInValidation == null) {
             // normal mode
-            return resolverPair.getKey()
-                    .resolve(resolverPair.getValue())
+            return placeholderResolver.resolve(name)
                     .map(PipelineElement::resolved)
                     .orElseGet(PipelineElement::unresolved);
         } else {
@@ -116,7 +128,15 @@ final class ImmutableExpressionResolver implements ExpressionResolver {
         }
     }
 
-    private List<String> getPipelineStagesExpressions(final String template) {
+    /**
+     * Splits a pipeline expression into its stages.
+     *
+     * @param template the pipeline expression.
+     * @return the trimmed stages of the pipeline.
+     * @throws UnresolvedPlaceholderException if the expression is no pipeline.
+     * @throws PlaceholderFunctionTooComplexException if the pipeline has too many stages.
+     */
+    static List<String> getPipelineStagesExpressions(final String template) {
 
         if (!PIPE_PATTERN.matcher(template).matches()) {
             throw UNRESOLVED_INPUT_HANDLER.apply(template);
@@ -151,7 +171,13 @@ final class ImmutableExpressionResolver implements ExpressionResolver {
         return new ImmutablePipeline(ImmutableFunctionExpression.INSTANCE, pipelineStages);
     }
 
-    private Optional<String> getPlaceholderPrefix(final String placeholder) {
+    /**
+     * Returns the prefix of a placeholder, e.g. {@code thing} for {@code thing:id}.
+     *
+     * @param placeholder the placeholder.
+     * @return the trimmed prefix or an empty optional if the placeholder has none.
+     */
+    static Optional<String> getPlaceholderPrefix(final String placeholder) {
         final int separatorIndex = placeholder.indexOf(SEPARATOR);
         if (separatorIndex == -1) {
             return Optional.empty();
@@ -185,7 +211,7 @@ final class ImmutableExpressionResolver implements ExpressionResolver {
                 "]";
     }
 
-    private static boolean isFirstPlaceholderFunction(final String firstPlaceholderInPipeline) {
+    static boolean isFirstPlaceholderFunction(final String firstPlaceholderInPipeline) {
         return firstPlaceholderInPipeline.startsWith(FunctionExpression.PREFIX + SEPARATOR);
     }
 }
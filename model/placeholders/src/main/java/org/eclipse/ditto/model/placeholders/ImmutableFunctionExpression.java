@@ -63,6 +63,25 @@ final class ImmutableFunctionExpression implements FunctionExpression {
                 .anyMatch(psfName -> expressionName.startsWith(psfName + "("));
     }
 
+    /**
+     * Parses a function expression with its parameters once for repeated application.
+     *
+     * @param expression the expression string of the stage including prefix, e.g.: {@code fn:substring-before(':')}.
+     * @return the function with its parsed parameters.
+     * @throws PlaceholderFunctionUnknownException if the expression is no supported function.
+     * @throws PlaceholderFunctionSignatureInvalidException if the parameters do not match the signature of the
+     * function.
+     */
+    PipelineFunction.CompiledFunction compile(final String expression) {
+        final String prefixWithSeparator = getPrefix() + SEPARATOR;
+        final PipelineFunction pipelineFunction = SUPPORTED.stream()
+                .filter(pf -> expression.startsWith(prefixWithSeparator + pf.getName() + "("))
+                .findFirst()
+                .orElseThrow(() -> PlaceholderFunctionUnknownException.newBuilder(expression).build());
+        final int paramsStart = prefixWithSeparator.length() + pipelineFunction.getName().length();
+        return pipelineFunction.compile(expression.substring(paramsStart).trim());
+    }
+
     @Override
     public PipelineElement resolve(final String expression, final PipelineElement resolvedInputValue,
             final ExpressionResolver expressionResolver) {
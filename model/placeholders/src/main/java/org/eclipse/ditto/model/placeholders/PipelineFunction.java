@@ -50,8 +50,44 @@ interface PipelineFunction {
      * function.
      * @return processed output value, or an empty optional otherwise.
      */
-    PipelineElement apply(PipelineElement value, String paramsIncludingParentheses,
-            ExpressionResolver expressionResolver);
+    default PipelineElement apply(final PipelineElement value, final String paramsIncludingParentheses,
+            final ExpressionResolver expressionResolver) {
+
+        return compile(paramsIncludingParentheses).apply(value, expressionResolver);
+    }
+
+    /**
+     * Parses and validates the function parameters once, so that the function can be applied to many values without
+     * parsing its parameters again.
+     *
+     * @param paramsIncludingParentheses the passed in function parameters including parentheses, e.g.: {@code
+     * ('fallback')}
+     * @return the function with its parsed parameters.
+     * @throws PlaceholderFunctionSignatureInvalidException if the parameters do not match the signature of the
+     * function.
+     * @since 2.0.0
+     */
+    CompiledFunction compile(String paramsIncludingParentheses);
+
+    /**
+     * A pipeline function with parsed parameters.
+     *
+     * @since 2.0.0
+     */
+    @FunctionalInterface
+    interface CompiledFunction {
+
+        /**
+         * Executes the function by passing in a value and returning a processed result.
+         *
+         * @param value the input value to process.
+         * @param expressionResolver the expressionResolver to use in order to resolve placeholders occurring in the
+         * function parameters.
+         * @return processed output value.
+         */
+        PipelineElement apply(PipelineElement value, ExpressionResolver expressionResolver);
+
+    }
 
     /**
      * Defines a function's signature.
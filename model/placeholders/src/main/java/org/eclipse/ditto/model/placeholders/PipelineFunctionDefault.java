@@ -36,20 +36,18 @@ final class PipelineFunctionDefault implements PipelineFunction {
     }
 
     @Override
-    public PipelineElement apply(final PipelineElement value, final String paramsIncludingParentheses,
-            final ExpressionResolver expressionResolver) {
-
-        // parse + resolve the specified default value for unresolved placeholders
-        // if previous stage does not resolve to a value. deleted pipeline elements remain deleted.
-        // evaluate parameter first to fail fast.
-        final PipelineElement parameter = parseAndResolveThrow(paramsIncludingParentheses, expressionResolver);
-        return value.onUnresolved(() -> parameter);
-    }
-
-    private PipelineElement parseAndResolveThrow(final String paramsIncludingParentheses,
-            final ExpressionResolver expressionResolver) {
-        return PipelineFunctionParameterResolverFactory.forStringOrPlaceholderParameter()
-                .apply(paramsIncludingParentheses, expressionResolver, this);
+    public CompiledFunction compile(final String paramsIncludingParentheses) {
+        final PipelineFunctionParameterResolverFactory.ParsedParameter parsedParameter =
+                PipelineFunctionParameterResolverFactory.forStringOrPlaceholderParameter()
+                        .parse(paramsIncludingParentheses, this);
+
+        return (value, expressionResolver) -> {
+            // resolve the specified default value for unresolved placeholders
+            // if previous stage does not resolve to a value. deleted pipeline elements remain deleted.
+            // evaluate parameter first to fail fast.
+            final PipelineElement parameter = parsedParameter.resolve(expressionResolver);
+            return value.onUnresolved(() -> parameter);
+        };
     }
 
     /**
@@ -43,10 +43,20 @@ final class PipelineFunctionFilter implements PipelineFunction {
     }
 
     @Override
-    public PipelineElement apply(final PipelineElement value, final String paramsIncludingParentheses,
-            final ExpressionResolver expressionResolver) {
+    public CompiledFunction compile(final String paramsIncludingParentheses) {
+        final PipelineFunctionParameterResolverFactory.ParameterResolver parameterResolver =
+                PipelineFunctionParameterResolverFactory.forTripleStringOrPlaceholderParameter();
+        final List<PipelineFunctionParameterResolverFactory.ParsedParameter> parsedParameters =
+                parameterResolver.parse(paramsIncludingParentheses, this);
+
+        return (value, expressionResolver) -> apply(value, paramsIncludingParentheses,
+                parameterResolver.resolve(parsedParameters, expressionResolver));
+    }
+
+    private PipelineElement apply(final PipelineElement value, final String paramsIncludingParentheses,
+            final List<PipelineElement> parameterElements) {
 
-        final Map<String, String> parameters = parseAndResolve(paramsIncludingParentheses, expressionResolver);
+        final Map<String, String> parameters = toParameterMap(paramsIncludingParentheses, parameterElements);
 
         return value.onResolved(valueThatShouldBeFilteredConditionally -> {
 
@@ -68,12 +78,8 @@ final class PipelineFunctionFilter implements PipelineFunction {
         });
     }
 
-    private Map<String, String> parseAndResolve(final String paramsIncludingParentheses,
-            final ExpressionResolver expressionResolver) {
-
-        final List<PipelineElement> parameterElements =
-                PipelineFunctionParameterResolverFactory.forTripleStringOrPlaceholderParameter()
-                        .apply(paramsIncludingParentheses, expressionResolver, this);
+    private Map<String, String> toParameterMap(final String paramsIncludingParentheses,
+            final List<PipelineElement> parameterElements) {
 
         final PipelineElement filterValueParamElement = parameterElements.get(0);
         final PipelineElement rqlFunctionParamElement = parameterElements.get(1);
@@ -36,12 +36,11 @@ final class PipelineFunctionLower implements PipelineFunction {
     }
 
     @Override
-    public PipelineElement apply(final PipelineElement element, final String paramsIncludingParentheses,
-            final ExpressionResolver expressionResolver) {
+    public CompiledFunction compile(final String paramsIncludingParentheses) {
 
         // check if signature matches (empty params!)
         validateOrThrow(paramsIncludingParentheses);
-        return element.map(String::toLowerCase);
+        return (element, expressionResolver) -> element.map(String::toLowerCase);
     }
 
     private void validateOrThrow(final String paramsIncludingParentheses) {
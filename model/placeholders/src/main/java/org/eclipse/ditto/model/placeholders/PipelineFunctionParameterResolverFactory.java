@@ -14,6 +14,7 @@ package org.eclipse.ditto.model.placeholders;
 
 import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
@@ -171,53 +172,89 @@ final class PipelineFunctionParameterResolverFactory {
             return PLACEHOLDER_GROUP_NAME_PREFIX + parameterIndex;
         }
 
-        private static Optional<PipelineElement> apply(final Matcher matcher, final int parameterIndex,
-                final ExpressionResolver expressionResolver) {
+        private static Optional<ParsedParameter> parse(final Matcher matcher, final int parameterIndex) {
 
             final String singleQuotedStringConstant = matcher.group(buildSingleQuotedConstantGroupName(parameterIndex));
 
             if (singleQuotedStringConstant != null) {
-                return Optional.of(PipelineElement.resolved(singleQuotedStringConstant));
+                return Optional.of(constant(singleQuotedStringConstant));
             } else {
                 final String doubleQuotedStringConstant =
                         matcher.group(buildDoubleQuotedConstantGroupName(parameterIndex));
                 if (doubleQuotedStringConstant != null) {
-                    return Optional.of(PipelineElement.resolved(doubleQuotedStringConstant));
+                    return Optional.of(constant(doubleQuotedStringConstant));
                 }
             }
 
             final String placeholder = matcher.group(buildPlaceholderGroupName(parameterIndex));
             if (placeholder != null) {
-                return Optional.of(expressionResolver.resolveAsPipelineElement(placeholder));
+                return Optional.of(expressionResolver -> expressionResolver.resolveAsPipelineElement(placeholder));
             }
 
             return Optional.empty();
         }
 
+        private static ParsedParameter constant(final String constant) {
+            final PipelineElement resolvedConstant = PipelineElement.resolved(constant);
+            return expressionResolver -> resolvedConstant;
+        }
+
         public List<PipelineElement> apply(final String paramsIncludingParentheses,
                 final ExpressionResolver resolver,
                 final PipelineFunction pipelineFunction) {
 
+            return resolve(parse(paramsIncludingParentheses, pipelineFunction), resolver);
+        }
+
+        /**
+         * Parses the parameters of a function once for repeated resolution by {@link #resolve(List,
+         * ExpressionResolver)}.
+         *
+         * @param paramsIncludingParentheses the parameters including parentheses.
+         * @param pipelineFunction the function of the parameters.
+         * @return the parsed parameters.
+         * @throws PlaceholderFunctionSignatureInvalidException if the parameters do not match.
+         */
+        List<ParsedParameter> parse(final String paramsIncludingParentheses,
+                final PipelineFunction pipelineFunction) {
+
             final Matcher matcher = this.pattern.matcher(paramsIncludingParentheses);
 
             if (matcher.matches()) {
-                final ArrayList<PipelineElement> parameters = new ArrayList<>(numberOfParameters);
+                final List<ParsedParameter> parameters = new ArrayList<>(numberOfParameters);
                 for (int parameterIndex = 0; parameterIndex < numberOfParameters; parameterIndex++) {
-                    final PipelineElement resolvedParameter =
-                            apply(matcher, parameterIndex, resolver).orElseThrow(() -> {
+                    final ParsedParameter parsedParameter =
+                            parse(matcher, parameterIndex).orElseThrow(() -> {
                                 throw PlaceholderFunctionSignatureInvalidException.newBuilder(
                                         paramsIncludingParentheses,
                                         pipelineFunction).build();
                             });
-                    parameters.add(parameterIndex, resolvedParameter);
+                    parameters.add(parameterIndex, parsedParameter);
                 }
-                return parameters;
+                return Collections.unmodifiableList(parameters);
             }
 
             throw PlaceholderFunctionSignatureInvalidException.newBuilder(paramsIncludingParentheses, pipelineFunction)
                     .build();
         }
 
+        /**
+         * Resolves parsed parameters.
+         *
+         * @param parsedParameters the parsed parameters.
+         * @param resolver resolves placeholders in the parameters.
+         * @return the resolved parameters.
+         */
+        List<PipelineElement> resolve(final List<ParsedParameter> parsedParameters,
+                final ExpressionResolver resolver) {
+
+            final List<PipelineElement> parameters = new ArrayList<>(parsedParameters.size());
+            for (final ParsedParameter parsedParameter : parsedParameters) {
+                parameters.add(parsedParameter.resolve(resolver));
+            }
+            return parameters;
+        }
+
     }
 
     static class SingleParameterResolver {
@@ -231,9 +268,37 @@ final class PipelineFunctionParameterResolverFactory {
         public PipelineElement apply(final String paramsIncludingParentheses,
                 final ExpressionResolver resolver,
                 final PipelineFunction pipelineFunction) {
-            return parameterResolver.apply(paramsIncludingParentheses, resolver, pipelineFunction).get(0);
+            return parse(paramsIncludingParentheses, pipelineFunction).resolve(resolver);
         }
 
+        /**
+         * Parses the parameter of a function once for repeated resolution.
+         *
+         * @param paramsIncludingParentheses the parameters including parentheses.
+         * @param pipelineFunction the function of the parameter.
+         * @return the parsed parameter.
+         * @throws PlaceholderFunctionSignatureInvalidException if the parameters do not match.
+         */
+        ParsedParameter parse(final String paramsIncludingParentheses, final PipelineFunction pipelineFunction) {
+            return parameterResolver.parse(paramsIncludingParentheses, pipelineFunction).get(0);
+        }
+
+    }
+
+    /**
+     * A function parameter which is parsed already, i.e. either a constant or a placeholder.
+     */
+    @FunctionalInterface
+    interface ParsedParameter {
+
+        /**
+         * Resolves the parameter.
+         *
+         * @param expressionResolver resolves placeholders in the parameter.
+         * @return the resolved parameter.
+         */
+        PipelineElement resolve(ExpressionResolver expressionResolver);
+
     }
 
     static class EmptyParameterResolver implements Predicate<String> {
@@ -36,24 +36,25 @@ final class PipelineFunctionSubstringAfter implements PipelineFunction {
     }
 
     @Override
-    public PipelineElement apply(final PipelineElement value, final String paramsIncludingParentheses,
-            final ExpressionResolver expressionResolver) {
-
-        final String splitValue = parseAndResolve(paramsIncludingParentheses, expressionResolver);
-
-        return value.onResolved(previousStage -> {
-            if (previousStage.contains(splitValue)) {
-                return PipelineElement.resolved(previousStage.substring(previousStage.indexOf(splitValue) + 1));
-            } else {
-                return PipelineElement.unresolved();
-            }
-        });
+    public CompiledFunction compile(final String paramsIncludingParentheses) {
+        final PipelineFunctionParameterResolverFactory.ParsedParameter parameter =
+                PipelineFunctionParameterResolverFactory.forStringParameter().parse(paramsIncludingParentheses, this);
+
+        return (value, expressionResolver) -> {
+            final String splitValue = resolve(parameter, paramsIncludingParentheses, expressionResolver);
+            return value.onResolved(previousStage -> {
+                if (previousStage.contains(splitValue)) {
+                    return PipelineElement.resolved(previousStage.substring(previousStage.indexOf(splitValue) + 1));
+                } else {
+                    return PipelineElement.unresolved();
+                }
+            });
+        };
     }
 
-    private String parseAndResolve(final String paramsIncludingParentheses,
-            final ExpressionResolver expressionResolver) {
-        final PipelineElement resolved = PipelineFunctionParameterResolverFactory.forStringParameter()
-                .apply(paramsIncludingParentheses, expressionResolver, this);
+    private String resolve(final PipelineFunctionParameterResolverFactory.ParsedParameter parameter,
+            final String paramsIncludingParentheses, final ExpressionResolver expressionResolver) {
+        final PipelineElement resolved = parameter.resolve(expressionResolver);
         return resolved.toOptional().orElseThrow(() ->
                 PlaceholderFunctionSignatureInvalidException.newBuilder(paramsIncludingParentheses, this)
                         .build());
@@ -39,24 +39,26 @@ final class PipelineFunctionSubstringBefore implements PipelineFunction {
     }
 
     @Override
-    public PipelineElement apply(final PipelineElement value, final String paramsIncludingParentheses,
-            final ExpressionResolver expressionResolver) {
-
-        final String splitValue = parseAndResolve(paramsIncludingParentheses, expressionResolver);
-
-        return value.onResolved(previousStage -> {
-            if (previousStage.contains(splitValue)) {
-                return PipelineElement.resolved(previousStage.substring(0, previousStage.indexOf(splitValue)));
-            } else {
-                return PipelineElement.unresolved();
-            }
-        });
+    public CompiledFunction compile(final String paramsIncludingParentheses) {
+        final PipelineFunctionParameterResolverFactory.ParsedParameter parameter =
+                parameterResolver.parse(paramsIncludingParentheses, this);
+
+        return (value, expressionResolver) -> {
+            final String splitValue = resolve(parameter, paramsIncludingParentheses, expressionResolver);
+            return value.onResolved(previousStage -> {
+                if (previousStage.contains(splitValue)) {
+                    return PipelineElement.resolved(previousStage.substring(0, previousStage.indexOf(splitValue)));
+                } else {
+                    return PipelineElement.unresolved();
+                }
+            });
+        };
     }
 
-    private String parseAndResolve(final String paramsIncludingParentheses,
-            final ExpressionResolver expressionResolver) {
+    private String resolve(final PipelineFunctionParameterResolverFactory.ParsedParameter parameter,
+            final String paramsIncludingParentheses, final ExpressionResolver expressionResolver) {
 
-        return parameterResolver.apply(paramsIncludingParentheses, expressionResolver, this)
+        return parameter.resolve(expressionResolver)
                 .toOptional()
                 .orElseThrow(
                         () -> PlaceholderFunctionSignatureInvalidException.newBuilder(paramsIncludingParentheses, this)
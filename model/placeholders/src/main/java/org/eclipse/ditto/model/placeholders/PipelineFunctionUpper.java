@@ -36,12 +36,11 @@ final class PipelineFunctionUpper implements PipelineFunction {
     }
 
     @Override
-    public PipelineElement apply(final PipelineElement value, final String paramsIncludingParentheses,
-            final ExpressionResolver expressionResolver) {
+    public CompiledFunction compile(final String paramsIncludingParentheses) {
 
         // check if signature matches (empty params!)
         validateOrThrow(paramsIncludingParentheses);
-        return value.map(String::toUpperCase);
+        return (value, expressionResolver) -> value.map(String::toUpperCase);
     }
 
     private void validateOrThrow(final String paramsIncludingParentheses) {
@@ -12,6 +12,8 @@
  */
 package org.eclipse.ditto.model.placeholders;
 
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -156,6 +158,19 @@ public final class PlaceholderFactory {
                 stringUsedInPlaceholderReplacement);
     }
 
+    /**
+     * Compiles a template containing placeholders with optional pipeline stages once, so that it can be resolved
+     * repeatedly without being parsed again.
+     *
+     * @param template the template.
+     * @return the compiled template.
+     * @throws NullPointerException if {@code template} is {@code null}.
+     * @since 2.0.0
+     */
+    public static CompiledTemplate compileTemplate(final String template) {
+        return ImmutableCompiledTemplate.of(checkNotNull(template, "template"));
+    }
+
     private static ExpressionResolver newExpressionResolver(final List<PlaceholderResolver<?>> placeholderResolvers,
             final String stringUsedInPlaceholderValidation) {
         return new ImmutableExpressionResolver(placeholderResolvers, stringUsedInPlaceholderValidation);
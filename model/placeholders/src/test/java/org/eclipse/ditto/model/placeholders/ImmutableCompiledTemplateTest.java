@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.placeholders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.things.ThingId;
+import org.junit.Test;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Tests {@link ImmutableCompiledTemplate}.
+ */
+public final class ImmutableCompiledTemplateTest {
+
+    private static final ThingId THING_ID = ThingId.of("org.eclipse.ditto", "foo:bar");
+    private static final Map<String, String> HEADERS =
+            DittoHeaders.newBuilder().putHeader("one", "1").putHeader("two", "2").build();
+
+    private static final ExpressionResolver RESOLVER = PlaceholderFactory.newExpressionResolver(
+            PlaceholderFactory.newPlaceholderResolver(PlaceholderFactory.newHeadersPlaceholder(), HEADERS),
+            PlaceholderFactory.newPlaceholderResolver(PlaceholderFactory.newThingPlaceholder(), THING_ID));
+
+    private static final List<String> TEMPLATES = Arrays.asList(
+            "constant",
+            "{{ thing:id }}",
+            "prefix/{{thing:namespace}}/{{ thing:name }}/suffix",
+            "{{ header:one }}{{header:two}}",
+            "{{ thing:name | fn:substring-before(':') | fn:upper() }}",
+            "{{ header:missing | fn:default(thing:name) | fn:substring-after(\":\") }}",
+            "{{ fn:default('fallback') }}",
+            "{{ header:missing }}/{{ thing:id }}",
+            "{{ header:one | fn:delete() }}",
+            "{{ header:one | fn:filter(header:two,'ne','1') | fn:lower() }}",
+            "{{ header:one | fn:filter(header:two,'eq','1') }}"
+    );
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(ImmutableCompiledTemplate.class)
+                .usingGetClass()
+                .withNonnullFields("template")
+                .withIgnoredFields("texts", "expressions")
+                .verify();
+    }
+
+    @Test
+    public void resolvesLikeUncompiledTemplates() {
+        for (final String template : TEMPLATES) {
+            assertThat(PlaceholderFactory.compileTemplate(template).resolve(RESOLVER))
+                    .describedAs(template)
+                    .isEqualTo(RESOLVER.resolve(template));
+        }
+    }
+
+    @Test
+    public void compiledTemplateIsReusableForDifferentResolvers() {
+        final CompiledTemplate underTest = PlaceholderFactory.compileTemplate("{{ thing:id }}/{{ header:one }}");
+        final ExpressionResolver otherResolver = PlaceholderFactory.newExpressionResolver(
+                PlaceholderFactory.newPlaceholderResolver(PlaceholderFactory.newHeadersPlaceholder(),
+                        DittoHeaders.newBuilder().putHeader("one", "eins").build()),
+                PlaceholderFactory.newPlaceholderResolver(PlaceholderFactory.newThingPlaceholder(),
+                        ThingId.of("ns", "other")));
+
+        assertThat(underTest.resolve(RESOLVER)).contains(THING_ID + "/1");
+        assertThat(underTest.resolve(otherResolver)).contains("ns:other/eins");
+    }
+
+    @Test
+    public void invalidTemplatesFailOnResolutionLikeUncompiledTemplates() {
+        final List<String> invalidTemplates = Arrays.asList(
+                "{{ thing:unknown }}",
+                "${header.one}",
+                "{{ unknown:id }}",
+                "{{ thing:id | fn:unknown() }}",
+                "{{ thing:id | fn:upper('x') }}",
+                "{{ thing:id | fn:lower() | fn:lower() | fn:lower() | fn:lower() | fn:lower() | fn:lower() | " +
+                        "fn:lower() | fn:lower() | fn:lower() | fn:lower() | fn:lower() }}"
+        );
+        for (final String template : invalidTemplates) {
+            final CompiledTemplate underTest = PlaceholderFactory.compileTemplate(template);
+            final DittoRuntimeException expected = catchDittoRuntimeException(() -> RESOLVER.resolve(template));
+            assertThatExceptionOfType(expected.getClass())
+                    .describedAs(template)
+                    .isThrownBy(() -> underTest.resolve(RESOLVER));
+        }
+    }
+
+    private static DittoRuntimeException catchDittoRuntimeException(final Runnable runnable) {
+        try {
+            runnable.run();
+        } catch (final DittoRuntimeException e) {
+            return e;
+        }
+        throw new AssertionError("Expected a DittoRuntimeException");
+    }
+
+}
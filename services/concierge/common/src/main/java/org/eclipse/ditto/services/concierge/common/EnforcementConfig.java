@@ -45,6 +45,15 @@ public interface EnforcementConfig {
      */
     boolean shouldDispatchLiveResponsesGlobally();
 
+    /**
+     * Returns the number of enforcement schedulers among which enforcement tasks are distributed by entity ID.
+     * Values less than 1 stand for the number of available processors.
+     *
+     * @return the number of enforcement scheduler stripes.
+     * @since 2.0.0
+     */
+    int getSchedulerStripes();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code EnforcementConfig}.
@@ -64,7 +73,15 @@ public interface EnforcementConfig {
         /**
          * Whether to enable dispatching live responses from channels other than the subscribers.
          */
-        GLOBAL_LIVE_RESPONSE_DISPATCHING("global-live-response-dispatching", false);
+        GLOBAL_LIVE_RESPONSE_DISPATCHING("global-live-response-dispatching", false),
+
+        /**
+         * The number of enforcement schedulers among which enforcement tasks are distributed by entity ID.
+         * Values less than 1 stand for the number of available processors.
+         *
+         * @since 2.0.0
+         */
+        SCHEDULER_STRIPES("scheduler-stripes", 0);
 
         private final String path;
         private final Object defaultValue;
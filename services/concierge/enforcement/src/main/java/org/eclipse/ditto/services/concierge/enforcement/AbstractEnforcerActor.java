@@ -156,6 +156,16 @@ public abstract class AbstractEnforcerActor extends AbstractGraphActor<Contextua
         return enforcementConfig.getBufferSize();
     }
 
+    /**
+     * Returns the enforcement config of this actor.
+     *
+     * @return the enforcement config.
+     * @since 2.0.0
+     */
+    protected EnforcementConfig getEnforcementConfig() {
+        return enforcementConfig;
+    }
+
     @Override
     protected Contextual<WithDittoHeaders> mapMessage(final WithDittoHeaders message) {
         return contextual.withReceivedMessage(message, getSender());
@@ -27,6 +27,7 @@ import org.eclipse.ditto.services.utils.akka.logging.DittoDiagnosticLoggingAdapt
 import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
 import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
 import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.services.utils.metrics.instruments.gauge.Gauge;
 
 import akka.actor.AbstractActor;
 import akka.actor.ActorRef;
@@ -36,6 +37,11 @@ import akka.pattern.Patterns;
 
 /**
  * Actor that schedules enforcement tasks. Relying on the inherent timeout of enforcement tasks to not leak memory.
+ * <p>
+ * The EnforcerActor distributes enforcement tasks among several instances of this actor, the stripes, by the hash
+ * code of their entity IDs (see {@link #selectStripe(EntityId, int)}). All tasks of an entity are thus scheduled by
+ * the same stripe, which preserves their order and the barriers of authorization-changing tasks.
+ * </p>
  */
 final class EnforcementScheduler extends AbstractActor {
 
@@ -44,6 +50,8 @@ final class EnforcementScheduler extends AbstractActor {
      */
     static final String ACTOR_NAME = "scheduler";
 
+    private static final String STRIPE_TAG = "stripe";
+
     /**
      * Cache of started enforcement tasks for each entity ID.
      */
@@ -51,16 +59,54 @@ final class EnforcementScheduler extends AbstractActor {
     private final DittoDiagnosticLoggingAdapter log;
     private final Counter scheduledEnforcementTasks;
     private final Counter completedEnforcementTasks;
+    private final Gauge inFlightEnforcementTasks;
 
-    private EnforcementScheduler() {
+    @SuppressWarnings("unused")
+    private EnforcementScheduler(final int stripe) {
         futuresMap = new HashMap<>();
         log = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
-        scheduledEnforcementTasks = DittoMetrics.counter("scheduled_enforcement_tasks");
-        completedEnforcementTasks = DittoMetrics.counter("completed_enforcement_tasks");
+        scheduledEnforcementTasks = DittoMetrics.counter("scheduled_enforcement_tasks")
+                .tag(STRIPE_TAG, stripe);
+        completedEnforcementTasks = DittoMetrics.counter("completed_enforcement_tasks")
+                .tag(STRIPE_TAG, stripe);
+        inFlightEnforcementTasks = DittoMetrics.gauge("in_flight_enforcement_tasks")
+                .tag(STRIPE_TAG, stripe);
+        inFlightEnforcementTasks.set(0L);
     }
 
     static Props props() {
-        return Props.create(EnforcementScheduler.class);
+        return props(0);
+    }
+
+    /**
+     * Creates Akka configuration object Props for one stripe of enforcement schedulers.
+     *
+     * @param stripe the index of the stripe, used to tag the metrics of the scheduler.
+     * @return the Props object.
+     */
+    static Props props(final int stripe) {
+        return Props.create(EnforcementScheduler.class, stripe);
+    }
+
+    /**
+     * Returns the name of the scheduler actor of a stripe.
+     *
+     * @param stripe the index of the stripe.
+     * @return the actor name.
+     */
+    static String actorName(final int stripe) {
+        return ACTOR_NAME + "-" + stripe;
+    }
+
+    /**
+     * Selects the stripe scheduling the enforcement tasks of an entity.
+     *
+     * @param entityId the ID of the entity.
+     * @param stripes the number of stripes.
+     * @return the index of the stripe between 0 (inclusive) and {@code stripes} (exclusive).
+     */
+    static int selectStripe(final EntityId entityId, final int stripes) {
+        return Math.floorMod(entityId.hashCode(), stripes);
     }
 
     @Override
@@ -81,6 +127,7 @@ final class EnforcementScheduler extends AbstractActor {
             } else {
                 log.debug("Scheduling <{}> at <{}>", task, cachedFutures);
                 final Futures previousFutures = cachedFutures != null ? cachedFutures : Futures.initial();
+                inFlightEnforcementTasks.increment();
                 return scheduleTaskAfter(previousFutures, task);
             }
         });
@@ -95,6 +142,7 @@ final class EnforcementScheduler extends AbstractActor {
             return futures.onComplete();
         });
         completedEnforcementTasks.increment();
+        inFlightEnforcementTasks.decrement();
     }
 
     private Void dispatchEnforcedMessage(final Contextual<?> enforcementResult) {
@@ -60,9 +60,14 @@ public final class EnforcerActor extends AbstractEnforcerActor {
             @Nullable final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache) {
 
         super(pubSubMediator, conciergeForwarder, thingIdCache, aclEnforcerCache, policyEnforcerCache);
-        final ActorRef enforcementScheduler =
-                getContext().actorOf(EnforcementScheduler.props(), EnforcementScheduler.ACTOR_NAME);
-        sink = assembleSink(enforcementProviders, preEnforcer, enforcementScheduler);
+        final int configuredStripes = getEnforcementConfig().getSchedulerStripes();
+        final int stripes = configuredStripes > 0 ? configuredStripes : Runtime.getRuntime().availableProcessors();
+        final ActorRef[] enforcementSchedulers = new ActorRef[stripes];
+        for (int i = 0; i < stripes; i++) {
+            enforcementSchedulers[i] =
+                    getContext().actorOf(EnforcementScheduler.props(i), EnforcementScheduler.actorName(i));
+        }
+        sink = assembleSink(enforcementProviders, preEnforcer, enforcementSchedulers);
     }
 
     /**
@@ -128,13 +133,14 @@ public final class EnforcerActor extends AbstractEnforcerActor {
      *
      * @param enforcementProviders a set of {@link EnforcementProvider}s.
      * @param preEnforcer a function executed before actual enforcement, may be {@code null}.
+     * @param enforcementSchedulers the stripes of enforcement schedulers.
      * @return a handler as {@link Flow} of {@link Contextual} messages.
      */
     @SuppressWarnings("unchecked") // due to GraphDSL usage
     private Sink<Contextual<WithDittoHeaders>, CompletionStage<Done>> assembleSink(
             final Set<EnforcementProvider<?>> enforcementProviders,
             @Nullable final PreEnforcer preEnforcer,
-            final ActorRef enforcementScheduler) {
+            final ActorRef[] enforcementSchedulers) {
 
         final PreEnforcer preEnforcerStep =
                 preEnforcer != null ? preEnforcer : CompletableFuture::completedStage;
@@ -156,6 +162,10 @@ public final class EnforcerActor extends AbstractEnforcerActor {
 
         return Flow.<Contextual<WithDittoHeaders>>create()
                 .via(enforcerFlow)
-                .toMat(Sink.foreach(task -> enforcementScheduler.tell(task, ActorRef.noSender())), Keep.right());
+                .toMat(Sink.foreach(task -> {
+                    final int stripe =
+                            EnforcementScheduler.selectStripe(task.getEntityId(), enforcementSchedulers.length);
+                    enforcementSchedulers[stripe].tell(task, ActorRef.noSender());
+                }), Keep.right());
     }
 }
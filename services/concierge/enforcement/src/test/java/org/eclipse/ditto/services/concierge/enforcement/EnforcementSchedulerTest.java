@@ -12,6 +12,7 @@
  */
 package org.eclipse.ditto.services.concierge.enforcement;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.after;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.timeout;
@@ -164,4 +165,16 @@ public final class EnforcementSchedulerTest {
         }};
     }
 
+    @Test
+    public void selectStripeIsStableAndInRange() {
+        final int stripes = 7;
+        for (int i = 0; i < 100; i++) {
+            final ThingId thingId = ThingId.of("namespace", "thing-" + i);
+            final int stripe = EnforcementScheduler.selectStripe(thingId, stripes);
+            assertThat(stripe).isBetween(0, stripes - 1);
+            assertThat(EnforcementScheduler.selectStripe(ThingId.of(thingId.toString()), stripes)).isEqualTo(stripe);
+        }
+        assertThat(EnforcementScheduler.selectStripe(ThingId.of("busy", "thing"), 1)).isZero();
+    }
+
 }
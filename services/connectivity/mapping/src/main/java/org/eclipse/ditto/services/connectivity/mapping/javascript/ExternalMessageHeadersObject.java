@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.mapping.javascript;
+
+import java.util.Map;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+import org.mozilla.javascript.Scriptable;
+import org.mozilla.javascript.ScriptableObject;
+
+/**
+ * JavaScript object of the headers of an external message which reads the headers from their map instead of copying
+ * them.
+ * The headers are only copied into the properties of the object once a mapping script changes the object.
+ */
+@NotThreadSafe
+final class ExternalMessageHeadersObject extends ScriptableObject {
+
+    private static final long serialVersionUID = -3264318577390412816L;
+
+    private final transient Map<String, String> headers;
+    private boolean copied;
+
+    /**
+     * Constructs a new {@code ExternalMessageHeadersObject} object.
+     *
+     * @param headers the headers of the external message.
+     */
+    ExternalMessageHeadersObject(final Map<String, String> headers) {
+        this.headers = headers;
+        copied = false;
+    }
+
+    @Override
+    public String getClassName() {
+        return "Object";
+    }
+
+    @Override
+    public Object get(final String name, final Scriptable start) {
+        if (!copied) {
+            final String value = headers.get(name);
+            if (null != value) {
+                return value;
+            }
+        }
+        return super.get(name, start);
+    }
+
+    @Override
+    public boolean has(final String name, final Scriptable start) {
+        return !copied && headers.containsKey(name) || super.has(name, start);
+    }
+
+    @Override
+    public void put(final String name, final Scriptable start, final Object value) {
+        copyHeaders();
+        super.put(name, start, value);
+    }
+
+    @Override
+    public void put(final int index, final Scriptable start, final Object value) {
+        copyHeaders();
+        super.put(index, start, value);
+    }
+
+    @Override
+    public void delete(final String name) {
+        copyHeaders();
+        super.delete(name);
+    }
+
+    @Override
+    public void delete(final int index) {
+        copyHeaders();
+        super.delete(index);
+    }
+
+    @Override
+    public Object[] getIds() {
+        if (!copied) {
+            return headers.keySet().toArray();
+        }
+        return super.getIds();
+    }
+
+    @Override
+    public Object[] getAllIds() {
+        if (!copied) {
+            return headers.keySet().toArray();
+        }
+        return super.getAllIds();
+    }
+
+    private void copyHeaders() {
+        if (!copied) {
+            copied = true;
+            headers.forEach((key, value) -> super.put(key, this, value));
+        }
+    }
+
+}
@@ -29,7 +29,6 @@ import org.eclipse.ditto.services.connectivity.mapping.MessageMapperConfiguratio
 import org.eclipse.ditto.services.connectivity.mapping.PayloadMapper;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
 import org.mozilla.javascript.Context;
-import org.mozilla.javascript.ContextFactory;
 import org.mozilla.javascript.RhinoException;
 import org.mozilla.javascript.Scriptable;
 
@@ -53,7 +52,7 @@ final class JavaScriptMessageMapperRhino extends AbstractMessageMapper {
     static final String INCOMING_SCRIPT = "/javascript/incoming-mapping.js";
     static final String OUTGOING_SCRIPT = "/javascript/outgoing-mapping.js";
 
-    @Nullable private ContextFactory contextFactory;
+    @Nullable private SandboxingContextFactory contextFactory;
     @Nullable private JavaScriptMessageMapperConfiguration configuration;
 
     private MappingFunction<ExternalMessage, List<Adaptable>> incomingMapping = DefaultIncomingMapping.get();
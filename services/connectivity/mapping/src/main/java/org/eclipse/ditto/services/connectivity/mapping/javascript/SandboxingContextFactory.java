@@ -13,14 +13,23 @@
 package org.eclipse.ditto.services.connectivity.mapping.javascript;
 
 import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import org.mozilla.javascript.Callable;
 import org.mozilla.javascript.Context;
+import org.mozilla.javascript.ContextAction;
 import org.mozilla.javascript.ContextFactory;
 import org.mozilla.javascript.Scriptable;
 
 /**
  * Special Rhino ContextFactory responsible for sandboxing JavaScript execution.
+ * <p>
+ * Besides the usual {@link #call(ContextAction)} which creates a new Context for each call, this factory offers
+ * {@link #callWithReusedContext(ContextAction)} which reuses one sealed Context per thread. The reused Contexts are
+ * shared by all factories with the same sandboxing settings and held in a bounded per-thread cache, so that discarded
+ * factories do not leave Contexts behind on the dispatcher threads.
+ * </p>
  */
 final class SandboxingContextFactory extends ContextFactory {
 
@@ -34,8 +43,24 @@ final class SandboxingContextFactory extends ContextFactory {
      */
     private static final int OPTIMIZATION_LEVEL = -1;
 
+    /**
+     * Maximum number of reused Contexts per thread, i.e. of distinct sandboxing settings in use at the same time.
+     */
+    private static final int MAX_REUSABLE_CONTEXTS_PER_THREAD = 8;
+
+    private static final Object SEAL_KEY = new Object();
+
+    private static final ThreadLocal<Map<String, Context>> REUSABLE_CONTEXTS =
+            ThreadLocal.withInitial(() -> new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<String, Context> eldest) {
+                    return size() > MAX_REUSABLE_CONTEXTS_PER_THREAD;
+                }
+            });
+
     private final Duration maxScriptExecutionTime;
     private final int maxStackDepth;
+    private final String reusableContextKey;
 
     /**
      * Constructs a new ContextFactory for sandboxing Rhino executions.
@@ -48,6 +73,33 @@ final class SandboxingContextFactory extends ContextFactory {
     SandboxingContextFactory(final Duration maxScriptExecutionTime, final int maxStackDepth) {
         this.maxScriptExecutionTime = maxScriptExecutionTime;
         this.maxStackDepth = maxStackDepth;
+        reusableContextKey = maxScriptExecutionTime.toMillis() + "ms/" + maxStackDepth;
+    }
+
+    /**
+     * Calls the given action with a Context which is reused for all calls on the current thread by factories with the
+     * same sandboxing settings. The reused Context is sealed so that its sandboxing settings cannot be changed.
+     * If a Context is already entered on the current thread, that one is used just like in
+     * {@link #call(ContextAction)}.
+     *
+     * @param action the action to call.
+     * @param <T> the type of the result.
+     * @return the result of the action.
+     */
+    <T> T callWithReusedContext(final ContextAction<T> action) {
+        final Context cx = enterContext(
+                REUSABLE_CONTEXTS.get().computeIfAbsent(reusableContextKey, key -> makeSealedContext()));
+        try {
+            return action.run(cx);
+        } finally {
+            Context.exit();
+        }
+    }
+
+    private Context makeSealedContext() {
+        final Context cx = makeContext();
+        cx.seal(SEAL_KEY);
+        return cx;
     }
 
     @Override
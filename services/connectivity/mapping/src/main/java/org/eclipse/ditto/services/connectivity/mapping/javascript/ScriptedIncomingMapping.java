@@ -12,6 +12,7 @@
  */
 package org.eclipse.ditto.services.connectivity.mapping.javascript;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -27,7 +28,6 @@ import org.eclipse.ditto.protocoladapter.Adaptable;
 import org.eclipse.ditto.protocoladapter.ProtocolFactory;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
 import org.mozilla.javascript.Context;
-import org.mozilla.javascript.ContextFactory;
 import org.mozilla.javascript.NativeArray;
 import org.mozilla.javascript.NativeJSON;
 import org.mozilla.javascript.NativeObject;
@@ -47,25 +47,29 @@ public class ScriptedIncomingMapping implements MappingFunction<ExternalMessage,
 
     private static final String INCOMING_FUNCTION_NAME = "mapToDittoProtocolMsgWrapper";
 
-    @Nullable
-    private ContextFactory contextFactory;
-    @Nullable
-    private Scriptable scope;
-
-    ScriptedIncomingMapping(@Nullable final ContextFactory contextFactory, @Nullable final Scriptable scope) {
+    private final SandboxingContextFactory contextFactory;
+    private final Scriptable scope;
+    private final org.mozilla.javascript.Function mapToDittoProtocolMsgWrapper;
+
+    /**
+     * Constructs a new {@code ScriptedIncomingMapping} object.
+     *
+     * @param contextFactory the factory of the Contexts to execute the mapping in.
+     * @param scope the scope in which the incoming mapping script was already loaded.
+     */
+    ScriptedIncomingMapping(final SandboxingContextFactory contextFactory, final Scriptable scope) {
         this.contextFactory = contextFactory;
         this.scope = scope;
+        // the wrapper function is defined once by the incoming mapping script and only delegates to the user function
+        mapToDittoProtocolMsgWrapper = (org.mozilla.javascript.Function) scope.get(INCOMING_FUNCTION_NAME, scope);
     }
 
     @Override
     public List<Adaptable> apply(final ExternalMessage message) {
         try {
-            return contextFactory.call(cx -> {
+            return contextFactory.callWithReusedContext(cx -> {
                 final NativeObject externalMessage = mapExternalMessageToNativeObject(message);
 
-                final org.mozilla.javascript.Function
-                        mapToDittoProtocolMsgWrapper =
-                        (org.mozilla.javascript.Function) scope.get(INCOMING_FUNCTION_NAME, scope);
                 final Object result =
                         mapToDittoProtocolMsgWrapper.call(cx, scope, scope, new Object[]{externalMessage});
 
@@ -99,29 +103,26 @@ public class ScriptedIncomingMapping implements MappingFunction<ExternalMessage,
     }
 
     static NativeObject mapExternalMessageToNativeObject(final ExternalMessage message) {
-        final NativeObject headersObj = new NativeObject();
-        message.getHeaders().forEach((key, value) -> headersObj.put(key, headersObj, value));
-
-        final NativeArrayBuffer bytePayload =
-                message.getBytePayload()
-                        .map(bb -> {
-                            final NativeArrayBuffer nativeArrayBuffer = new NativeArrayBuffer(bb.remaining());
-                            bb.get(nativeArrayBuffer.getBuffer());
-                            return nativeArrayBuffer;
-                        })
-                        .orElse(null);
+        final ExternalMessageHeadersObject headersObj = new ExternalMessageHeadersObject(message.getHeaders());
 
         final String contentType = message.getHeaders().get(ExternalMessage.CONTENT_TYPE_HEADER);
         final String textPayload = message.getTextPayload().orElse(null);
 
-        final NativeObject externalMessage = new NativeObject();
+        final ExternalMessageObject externalMessage = new ExternalMessageObject();
         externalMessage.put(EXTERNAL_MESSAGE_HEADERS, externalMessage, headersObj);
         externalMessage.put(EXTERNAL_MESSAGE_TEXT_PAYLOAD, externalMessage, textPayload);
-        externalMessage.put(EXTERNAL_MESSAGE_BYTE_PAYLOAD, externalMessage, bytePayload);
+        externalMessage.put(EXTERNAL_MESSAGE_BYTE_PAYLOAD, externalMessage, null);
         externalMessage.put(EXTERNAL_MESSAGE_CONTENT_TYPE, externalMessage, contentType);
+        message.getBytePayload().ifPresent(externalMessage::setBytePayload);
         return externalMessage;
     }
 
+    private static NativeArrayBuffer toNativeArrayBuffer(final ByteBuffer byteBuffer) {
+        final NativeArrayBuffer nativeArrayBuffer = new NativeArrayBuffer(byteBuffer.remaining());
+        byteBuffer.get(nativeArrayBuffer.getBuffer());
+        return nativeArrayBuffer;
+    }
+
     private Adaptable getAdaptableFromObject(final Context cx, final Object result) {
         final String dittoProtocolJsonStr = (String) NativeJSON.stringify(cx, scope, result, null, null);
 
@@ -130,4 +131,49 @@ public class ScriptedIncomingMapping implements MappingFunction<ExternalMessage,
             return ProtocolFactory.jsonifiableAdaptableFromJson(jsonObject);
         });
     }
+
+    /**
+     * JavaScript object of an external message which copies the byte payload into an array buffer only when a
+     * mapping script reads it.
+     */
+    private static final class ExternalMessageObject extends NativeObject {
+
+        private static final long serialVersionUID = 8542302553178935271L;
+
+        @Nullable private transient ByteBuffer bytePayload;
+
+        private ExternalMessageObject() {
+            bytePayload = null;
+        }
+
+        private void setBytePayload(final ByteBuffer bytePayload) {
+            this.bytePayload = bytePayload;
+        }
+
+        @Override
+        public Object get(final String name, final Scriptable start) {
+            if (null != bytePayload && EXTERNAL_MESSAGE_BYTE_PAYLOAD.equals(name)) {
+                super.put(name, this, toNativeArrayBuffer(bytePayload));
+                bytePayload = null;
+            }
+            return super.get(name, start);
+        }
+
+        @Override
+        public void put(final String name, final Scriptable start, final Object value) {
+            if (EXTERNAL_MESSAGE_BYTE_PAYLOAD.equals(name)) {
+                bytePayload = null;
+            }
+            super.put(name, start, value);
+        }
+
+        @Override
+        public void delete(final String name) {
+            if (EXTERNAL_MESSAGE_BYTE_PAYLOAD.equals(name)) {
+                bytePayload = null;
+            }
+            super.delete(name);
+        }
+
+    }
 }
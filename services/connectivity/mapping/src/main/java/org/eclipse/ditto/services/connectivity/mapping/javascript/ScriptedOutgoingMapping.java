@@ -24,7 +24,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
-import javax.annotation.Nullable;
 import javax.script.Bindings;
 
 import org.eclipse.ditto.model.connectivity.MessageMappingFailedException;
@@ -37,7 +36,6 @@ import org.eclipse.ditto.services.models.connectivity.ExternalMessageBuilder;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessageFactory;
 import org.mozilla.javascript.Callable;
 import org.mozilla.javascript.Context;
-import org.mozilla.javascript.ContextFactory;
 import org.mozilla.javascript.NativeArray;
 import org.mozilla.javascript.NativeJSON;
 import org.mozilla.javascript.NativeObject;
@@ -58,24 +56,33 @@ public final class ScriptedOutgoingMapping implements MappingFunction<Adaptable,
 
     private static final String OUTGOING_FUNCTION_NAME = "mapFromDittoProtocolMsgWrapper";
 
-    @Nullable private final ContextFactory contextFactory;
-    @Nullable private final Scriptable scope;
+    private static final Callable NULL_CALLABLE = new NullCallable();
 
-    ScriptedOutgoingMapping(@Nullable final ContextFactory contextFactory, @Nullable final Scriptable scope) {
+    private final SandboxingContextFactory contextFactory;
+    private final Scriptable scope;
+    private final org.mozilla.javascript.Function mapFromDittoProtocolMsgWrapper;
+
+    /**
+     * Constructs a new {@code ScriptedOutgoingMapping} object.
+     *
+     * @param contextFactory the factory of the Contexts to execute the mapping in.
+     * @param scope the scope in which the outgoing mapping script was already loaded.
+     */
+    ScriptedOutgoingMapping(final SandboxingContextFactory contextFactory, final Scriptable scope) {
         this.contextFactory = contextFactory;
         this.scope = scope;
+        // the wrapper function is defined once by the outgoing mapping script and only delegates to the user function
+        mapFromDittoProtocolMsgWrapper = (org.mozilla.javascript.Function) scope.get(OUTGOING_FUNCTION_NAME, scope);
     }
 
     @Override
     public List<ExternalMessage> apply(final Adaptable adaptable) {
         try {
             final JsonifiableAdaptable jsonifiableAdaptable = ProtocolFactory.wrapAsJsonifiableAdaptable(adaptable);
-            return contextFactory.call(cx -> {
+            return contextFactory.callWithReusedContext(cx -> {
                 final Object dittoProtocolMessage =
-                        NativeJSON.parse(cx, scope, jsonifiableAdaptable.toJsonString(), new NullCallable());
+                        NativeJSON.parse(cx, scope, jsonifiableAdaptable.toJsonString(), NULL_CALLABLE);
 
-                final org.mozilla.javascript.Function mapFromDittoProtocolMsgWrapper =
-                        (org.mozilla.javascript.Function) scope.get(OUTGOING_FUNCTION_NAME, scope);
                 final Object result =
                         mapFromDittoProtocolMsgWrapper.call(cx, scope, scope, new Object[]{dittoProtocolMessage});
 
@@ -19,6 +19,7 @@ import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 
 import org.eclipse.ditto.json.JsonValue;
@@ -113,7 +114,43 @@ public class ScriptedIncomingMappingTest {
                 });
     }
 
+    @Test
+    public void mapExternalMessageWithHeadersChangedByScript() {
+        final Map<String, String> headers = new HashMap<>();
+        headers.put("kept", "1");
+        headers.put("removed", "2");
+
+        testJavascript("function mapToDittoProtocolMsg(\n" +
+                        "  headers,\n" +
+                        "  textPayload,\n" +
+                        "  bytePayload,\n" +
+                        "  contentType\n" +
+                        ") {\n" +
+                        "  let headerNames = Object.keys(headers).sort().join(',');\n" +
+                        "  headers['added'] = headers['kept'] + '3';\n" +
+                        "  delete headers['removed'];\n" +
+                        "  return Ditto.buildDittoProtocolMsg('org.eclipse.ditto', 'thing-1', 'things', 'twin',\n" +
+                        "    'commands', 'modify', '/attributes/test', headers, headerNames);\n" +
+                        "}\n",
+                headers,
+                adaptables -> {
+                    assertThat(adaptables).hasSize(1);
+                    final Adaptable adaptable = adaptables.get(0);
+                    assertThat(adaptable.getPayload().getValue()).contains(JsonValue.of("kept,removed"));
+                    assertThat(adaptable.getDittoHeaders())
+                            .containsEntry("kept", "1")
+                            .containsEntry("added", "13")
+                            .doesNotContainKey("removed");
+                });
+        assertThat(headers).containsOnlyKeys("kept", "removed");
+    }
+
     private void testJavascript(final String scriptToTest, final Consumer<List<Adaptable>> mappedAdaptables) {
+        testJavascript(scriptToTest, new HashMap<>(), mappedAdaptables);
+    }
+
+    private void testJavascript(final String scriptToTest, final Map<String, String> headers,
+            final Consumer<List<Adaptable>> mappedAdaptables) {
         final SandboxingContextFactory contextFactory = new SandboxingContextFactory(Duration.ofMillis(500), 10);
         contextFactory.call(cx -> {
             final Scriptable scope = cx.initSafeStandardObjects(); // that one disables "print, exit, quit", etc.
@@ -132,7 +169,7 @@ public class ScriptedIncomingMappingTest {
                     JavaScriptMessageMapperConfigurationProperties.INCOMING_SCRIPT, 1, null);
 
             final ExternalMessage externalMessage = ExternalMessageFactory
-                    .newExternalMessageBuilder(new HashMap<>())
+                    .newExternalMessageBuilder(headers)
                     .withText(PAYLOAD)
                     .build();
             final List<Adaptable> adaptables = incomingMapping.apply(externalMessage);
@@ -12,19 +12,24 @@
  */
 package org.eclipse.ditto.services.connectivity.mapping.javascript.benchmark;
 
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
+import org.eclipse.ditto.protocoladapter.Adaptable;
 import org.eclipse.ditto.services.connectivity.mapping.MessageMapper;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
 
 /**
  * JMH Benchmark for {@link org.eclipse.ditto.services.connectivity.mapping.javascript.JavaScriptMessageMapperRhino}
  * mappings.
+ * The benchmarks of the scenarios configure a new mapper for each mapped message, the benchmarks with suffix
+ * {@code WithConfiguredMapper} map messages with a mapper configured once, just like a connection does.
  */
 @State(Scope.Benchmark)
 public class JavaScriptMessageMapperRhinoBenchmark {
@@ -76,9 +81,91 @@ public class JavaScriptMessageMapperRhinoBenchmark {
         runScenario(scenario);
     }
 
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public void test6ManyHeadersToDitto(final Test6ManyHeadersToDitto scenario) {
+        runScenario(scenario);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public List<Adaptable> simpleMapTextPayloadWithConfiguredMapper(final ConfiguredSimpleMapTextPayload scenario) {
+        return scenario.map();
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public List<Adaptable> test2ParseJsonPayloadWithConfiguredMapper(final ConfiguredParseJsonPayload scenario) {
+        return scenario.map();
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public List<Adaptable> test6ManyHeadersWithConfiguredMapper(final ConfiguredManyHeaders scenario) {
+        return scenario.map();
+    }
+
     private void runScenario(final MapToDittoProtocolScenario scenario) {
         final MessageMapper messageMapper = scenario.getMessageMapper();
         final ExternalMessage externalMessage = scenario.getExternalMessage();
         messageMapper.map(externalMessage);
     }
+
+    /**
+     * A scenario whose mapper is configured once for all mapped messages.
+     */
+    abstract static class ConfiguredScenario {
+
+        private MessageMapper messageMapper;
+        private ExternalMessage externalMessage;
+
+        abstract MapToDittoProtocolScenario getScenario();
+
+        @Setup
+        public void setUp() {
+            final MapToDittoProtocolScenario scenario = getScenario();
+            messageMapper = scenario.getMessageMapper();
+            externalMessage = scenario.getExternalMessage();
+        }
+
+        List<Adaptable> map() {
+            return messageMapper.map(externalMessage);
+        }
+
+    }
+
+    @State(Scope.Benchmark)
+    public static class ConfiguredSimpleMapTextPayload extends ConfiguredScenario {
+
+        @Override
+        MapToDittoProtocolScenario getScenario() {
+            return new SimpleMapTextPayloadToDitto();
+        }
+
+    }
+
+    @State(Scope.Benchmark)
+    public static class ConfiguredParseJsonPayload extends ConfiguredScenario {
+
+        @Override
+        MapToDittoProtocolScenario getScenario() {
+            return new Test2ParseJsonPayloadToDitto();
+        }
+
+    }
+
+    @State(Scope.Benchmark)
+    public static class ConfiguredManyHeaders extends ConfiguredScenario {
+
+        @Override
+        MapToDittoProtocolScenario getScenario() {
+            return new Test6ManyHeadersToDitto();
+        }
+
+    }
+
 }
@@ -110,6 +110,20 @@ public class JavaScriptMessageMapperRhinoBenchmarkTest {
         );
     }
 
+    @Test
+    public void test6ManyHeadersToDitto() {
+        runScenario(new Test6ManyHeadersToDitto()).forEach(
+                adaptable -> {
+                    System.out.println(adaptable);
+                    assertDefaults(adaptable);
+                    assertThat(adaptable.getDittoHeaders()).containsEntry("device",
+                            Test6ManyHeadersToDitto.DEVICE_HEADER_VALUE);
+                    assertThat(adaptable.getPayload().getValue()).contains(
+                            JsonValue.of(Test6ManyHeadersToDitto.MAPPING_STRING));
+                }
+        );
+    }
+
     private List<Adaptable> runScenario(final MapToDittoProtocolScenario scenario) {
         final MessageMapper messageMapper = scenario.getMessageMapper();
         final ExternalMessage externalMessage = scenario.getExternalMessage();
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.mapping.javascript.benchmark;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.eclipse.ditto.services.connectivity.mapping.MessageMapper;
+import org.eclipse.ditto.services.connectivity.mapping.javascript.JavaScriptMessageMapperFactory;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessageFactory;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Scenario of a text message with many headers of which the mapping script only reads a few.
+ */
+@State(Scope.Benchmark)
+public class Test6ManyHeadersToDitto implements MapToDittoProtocolScenario {
+
+    static final String MAPPING_STRING = "A simple text with many headers to be mapped";
+    static final String DEVICE_HEADER_VALUE = "device-4711";
+    private static final String CONTENT_TYPE = "text/plain";
+    private static final int ADDITIONAL_HEADERS = 50;
+
+    private static final String MAPPING_INCOMING_MANY_HEADERS =
+            "function mapToDittoProtocolMsg(\n" +
+                    "    headers,\n" +
+                    "    textPayload,\n" +
+                    "    bytePayload,\n" +
+                    "    contentType\n" +
+                    ") {\n" +
+                    "\n" +
+                    "    let dittoHeaders = {};\n" +
+                    "    dittoHeaders[\"correlation-id\"] = headers[\"correlation-id\"];\n" +
+                    "    dittoHeaders[\"device\"] = headers[\"device\"];\n" +
+                    "\n" +
+                    "    return Ditto.buildDittoProtocolMsg(\n" +
+                    "        \"org.eclipse.ditto\",\n" +
+                    "        \"jmh-test\",\n" +
+                    "        \"things\",\n" +
+                    "        \"twin\",\n" +
+                    "        \"commands\",\n" +
+                    "        \"modify\",\n" +
+                    "        \"/attributes/foo\",\n" +
+                    "        dittoHeaders,\n" +
+                    "        textPayload\n" +
+                    "    );\n" +
+                    "}";
+
+    private final ExternalMessage externalMessage;
+
+    public Test6ManyHeadersToDitto() {
+        final Map<String, String> headers = new HashMap<>();
+        for (int i = 0; i < ADDITIONAL_HEADERS; i++) {
+            headers.put("x-transport-header-" + i, UUID.randomUUID().toString());
+        }
+        headers.put("correlation-id", UUID.randomUUID().toString());
+        headers.put("device", DEVICE_HEADER_VALUE);
+        headers.put(ExternalMessage.CONTENT_TYPE_HEADER, CONTENT_TYPE);
+        externalMessage = ExternalMessageFactory.newExternalMessageBuilder(headers)
+                .withText(MAPPING_STRING)
+                .build();
+    }
+
+    @Override
+    public MessageMapper getMessageMapper() {
+        final MessageMapper javaScriptRhinoMapperPlain =
+                JavaScriptMessageMapperFactory.createJavaScriptMessageMapperRhino();
+        javaScriptRhinoMapperPlain.configure(MAPPING_CONFIG,
+                JavaScriptMessageMapperFactory
+                        .createJavaScriptMessageMapperConfigurationBuilder("text", Collections.emptyMap())
+                        .incomingScript(MAPPING_INCOMING_MANY_HEADERS)
+                        .build()
+        );
+        return javaScriptRhinoMapperPlain;
+    }
+
+    @Override
+    public ExternalMessage getExternalMessage() {
+        return externalMessage;
+    }
+}
@@ -22,6 +22,7 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -49,7 +50,9 @@ import org.eclipse.ditto.model.connectivity.ReplyTarget;
 import org.eclipse.ditto.model.connectivity.ResourceStatus;
 import org.eclipse.ditto.model.connectivity.Source;
 import org.eclipse.ditto.model.connectivity.Target;
+import org.eclipse.ditto.model.placeholders.CompiledTemplate;
 import org.eclipse.ditto.model.placeholders.ExpressionResolver;
+import org.eclipse.ditto.model.placeholders.PlaceholderFactory;
 import org.eclipse.ditto.protocoladapter.ProtocolAdapter;
 import org.eclipse.ditto.services.connectivity.messaging.config.ConnectionConfig;
 import org.eclipse.ditto.services.connectivity.messaging.config.ConnectivityConfig;
@@ -103,6 +106,7 @@ public abstract class BasePublisherActor<T extends PublishTarget> extends Abstra
     private final ConnectionMonitorRegistry<ConnectionMonitor> connectionMonitorRegistry;
     private final List<Optional<ReplyTarget>> replyTargets;
     private final int acknowledgementSizeBudget;
+    private final Map<String, CompiledTemplate> compiledTemplates;
 
     protected BasePublisherActor(final Connection connection) {
         this.connection = checkNotNull(connection, "connection");
@@ -121,10 +125,33 @@ public abstract class BasePublisherActor<T extends PublishTarget> extends Abstra
         responsePublishedMonitor = connectionMonitorRegistry.forResponsePublished(connection.getId());
         replyTargets = connection.getSources().stream().map(Source::getReplyTarget).collect(Collectors.toList());
         acknowledgementSizeBudget = connectionConfig.getAcknowledgementConfig().getIssuedMaxBytes();
+        compiledTemplates = compileTemplates(targets, replyTargets);
         logger = DittoLoggerFactory.getThreadSafeDittoLoggingAdapter(this)
                 .withMdcEntry(ConnectivityMdcEntryKey.CONNECTION_ID, connection.getId());
     }
 
+    /**
+     * Compiles the addresses and header mapping values of all targets and reply targets of the connection, so that
+     * their placeholders are not parsed again for every published message.
+     */
+    private static Map<String, CompiledTemplate> compileTemplates(final List<Target> targets,
+            final List<Optional<ReplyTarget>> replyTargets) {
+
+        final Map<String, CompiledTemplate> result = new HashMap<>();
+        Stream.<GenericTarget>concat(targets.stream(), replyTargets.stream().flatMap(Optional::stream))
+                .flatMap(genericTarget -> Stream.concat(Stream.of(genericTarget.getAddress()),
+                        genericTarget.getHeaderMapping()
+                                .map(headerMapping -> headerMapping.getMapping().values().stream())
+                                .orElseGet(Stream::empty)))
+                .forEach(template -> result.computeIfAbsent(template, PlaceholderFactory::compileTemplate));
+        return Collections.unmodifiableMap(result);
+    }
+
+    private CompiledTemplate getCompiledTemplate(final String template) {
+        @Nullable final CompiledTemplate compiledTemplate = compiledTemplates.get(template);
+        return null != compiledTemplate ? compiledTemplate : PlaceholderFactory.compileTemplate(template);
+    }
+
     private ConnectivityConfig getConnectivityConfig() {
         final ActorContext context = getContext();
         final ActorSystem actorSystem = context.getSystem();
@@ -384,7 +411,9 @@ public abstract class BasePublisherActor<T extends PublishTarget> extends Abstra
         final OutboundSignal.Mapped outbound = sendingContext.getMappedOutboundSignal();
         final GenericTarget genericTarget = sendingContext.getGenericTarget();
         final String address = genericTarget.getAddress();
-        final Optional<T> publishTargetOptional = resolveTargetAddress(resolver, address).map(this::toPublishTarget);
+        final Optional<T> publishTargetOptional =
+                resolveTargetAddress(resolver, getCompiledTemplate(address))
+                        .map(resolvedAddress -> toPublishTarget(address, resolvedAddress));
 
         final SendingOrDropped result;
         if (publishTargetOptional.isPresent()) {
@@ -406,11 +435,12 @@ public abstract class BasePublisherActor<T extends PublishTarget> extends Abstra
         return result;
     }
 
-    private static ExternalMessage applyHeaderMapping(final ExpressionResolver expressionResolver,
+    private ExternalMessage applyHeaderMapping(final ExpressionResolver expressionResolver,
             final OutboundSignal.Mapped outboundSignal, @Nullable final HeaderMapping headerMapping) {
 
         final OutboundSignalToExternalMessage outboundSignalToExternalMessage =
-                OutboundSignalToExternalMessage.newInstance(outboundSignal, expressionResolver, headerMapping);
+                OutboundSignalToExternalMessage.newInstance(outboundSignal, expressionResolver, headerMapping,
+                        this::getCompiledTemplate);
 
         return outboundSignalToExternalMessage.get();
     }
@@ -437,6 +467,19 @@ public abstract class BasePublisherActor<T extends PublishTarget> extends Abstra
      */
     protected abstract T toPublishTarget(String address);
 
+    /**
+     * Converts the resolved {@code address} of a target to a {@link PublishTarget} of type {@code <T>}. Overridable
+     * by publishers which need the configured address of the target, e.g. for metrics whose cardinality must not
+     * depend on the published messages.
+     *
+     * @param addressTemplate the configured address of the target which may contain placeholders.
+     * @param address the address of the target with resolved placeholders.
+     * @return the instance of type {@code <T>}
+     */
+    protected T toPublishTarget(final String addressTemplate, final String address) {
+        return toPublishTarget(address);
+    }
+
     /**
      * Publish a message. Construct the acknowledgement regardless of any request for diagnostic purposes.
      *
@@ -512,8 +555,10 @@ public abstract class BasePublisherActor<T extends PublishTarget> extends Abstra
      * Resolve target address.
      * If not resolvable, the returned Optional will be empty.
      */
-    private static Optional<String> resolveTargetAddress(final ExpressionResolver resolver, final String value) {
-        return resolver.resolve(value).toOptional();
+    private static Optional<String> resolveTargetAddress(final ExpressionResolver resolver,
+            final CompiledTemplate address) {
+
+        return address.resolve(resolver).toOptional();
     }
 
     private static String getInstanceIdentifier() {
@@ -17,14 +17,16 @@ import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.model.connectivity.HeaderMapping;
+import org.eclipse.ditto.model.placeholders.CompiledTemplate;
 import org.eclipse.ditto.model.placeholders.ExpressionResolver;
-import org.eclipse.ditto.model.placeholders.PlaceholderFilter;
+import org.eclipse.ditto.model.placeholders.PlaceholderFactory;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessageFactory;
 import org.eclipse.ditto.services.models.connectivity.OutboundSignal;
@@ -42,14 +44,17 @@ final class OutboundSignalToExternalMessage implements Supplier<ExternalMessage>
     private final OutboundSignal.Mapped outboundMappedSignal;
     private final ExpressionResolver expressionResolver;
     private final Map<String, String> headerMapping;
+    private final Function<String, CompiledTemplate> templateCompiler;
     private final ThreadSafeDittoLogger logger;
 
     private OutboundSignalToExternalMessage(final OutboundSignal.Mapped outboundMappedSignal,
-            final ExpressionResolver expressionResolver, final Map<String, String> headerMapping) {
+            final ExpressionResolver expressionResolver, final Map<String, String> headerMapping,
+            final Function<String, CompiledTemplate> templateCompiler) {
 
         this.outboundMappedSignal = checkNotNull(outboundMappedSignal, "outboundMappedSignal");
         this.expressionResolver = checkNotNull(expressionResolver, "expressionResolver");
         this.headerMapping = headerMapping;
+        this.templateCompiler = templateCompiler;
         logger = DittoLoggerFactory.getThreadSafeLogger(getClass()).withCorrelationId(outboundMappedSignal.getSource());
     }
 
@@ -67,13 +72,36 @@ final class OutboundSignalToExternalMessage implements Supplier<ExternalMessage>
     static OutboundSignalToExternalMessage newInstance(final OutboundSignal.Mapped outboundMappedSignal,
             final ExpressionResolver expressionResolver, @Nullable final HeaderMapping headerMapping) {
 
+        return newInstance(outboundMappedSignal, expressionResolver, headerMapping,
+                PlaceholderFactory::compileTemplate);
+    }
+
+    /**
+     * Returns a new instance of OutboundSignalToExternalMessage which resolves header mapping values compiled in
+     * advance.
+     *
+     * @param outboundMappedSignal the OutboundSignal containing the {@link ExternalMessage} with headers potentially
+     * containing placeholders
+     * @param expressionResolver the expression-resolver used to resolve placeholders and optionally pipeline stages
+     * (functions).
+     * @param headerMapping optional header mappings to apply.
+     * @param templateCompiler provides the compiled template of each header mapping value.
+     * @return the instance.
+     * @throws NullPointerException if {@code outboundMappedSignal} or {@code expressionResolver} is {@code null}.
+     * @since 2.0.0
+     */
+    static OutboundSignalToExternalMessage newInstance(final OutboundSignal.Mapped outboundMappedSignal,
+            final ExpressionResolver expressionResolver, @Nullable final HeaderMapping headerMapping,
+            final Function<String, CompiledTemplate> templateCompiler) {
+
         final Map<String, String> mapping;
         if (null != headerMapping) {
             mapping = headerMapping.getMapping();
         } else {
             mapping = Map.of();
         }
-        return new OutboundSignalToExternalMessage(outboundMappedSignal, expressionResolver, mapping);
+        return new OutboundSignalToExternalMessage(outboundMappedSignal, expressionResolver, mapping,
+                templateCompiler);
     }
 
     @Override
@@ -102,7 +130,7 @@ final class OutboundSignalToExternalMessage implements Supplier<ExternalMessage>
     }
 
     private Optional<String> mapHeaderByResolver(final String value) {
-        return PlaceholderFilter.applyOrElseDelete(value, expressionResolver);
+        return templateCompiler.apply(value).resolve(expressionResolver).toOptional();
     }
 
 }
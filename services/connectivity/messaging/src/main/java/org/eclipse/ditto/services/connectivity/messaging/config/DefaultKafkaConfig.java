@@ -12,11 +12,12 @@
  */
 package org.eclipse.ditto.services.connectivity.messaging.config;
 
+import java.time.Duration;
 import java.util.Objects;
 
 import javax.annotation.concurrent.Immutable;
 
-import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
 import org.eclipse.ditto.services.utils.config.ScopedConfig;
 
 import com.typesafe.config.Config;
@@ -30,9 +31,21 @@ public final class DefaultKafkaConfig implements KafkaConfig {
     private static final String CONFIG_PATH = "kafka";
 
     private final Config internalProducerConfig;
+    private final Config internalConsumerConfig;
+    private final int consumerParallelism;
+    private final int consumerCommitBatchSize;
+    private final Duration consumerCommitInterval;
+    private final Duration consumerPollTimeout;
 
     private DefaultKafkaConfig(final ScopedConfig kafkaScopedConfig) {
         internalProducerConfig = kafkaScopedConfig.getConfig("producer.internal");
+        internalConsumerConfig = kafkaScopedConfig.getConfig("consumer.internal");
+        consumerParallelism = kafkaScopedConfig.getInt(KafkaConfigValue.CONSUMER_PARALLELISM.getConfigPath());
+        consumerCommitBatchSize =
+                kafkaScopedConfig.getInt(KafkaConfigValue.CONSUMER_COMMIT_BATCH_SIZE.getConfigPath());
+        consumerCommitInterval =
+                kafkaScopedConfig.getDuration(KafkaConfigValue.CONSUMER_COMMIT_INTERVAL.getConfigPath());
+        consumerPollTimeout = kafkaScopedConfig.getDuration(KafkaConfigValue.CONSUMER_POLL_TIMEOUT.getConfigPath());
     }
 
     /**
@@ -43,7 +56,7 @@ public final class DefaultKafkaConfig implements KafkaConfig {
      * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
      */
     public static DefaultKafkaConfig of(final Config config) {
-        return new DefaultKafkaConfig(DefaultScopedConfig.newInstance(config, CONFIG_PATH));
+        return new DefaultKafkaConfig(ConfigWithFallback.newInstance(config, CONFIG_PATH, KafkaConfigValue.values()));
     }
 
     @Override
@@ -51,6 +64,31 @@ public final class DefaultKafkaConfig implements KafkaConfig {
         return internalProducerConfig;
     }
 
+    @Override
+    public Config getInternalConsumerConfig() {
+        return internalConsumerConfig;
+    }
+
+    @Override
+    public int getConsumerParallelism() {
+        return consumerParallelism;
+    }
+
+    @Override
+    public int getConsumerCommitBatchSize() {
+        return consumerCommitBatchSize;
+    }
+
+    @Override
+    public Duration getConsumerCommitInterval() {
+        return consumerCommitInterval;
+    }
+
+    @Override
+    public Duration getConsumerPollTimeout() {
+        return consumerPollTimeout;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -60,18 +98,29 @@ public final class DefaultKafkaConfig implements KafkaConfig {
             return false;
         }
         final DefaultKafkaConfig that = (DefaultKafkaConfig) o;
-        return Objects.equals(internalProducerConfig, that.internalProducerConfig);
+        return consumerParallelism == that.consumerParallelism &&
+                consumerCommitBatchSize == that.consumerCommitBatchSize &&
+                Objects.equals(internalProducerConfig, that.internalProducerConfig) &&
+                Objects.equals(internalConsumerConfig, that.internalConsumerConfig) &&
+                Objects.equals(consumerCommitInterval, that.consumerCommitInterval) &&
+                Objects.equals(consumerPollTimeout, that.consumerPollTimeout);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(internalProducerConfig);
+        return Objects.hash(internalProducerConfig, internalConsumerConfig, consumerParallelism,
+                consumerCommitBatchSize, consumerCommitInterval, consumerPollTimeout);
     }
 
     @Override
     public String toString() {
         return getClass().getSimpleName() + " [" +
                 "internalProducerConfig=" + internalProducerConfig +
+                ", internalConsumerConfig=" + internalConsumerConfig +
+                ", consumerParallelism=" + consumerParallelism +
+                ", consumerCommitBatchSize=" + consumerCommitBatchSize +
+                ", consumerCommitInterval=" + consumerCommitInterval +
+                ", consumerPollTimeout=" + consumerPollTimeout +
                 "]";
     }
 
@@ -12,8 +12,12 @@
  */
 package org.eclipse.ditto.services.connectivity.messaging.config;
 
+import java.time.Duration;
+
 import javax.annotation.concurrent.Immutable;
 
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
 import com.typesafe.config.Config;
 
 /**
@@ -29,4 +33,91 @@ public interface KafkaConfig {
      */
     Config getInternalProducerConfig();
 
+    /**
+     * Returns the Config for consumers needed by the Kafka client.
+     *
+     * @return internal consumer configuration needed by the Kafka client.
+     * @since 2.0.0
+     */
+    Config getInternalConsumerConfig();
+
+    /**
+     * Returns the maximum number of partitions whose consumed records are processed in parallel. Records of one
+     * partition are always processed one after another.
+     *
+     * @return the number of partitions processed in parallel.
+     * @since 2.0.0
+     */
+    int getConsumerParallelism();
+
+    /**
+     * Returns the maximum number of processed records whose offsets are committed together.
+     *
+     * @return the maximum commit batch size.
+     * @since 2.0.0
+     */
+    int getConsumerCommitBatchSize();
+
+    /**
+     * Returns the maximum duration to wait for further processed records before their offsets are committed.
+     *
+     * @return the commit interval.
+     * @since 2.0.0
+     */
+    Duration getConsumerCommitInterval();
+
+    /**
+     * Returns the maximum duration a consumer blocks while polling for new records.
+     *
+     * @return the poll timeout.
+     * @since 2.0.0
+     */
+    Duration getConsumerPollTimeout();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code KafkaConfig}.
+     */
+    enum KafkaConfigValue implements KnownConfigValue {
+
+        /**
+         * The maximum number of partitions processed in parallel.
+         */
+        CONSUMER_PARALLELISM("consumer.parallelism", 64),
+
+        /**
+         * The maximum number of processed records whose offsets are committed together.
+         */
+        CONSUMER_COMMIT_BATCH_SIZE("consumer.commit-batch-size", 100),
+
+        /**
+         * The maximum duration to wait for further processed records before their offsets are committed.
+         */
+        CONSUMER_COMMIT_INTERVAL("consumer.commit-interval", Duration.ofSeconds(1)),
+
+        /**
+         * The maximum duration a consumer blocks while polling for new records.
+         */
+        CONSUMER_POLL_TIMEOUT("consumer.poll-timeout", Duration.ofMillis(100));
+
+        private final String path;
+        private final Object defaultValue;
+
+        KafkaConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
 }
@@ -12,30 +12,43 @@
  */
 package org.eclipse.ditto.services.connectivity.messaging.kafka;
 
+import java.nio.ByteBuffer;
 import java.util.Map;
 
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
 import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.common.serialization.ByteBufferDeserializer;
+import org.apache.kafka.common.serialization.ByteBufferSerializer;
+import org.apache.kafka.common.serialization.Deserializer;
 import org.apache.kafka.common.serialization.Serializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.eclipse.ditto.model.base.entity.id.EntityId;
 import org.eclipse.ditto.model.connectivity.Connection;
 import org.eclipse.ditto.services.connectivity.messaging.config.KafkaConfig;
 
 /**
- * Creates Kafka sinks.
+ * Creates Kafka sinks and sources.
  */
 final class DefaultKafkaConnectionFactory implements KafkaConnectionFactory {
 
     private static final Serializer<String> KEY_SERIALIZER = new StringSerializer();
-    private static final Serializer<String> VALUE_SERIALIZER = KEY_SERIALIZER;
+    private static final Serializer<ByteBuffer> VALUE_SERIALIZER = new ByteBufferSerializer();
+    private static final Deserializer<String> KEY_DESERIALIZER = new StringDeserializer();
+    private static final Deserializer<ByteBuffer> VALUE_DESERIALIZER = new ByteBufferDeserializer();
 
     private final Connection connection;
     private final Map<String, Object> properties;
+    private final Map<String, Object> consumerProperties;
 
-    private DefaultKafkaConnectionFactory(final Connection connection, final Map<String, Object> producerProperties) {
+    private DefaultKafkaConnectionFactory(final Connection connection, final Map<String, Object> producerProperties,
+            final Map<String, Object> consumerProperties) {
 
         this.connection = connection;
         properties = producerProperties;
+        this.consumerProperties = consumerProperties;
     }
 
     /**
@@ -46,10 +59,10 @@ final class DefaultKafkaConnectionFactory implements KafkaConnectionFactory {
      * @return an Kafka connection factory.
      */
     static DefaultKafkaConnectionFactory getInstance(final Connection connection, final KafkaConfig kafkaConfig) {
-        final ProducerPropertiesFactory settingsFactory =
-                ProducerPropertiesFactory.getInstance(connection, kafkaConfig);
+        final PropertiesFactory settingsFactory = PropertiesFactory.getInstance(connection, kafkaConfig);
 
-        return new DefaultKafkaConnectionFactory(connection, settingsFactory.getProducerProperties());
+        return new DefaultKafkaConnectionFactory(connection, settingsFactory.getProducerProperties(),
+                settingsFactory.getConsumerProperties());
     }
 
     @Override
@@ -58,8 +71,13 @@ final class DefaultKafkaConnectionFactory implements KafkaConnectionFactory {
     }
 
     @Override
-    public org.apache.kafka.clients.producer.Producer<String, String> newProducer() {
+    public Producer<String, ByteBuffer> newProducer() {
         return new KafkaProducer<>(properties, KEY_SERIALIZER, VALUE_SERIALIZER);
     }
 
+    @Override
+    public Consumer<String, ByteBuffer> newConsumer() {
+        return new KafkaConsumer<>(consumerProperties, KEY_DESERIALIZER, VALUE_DESERIALIZER);
+    }
+
 }
@@ -12,7 +12,9 @@
  */
 package org.eclipse.ditto.services.connectivity.messaging.kafka;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -23,6 +25,7 @@ import javax.annotation.Nullable;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.connectivity.Connection;
 import org.eclipse.ditto.model.connectivity.ConnectionId;
+import org.eclipse.ditto.model.connectivity.Source;
 import org.eclipse.ditto.services.connectivity.messaging.BaseClientActor;
 import org.eclipse.ditto.services.connectivity.messaging.BaseClientData;
 import org.eclipse.ditto.services.connectivity.messaging.config.ConnectionConfig;
@@ -48,6 +51,8 @@ public final class KafkaClientActor extends BaseClientActor {
     private final KafkaPublisherActorFactory publisherActorFactory;
     private final Set<ActorRef> pendingStatusReportsFromStreams;
     private final KafkaConnectionFactory connectionFactory;
+    private final KafkaConfig kafkaConfig;
+    private final List<ActorRef> kafkaConsumerActors;
 
     private CompletableFuture<Status.Status> testConnectionFuture = null;
     private ActorRef kafkaPublisherActor;
@@ -60,10 +65,11 @@ public final class KafkaClientActor extends BaseClientActor {
 
         super(connection, proxyActor, connectionActor);
         final ConnectionConfig connectionConfig = connectivityConfig.getConnectionConfig();
-        final KafkaConfig kafkaConfig = connectionConfig.getKafkaConfig();
+        kafkaConfig = connectionConfig.getKafkaConfig();
         connectionFactory = DefaultKafkaConnectionFactory.getInstance(connection, kafkaConfig);
         publisherActorFactory = factory;
         pendingStatusReportsFromStreams = new HashSet<>();
+        kafkaConsumerActors = new ArrayList<>();
     }
 
     /**
@@ -141,8 +147,20 @@ public final class KafkaClientActor extends BaseClientActor {
         return kafkaPublisherActor;
     }
 
+    @Override
+    protected CompletionStage<Status.Status> startConsumerActors(@Nullable final ClientConnected clientConnected) {
+        stopConsumerActors();
+        for (final Source source : connection().getSources()) {
+            for (int i = 0; i < source.getConsumerCount(); i++) {
+                startKafkaConsumer(source);
+            }
+        }
+        return CompletableFuture.completedFuture(DONE);
+    }
+
     /**
      * Start Kafka publishers, expect "Status.Success" from each of them, then send "ClientConnected" to self.
+     * Consumers are started by {@link #startConsumerActors(ClientConnected)} once the client is connected.
      *
      * @param dryRun if set to true, exchange no message between the broker and the Ditto cluster.
      * @param connectionId the ID of the connection to connect the client for.
@@ -153,7 +171,6 @@ public final class KafkaClientActor extends BaseClientActor {
 
         // start publisher
         startKafkaPublisher(dryRun, connectionId, correlationId);
-        // no command consumers as we don't support consuming from sources yet
     }
 
     private void startKafkaPublisher(final boolean dryRun, final ConnectionId connectionId,
@@ -168,12 +185,26 @@ public final class KafkaClientActor extends BaseClientActor {
         pendingStatusReportsFromStreams.add(kafkaPublisherActor);
     }
 
+    private void startKafkaConsumer(final Source source) {
+        final Props consumerActorProps = KafkaConsumerActor.props(connection().getId(),
+                getMessageMappingProcessorActor(), source, connectionFactory, kafkaConfig, isDryRun());
+        final ActorRef consumerActor = startChildActorConflictFree(KafkaConsumerActor.ACTOR_NAME_PREFIX +
+                String.join("_", source.getAddresses()), consumerActorProps);
+        kafkaConsumerActors.add(consumerActor);
+    }
+
     @Override
     protected void cleanupResourcesForConnection() {
         pendingStatusReportsFromStreams.clear();
+        stopConsumerActors();
         stopPublisherActor();
     }
 
+    private void stopConsumerActors() {
+        kafkaConsumerActors.forEach(this::stopChildActor);
+        kafkaConsumerActors.clear();
+    }
+
     @Override
     protected CompletionStage<Status.Status> startPublisherActor() {
         return CompletableFuture.completedFuture(DONE);
@@ -12,11 +12,14 @@
  */
 package org.eclipse.ditto.services.connectivity.messaging.kafka;
 
+import java.nio.ByteBuffer;
+
+import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.producer.Producer;
 import org.eclipse.ditto.model.base.entity.id.EntityId;
 
 /**
- * Creates Kafka sinks.
+ * Creates Kafka sinks and sources.
  */
 interface KafkaConnectionFactory {
 
@@ -28,9 +31,19 @@ interface KafkaConnectionFactory {
     EntityId connectionId();
 
     /**
-     * Create a producer of Kafka messages.
+     * Create a producer of Kafka messages whose values are sent as they are.
      *
      * @return the producer.
+     * @since 2.0.0
+     */
+    Producer<String, ByteBuffer> newProducer();
+
+    /**
+     * Create a consumer of Kafka messages which does not commit offsets automatically.
+     *
+     * @return the consumer.
+     * @since 2.0.0
      */
-    Producer<String, String> newProducer();
+    Consumer<String, ByteBuffer> newConsumer();
+
 }
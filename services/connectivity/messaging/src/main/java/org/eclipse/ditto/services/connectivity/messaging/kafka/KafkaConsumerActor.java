@@ -0,0 +1,327 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.kafka;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+import javax.annotation.Nullable;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.eclipse.ditto.model.base.common.ByteBufferUtils;
+import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.connectivity.ConnectionId;
+import org.eclipse.ditto.model.connectivity.ConnectionType;
+import org.eclipse.ditto.model.connectivity.Enforcement;
+import org.eclipse.ditto.model.connectivity.EnforcementFactoryFactory;
+import org.eclipse.ditto.model.connectivity.EnforcementFilterFactory;
+import org.eclipse.ditto.model.connectivity.Source;
+import org.eclipse.ditto.model.placeholders.PlaceholderFactory;
+import org.eclipse.ditto.services.connectivity.messaging.BaseConsumerActor;
+import org.eclipse.ditto.services.connectivity.messaging.config.KafkaConfig;
+import org.eclipse.ditto.services.connectivity.messaging.internal.RetrieveAddressStatus;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessageFactory;
+import org.eclipse.ditto.services.utils.akka.logging.DittoDiagnosticLoggingAdapter;
+import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
+
+import akka.Done;
+import akka.NotUsed;
+import akka.actor.ActorRef;
+import akka.actor.Props;
+import akka.stream.KillSwitches;
+import akka.stream.Materializer;
+import akka.stream.UniqueKillSwitch;
+import akka.stream.javadsl.Keep;
+import akka.stream.javadsl.RestartSource;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.SubSource;
+
+/**
+ * Actor which consumes the topics of a Kafka source and forwards the consumed records to the message mapping
+ * processor.
+ * <p>
+ * Records of different partitions are processed in parallel up to the configured parallelism. Records of the same
+ * partition are processed one after another in the order of their offsets, i.e. a record is forwarded only after the
+ * previous record of its partition was settled. Offsets are committed in order, in batches and only after the records
+ * were settled. Records whose acknowledgements request a redelivery restart the consumer, which then
+ * consumes all records after the last committed offsets again.
+ * </p>
+ */
+final class KafkaConsumerActor extends BaseConsumerActor {
+
+    static final String ACTOR_NAME_PREFIX = "kafkaConsumer-";
+
+    static final String KAFKA_TOPIC_HEADER = "kafka.topic";
+    static final String KAFKA_KEY_HEADER = "kafka.key";
+
+    private static final Duration MIN_RESTART_BACKOFF = Duration.ofSeconds(1);
+    private static final Duration MAX_RESTART_BACKOFF = Duration.ofSeconds(30);
+    private static final double RESTART_BACKOFF_RANDOM_FACTOR = 0.2;
+
+    private static final String DISPATCHER_NAME = "kafka-consumer-dispatcher";
+
+    private final DittoDiagnosticLoggingAdapter logger;
+    private final KafkaConnectionFactory connectionFactory;
+    private final KafkaConfig kafkaConfig;
+    private final boolean dryRun;
+    private final EnforcementFilterFactory<Map<String, String>, CharSequence> headerEnforcementFilterFactory;
+
+    @Nullable private UniqueKillSwitch killSwitch;
+
+    @SuppressWarnings("unused")
+    private KafkaConsumerActor(final ConnectionId connectionId, final ActorRef messageMappingProcessor,
+            final Source source, final KafkaConnectionFactory connectionFactory, final KafkaConfig kafkaConfig,
+            final boolean dryRun) {
+
+        super(connectionId, String.join(";", source.getAddresses()), messageMappingProcessor, source,
+                ConnectionType.KAFKA);
+        logger = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
+        this.connectionFactory = connectionFactory;
+        this.kafkaConfig = kafkaConfig;
+        this.dryRun = dryRun;
+        final Enforcement enforcement = source.getEnforcement().orElse(null);
+        headerEnforcementFilterFactory = enforcement != null ? EnforcementFactoryFactory
+                .newEnforcementFilterFactory(enforcement, PlaceholderFactory.newHeadersPlaceholder()) :
+                input -> null;
+    }
+
+    /**
+     * Creates Akka configuration object {@link Props} for this {@code KafkaConsumerActor}.
+     *
+     * @param connectionId the ID of the connection this consumer belongs to.
+     * @param messageMappingProcessor the message mapping processor where consumed records are forwarded to.
+     * @param source the source whose addresses are the topics to consume.
+     * @param connectionFactory the factory to create Kafka consumers with.
+     * @param kafkaConfig the Kafka configuration settings.
+     * @param dryRun whether this consumer is only created for a test or not.
+     * @return the Akka configuration Props object.
+     */
+    static Props props(final ConnectionId connectionId, final ActorRef messageMappingProcessor,
+            final Source source, final KafkaConnectionFactory connectionFactory, final KafkaConfig kafkaConfig,
+            final boolean dryRun) {
+
+        return Props.create(KafkaConsumerActor.class, connectionId, messageMappingProcessor, source,
+                connectionFactory, kafkaConfig, dryRun);
+    }
+
+    @Override
+    public void preStart() throws Exception {
+        super.preStart();
+        if (dryRun) {
+            logger.info("Not consuming topics <{}> in dry run mode.", sourceAddress);
+        } else {
+            killSwitch = startConsumerStream();
+        }
+    }
+
+    @Override
+    public void postStop() throws Exception {
+        if (null != killSwitch) {
+            killSwitch.shutdown();
+        }
+        super.postStop();
+    }
+
+    @Override
+    public Receive createReceive() {
+        return receiveBuilder()
+                .match(ConsumedRecord.class, this::handleConsumedRecord)
+                .match(RetrieveAddressStatus.class, ram -> getSender().tell(getCurrentSourceStatus(), getSelf()))
+                .matchAny(unhandled -> {
+                    logger.info("Unhandled message: {}", unhandled);
+                    unhandled(unhandled);
+                })
+                .build();
+    }
+
+    @Override
+    protected DittoDiagnosticLoggingAdapter log() {
+        return logger;
+    }
+
+    private UniqueKillSwitch startConsumerStream() {
+        final Materializer materializer = Materializer.createMaterializer(this::getContext);
+        final ActorRef self = getSelf();
+        final Executor executor = getContext().getSystem().dispatchers().lookup(DISPATCHER_NAME);
+        return RestartSource.onFailuresWithBackoff(MIN_RESTART_BACKOFF, MAX_RESTART_BACKOFF,
+                RESTART_BACKOFF_RANDOM_FACTOR, () -> consumeAndCommit(self, executor))
+                .viaMat(KillSwitches.single(), Keep.right())
+                .to(Sink.ignore())
+                .run(materializer);
+    }
+
+    private akka.stream.javadsl.Source<Done, NotUsed> consumeAndCommit(final ActorRef self,
+            final Executor executor) {
+
+        final KafkaConsumerStream consumerStream = KafkaConsumerStream.of(connectionId, connectionFactory,
+                source.getAddresses(), kafkaConfig.getConsumerPollTimeout(), kafkaConfig.getConsumerCommitInterval(),
+                executor);
+        // records of further partitions share the substream of another partition and are processed in its order
+        final int parallelPartitions = kafkaConfig.getConsumerParallelism();
+        final SubSource<ConsumerRecord<String, ByteBuffer>, NotUsed> partitions = consumerStream.records()
+                .groupBy(parallelPartitions,
+                        consumerRecord -> Math.floorMod(Objects.hash(consumerRecord.topic(),
+                                consumerRecord.partition()), parallelPartitions));
+        // one record per partition at a time: a record is processed after all previous records were settled
+        return partitions
+                .mapAsync(1, consumerRecord -> process(consumerRecord, self))
+                .mergeSubstreams()
+                .groupedWithin(kafkaConfig.getConsumerCommitBatchSize(), kafkaConfig.getConsumerCommitInterval())
+                .map(consumerStream::commitLater);
+    }
+
+    private static CompletionStage<ConsumerRecord<String, ByteBuffer>> process(
+            final ConsumerRecord<String, ByteBuffer> consumerRecord, final ActorRef self) {
+
+        final ConsumedRecord consumedRecord = new ConsumedRecord(consumerRecord);
+        self.tell(consumedRecord, ActorRef.noSender());
+        return consumedRecord.getSettled();
+    }
+
+    private void handleConsumedRecord(final ConsumedRecord consumedRecord) {
+        final Optional<ExternalMessage> externalMessageOptional = toExternalMessage(consumedRecord.consumerRecord);
+        if (externalMessageOptional.isPresent()) {
+            forwardToMappingActor(externalMessageOptional.get(), consumedRecord::settle,
+                    redeliver -> reject(consumedRecord, redeliver));
+        } else {
+            // records which can't be handled are not consumed again
+            consumedRecord.settle();
+        }
+    }
+
+    private void reject(final ConsumedRecord consumedRecord, final boolean redeliver) {
+        if (redeliver) {
+            inboundAcknowledgedMonitor.exception(
+                    "Restarting consumer for redeliveries due to unfulfilled acknowledgements.");
+            consumedRecord.redeliver();
+        } else {
+            inboundAcknowledgedMonitor.exception(
+                    "Unfulfilled acknowledgements are present, but redelivery is not requested.");
+            consumedRecord.settle();
+        }
+    }
+
+    private Optional<ExternalMessage> toExternalMessage(final ConsumerRecord<String, ByteBuffer> consumerRecord) {
+        Map<String, String> headers = null;
+        try {
+            headers = extractHeaders(consumerRecord);
+            final ByteBuffer payload = Optional.ofNullable(consumerRecord.value())
+                    .map(ByteBuffer::asReadOnlyBuffer)
+                    .orElse(ByteBufferUtils.empty());
+            final String textPayload = ByteBufferUtils.toUtf8String(payload);
+            logger.debug("Received Kafka record on topic <{}>: {}", consumerRecord.topic(), textPayload);
+            final ExternalMessage externalMessage = ExternalMessageFactory.newExternalMessageBuilder(headers)
+                    .withTextAndBytes(textPayload, payload)
+                    .withAuthorizationContext(source.getAuthorizationContext())
+                    .withEnforcement(headerEnforcementFilterFactory.getFilter(headers))
+                    .withHeaderMapping(source.getHeaderMapping().orElse(null))
+                    .withSourceAddress(sourceAddress)
+                    .withPayloadMapping(source.getPayloadMapping())
+                    .build();
+            inboundMonitor.success(externalMessage);
+            return Optional.of(externalMessage);
+        } catch (final DittoRuntimeException e) {
+            logger.info("Got DittoRuntimeException '{}' when command was parsed: {}", e.getErrorCode(),
+                    e.getMessage());
+            if (headers != null) {
+                // forwarding to messageMappingProcessor only make sense if we were able to extract the headers,
+                // because we need a reply-to address to send the error response
+                inboundMonitor.failure(headers, e);
+                forwardToMappingActor(e.setDittoHeaders(DittoHeaders.of(headers)));
+            } else {
+                inboundMonitor.failure(e);
+            }
+        } catch (final Exception e) {
+            logger.info("Failed to handle Kafka record: {}", e.getMessage());
+            if (null != headers) {
+                inboundMonitor.exception(headers, e);
+            } else {
+                inboundMonitor.exception(e);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static Map<String, String> extractHeaders(final ConsumerRecord<String, ByteBuffer> consumerRecord) {
+        final Map<String, String> headers = new HashMap<>();
+        for (final Header header : consumerRecord.headers()) {
+            // like Kafka#lastHeader, later headers with the same key win
+            final byte[] value = header.value();
+            headers.put(header.key(), null != value ? new String(value, StandardCharsets.UTF_8) : "");
+        }
+        headers.put(KAFKA_TOPIC_HEADER, consumerRecord.topic());
+        if (null != consumerRecord.key()) {
+            headers.put(KAFKA_KEY_HEADER, consumerRecord.key());
+        }
+        return headers;
+    }
+
+    /**
+     * A consumed record together with the future which completes when the record was settled.
+     */
+    static final class ConsumedRecord {
+
+        private final ConsumerRecord<String, ByteBuffer> consumerRecord;
+        private final CompletableFuture<ConsumerRecord<String, ByteBuffer>> settled;
+
+        ConsumedRecord(final ConsumerRecord<String, ByteBuffer> consumerRecord) {
+            this.consumerRecord = consumerRecord;
+            settled = new CompletableFuture<>();
+        }
+
+        /**
+         * Returns the future which completes with the record when it was settled or fails if its redelivery was
+         * requested.
+         *
+         * @return the future.
+         */
+        CompletionStage<ConsumerRecord<String, ByteBuffer>> getSettled() {
+            return settled;
+        }
+
+        private void settle() {
+            settled.complete(consumerRecord);
+        }
+
+        private void redeliver() {
+            settled.completeExceptionally(new RedeliveryRequestedException(consumerRecord));
+        }
+
+    }
+
+    /**
+     * Fails the consumer stream so that it is restarted from the last committed offsets.
+     */
+    private static final class RedeliveryRequestedException extends RuntimeException {
+
+        private static final long serialVersionUID = -3529873064329617342L;
+
+        private RedeliveryRequestedException(final ConsumerRecord<?, ?> consumerRecord) {
+            super("Redelivery requested for record <" + consumerRecord.topic() + "-" + consumerRecord.partition() +
+                    "@" + consumerRecord.offset() + ">.", null, false, false);
+        }
+
+    }
+
+}
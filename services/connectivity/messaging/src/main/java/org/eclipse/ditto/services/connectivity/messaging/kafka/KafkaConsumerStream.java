@@ -0,0 +1,274 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.kafka;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.Metric;
+import org.apache.kafka.common.MetricName;
+import org.apache.kafka.common.TopicPartition;
+import org.eclipse.ditto.model.connectivity.ConnectionId;
+import org.eclipse.ditto.services.connectivity.util.ConnectivityMdcEntryKey;
+import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
+import org.eclipse.ditto.services.utils.akka.logging.ThreadSafeDittoLogger;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.gauge.Gauge;
+import org.eclipse.ditto.services.utils.tracing.TracingTags;
+
+import akka.Done;
+import akka.NotUsed;
+import akka.stream.javadsl.Source;
+
+/**
+ * Source of the records of a Kafka consumer which commits the offsets of processed records.
+ * <p>
+ * The consumer is never accessed concurrently: it is only accessed while polling, which also commits the offsets
+ * handed over by {@link #commitLater(List)}, and while closing. Both are called one after another by
+ * {@link Source#unfoldResourceAsync}.
+ * </p>
+ */
+final class KafkaConsumerStream {
+
+    private static final String RECORDS_LAG_METRIC = "records-lag";
+    private static final String TOPIC_TAG = "topic";
+    private static final String PARTITION_TAG = "partition";
+
+    private final ConnectionId connectionId;
+    private final KafkaConnectionFactory connectionFactory;
+    private final Collection<String> topics;
+    private final Duration pollTimeout;
+    private final long lagReportIntervalNanos;
+    private final Executor executor;
+    private final ThreadSafeDittoLogger logger;
+    private final Map<TopicPartition, OffsetAndMetadata> pendingOffsets;
+    private final Map<TopicPartition, Gauge> lagGauges;
+
+    private long lastLagReport;
+
+    private KafkaConsumerStream(final ConnectionId connectionId, final KafkaConnectionFactory connectionFactory,
+            final Collection<String> topics, final Duration pollTimeout, final Duration lagReportInterval,
+            final Executor executor) {
+
+        this.connectionId = connectionId;
+        this.connectionFactory = connectionFactory;
+        this.topics = topics;
+        this.pollTimeout = pollTimeout;
+        lagReportIntervalNanos = lagReportInterval.toNanos();
+        this.executor = executor;
+        logger = DittoLoggerFactory.getThreadSafeLogger(KafkaConsumerStream.class)
+                .withMdcEntry(ConnectivityMdcEntryKey.CONNECTION_ID, connectionId);
+        pendingOffsets = new ConcurrentHashMap<>();
+        lagGauges = new HashMap<>();
+        lastLagReport = System.nanoTime() - lagReportIntervalNanos;
+    }
+
+    /**
+     * Creates a consumer stream for the given topics.
+     *
+     * @param connectionId the ID of the connection the topics are consumed for.
+     * @param connectionFactory creates the Kafka consumer.
+     * @param topics the topics to subscribe to.
+     * @param pollTimeout the maximum duration to block while polling.
+     * @param lagReportInterval the minimum interval between two updates of the consumer lag metrics.
+     * @param executor the executor to access the consumer with. Polling blocks its threads.
+     * @return the consumer stream.
+     */
+    static KafkaConsumerStream of(final ConnectionId connectionId, final KafkaConnectionFactory connectionFactory,
+            final Collection<String> topics, final Duration pollTimeout, final Duration lagReportInterval,
+            final Executor executor) {
+
+        return new KafkaConsumerStream(connectionId, connectionFactory, topics, pollTimeout, lagReportInterval,
+                executor);
+    }
+
+    /**
+     * Returns a source of the polled records which creates the consumer on materialization and closes it on
+     * completion or failure. The source never completes by itself.
+     *
+     * @return the source of consumed records.
+     */
+    Source<ConsumerRecord<String, ByteBuffer>, NotUsed> records() {
+        return Source.unfoldResourceAsync(this::open, this::poll, this::close)
+                .mapConcat(records -> records);
+    }
+
+    /**
+     * Hands over the offsets of processed records to be committed by the next poll.
+     * The records of each partition must have been processed completely up to the given records.
+     * May be called from any thread.
+     *
+     * @param processedRecords the processed records.
+     * @return {@code Done}.
+     */
+    Done commitLater(final List<ConsumerRecord<String, ByteBuffer>> processedRecords) {
+        for (final ConsumerRecord<String, ByteBuffer> processedRecord : processedRecords) {
+            final TopicPartition topicPartition =
+                    new TopicPartition(processedRecord.topic(), processedRecord.partition());
+            // the committed offset is the offset of the next record to consume
+            pendingOffsets.merge(topicPartition, new OffsetAndMetadata(processedRecord.offset() + 1),
+                    (previous, next) -> previous.offset() >= next.offset() ? previous : next);
+        }
+        return Done.getInstance();
+    }
+
+    private CompletionStage<Consumer<String, ByteBuffer>> open() {
+        return CompletableFuture.supplyAsync(() -> {
+            final Consumer<String, ByteBuffer> consumer = connectionFactory.newConsumer();
+            consumer.subscribe(topics, new CommitOnRevocation(consumer));
+            logger.info("Subscribed to topics <{}>.", topics);
+            return consumer;
+        }, executor);
+    }
+
+    private CompletionStage<Optional<ConsumerRecords<String, ByteBuffer>>> poll(
+            final Consumer<String, ByteBuffer> consumer) {
+
+        return CompletableFuture.supplyAsync(() -> {
+            commitPendingOffsets(consumer);
+            final ConsumerRecords<String, ByteBuffer> records = consumer.poll(pollTimeout);
+            reportLagIfDue(consumer);
+            return Optional.of(records);
+        }, executor);
+    }
+
+    private CompletionStage<Done> close(final Consumer<String, ByteBuffer> consumer) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                final Map<TopicPartition, OffsetAndMetadata> offsets = removePendingOffsets(consumer.assignment());
+                if (!offsets.isEmpty()) {
+                    consumer.commitSync(offsets);
+                }
+            } catch (final RuntimeException e) {
+                logger.info("Could not commit offsets before closing the consumer: {}", e.getMessage());
+            } finally {
+                consumer.close();
+                lagGauges.values().forEach(gauge -> gauge.set(0L));
+                logger.info("Closed consumer of topics <{}>.", topics);
+            }
+            return Done.getInstance();
+        }, executor);
+    }
+
+    private void commitPendingOffsets(final Consumer<String, ByteBuffer> consumer) {
+        final Map<TopicPartition, OffsetAndMetadata> offsets = removePendingOffsets(consumer.assignment());
+        if (!offsets.isEmpty()) {
+            consumer.commitAsync(offsets, (committedOffsets, error) -> {
+                if (null != error) {
+                    // records after the last committed offsets are consumed again on restart or rebalance
+                    logger.warn("Could not commit offsets <{}>: {}", committedOffsets, error.getMessage());
+                } else {
+                    logger.debug("Committed offsets <{}>.", committedOffsets);
+                }
+            });
+        }
+    }
+
+    /**
+     * Removes the pending offsets of all partitions.
+     * Offsets of partitions which are no longer assigned are dropped: their records are consumed again by their new
+     * consumer.
+     */
+    private Map<TopicPartition, OffsetAndMetadata> removePendingOffsets(final Set<TopicPartition> assignment) {
+        final Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+        for (final TopicPartition topicPartition : pendingOffsets.keySet()) {
+            final OffsetAndMetadata offset = pendingOffsets.remove(topicPartition);
+            if (null != offset && assignment.contains(topicPartition)) {
+                offsets.put(topicPartition, offset);
+            }
+        }
+        return offsets;
+    }
+
+    private void reportLagIfDue(final Consumer<String, ByteBuffer> consumer) {
+        final long now = System.nanoTime();
+        if (now - lastLagReport >= lagReportIntervalNanos) {
+            lastLagReport = now;
+            reportLag(consumer.metrics());
+        }
+    }
+
+    private void reportLag(final Map<MetricName, ? extends Metric> metrics) {
+        metrics.forEach((metricName, metric) -> {
+            final Map<String, String> tags = metricName.tags();
+            if (RECORDS_LAG_METRIC.equals(metricName.name()) && tags.containsKey(PARTITION_TAG)) {
+                final Object value = metric.metricValue();
+                if (value instanceof Number && !Double.isNaN(((Number) value).doubleValue())) {
+                    final TopicPartition topicPartition =
+                            new TopicPartition(tags.get(TOPIC_TAG), Integer.parseInt(tags.get(PARTITION_TAG)));
+                    lagGauges.computeIfAbsent(topicPartition, this::lagGauge).set(((Number) value).longValue());
+                }
+            }
+        });
+    }
+
+    private Gauge lagGauge(final TopicPartition topicPartition) {
+        return DittoMetrics.gauge("connectivity_kafka_consumer_lag")
+                .tag(TracingTags.CONNECTION_ID, connectionId.toString())
+                .tag(TOPIC_TAG, topicPartition.topic())
+                .tag(PARTITION_TAG, String.valueOf(topicPartition.partition()));
+    }
+
+    /**
+     * Commits the offsets of processed records of partitions before they are assigned to another consumer.
+     * Called by the consumer while polling.
+     */
+    private final class CommitOnRevocation implements ConsumerRebalanceListener {
+
+        private final Consumer<String, ByteBuffer> consumer;
+
+        private CommitOnRevocation(final Consumer<String, ByteBuffer> consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void onPartitionsRevoked(final Collection<TopicPartition> partitions) {
+            final Map<TopicPartition, OffsetAndMetadata> offsets = removePendingOffsets(consumer.assignment());
+            if (!offsets.isEmpty()) {
+                try {
+                    consumer.commitSync(offsets);
+                } catch (final RuntimeException e) {
+                    logger.info("Could not commit offsets of revoked partitions: {}", e.getMessage());
+                }
+            }
+            partitions.forEach(partition -> {
+                final Gauge lagGauge = lagGauges.remove(partition);
+                if (null != lagGauge) {
+                    lagGauge.set(0L);
+                }
+            });
+        }
+
+        @Override
+        public void onPartitionsAssigned(final Collection<TopicPartition> partitions) {
+            logger.info("Assigned partitions <{}>.", partitions);
+        }
+
+    }
+
+}
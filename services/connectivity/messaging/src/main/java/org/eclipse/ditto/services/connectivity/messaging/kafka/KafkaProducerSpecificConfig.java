@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.kafka;
+
+import java.text.MessageFormat;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.connectivity.Connection;
+import org.eclipse.ditto.model.connectivity.ConnectionConfigurationInvalidException;
+
+/**
+ * Adds the batching, linger and compression settings of the producer in the specific config of the connection.
+ * Applies to producer properties only.
+ *
+ * @since 2.0.0
+ */
+final class KafkaProducerSpecificConfig implements KafkaSpecificConfig {
+
+    static final String SPECIFIC_CONFIG_BATCH_SIZE_KEY = "batchSize";
+    static final String SPECIFIC_CONFIG_LINGER_MS_KEY = "lingerMs";
+    static final String SPECIFIC_CONFIG_COMPRESSION_TYPE_KEY = "compressionType";
+
+    private static final Map<String, String> PRODUCER_CONFIG_BY_NUMERIC_KEY = Map.of(
+            SPECIFIC_CONFIG_BATCH_SIZE_KEY, ProducerConfig.BATCH_SIZE_CONFIG,
+            SPECIFIC_CONFIG_LINGER_MS_KEY, ProducerConfig.LINGER_MS_CONFIG);
+    private static final List<String> COMPRESSION_TYPES = List.of("none", "gzip", "snappy", "lz4", "zstd");
+
+    private static final String INVALID_NUMBER = "The provided value ''{0}'' of ''{1}'' is not a non-negative integer.";
+    private static final String INVALID_COMPRESSION_TYPE =
+            "The provided compression type ''{0}'' is not valid. Allowed compression types are: <{1}>";
+
+    @Nullable private static KafkaProducerSpecificConfig instance;
+
+    private KafkaProducerSpecificConfig() {
+        super();
+    }
+
+    public static KafkaProducerSpecificConfig getInstance() {
+        KafkaProducerSpecificConfig result = instance;
+        if (null == result) {
+            result = new KafkaProducerSpecificConfig();
+            instance = result;
+        }
+        return result;
+    }
+
+    @Override
+    public boolean isApplicable(final Connection connection) {
+        final Map<String, String> specificConfig = connection.getSpecificConfig();
+        return specificConfig.containsKey(SPECIFIC_CONFIG_BATCH_SIZE_KEY) ||
+                specificConfig.containsKey(SPECIFIC_CONFIG_LINGER_MS_KEY) ||
+                specificConfig.containsKey(SPECIFIC_CONFIG_COMPRESSION_TYPE_KEY);
+    }
+
+    @Override
+    public void validateOrThrow(final Connection connection, final DittoHeaders dittoHeaders) {
+        final Map<String, String> specificConfig = connection.getSpecificConfig();
+        for (final String key : PRODUCER_CONFIG_BY_NUMERIC_KEY.keySet()) {
+            final String value = specificConfig.get(key);
+            if (null != value && !isNonNegativeInteger(value)) {
+                throw invalid(MessageFormat.format(INVALID_NUMBER, value, key), dittoHeaders);
+            }
+        }
+        final String compressionType = specificConfig.get(SPECIFIC_CONFIG_COMPRESSION_TYPE_KEY);
+        if (null != compressionType && !isValidCompressionType(compressionType)) {
+            throw invalid(MessageFormat.format(INVALID_COMPRESSION_TYPE, compressionType, COMPRESSION_TYPES),
+                    dittoHeaders);
+        }
+    }
+
+    @Override
+    public boolean isValid(final Connection connection) {
+        final Map<String, String> specificConfig = connection.getSpecificConfig();
+        final boolean numbersValid = PRODUCER_CONFIG_BY_NUMERIC_KEY.keySet()
+                .stream()
+                .map(specificConfig::get)
+                .allMatch(value -> null == value || isNonNegativeInteger(value));
+        final String compressionType = specificConfig.get(SPECIFIC_CONFIG_COMPRESSION_TYPE_KEY);
+        return numbersValid && (null == compressionType || isValidCompressionType(compressionType));
+    }
+
+    @Override
+    public void apply(final HashMap<String, Object> producerProperties, final Connection connection) {
+        if (isValid(connection)) {
+            final Map<String, String> specificConfig = connection.getSpecificConfig();
+            PRODUCER_CONFIG_BY_NUMERIC_KEY.forEach((key, producerConfig) -> {
+                final String value = specificConfig.get(key);
+                if (null != value) {
+                    producerProperties.put(producerConfig, Integer.parseInt(value.trim()));
+                }
+            });
+            final String compressionType = specificConfig.get(SPECIFIC_CONFIG_COMPRESSION_TYPE_KEY);
+            if (null != compressionType) {
+                producerProperties.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType.trim().toLowerCase());
+            }
+        }
+    }
+
+    private static boolean isNonNegativeInteger(final String value) {
+        try {
+            return Integer.parseInt(value.trim()) >= 0;
+        } catch (final NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static boolean isValidCompressionType(final String compressionType) {
+        return COMPRESSION_TYPES.contains(compressionType.trim().toLowerCase());
+    }
+
+    private static ConnectionConfigurationInvalidException invalid(final String message,
+            final DittoHeaders dittoHeaders) {
+
+        return ConnectionConfigurationInvalidException.newBuilder(message)
+                .dittoHeaders(dittoHeaders)
+                .build();
+    }
+
+}
@@ -36,11 +36,27 @@ final class KafkaPublishTarget implements PublishTarget {
     private final String topic;
     private final String key;
     private final Integer partition;
+    private final String addressTemplate;
 
-    private KafkaPublishTarget(final String topic, @Nullable final String key, @Nullable final Integer partition) {
+    private KafkaPublishTarget(final String topic, @Nullable final String key, @Nullable final Integer partition,
+            final String addressTemplate) {
         this.topic = topic;
         this.key = key;
         this.partition = partition;
+        this.addressTemplate = addressTemplate;
+    }
+
+    /**
+     * Create a Kafka publish target from the resolved address of a target and the configured address it was resolved
+     * from.
+     *
+     * @param targetAddress the address with resolved placeholders.
+     * @param addressTemplate the configured address which may contain placeholders.
+     * @return the publish target.
+     */
+    static KafkaPublishTarget fromTargetAddress(final String targetAddress, final String addressTemplate) {
+        final KafkaPublishTarget target = fromTargetAddress(targetAddress);
+        return new KafkaPublishTarget(target.topic, target.key, target.partition, addressTemplate);
     }
 
     static KafkaPublishTarget fromTargetAddress(final String targetAddress) {
@@ -62,7 +78,7 @@ final class KafkaPublishTarget implements PublishTarget {
         final String[] split = targetAddress.split(KEY_SEPARATOR, 2);
         final String topic = validateTopic(split[0]);
         final String key = validateKey(split[1]);
-        return new KafkaPublishTarget(topic, key, null);
+        return new KafkaPublishTarget(topic, key, null, targetAddress);
     }
 
     @Nullable
@@ -79,7 +95,7 @@ final class KafkaPublishTarget implements PublishTarget {
         final String[] split = targetAddress.split(PARTITION_SEPARATOR, 2);
         final String topic = validateTopic(split[0]);
         final Integer partition = validatePartition(split[1]);
-        return new KafkaPublishTarget(topic, null, partition);
+        return new KafkaPublishTarget(topic, null, partition, targetAddress);
     }
 
     @Nullable
@@ -92,7 +108,7 @@ final class KafkaPublishTarget implements PublishTarget {
 
     private static KafkaPublishTarget fromTargetAddressWithOnlyTopic(final String targetAddress) {
         validateTopic(targetAddress);
-        return new KafkaPublishTarget(targetAddress, null, null);
+        return new KafkaPublishTarget(targetAddress, null, null, targetAddress);
     }
 
     private static String validateTopic(final String topic) {
@@ -129,6 +145,14 @@ final class KafkaPublishTarget implements PublishTarget {
         return Optional.ofNullable(partition);
     }
 
+    /**
+     * @return the configured address of the target this publish target was resolved from; it does not depend on the
+     * published message.
+     */
+    String getAddressTemplate() {
+        return addressTemplate;
+    }
+
     @Override
     public boolean equals(@Nullable final Object o) {
         if (this == o) return true;
@@ -136,12 +160,13 @@ final class KafkaPublishTarget implements PublishTarget {
         final KafkaPublishTarget that = (KafkaPublishTarget) o;
         return Objects.equals(topic, that.topic) &&
                 Objects.equals(key, that.key) &&
-                Objects.equals(partition, that.partition);
+                Objects.equals(partition, that.partition) &&
+                Objects.equals(addressTemplate, that.addressTemplate);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(topic, key, partition);
+        return Objects.hash(topic, key, partition, addressTemplate);
     }
 
     @Override
@@ -150,6 +175,7 @@ final class KafkaPublishTarget implements PublishTarget {
                 ", topic=" + topic +
                 ", key=" + key +
                 ", partition=" + partition +
+                ", addressTemplate=" + addressTemplate +
                 "]";
     }
 
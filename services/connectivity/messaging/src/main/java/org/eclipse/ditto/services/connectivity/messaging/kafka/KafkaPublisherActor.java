@@ -12,7 +12,9 @@
  */
 package org.eclipse.ditto.services.connectivity.messaging.kafka;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
@@ -33,6 +35,7 @@ import org.eclipse.ditto.json.JsonField;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonObjectBuilder;
 import org.eclipse.ditto.model.base.acks.AcknowledgementLabel;
+import org.eclipse.ditto.model.base.common.ByteBufferUtils;
 import org.eclipse.ditto.model.base.common.HttpStatusCode;
 import org.eclipse.ditto.model.connectivity.Connection;
 import org.eclipse.ditto.model.connectivity.MessageSendingFailedException;
@@ -42,6 +45,9 @@ import org.eclipse.ditto.services.connectivity.messaging.BasePublisherActor;
 import org.eclipse.ditto.services.connectivity.messaging.ExceptionToAcknowledgementConverter;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
 import org.eclipse.ditto.services.models.connectivity.OutboundSignal;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.services.utils.tracing.TracingTags;
 import org.eclipse.ditto.signals.acks.base.Acknowledgement;
 import org.eclipse.ditto.signals.base.Signal;
 import org.eclipse.ditto.signals.commands.base.CommandResponse;
@@ -50,7 +56,6 @@ import akka.Done;
 import akka.actor.Props;
 import akka.actor.Status;
 import akka.japi.pf.ReceiveBuilder;
-import akka.util.ByteString;
 
 /**
  * Responsible for publishing {@link org.eclipse.ditto.services.models.connectivity.ExternalMessage}s into an Kafka
@@ -62,10 +67,15 @@ final class KafkaPublisherActor extends BasePublisherActor<KafkaPublishTarget> {
 
     static final String ACTOR_NAME = "kafkaPublisher";
 
+    private static final String ADDRESS_TAG = "address";
+
     private final KafkaConnectionFactory connectionFactory;
     private final boolean dryRun;
 
-    private Producer<String, String> producer;
+    private final Map<String, Counter> publishedMessageCounters;
+    private final Map<String, Counter> publishedByteCounters;
+
+    private Producer<String, ByteBuffer> producer;
 
     @SuppressWarnings("unused")
     private KafkaPublisherActor(final Connection connection, final KafkaConnectionFactory factory,
@@ -74,6 +84,8 @@ final class KafkaPublisherActor extends BasePublisherActor<KafkaPublishTarget> {
         super(connection);
         this.dryRun = dryRun;
         connectionFactory = factory;
+        publishedMessageCounters = new HashMap<>();
+        publishedByteCounters = new HashMap<>();
 
         startInternalKafkaProducer();
         reportInitialConnectionState();
@@ -126,6 +138,11 @@ final class KafkaPublisherActor extends BasePublisherActor<KafkaPublishTarget> {
         return KafkaPublishTarget.fromTargetAddress(address);
     }
 
+    @Override
+    protected KafkaPublishTarget toPublishTarget(final String addressTemplate, final String address) {
+        return KafkaPublishTarget.fromTargetAddress(address, addressTemplate);
+    }
+
     @Override
     protected CompletionStage<CommandResponse<?>> publishMessage(final Signal<?> signal,
             @Nullable final Target autoAckTarget,
@@ -142,10 +159,16 @@ final class KafkaPublisherActor extends BasePublisherActor<KafkaPublishTarget> {
             escalate(error, "Requested to send Kafka message without producer; this is a bug.");
             return CompletableFuture.failedFuture(error);
         } else {
-            final ProducerRecord<String, String> record = producerRecord(publishTarget, message);
+            final ProducerRecord<String, ByteBuffer> record = producerRecord(publishTarget, message);
             final CompletableFuture<CommandResponse<?>> resultFuture = new CompletableFuture<>();
             final Callback callBack = new ProducerCallBack(signal, autoAckTarget, ackSizeQuota, resultFuture,
-                    this::escalateIfNotRetryable, connection);
+                    this::escalateIfNotRetryable, connection,
+                    // key by the configured address: resolved topics may be unbounded due to placeholders
+                    publishedMessageCounters.computeIfAbsent(publishTarget.getAddressTemplate(),
+                            this::publishedMessageCounter),
+                    publishedByteCounters.computeIfAbsent(publishTarget.getAddressTemplate(),
+                            this::publishedByteCounter),
+                    record.value().remaining());
             producer.send(record, callBack);
             return resultFuture;
         }
@@ -168,10 +191,22 @@ final class KafkaPublisherActor extends BasePublisherActor<KafkaPublishTarget> {
         return dryRun;
     }
 
-    private static ProducerRecord<String, String> producerRecord(final KafkaPublishTarget publishTarget,
+    private Counter publishedMessageCounter(final String addressTemplate) {
+        return DittoMetrics.counter("connectivity_kafka_published_messages")
+                .tag(TracingTags.CONNECTION_ID, connection.getId().toString())
+                .tag(ADDRESS_TAG, addressTemplate);
+    }
+
+    private Counter publishedByteCounter(final String addressTemplate) {
+        return DittoMetrics.counter("connectivity_kafka_published_bytes")
+                .tag(TracingTags.CONNECTION_ID, connection.getId().toString())
+                .tag(ADDRESS_TAG, addressTemplate);
+    }
+
+    private static ProducerRecord<String, ByteBuffer> producerRecord(final KafkaPublishTarget publishTarget,
             final ExternalMessage externalMessage) {
 
-        final String payload = mapExternalMessagePayload(externalMessage);
+        final ByteBuffer payload = mapExternalMessagePayload(externalMessage);
         final Iterable<Header> headers = mapExternalMessageHeaders(externalMessage);
 
         return new ProducerRecord<>(publishTarget.getTopic(),
@@ -188,16 +223,19 @@ final class KafkaPublisherActor extends BasePublisherActor<KafkaPublishTarget> {
                 .collect(Collectors.toList());
     }
 
-    private static String mapExternalMessagePayload(final ExternalMessage externalMessage) {
+    private static ByteBuffer mapExternalMessagePayload(final ExternalMessage externalMessage) {
         if (externalMessage.isTextMessage()) {
-            return externalMessage.getTextPayload().orElse("");
+            return externalMessage.getTextPayload()
+                    .map(text -> ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8)))
+                    .orElseGet(ByteBufferUtils::empty);
         } else if (externalMessage.isBytesMessage()) {
+            // the slice starts at the current position of the payload and leaves the payload itself untouched;
+            // the serializer passes the backing array through without copying if the slice spans all of it
             return externalMessage.getBytePayload()
-                    .map(ByteString::fromByteBuffer)
-                    .map(ByteString::utf8String)
-                    .orElse("");
+                    .map(ByteBuffer::slice)
+                    .orElseGet(ByteBufferUtils::empty);
         } else {
-            return "";
+            return ByteBufferUtils.empty();
         }
     }
 
@@ -252,13 +290,19 @@ final class KafkaPublisherActor extends BasePublisherActor<KafkaPublishTarget> {
         private final Consumer<Exception> checkException;
         private int currentQuota;
         private final Connection connection;
+        private final Counter publishedMessages;
+        private final Counter publishedBytes;
+        private final int payloadSize;
 
         private ProducerCallBack(final Signal<?> signal,
                 @Nullable final Target autoAckTarget,
                 final int ackSizeQuota,
                 final CompletableFuture<CommandResponse<?>> resultFuture,
                 final Consumer<Exception> checkException,
-                final Connection connection) {
+                final Connection connection,
+                final Counter publishedMessages,
+                final Counter publishedBytes,
+                final int payloadSize) {
 
             this.signal = signal;
             this.autoAckTarget = autoAckTarget;
@@ -266,6 +310,9 @@ final class KafkaPublisherActor extends BasePublisherActor<KafkaPublishTarget> {
             this.resultFuture = resultFuture;
             this.checkException = checkException;
             this.connection = connection;
+            this.publishedMessages = publishedMessages;
+            this.publishedBytes = publishedBytes;
+            this.payloadSize = payloadSize;
         }
 
         @Override
@@ -274,6 +321,8 @@ final class KafkaPublisherActor extends BasePublisherActor<KafkaPublishTarget> {
                 resultFuture.completeExceptionally(exception);
                 checkException.accept(exception);
             } else {
+                publishedMessages.increment();
+                publishedBytes.increment(payloadSize);
                 resultFuture.complete(ackFromMetadata(metadata));
             }
         }
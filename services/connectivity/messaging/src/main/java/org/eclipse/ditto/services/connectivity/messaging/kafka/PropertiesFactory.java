@@ -21,6 +21,7 @@ import java.util.List;
 import java.util.Map;
 
 import org.apache.kafka.clients.CommonClientConfigs;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.eclipse.ditto.model.connectivity.Connection;
 import org.eclipse.ditto.services.connectivity.messaging.config.KafkaConfig;
 import org.eclipse.ditto.services.utils.config.InstanceIdentifierSupplier;
@@ -28,38 +29,41 @@ import org.eclipse.ditto.services.utils.config.InstanceIdentifierSupplier;
 import com.typesafe.config.Config;
 
 /**
- * Creates Kafka producer properties from a given {@link org.eclipse.ditto.model.connectivity.Connection}
- * configuration.
+ * Creates Kafka producer and consumer properties from a given
+ * {@link org.eclipse.ditto.model.connectivity.Connection} configuration.
  */
-final class ProducerPropertiesFactory {
+final class PropertiesFactory {
 
     /**
-     * Key of properties defined by org.apache.kafka.clients.producer.ProducerConfig inside producer internal config.
+     * Key of properties defined by org.apache.kafka.clients.producer.ProducerConfig and
+     * org.apache.kafka.clients.consumer.ConsumerConfig inside producer and consumer internal config.
      * Defined by a previously used Alpakka kafka client.
      */
     private static final String KAFKA_CLIENTS_KEY = "kafka-clients";
 
     private static final Collection<KafkaSpecificConfig> SPECIFIC_CONFIGS =
             List.of(KafkaAuthenticationSpecificConfig.getInstance(), KafkaBootstrapServerSpecificConfig.getInstance());
+    private static final Collection<KafkaSpecificConfig> PRODUCER_SPECIFIC_CONFIGS =
+            List.of(KafkaProducerSpecificConfig.getInstance());
 
     private final Connection connection;
     private final KafkaConfig kafkaConfig;
 
-    private ProducerPropertiesFactory(final Connection connection, final KafkaConfig kafkaConfig) {
+    private PropertiesFactory(final Connection connection, final KafkaConfig kafkaConfig) {
         this.connection = checkNotNull(connection, "connection");
         this.kafkaConfig = checkNotNull(kafkaConfig, "Kafka config");
     }
 
     /**
-     * Returns an instance of the ProducerSettings factory.
+     * Returns an instance of the properties factory.
      *
      * @param connection the Kafka connection.
      * @param kafkaConfig the Kafka configuration settings.
      * @return the instance.
      * @throws NullPointerException if any argument is {@code null}.
      */
-    static ProducerPropertiesFactory getInstance(final Connection connection, final KafkaConfig kafkaConfig) {
-        return new ProducerPropertiesFactory(connection, kafkaConfig);
+    static PropertiesFactory getInstance(final Connection connection, final KafkaConfig kafkaConfig) {
+        return new PropertiesFactory(connection, kafkaConfig);
     }
 
     Map<String, Object> getProducerProperties() {
@@ -68,9 +72,25 @@ final class ProducerPropertiesFactory {
         addMetadata(producerProperties);
         addSecurityProtocol(producerProperties);
         addSpecificConfig(producerProperties);
+        for (final KafkaSpecificConfig specificConfig : PRODUCER_SPECIFIC_CONFIGS) {
+            specificConfig.apply(producerProperties, connection);
+        }
         return Collections.unmodifiableMap(producerProperties);
     }
 
+    Map<String, Object> getConsumerProperties() {
+        final HashMap<String, Object> consumerProperties =
+                configToProperties(kafkaConfig.getInternalConsumerConfig().getConfig(KAFKA_CLIENTS_KEY));
+        addMetadata(consumerProperties);
+        addSecurityProtocol(consumerProperties);
+        addSpecificConfig(consumerProperties);
+        // all consumers of a connection share the records of its sources;
+        // offsets are committed after the consumed records were acknowledged:
+        consumerProperties.put(ConsumerConfig.GROUP_ID_CONFIG, connection.getId().toString());
+        consumerProperties.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        return Collections.unmodifiableMap(consumerProperties);
+    }
+
     private void addMetadata(final HashMap<String, Object> properties) {
         // identify the connected Kafka client by the connectionId followed by the instance index
         // (in order to be able to differentiate if a clientCount >1 was configured):
@@ -134,7 +154,7 @@ final class ProducerPropertiesFactory {
     }
 
     /**
-     * Convert an unwrapped config into a flat properties map for the Kafka producer.
+     * Convert an unwrapped config into a flat properties map for the Kafka producer or consumer.
      *
      * @param unwrapped Result of {@code ConfigObject#unwrapped} containing structural maps.
      * @param prefix prefix of the config path.
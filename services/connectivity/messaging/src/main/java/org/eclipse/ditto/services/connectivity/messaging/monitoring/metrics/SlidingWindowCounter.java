@@ -17,26 +17,46 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.stream.Stream;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 /**
- * Simple implementation of a sliding window using a map. Depending on the given parameters
- * {@code window} and {@code duration} this implementation holds counter for time slots of size {@code duration} to
+ * Lock-free implementation of a sliding window using fixed-size rings of counters. Depending on the given parameters
+ * {@code window} and {@code duration} this implementation holds counters for time slots of size {@code duration} to
  * fill the {@code window}.
+ * <p>
+ * Each window has a ring of twice as many slots as it needs, so that measurements slightly ahead of the clock do not
+ * overwrite slots within the window. A ring cell holds the count of one slot together with the lap of the ring the
+ * slot belongs to; cells of past laps are reset by the first increment of the new lap. Each ring is striped by thread
+ * to keep concurrent increments from contending for the same cell. Incrementing allocates nothing.
+ * </p>
  */
 public final class SlidingWindowCounter {
 
+    private static final int MAX_STRIPES = 4;
+    private static final int STRIPES = Integer.highestOneBit(
+            Math.max(1, Math.min(MAX_STRIPES, Runtime.getRuntime().availableProcessors())));
+
+    // a cell holds the lap of its slot in the upper bits and the count in the lower bits
+    private static final int COUNT_BITS = 38;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1L;
+    private static final long LAP_MASK = (1L << (Long.SIZE - COUNT_BITS)) - 1L;
+    private static final long HALF_LAP_RANGE = (LAP_MASK + 1L) >>> 1;
+
+    private static final int SUCCESS = 0;
+    private static final int FAILURE = 1;
+
     private final Clock clock;
     private final MeasurementWindow[] windows;
-    private final ConcurrentMap<Long, Long> successMeasurements = new ConcurrentHashMap<>();
-    private final ConcurrentMap<Long, Long> failureMeasurements = new ConcurrentHashMap<>();
+    private final long[] resolutions;
+    private final int[] slotsPerWindow;
+    private final int[] ringSizes;
+    private final int[] ringOffsets;
+    private final int cellsPerStripe;
+    private final AtomicLongArray cells;
 
     private final AtomicLong lastSuccessTimestamp = new AtomicLong(Instant.EPOCH.toEpochMilli());
     private final AtomicLong lastFailureTimestamp = new AtomicLong(Instant.EPOCH.toEpochMilli());
-    private final Duration minResolution;
 
     /**
      * Instantiates a new {@link SlidingWindowCounter} that records the measurements for the given time windows.
@@ -47,10 +67,20 @@ public final class SlidingWindowCounter {
         this.clock = clock;
         this.windows = windows;
 
-        minResolution = Stream.of(windows)
-                .map(MeasurementWindow::getResolution)
-                .min(Duration::compareTo)
-                .orElse(Duration.ofMinutes(5));
+        resolutions = new long[windows.length];
+        slotsPerWindow = new int[windows.length];
+        ringSizes = new int[windows.length];
+        ringOffsets = new int[windows.length];
+        int offset = 0;
+        for (int i = 0; i < windows.length; i++) {
+            resolutions[i] = windows[i].getResolution().toMillis();
+            slotsPerWindow[i] = (int) (windows[i].getWindow().toMillis() / resolutions[i]);
+            ringSizes[i] = 2 * slotsPerWindow[i];
+            ringOffsets[i] = offset;
+            offset += ringSizes[i];
+        }
+        cellsPerStripe = offset;
+        cells = new AtomicLongArray(2 * STRIPES * cellsPerStripe);
     }
 
     /**
@@ -82,7 +112,7 @@ public final class SlidingWindowCounter {
      * @param success whether to increment success or failure count
      */
     void increment(final boolean success) {
-        increment(success, clock.instant().toEpochMilli());
+        increment(success, clock.millis());
     }
 
     /**
@@ -92,55 +122,50 @@ public final class SlidingWindowCounter {
      * @param ts the timestamp when the operation happened (mostly useful for testing)
      */
     void increment(final boolean success, final long ts) {
-        final long previousTimestamp;
+        final int stripeOffset;
         if (success) {
-            previousTimestamp = updateTimestampAndReturnPrevious(lastSuccessTimestamp, ts);
-            incrementMeasurements(ts, successMeasurements);
+            updateTimestamp(lastSuccessTimestamp, ts);
+            stripeOffset = getStripeOffset(SUCCESS, stripe());
         } else {
-            previousTimestamp = updateTimestampAndReturnPrevious(lastFailureTimestamp, ts);
-            incrementMeasurements(ts, failureMeasurements);
+            updateTimestamp(lastFailureTimestamp, ts);
+            stripeOffset = getStripeOffset(FAILURE, stripe());
         }
-
-        // if diff between current and last timestamp is too large, cleanup old measurements
-        if (previousTimestamp > ts - minResolution.toMillis()) {
-            cleanUpOldMeasurements();
+        for (int i = 0; i < windows.length; i++) {
+            final long slot = ts / resolutions[i];
+            incrementCell(stripeOffset + ringOffsets[i] + (int) (slot % ringSizes[i]), getLap(slot, i));
         }
     }
 
-    private long updateTimestampAndReturnPrevious(final AtomicLong toUpdate, final long ts) {
-        return toUpdate.getAndUpdate(previous -> Math.max(previous, ts));
-    }
-
-    private void incrementMeasurements(final long ts, final Map<Long, Long> measurements) {
-        for (final MeasurementWindow window : windows) {
-            final long slot = getSlot(ts, window.getResolution().toMillis());
-            measurements.compute(slot, (key, value) -> (value == null) ? 1 : value + 1);
+    private static void updateTimestamp(final AtomicLong toUpdate, final long ts) {
+        long previous = toUpdate.get();
+        while (previous < ts && !toUpdate.compareAndSet(previous, ts)) {
+            previous = toUpdate.get();
         }
     }
 
-    private void cleanUpOldMeasurements() {
-        cleanUpOldMeasurements(successMeasurements);
-        cleanUpOldMeasurements(failureMeasurements);
-    }
-
-    private void cleanUpOldMeasurements(final Map<Long, Long> measurements) {
-        measurements.entrySet().removeIf(e -> isOld(e.getKey()));
-    }
-
-    private boolean isOld(long slot) {
-        final long now = clock.instant().toEpochMilli();
-        for (final MeasurementWindow window : windows) {
-            final long resolutionInMs = window.getResolution().toMillis();
-            final long windowInMs = window.getWindow().toMillis();
-            // max slot is the current slot for this window
-            final long max = getSlot(now, resolutionInMs);
-            // min slot is current slot minus window size
-            final long min = getSlot(now - windowInMs, resolutionInMs);
-            if (slot <= max && slot >= min) {
-                return false;
+    private void incrementCell(final int index, final long lap) {
+        while (true) {
+            final long cell = cells.get(index);
+            final long cellLap = cell >>> COUNT_BITS;
+            final long next;
+            if (cellLap == lap) {
+                next = cell + 1L;
+            } else if (isAhead(lap, cellLap)) {
+                // the cell still holds a slot of a past lap; start counting the new slot
+                next = (lap << COUNT_BITS) | 1L;
+            } else {
+                // the slot was already overwritten by a later lap and lies outside of all windows
+                return;
+            }
+            if (cells.compareAndSet(index, cell, next)) {
+                return;
             }
         }
-        return true;
+    }
+
+    private static boolean isAhead(final long lap, final long otherLap) {
+        final long distance = (lap - otherLap) & LAP_MASK;
+        return distance != 0L && distance < HALF_LAP_RANGE;
     }
 
     /**
@@ -150,61 +175,69 @@ public final class SlidingWindowCounter {
      * @return the counts for all windows
      */
     Map<Duration, Long> getCounts(final boolean success) {
-        if (success) {
-            return getCounts(successMeasurements);
-        }
-        return getCounts(failureMeasurements);
+        return getCounts(success ? SUCCESS : FAILURE);
     }
 
     /**
      * Gets counts for all measurement windows given.
      *
-     * @param measurements the measurements map to use
+     * @param outcome the outcome whose counts to sum up
      * @return the counts for all windows
      */
-    private Map<Duration, Long> getCounts(final Map<Long, Long> measurements) {
+    private Map<Duration, Long> getCounts(final int outcome) {
         final Map<Duration, Long> result = new HashMap<>();
-        final long now = clock.instant().toEpochMilli();
-        for (final MeasurementWindow window : windows) {
-            // min is where we start to sum up the slots
-            final long windowInMs = window.getWindow().toMillis();
-            final long resolutionInMs = window.getResolution().toMillis();
-            final long min = getSlot(now - windowInMs, resolutionInMs);
-            // max is the current active time slot
-            final long max = getSlot(now, resolutionInMs);
+        final long now = clock.millis();
+        for (int i = 0; i < windows.length; i++) {
+            // max is the current active time slot; sum up the slots of the window ending with it
+            final long max = now / resolutions[i];
             long sum = 0;
-            for (final Map.Entry<Long, Long> e : measurements.entrySet()) {
-                long slot = e.getKey();
-                if (slot > min && slot <= max) {
-                    sum += e.getValue();
-                }
+            for (long slot = max - slotsPerWindow[i] + 1; slot <= max; slot++) {
+                sum += getSlotCount(outcome, i, slot);
             }
-            result.put(window.getWindow(), sum);
+            result.put(windows[i].getWindow(), sum);
         }
         return result;
     }
 
+    private long getSlotCount(final int outcome, final int window, final long slot) {
+        final long lap = getLap(slot, window);
+        final int ringIndex = ringOffsets[window] + (int) (slot % ringSizes[window]);
+        long count = 0;
+        for (int stripe = 0; stripe < STRIPES; stripe++) {
+            final long cell = cells.get(getStripeOffset(outcome, stripe) + ringIndex);
+            if (cell >>> COUNT_BITS == lap) {
+                count += cell & COUNT_MASK;
+            }
+        }
+        return count;
+    }
+
     /**
      * Reset all counts.
      */
     void reset() {
-        reset(successMeasurements);
-        reset(failureMeasurements);
+        for (int i = 0; i < cells.length(); i++) {
+            cells.set(i, 0L);
+        }
+    }
+
+    private long getLap(final long slot, final int window) {
+        return (slot / ringSizes[window]) & LAP_MASK;
     }
 
-    private void reset(final Map<Long, Long> measurements) {
-        measurements.clear();
+    private int getStripeOffset(final int outcome, final int stripe) {
+        return (outcome * STRIPES + stripe) * cellsPerStripe;
     }
 
-    private long getSlot(long ts, final long resolutionInMs) {
-        return ts / resolutionInMs;
+    private static int stripe() {
+        return (int) Thread.currentThread().getId() & (STRIPES - 1);
     }
 
     @Override
     public String toString() {
         return getClass().getSimpleName() + " [" +
-                ", successMeasurements=" + successMeasurements +
-                ", failureMeasurements=" + failureMeasurements +
+                "successCounts=" + getCounts(SUCCESS) +
+                ", failureCounts=" + getCounts(FAILURE) +
                 ", lastSuccessTimestamp=" + lastSuccessTimestamp +
                 ", lastFailureTimestamp=" + lastFailureTimestamp +
                 "]";
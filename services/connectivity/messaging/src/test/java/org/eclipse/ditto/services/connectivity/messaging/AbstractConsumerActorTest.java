@@ -347,7 +347,7 @@ public abstract class AbstractConsumerActorTest<M> {
         }};
     }
 
-    private ActorRef setupMessageMappingProcessorActor(final ActorRef clientActor,
+    protected ActorRef setupMessageMappingProcessorActor(final ActorRef clientActor,
             final ActorRef proxyActor) {
 
         final Map<String, MappingContext> mappings = new HashMap<>();
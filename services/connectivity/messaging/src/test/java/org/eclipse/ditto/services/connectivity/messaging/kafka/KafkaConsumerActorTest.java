@@ -0,0 +1,297 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.kafka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static org.eclipse.ditto.services.connectivity.messaging.TestConstants.header;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetCommitCallback;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.awaitility.Awaitility;
+import org.eclipse.ditto.model.base.acks.AcknowledgementRequest;
+import org.eclipse.ditto.model.base.acks.FilteredAcknowledgementRequest;
+import org.eclipse.ditto.model.base.common.ResponseType;
+import org.eclipse.ditto.model.connectivity.ConnectionId;
+import org.eclipse.ditto.model.connectivity.ConnectivityModelFactory;
+import org.eclipse.ditto.model.connectivity.PayloadMapping;
+import org.eclipse.ditto.model.connectivity.ReplyTarget;
+import org.eclipse.ditto.model.connectivity.Source;
+import org.eclipse.ditto.model.connectivity.SourceBuilder;
+import org.eclipse.ditto.services.connectivity.messaging.AbstractConsumerActorTest;
+import org.eclipse.ditto.services.connectivity.messaging.TestConstants;
+import org.eclipse.ditto.services.connectivity.messaging.config.KafkaConfig;
+import org.eclipse.ditto.signals.commands.things.exceptions.ThingUnavailableException;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyThing;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyThingResponse;
+import org.junit.Test;
+
+import akka.actor.ActorRef;
+import akka.actor.PoisonPill;
+import akka.actor.Props;
+import akka.testkit.TestProbe;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Unit test for {@link KafkaConsumerActor}.
+ * Records are either sent to the consumer actor directly or consumed from a {@link MockConsumer}.
+ */
+public final class KafkaConsumerActorTest extends AbstractConsumerActorTest<KafkaConsumerActor.ConsumedRecord> {
+
+    private static final ConnectionId CONNECTION_ID = TestConstants.createRandomConnectionId();
+    private static final KafkaConfig KAFKA_CONFIG = TestConstants.CONNECTION_CONFIG.getKafkaConfig();
+    private static final String TOPIC = "ditto";
+    private static final TopicPartition TOPIC_PARTITION = new TopicPartition(TOPIC, 0);
+
+    private KafkaConsumerActor.ConsumedRecord consumedRecord;
+
+    @Override
+    protected Props getConsumerActorProps(final ActorRef mappingActor, final PayloadMapping payloadMapping) {
+        return getConsumerActorProps(mappingActor, newSourceBuilder().payloadMapping(payloadMapping).build(),
+                mock(KafkaConnectionFactory.class), true);
+    }
+
+    @Override
+    protected Props getConsumerActorProps(final ActorRef mappingActor,
+            final Set<AcknowledgementRequest> acknowledgementRequests) {
+
+        return getConsumerActorProps(mappingActor, newSourceBuilder()
+                        .acknowledgementRequests(FilteredAcknowledgementRequest.of(acknowledgementRequests, null))
+                        .build(),
+                mock(KafkaConnectionFactory.class), true);
+    }
+
+    @Override
+    protected KafkaConsumerActor.ConsumedRecord getInboundMessage(final String payload,
+            final Map.Entry<String, Object> header) {
+
+        consumedRecord = new KafkaConsumerActor.ConsumedRecord(consumerRecord(0L, payload, header));
+        return consumedRecord;
+    }
+
+    @Override
+    protected void verifyMessageSettlement(final TestKit testKit, final boolean isSuccessExpected,
+            final boolean shouldRedeliver) throws Exception {
+
+        final CompletableFuture<ConsumerRecord<String, ByteBuffer>> settled =
+                consumedRecord.getSettled().toCompletableFuture();
+        if (isSuccessExpected || !shouldRedeliver) {
+            assertThat(settled.get(3L, TimeUnit.SECONDS))
+                    .describedAs("Expect settlement")
+                    .isNotNull();
+        } else {
+            Awaitility.await().atMost(3L, TimeUnit.SECONDS).until(settled::isDone);
+            assertThat(settled)
+                    .describedAs("Expect redelivery request")
+                    .isCompletedExceptionally();
+        }
+    }
+
+    @Override
+    protected void testHeaderMapping() {
+        testInboundMessage(header("device_id", TestConstants.Things.THING_ID), true, msg -> {
+            assertThat(msg.getDittoHeaders()).containsEntry("eclipse", "ditto");
+            assertThat(msg.getDittoHeaders()).containsEntry("thing_id", TestConstants.Things.THING_ID.toString());
+            assertThat(msg.getDittoHeaders()).containsEntry("device_id", TestConstants.Things.THING_ID.toString());
+            assertThat(msg.getDittoHeaders()).containsEntry("prefixed_thing_id",
+                    "some.prefix." + TestConstants.Things.THING_ID);
+            assertThat(msg.getDittoHeaders()).containsEntry("suffixed_thing_id",
+                    TestConstants.Things.THING_ID + ".some.suffix");
+        }, response -> fail("not expected"));
+    }
+
+    @Test
+    public void offsetsOfSettledRecordsAreCommitted() {
+        new TestKit(actorSystem) {{
+            final TestProbe proxyActor = TestProbe.apply(actorSystem);
+            final TestProbe clientActor = TestProbe.apply(actorSystem);
+            final ActorRef mappingActor = setupMessageMappingProcessorActor(clientActor.ref(), proxyActor.ref());
+            final IdleMockConsumer mockConsumer =
+                    newMockConsumerWithRecords(consumerRecord(0L), consumerRecord(1L), consumerRecord(2L));
+            final KafkaConnectionFactory connectionFactory = mock(KafkaConnectionFactory.class);
+            when(connectionFactory.newConsumer()).thenReturn(mockConsumer);
+
+            final ActorRef underTest = childActorOf(
+                    getConsumerActorProps(mappingActor, newSourceBuilder().build(), connectionFactory, false));
+
+            for (int i = 0; i < 3; i++) {
+                replyModified(proxyActor, proxyActor.expectMsgClass(ModifyThing.class));
+            }
+            Awaitility.await()
+                    .atMost(5L, TimeUnit.SECONDS)
+                    .until(() -> mockConsumer.committedOffset() == 3L);
+
+            watch(underTest);
+            underTest.tell(PoisonPill.getInstance(), getRef());
+            expectTerminated(underTest);
+            Awaitility.await().atMost(5L, TimeUnit.SECONDS).until(mockConsumer::closed);
+        }};
+    }
+
+    @Test
+    public void requestedRedeliveryRestartsConsumerFromCommittedOffset() {
+        new TestKit(actorSystem) {{
+            final TestProbe proxyActor = TestProbe.apply(actorSystem);
+            final TestProbe clientActor = TestProbe.apply(actorSystem);
+            final ActorRef mappingActor = setupMessageMappingProcessorActor(clientActor.ref(), proxyActor.ref());
+            final IdleMockConsumer firstConsumer = newMockConsumerWithRecords(
+                    consumerRecord(0L),
+                    consumerRecord(1L, TestConstants.MODIFY_THING_WITH_ACK,
+                            header("device_id", TestConstants.Things.THING_ID)));
+            final IdleMockConsumer secondConsumer = newMockConsumerWithRecords();
+            final KafkaConnectionFactory connectionFactory = mock(KafkaConnectionFactory.class);
+            when(connectionFactory.newConsumer()).thenReturn(firstConsumer, secondConsumer);
+
+            final ActorRef underTest = childActorOf(
+                    getConsumerActorProps(mappingActor, newSourceBuilder().build(), connectionFactory, false));
+
+            replyModified(proxyActor, proxyActor.expectMsgClass(ModifyThing.class));
+            final ModifyThing modifyThingWithAck = proxyActor.expectMsgClass(ModifyThing.class);
+            Awaitility.await().atMost(5L, TimeUnit.SECONDS).until(() -> firstConsumer.committedOffset() == 1L);
+            proxyActor.reply(ThingUnavailableException.newBuilder(modifyThingWithAck.getThingEntityId())
+                    .dittoHeaders(modifyThingWithAck.getDittoHeaders())
+                    .build());
+
+            // the consumer is closed without committing the rejected record and a new consumer is started
+            Awaitility.await().atMost(5L, TimeUnit.SECONDS).until(firstConsumer::closed);
+            assertThat(firstConsumer.committedOffset()).isEqualTo(1L);
+            verify(connectionFactory, timeout(5000L).times(2)).newConsumer();
+
+            watch(underTest);
+            underTest.tell(PoisonPill.getInstance(), getRef());
+            expectTerminated(underTest);
+        }};
+    }
+
+    private static Props getConsumerActorProps(final ActorRef mappingActor, final Source source,
+            final KafkaConnectionFactory connectionFactory, final boolean dryRun) {
+
+        return KafkaConsumerActor.props(CONNECTION_ID, mappingActor, source, connectionFactory, KAFKA_CONFIG,
+                dryRun);
+    }
+
+    private static SourceBuilder<?> newSourceBuilder() {
+        return ConnectivityModelFactory.newSourceBuilder()
+                .address(TOPIC)
+                .authorizationContext(TestConstants.Authorization.AUTHORIZATION_CONTEXT)
+                .enforcement(ENFORCEMENT)
+                .headerMapping(TestConstants.HEADER_MAPPING)
+                .replyTarget(ReplyTarget.newBuilder()
+                        .address("foo")
+                        .expectedResponseTypes(ResponseType.ERROR, ResponseType.RESPONSE, ResponseType.NACK)
+                        .build());
+    }
+
+    private static void replyModified(final TestProbe proxyActor, final ModifyThing modifyThing) {
+        proxyActor.reply(ModifyThingResponse.modified(modifyThing.getThingEntityId(), modifyThing.getDittoHeaders()));
+    }
+
+    private static ConsumerRecord<String, ByteBuffer> consumerRecord(final long offset) {
+        return consumerRecord(offset, TestConstants.modifyThing(), header("device_id", TestConstants.Things.THING_ID));
+    }
+
+    private static ConsumerRecord<String, ByteBuffer> consumerRecord(final long offset, final String payload,
+            final Map.Entry<String, Object> header) {
+
+        final RecordHeaders headers = new RecordHeaders();
+        headers.add(header.getKey(), header.getValue().toString().getBytes(StandardCharsets.UTF_8));
+        headers.add(REPLY_TO_HEADER.getKey(), REPLY_TO_HEADER.getValue().getBytes(StandardCharsets.UTF_8));
+        final byte[] value = payload.getBytes(StandardCharsets.UTF_8);
+        return new ConsumerRecord<>(TOPIC, TOPIC_PARTITION.partition(), offset, 0L, TimestampType.CREATE_TIME, null,
+                ConsumerRecord.NULL_SIZE, value.length, null, ByteBuffer.wrap(value), headers);
+    }
+
+    @SafeVarargs
+    private static IdleMockConsumer newMockConsumerWithRecords(
+            final ConsumerRecord<String, ByteBuffer>... records) {
+
+        final IdleMockConsumer mockConsumer = new IdleMockConsumer();
+        mockConsumer.schedulePollTask(() -> {
+            mockConsumer.rebalance(List.of(TOPIC_PARTITION));
+            mockConsumer.updateBeginningOffsets(Map.of(TOPIC_PARTITION, 0L));
+            for (final ConsumerRecord<String, ByteBuffer> record : records) {
+                mockConsumer.addRecord(record);
+            }
+        });
+        return mockConsumer;
+    }
+
+    /**
+     * MockConsumer which blocks for the poll timeout if there are no records like a real consumer does and which
+     * remembers committed offsets after it was closed.
+     */
+    private static final class IdleMockConsumer extends MockConsumer<String, ByteBuffer> {
+
+        private final Map<TopicPartition, Long> committedOffsets;
+
+        private IdleMockConsumer() {
+            super(OffsetResetStrategy.EARLIEST);
+            committedOffsets = new ConcurrentHashMap<>();
+        }
+
+        private long committedOffset() {
+            return committedOffsets.getOrDefault(TOPIC_PARTITION, -1L);
+        }
+
+        @Override
+        public synchronized void commitSync(final Map<TopicPartition, OffsetAndMetadata> offsets) {
+            super.commitSync(offsets);
+            offsets.forEach((partition, offset) -> committedOffsets.put(partition, offset.offset()));
+        }
+
+        @Override
+        public synchronized void commitAsync(final Map<TopicPartition, OffsetAndMetadata> offsets,
+                final OffsetCommitCallback callback) {
+
+            super.commitAsync(offsets, callback);
+            offsets.forEach((partition, offset) -> committedOffsets.put(partition, offset.offset()));
+        }
+
+        @Override
+        public ConsumerRecords<String, ByteBuffer> poll(final Duration timeout) {
+            final ConsumerRecords<String, ByteBuffer> records = super.poll(timeout);
+            if (records.isEmpty()) {
+                try {
+                    TimeUnit.MILLISECONDS.sleep(timeout.toMillis());
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return records;
+        }
+
+    }
+
+}
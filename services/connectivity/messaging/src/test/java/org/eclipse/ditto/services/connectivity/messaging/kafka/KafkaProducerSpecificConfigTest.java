@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.kafka;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.eclipse.ditto.services.connectivity.messaging.TestConstants.Authorization.AUTHORIZATION_CONTEXT;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.connectivity.Connection;
+import org.eclipse.ditto.model.connectivity.ConnectionConfigurationInvalidException;
+import org.eclipse.ditto.model.connectivity.ConnectionId;
+import org.eclipse.ditto.model.connectivity.ConnectionType;
+import org.eclipse.ditto.model.connectivity.ConnectivityModelFactory;
+import org.eclipse.ditto.model.connectivity.ConnectivityStatus;
+import org.eclipse.ditto.model.connectivity.Topic;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link KafkaProducerSpecificConfig}.
+ */
+public final class KafkaProducerSpecificConfigTest {
+
+    private static final DittoHeaders HEADERS = DittoHeaders.empty();
+
+    private final KafkaProducerSpecificConfig underTest = KafkaProducerSpecificConfig.getInstance();
+
+    @Test
+    public void shouldNotBeApplicableWithoutProducerTunables() {
+        final Connection connection = getConnection(Map.of());
+
+        assertThat(underTest.isApplicable(connection)).isFalse();
+        assertThat(underTest.isValid(connection)).isTrue();
+    }
+
+    @Test
+    public void shouldApplyValidProducerTunables() {
+        final Connection connection =
+                getConnection(Map.of("batchSize", "32768", "lingerMs", " 5 ", "compressionType", "Snappy"));
+        final HashMap<String, Object> properties = new HashMap<>();
+
+        assertThat(underTest.isApplicable(connection)).isTrue();
+        underTest.validateOrThrow(connection, HEADERS);
+        underTest.apply(properties, connection);
+
+        assertThat(properties)
+                .containsEntry(ProducerConfig.BATCH_SIZE_CONFIG, 32768)
+                .containsEntry(ProducerConfig.LINGER_MS_CONFIG, 5)
+                .containsEntry(ProducerConfig.COMPRESSION_TYPE_CONFIG, "snappy");
+    }
+
+    @Test
+    public void shouldRejectNegativeOrNonNumericValues() {
+        shouldBeInvalid(getConnection(Map.of("batchSize", "-1")));
+        shouldBeInvalid(getConnection(Map.of("lingerMs", "ten")));
+    }
+
+    @Test
+    public void shouldRejectUnknownCompressionType() {
+        shouldBeInvalid(getConnection(Map.of("compressionType", "brotli")));
+    }
+
+    private void shouldBeInvalid(final Connection connection) {
+        final HashMap<String, Object> properties = new HashMap<>();
+
+        assertThat(underTest.isApplicable(connection)).isTrue();
+        assertThat(underTest.isValid(connection)).isFalse();
+        assertThatExceptionOfType(ConnectionConfigurationInvalidException.class)
+                .isThrownBy(() -> underTest.validateOrThrow(connection, HEADERS));
+        underTest.apply(properties, connection);
+        assertThat(properties).isEmpty();
+    }
+
+    private static Connection getConnection(final Map<String, String> producerTunables) {
+        final Map<String, String> specificConfig = new HashMap<>(producerTunables);
+        specificConfig.put("bootstrapServers", "localhost:1883");
+        return ConnectivityModelFactory.newConnectionBuilder(ConnectionId.of("kafka"), ConnectionType.KAFKA,
+                ConnectivityStatus.OPEN, "tcp://localhost:1883")
+                .targets(singletonList(ConnectivityModelFactory.newTargetBuilder()
+                        .address("events")
+                        .authorizationContext(AUTHORIZATION_CONTEXT)
+                        .qos(1)
+                        .topics(Topic.LIVE_EVENTS)
+                        .build()))
+                .specificConfig(specificConfig)
+                .build();
+    }
+
+}
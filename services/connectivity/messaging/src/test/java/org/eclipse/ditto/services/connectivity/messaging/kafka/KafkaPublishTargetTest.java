@@ -65,6 +65,23 @@ public class KafkaPublishTargetTest {
         assertThat(target.getPartition()).contains(3);
     }
 
+    @Test
+    public void keepsAddressTemplateOfResolvedAddress() {
+        final KafkaPublishTarget target =
+                KafkaPublishTarget.fromTargetAddress("events/ns:thing", "events/{{ thing:id }}");
+
+        assertThat(target.getTopic()).isEqualTo(DEFAULT_TOPIC);
+        assertThat(target.getKey()).contains("ns:thing");
+        assertThat(target.getAddressTemplate()).isEqualTo("events/{{ thing:id }}");
+    }
+
+    @Test
+    public void addressTemplateOfUnresolvedAddressIsTheAddress() {
+        final KafkaPublishTarget target = KafkaPublishTarget.fromTargetAddress("events#3");
+
+        assertThat(target.getAddressTemplate()).isEqualTo("events#3");
+    }
+
     @Test
     public void ignoresMissingKeyAfterSeparatorThrowsError() {
         final KafkaPublishTarget target = KafkaPublishTarget.fromTargetAddress("events/");
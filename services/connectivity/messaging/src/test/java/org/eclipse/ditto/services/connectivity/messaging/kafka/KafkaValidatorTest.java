@@ -77,8 +77,27 @@ public final class KafkaValidatorTest {
     }
 
     @Test
-    public void testSourcesAreInvalid() {
-        final Source source = ConnectivityModelFactory.newSource(AUTHORIZATION_CONTEXT, "any");
+    public void testValidSourceAddress() {
+        final Source source = ConnectivityModelFactory.newSource(AUTHORIZATION_CONTEXT, "events");
+
+        underTest.validateSource(source, DittoHeaders.empty(), () -> "");
+    }
+
+    @Test
+    public void testInvalidSourceAddress() {
+        final Source source = ConnectivityModelFactory.newSource(AUTHORIZATION_CONTEXT, "events/");
+
+        assertThatExceptionOfType(ConnectionConfigurationInvalidException.class)
+                .isThrownBy(() -> underTest.validateSource(source, DittoHeaders.empty(), () -> ""));
+    }
+
+    @Test
+    public void testInvalidSourceEnforcement() {
+        final Source source = ConnectivityModelFactory.newSourceBuilder()
+                .address("events")
+                .authorizationContext(AUTHORIZATION_CONTEXT)
+                .enforcement(ConnectivityModelFactory.newEnforcement("{{ thing:id }}", "{{ thing:id }}"))
+                .build();
 
         assertThatExceptionOfType(ConnectionConfigurationInvalidException.class)
                 .isThrownBy(() -> underTest.validateSource(source, DittoHeaders.empty(), () -> ""));
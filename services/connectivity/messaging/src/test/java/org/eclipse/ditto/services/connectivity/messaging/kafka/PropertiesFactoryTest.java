@@ -23,6 +23,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.eclipse.ditto.model.connectivity.Connection;
 import org.eclipse.ditto.model.connectivity.ConnectionId;
@@ -37,9 +38,9 @@ import org.junit.BeforeClass;
 import org.junit.Test;
 
 /**
- * Unit test for {@link ProducerPropertiesFactory}.
+ * Unit test for {@link PropertiesFactory}.
  */
-public final class ProducerPropertiesFactoryTest {
+public final class PropertiesFactoryTest {
 
     private static final String[] BOOTSTRAP_SERVERS = {
             "foo:123",
@@ -55,7 +56,7 @@ public final class ProducerPropertiesFactoryTest {
     private static KafkaConfig kafkaConfig;
     private static Connection connection;
 
-    private ProducerPropertiesFactory underTest;
+    private PropertiesFactory underTest;
 
     @BeforeClass
     public static void initTestFixture() {
@@ -82,7 +83,7 @@ public final class ProducerPropertiesFactoryTest {
 
     @Before
     public void setUp() {
-        underTest = ProducerPropertiesFactory.getInstance(connection, kafkaConfig);
+        underTest = PropertiesFactory.getInstance(connection, kafkaConfig);
     }
 
     @Test
@@ -102,4 +103,39 @@ public final class ProducerPropertiesFactoryTest {
         );
     }
 
+    @Test
+    public void addsBootstrapServersAndConsumerGroupToConsumerProperties() {
+        final Map<String, Object> properties = underTest.getConsumerProperties();
+
+        final List<String> servers =
+                Arrays.asList(properties.get(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG).toString().split(","));
+
+        assertThat(servers).containsExactlyInAnyOrder(BOOTSTRAP_SERVERS);
+        assertThat(properties).contains(
+                new AbstractMap.SimpleEntry<>(ConsumerConfig.GROUP_ID_CONFIG, CONNECTION_ID.toString()),
+                new AbstractMap.SimpleEntry<>(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false),
+                // check flattening of client properties in kafka.consumer.internal.kafka-clients
+                new AbstractMap.SimpleEntry<>("connections.max.idle.ms", 543210),
+                new AbstractMap.SimpleEntry<>("auto.offset.reset", "earliest")
+        );
+    }
+
+    @Test
+    public void addsProducerTunablesToProducerPropertiesOnly() {
+        final Map<String, String> specificConfig = new HashMap<>(connection.getSpecificConfig());
+        specificConfig.put("batchSize", "65536");
+        specificConfig.put("lingerMs", "20");
+        specificConfig.put("compressionType", "LZ4");
+        final Connection tunedConnection = connection.toBuilder().specificConfig(specificConfig).build();
+        final PropertiesFactory propertiesFactory = PropertiesFactory.getInstance(tunedConnection, kafkaConfig);
+
+        assertThat(propertiesFactory.getProducerProperties()).contains(
+                new AbstractMap.SimpleEntry<>(ProducerConfig.BATCH_SIZE_CONFIG, 65536),
+                new AbstractMap.SimpleEntry<>(ProducerConfig.LINGER_MS_CONFIG, 20),
+                new AbstractMap.SimpleEntry<>(ProducerConfig.COMPRESSION_TYPE_CONFIG, "lz4")
+        );
+        assertThat(propertiesFactory.getConsumerProperties()).doesNotContainKeys(ProducerConfig.BATCH_SIZE_CONFIG,
+                ProducerConfig.LINGER_MS_CONFIG, ProducerConfig.COMPRESSION_TYPE_CONFIG);
+    }
+
 }
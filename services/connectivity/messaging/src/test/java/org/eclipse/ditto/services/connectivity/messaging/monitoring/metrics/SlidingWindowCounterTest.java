@@ -17,6 +17,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.time.Clock;
 import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.Test;
 
@@ -63,4 +67,69 @@ public class SlidingWindowCounterTest {
 
     }
 
+    @Test
+    public void concurrentIncrementsAreNotLost() throws InterruptedException {
+        final SlidingWindowCounter counter = new SlidingWindowCounter(Clock.systemUTC(),
+                MeasurementWindow.ONE_MINUTE,
+                MeasurementWindow.ONE_HOUR,
+                MeasurementWindow.ONE_DAY);
+        final int threads = 8;
+        final int incrementsPerThread = 10_000;
+        final long ts = System.currentTimeMillis();
+
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        final CountDownLatch start = new CountDownLatch(1);
+        for (int i = 0; i < threads; i++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                for (int j = 0; j < incrementsPerThread; j++) {
+                    counter.increment(j % 2 == 0, ts);
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10L, TimeUnit.SECONDS)).isTrue();
+
+        final long expected = threads * incrementsPerThread / 2L;
+        assertThat(counter.getCounts(true))
+                .containsEntry(MeasurementWindow.ONE_MINUTE.getWindow(), expected)
+                .containsEntry(MeasurementWindow.ONE_HOUR.getWindow(), expected)
+                .containsEntry(MeasurementWindow.ONE_DAY.getWindow(), expected);
+        assertThat(counter.getCounts(false))
+                .containsEntry(MeasurementWindow.ONE_MINUTE.getWindow(), expected)
+                .containsEntry(MeasurementWindow.ONE_HOUR.getWindow(), expected)
+                .containsEntry(MeasurementWindow.ONE_DAY.getWindow(), expected);
+    }
+
+    @Test
+    public void measurementsOutsideOfWindowAreNotCounted() {
+        final SlidingWindowCounter counter = new SlidingWindowCounter(Clock.systemUTC(), MeasurementWindow.ONE_MINUTE);
+        final long now = System.currentTimeMillis();
+
+        counter.increment(true, now);
+        // measurements of past laps of the ring are either dropped or ignored when reading
+        counter.increment(true, now - Duration.ofHours(1).toMillis());
+        counter.increment(true, now - Duration.ofMinutes(2).toMillis());
+
+        assertThat(counter.getCounts(true)).containsEntry(MeasurementWindow.ONE_MINUTE.getWindow(), 1L);
+    }
+
+    @Test
+    public void resetClearsAllCounts() {
+        final SlidingWindowCounter counter = new SlidingWindowCounter(Clock.systemUTC(), MeasurementWindow.ONE_HOUR);
+        final long now = System.currentTimeMillis();
+        counter.increment(true, now);
+        counter.increment(false, now);
+
+        counter.reset();
+
+        assertThat(counter.getCounts(true)).containsEntry(MeasurementWindow.ONE_HOUR.getWindow(), 0L);
+        assertThat(counter.getCounts(false)).containsEntry(MeasurementWindow.ONE_HOUR.getWindow(), 0L);
+    }
+
 }
@@ -50,6 +50,7 @@ import org.eclipse.ditto.services.gateway.util.config.endpoints.CommandConfig;
 import org.eclipse.ditto.services.gateway.util.config.endpoints.HttpConfig;
 import org.eclipse.ditto.services.models.acks.AcknowledgementAggregatorActorStarter;
 import org.eclipse.ditto.services.models.acks.config.AcknowledgementConfig;
+import org.eclipse.ditto.services.utils.aggregator.StreamedThingsResponse;
 import org.eclipse.ditto.services.utils.akka.logging.DittoDiagnosticLoggingAdapter;
 import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
 import org.eclipse.ditto.signals.acks.base.Acknowledgement;
@@ -67,6 +68,8 @@ import org.eclipse.ditto.signals.commands.messages.MessageCommandResponse;
 import org.eclipse.ditto.signals.commands.messages.acks.MessageCommandAckRequestSetter;
 import org.eclipse.ditto.signals.commands.things.acks.ThingLiveCommandAckRequestSetter;
 import org.eclipse.ditto.signals.commands.things.acks.ThingModifyCommandAckRequestSetter;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThings;
+import org.eclipse.ditto.signals.commands.thingsearch.query.QueryThings;
 
 import akka.actor.AbstractActor;
 import akka.actor.ActorRef;
@@ -111,6 +114,7 @@ public abstract class AbstractHttpRequestActor extends AbstractActor {
     private final HttpRequest httpRequest;
     private final CommandConfig commandConfig;
     private final AcknowledgementAggregatorActorStarter ackregatorStarter;
+    private final boolean streamedResponsesEnabled;
     @Nullable private Uri responseLocationUri;
 
     @Nullable private DittoHeaders incomingCommandHeaders = null;
@@ -127,6 +131,7 @@ public abstract class AbstractHttpRequestActor extends AbstractActor {
         this.httpResponseFuture = httpResponseFuture;
         this.httpRequest = request;
         this.commandConfig = commandConfig;
+        streamedResponsesEnabled = httpConfig.isStreamedResponsesEnabled();
         ackregatorStarter = AcknowledgementAggregatorActorStarter.of(getContext(),
                 HttpAcknowledgementConfig.of(httpConfig),
                 headerTranslator,
@@ -282,7 +287,7 @@ public abstract class AbstractHttpRequestActor extends AbstractActor {
 
     private void handleCommandWithResponse(final Signal<?> command, final Receive awaitCommandResponseBehavior) {
         logger.withCorrelationId(command).debug("Got <{}>. Telling the target actor about it.", command);
-        proxyActor.tell(command, getSelf());
+        proxyActor.tell(requestStreamedResponseIfEnabled(command), getSelf());
 
         final ActorContext context = getContext();
         final DittoHeaders dittoHeaders = command.getDittoHeaders();
@@ -300,6 +305,16 @@ public abstract class AbstractHttpRequestActor extends AbstractActor {
         context.become(awaitCommandResponseBehavior);
     }
 
+    private Signal<?> requestStreamedResponseIfEnabled(final Signal<?> command) {
+        if (streamedResponsesEnabled && (command instanceof RetrieveThings || command instanceof QueryThings)) {
+            return command.setDittoHeaders(command.getDittoHeaders()
+                    .toBuilder()
+                    .putHeader(DittoHeaderDefinition.STREAMED_RESPONSE.getKey(), String.valueOf(true))
+                    .build());
+        }
+        return command;
+    }
+
     private static boolean isDevOpsCommand(final Signal<?> command) {
         return command instanceof DevOpsCommand;
     }
@@ -311,6 +326,7 @@ public abstract class AbstractHttpRequestActor extends AbstractActor {
                 // If an actor downstream replies with an HTTP response, simply forward it.
                 .match(HttpResponse.class, this::completeWithResult)
                 .match(MessageCommandResponse.class, cmd -> completeWithResult(handleMessageResponseMessage(cmd)))
+                .match(StreamedThingsResponse.class, this::handleStreamedThingsResponse)
                 .match(CommandResponse.class, cR -> cR instanceof WithEntity, commandResponse -> {
                     logger.withCorrelationId(commandResponse).debug("Got <{}> message.", commandResponse.getType());
                     rememberResponseLocationUri(commandResponse);
@@ -460,6 +476,14 @@ public abstract class AbstractHttpRequestActor extends AbstractActor {
         return responseWithoutHeaders.withEntity(CONTENT_TYPE_JSON, ByteString.fromString(exception.toJsonString()));
     }
 
+    private void handleStreamedThingsResponse(final StreamedThingsResponse streamedThingsResponse) {
+        logger.withCorrelationId(streamedThingsResponse).debug("Got <{}> message.", streamedThingsResponse);
+        final HttpResponse responseWithoutBody = enhanceResponseWithExternalDittoHeaders(
+                HttpResponse.create().withStatus(StatusCodes.OK), streamedThingsResponse.getDittoHeaders());
+        completeWithResult(responseWithoutBody.withEntity(HttpEntities.createChunked(CONTENT_TYPE_JSON,
+                streamedThingsResponse.toJsonChunks().map(ByteString::fromString))));
+    }
+
     private HttpResponse enhanceResponseWithExternalDittoHeaders(final HttpResponse response,
             final DittoHeaders allDittoHeaders) {
 
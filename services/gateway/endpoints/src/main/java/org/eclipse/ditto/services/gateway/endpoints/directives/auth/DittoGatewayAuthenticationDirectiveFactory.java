@@ -73,7 +73,8 @@ public final class DittoGatewayAuthenticationDirectiveFactory implements Gateway
 
         authenticationProviders.add(
                 JwtAuthenticationProvider.newInstance(jwtAuthenticationFactory.newJwtAuthenticationResultProvider(),
-                        jwtAuthenticationFactory.getJwtValidator()));
+                        jwtAuthenticationFactory.getJwtValidator(),
+                        jwtAuthenticationFactory.getValidatedJwtCache()));
 
         final AuthenticationFailureAggregator authenticationFailureAggregator =
                 AuthenticationFailureAggregators.getDefault();
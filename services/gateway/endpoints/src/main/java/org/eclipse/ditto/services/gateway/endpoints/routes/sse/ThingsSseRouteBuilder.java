@@ -365,11 +365,9 @@ public final class ThingsSseRouteBuilder extends RouteDirectives implements SseR
             if (!isLiveEvent && namespaceMatches(event, namespaces) && targetThingIdMatches(event, targetThingIds)) {
                 return jsonifiable.getSession()
                         .map(session -> jsonifiable.retrieveExtraFields(facade)
-                                .thenApply(extra ->
-                                        Optional.of(session.mergeThingWithExtra(event, extra))
-                                                .filter(session::matchesFilter)
-                                                .map(thing -> toNonemptyThingJson(thing, event, fields))
-                                                .orElseGet(Collections::emptyList)
+                                .thenApply(extra -> session.matchesFilter(event, extra)
+                                        ? toNonemptyThingJson(session.mergeThingWithExtra(event, extra), event, fields)
+                                        : Collections.<JsonObject>emptyList()
                                 )
                                 .exceptionally(error -> {
                                     final DittoRuntimeException errorToReport = error instanceof DittoRuntimeException
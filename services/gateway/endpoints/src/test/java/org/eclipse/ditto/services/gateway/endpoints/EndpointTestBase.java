@@ -88,6 +88,7 @@ public abstract class EndpointTestBase extends JUnitRouteTest {
     protected static MessageConfig claimMessageConfig;
     protected static AuthenticationConfig authConfig;
     protected static CacheConfig cacheConfig;
+    protected static CacheConfig validatedJwtCacheConfig;
     protected static StreamingConfig streamingConfig;
     protected static PublicHealthConfig publicHealthConfig;
     protected static ProtocolConfig protocolConfig;
@@ -103,6 +104,7 @@ public abstract class EndpointTestBase extends JUnitRouteTest {
         claimMessageConfig = DefaultClaimMessageConfig.of(gatewayScopedConfig);
         authConfig = DefaultAuthenticationConfig.of(gatewayScopedConfig);
         cacheConfig = DefaultCacheConfig.of(gatewayScopedConfig, "cache.publickeys");
+        validatedJwtCacheConfig = DefaultCacheConfig.of(gatewayScopedConfig, "cache.validated-jwts");
         streamingConfig = DefaultStreamingConfig.of(gatewayScopedConfig);
         publicHealthConfig = DefaultPublicHealthConfig.of(gatewayScopedConfig);
         protocolConfig = DefaultProtocolConfig.of(dittoScopedConfig);
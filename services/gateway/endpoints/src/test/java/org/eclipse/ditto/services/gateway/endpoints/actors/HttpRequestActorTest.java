@@ -17,6 +17,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 
@@ -33,10 +34,12 @@ import org.eclipse.ditto.model.messages.MessageDirection;
 import org.eclipse.ditto.model.messages.MessageHeaders;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.gateway.endpoints.routes.whoami.Whoami;
+import org.eclipse.ditto.services.utils.aggregator.StreamedThingsResponse;
 import org.eclipse.ditto.signals.acks.base.Acknowledgement;
 import org.eclipse.ditto.signals.commands.messages.SendThingMessageResponse;
 import org.eclipse.ditto.signals.commands.things.modify.ModifyAttribute;
 import org.eclipse.ditto.signals.commands.things.modify.ModifyAttributeResponse;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThings;
 import org.junit.Test;
 
 import akka.actor.ActorRef;
@@ -48,6 +51,7 @@ import akka.http.javadsl.model.ResponseEntity;
 import akka.http.javadsl.model.StatusCode;
 import akka.http.javadsl.model.StatusCodes;
 import akka.stream.SystemMaterializer;
+import akka.stream.javadsl.Source;
 import akka.testkit.TestProbe;
 import akka.testkit.javadsl.TestKit;
 import akka.util.ByteString;
@@ -405,4 +409,38 @@ public final class HttpRequestActorTest extends AbstractHttpRequestActorTest {
                     probeResponse, expectedHttpStatusCode, expectHttpResponseHeaders, expectedHttpResponseEntity);
         }};
     }
+
+    @Test
+    public void completesStreamedThingsResponseWithChunkedEntity() throws Exception {
+        new TestKit(system) {{
+            final TestProbe proxyActorProbe = TestProbe.apply(system);
+            final DittoHeaders dittoHeaders = createAuthorizedHeaders();
+            final RetrieveThings retrieveThings =
+                    RetrieveThings.getBuilder(ThingId.of("thing:1"), ThingId.of("thing:2"))
+                            .dittoHeaders(dittoHeaders)
+                            .build();
+            final HttpRequest request = HttpRequest.GET("/things?ids=thing:1,thing:2");
+            final CompletableFuture<HttpResponse> responseFuture = new CompletableFuture<>();
+
+            final ActorRef underTest = createHttpRequestActor(proxyActorProbe.ref(), request, responseFuture);
+            underTest.tell(retrieveThings, ActorRef.noSender());
+
+            proxyActorProbe.expectMsgClass(RetrieveThings.class);
+            proxyActorProbe.reply(StreamedThingsResponse.of(
+                    Source.from(List.of("{\"thingId\":\"thing:1\"}", "{\"thingId\":\"thing:2\"}")),
+                    dittoHeaders));
+
+            final HttpResponse response = responseFuture.get();
+            assertThat(response.status()).isEqualTo(StatusCodes.OK);
+            assertThat(response.entity().isChunked()).isTrue();
+            final String responseBody = response.entity()
+                    .toStrict(10000, SystemMaterializer.get(system).materializer())
+                    .toCompletableFuture()
+                    .join()
+                    .getData()
+                    .utf8String();
+            assertThat(responseBody).isEqualTo("[{\"thingId\":\"thing:1\"},{\"thingId\":\"thing:2\"}]");
+        }};
+    }
+
 }
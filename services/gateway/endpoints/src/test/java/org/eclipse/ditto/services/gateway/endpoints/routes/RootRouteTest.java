@@ -129,7 +129,8 @@ public final class RootRouteTest extends EndpointTestBase {
                 ProtocolAdapterProvider.load(protocolConfig, actorSystem);
         final HeaderTranslator headerTranslator = protocolAdapterProvider.getHttpHeaderTranslator();
         final JwtAuthenticationFactory jwtAuthenticationFactory =
-                JwtAuthenticationFactory.newInstance(authConfig.getOAuthConfig(), cacheConfig, httpClientFacade);
+                JwtAuthenticationFactory.newInstance(authConfig.getOAuthConfig(), cacheConfig,
+                        validatedJwtCacheConfig, httpClientFacade);
         final GatewayAuthenticationDirectiveFactory authenticationDirectiveFactory =
                 new DittoGatewayAuthenticationDirectiveFactory(authConfig, jwtAuthenticationFactory, messageDispatcher);
 
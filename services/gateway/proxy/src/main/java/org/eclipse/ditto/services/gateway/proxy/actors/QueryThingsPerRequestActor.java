@@ -13,6 +13,7 @@
 package org.eclipse.ditto.services.gateway.proxy.actors;
 
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -21,15 +22,19 @@ import java.util.stream.Collectors;
 import org.eclipse.ditto.json.JsonArray;
 import org.eclipse.ditto.json.JsonCollectors;
 import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.entity.id.NamespacedEntityId;
+import org.eclipse.ditto.model.base.headers.DittoHeaderDefinition;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.model.thingsearch.SearchModelFactory;
 import org.eclipse.ditto.model.thingsearch.SearchResult;
 import org.eclipse.ditto.services.gateway.util.config.endpoints.GatewayHttpConfig;
 import org.eclipse.ditto.services.gateway.util.config.endpoints.HttpConfig;
+import org.eclipse.ditto.services.utils.aggregator.StreamedThingsResponse;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
 import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
@@ -39,11 +44,16 @@ import org.eclipse.ditto.signals.commands.thingsearch.query.QueryThings;
 import org.eclipse.ditto.signals.commands.thingsearch.query.QueryThingsResponse;
 import org.eclipse.ditto.signals.events.thingsearch.ThingsOutOfSync;
 
+import akka.NotUsed;
 import akka.actor.AbstractActor;
 import akka.actor.ActorRef;
 import akka.actor.Props;
 import akka.actor.ReceiveTimeout;
 import akka.event.DiagnosticLoggingAdapter;
+import akka.stream.javadsl.Flow;
+import akka.stream.javadsl.Keep;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
 
 /**
  * Actor which is started for each {@link QueryThings} command in the gateway handling the response from
@@ -56,6 +66,9 @@ import akka.event.DiagnosticLoggingAdapter;
  */
 final class QueryThingsPerRequestActor extends AbstractActor {
 
+    private static final String SEARCH_RESULT_ITEMS_START =
+            "{\"" + SearchResult.JsonFields.ITEMS.getPointer().getRoot().orElseThrow() + "\":";
+
     private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
 
     private final QueryThings queryThings;
@@ -112,6 +125,13 @@ final class QueryThingsPerRequestActor extends AbstractActor {
 
                     log.debug("Received QueryThingsResponse: {}", qtr);
 
+                    if (isServedFromSearchIndex(qtr)) {
+                        // shortcut - the search service already reconstructed the things from the search index
+                        originatingSender.tell(withoutSearchIndexProjectionHeader(qtr), getSelf());
+                        stopMyself();
+                        return;
+                    }
+
                     queryThingsResponseThingIds = qtr.getSearchResult()
                             .stream()
                             .map(val -> val.asObject().getValue(Thing.JsonFields.ID).orElse(null))
@@ -155,6 +175,19 @@ final class QueryThingsPerRequestActor extends AbstractActor {
 
                     stopMyself();
                 })
+                .match(StreamedThingsResponse.class, streamedThingsResponse -> {
+                    LogUtil.enhanceLogWithCorrelationId(log, streamedThingsResponse);
+                    log.debug("Received StreamedThingsResponse: {}", streamedThingsResponse);
+
+                    if (queryThingsResponse != null) {
+                        originatingSender.tell(toStreamedSearchResult(streamedThingsResponse), getSelf());
+                    } else {
+                        log.warning("Did not receive a QueryThingsResponse when a StreamedThingsResponse occurred: {}",
+                                streamedThingsResponse);
+                    }
+
+                    stopMyself();
+                })
                 .matchAny(any -> {
                     // all other messages (e.g. DittoRuntimeExceptions) are directly returned to the sender:
                     originatingSender.tell(any, getSender());
@@ -163,6 +196,20 @@ final class QueryThingsPerRequestActor extends AbstractActor {
                 .build();
     }
 
+    private static boolean isServedFromSearchIndex(final QueryThingsResponse queryThingsResponse) {
+        return Boolean.parseBoolean(queryThingsResponse.getDittoHeaders()
+                .get(DittoHeaderDefinition.SEARCH_INDEX_PROJECTION.getKey()));
+    }
+
+    private static QueryThingsResponse withoutSearchIndexProjectionHeader(
+            final QueryThingsResponse queryThingsResponse) {
+
+        return queryThingsResponse.setDittoHeaders(queryThingsResponse.getDittoHeaders()
+                .toBuilder()
+                .removeHeader(DittoHeaderDefinition.SEARCH_INDEX_PROJECTION.getKey())
+                .build());
+    }
+
     /**
      * Extracts selected fields from {@link #queryThings} and ensures that the Thing ID is one of those fields.
      * If no fields are selected, this means that all fields should be returned.
@@ -194,6 +241,45 @@ final class QueryThingsPerRequestActor extends AbstractActor {
                 .orElse(retrievedEntities);
     }
 
+    /**
+     * Encloses the streamed things in the JSON of the search result and applies the originally selected fields to
+     * them. The things out of sync are published as soon as the stream of things completes.
+     *
+     * @param streamedThingsResponse the response from the aggregator actor.
+     * @return the response containing the streamed search result.
+     * @throws java.lang.NullPointerException if this.queryThingsResponse or this.queryThingsResponseThingIds is null.
+     */
+    private StreamedThingsResponse toStreamedSearchResult(final StreamedThingsResponse streamedThingsResponse) {
+        final Optional<JsonFieldSelector> fieldsWithoutThingId = queryThings.getFields()
+                .filter(fields -> !fields.getPointers().contains(Thing.JsonFields.ID.getPointer()));
+        final List<ThingId> queriedThingIds = queryThingsResponseThingIds;
+        final DittoHeaders queryThingsResponseHeaders = queryThingsResponse.getDittoHeaders();
+
+        final Source<String, NotUsed> things = streamedThingsResponse.getThings()
+                .map(JsonObject::of)
+                .alsoToMat(Flow.<JsonObject>create()
+                        .map(thing -> thing.getValue(Thing.JsonFields.ID).map(ThingId::of))
+                        .filter(Optional::isPresent)
+                        .map(Optional::get)
+                        .toMat(Sink.seq(), Keep.right()), Keep.right())
+                .mapMaterializedValue(retrievedThingIds -> {
+                    retrievedThingIds.thenAccept(thingIds -> publishThingsOutOfSync(pubSubMediator, queriedThingIds,
+                            new HashSet<>(thingIds), queryThingsResponseHeaders));
+                    return NotUsed.getInstance();
+                })
+                .map(thing -> fieldsWithoutThingId.map(thing::get).orElse(thing).toString());
+
+        final JsonObject searchResultWithoutItems = queryThingsResponse.getSearchResult()
+                .toJson(queryThingsResponse.getImplementedSchemaVersion())
+                .remove(SearchResult.JsonFields.ITEMS.getPointer());
+        final String jsonAfterItems = searchResultWithoutItems.isEmpty()
+                ? "}"
+                // append the remaining fields of the search result without their opening brace
+                : "," + searchResultWithoutItems.toString().substring(1);
+
+        return streamedThingsResponse.setThings(things).enclose(SEARCH_RESULT_ITEMS_START, jsonAfterItems);
+    }
+
     /**
      * Publish an UpdateThings command including thing IDs in QueryThingsResponse but not in results with retrieved
      * items.
@@ -209,13 +295,30 @@ final class QueryThingsPerRequestActor extends AbstractActor {
                 .map(ThingId::of)
                 .collect(Collectors.toSet());
 
-        final Collection<NamespacedEntityId> outOfSyncThingIds = queryThingsResponseThingIds.stream()
+        publishThingsOutOfSync(pubSubMediator, queryThingsResponseThingIds, retrievedThingIds,
+                queryThingsResponse.getDittoHeaders());
+    }
+
+    /**
+     * Publish an UpdateThings command including the queried thing IDs which were not retrieved. Does not access the
+     * state of the actor so that it may be called after the actor stopped.
+     *
+     * @param pubSubMediator the pub-sub mediator to publish with.
+     * @param queriedThingIds the thing IDs in the QueryThingsResponse.
+     * @param retrievedThingIds the IDs of the retrieved things.
+     * @param dittoHeaders the headers of the QueryThingsResponse.
+     */
+    private static void publishThingsOutOfSync(final ActorRef pubSubMediator,
+            final Collection<ThingId> queriedThingIds,
+            final Set<ThingId> retrievedThingIds,
+            final DittoHeaders dittoHeaders) {
+
+        final Collection<NamespacedEntityId> outOfSyncThingIds = queriedThingIds.stream()
                 .filter(thingId -> !retrievedThingIds.contains(thingId))
                 .collect(Collectors.toList());
 
         if (!outOfSyncThingIds.isEmpty()) {
-            final ThingsOutOfSync thingsOutOfSync =
-                    ThingsOutOfSync.of(outOfSyncThingIds, queryThingsResponse.getDittoHeaders());
+            final ThingsOutOfSync thingsOutOfSync = ThingsOutOfSync.of(outOfSyncThingIds, dittoHeaders);
             pubSubMediator.tell(DistPubSubAccess.publishViaGroup(ThingsOutOfSync.TYPE, thingsOutOfSync),
                     ActorRef.noSender());
         }
@@ -12,6 +12,8 @@
  */
 package org.eclipse.ditto.services.gateway.proxy.actors;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 import java.util.Arrays;
 import java.util.List;
 
@@ -19,11 +21,13 @@ import org.eclipse.ditto.json.JsonArray;
 import org.eclipse.ditto.json.JsonCollectors;
 import org.eclipse.ditto.json.JsonFieldSelector;
 import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.headers.DittoHeaderDefinition;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.model.thingsearch.SearchResult;
 import org.eclipse.ditto.signals.events.thingsearch.ThingsOutOfSync;
+import org.eclipse.ditto.services.utils.aggregator.StreamedThingsResponse;
 import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.signals.commands.things.query.RetrieveThings;
 import org.eclipse.ditto.signals.commands.things.query.RetrieveThingsResponse;
@@ -36,6 +40,9 @@ import org.junit.Test;
 import akka.actor.ActorRef;
 import akka.actor.ActorSystem;
 import akka.actor.Props;
+import akka.stream.SystemMaterializer;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
 import akka.testkit.TestProbe;
 import akka.testkit.javadsl.TestKit;
 
@@ -153,6 +160,26 @@ public final class QueryThingsPerRequestActorTest {
                 QueryThingsResponse.of(SearchResult.newBuilder().add(definition, definition).build(), dittoHeaders));
     }
 
+    @Test
+    public void sendNoRetrieveThingsForSearchResultFromSearchIndex() {
+        // GIVEN: QueryThings selected a field other than thingId
+        final JsonFieldSelector fields = JsonFieldSelector.newInstance("definition");
+        final QueryThings queryThings = QueryThings.of(null, null, fields, null, dittoHeaders);
+        final ActorRef underTest = createQueryThingsPerRequestActor(queryThings);
+        final JsonObject definition = JsonObject.newBuilder().set("definition", "vacuum:cleaner:1548").build();
+        final SearchResult searchResult = SearchResult.newBuilder().add(definition, definition).build();
+        final DittoHeaders indexProjectionHeaders = dittoHeaders.toBuilder()
+                .putHeader(DittoHeaderDefinition.SEARCH_INDEX_PROJECTION.getKey(), "true")
+                .build();
+
+        // WHEN: QueryThingsResponse contains the things reconstructed from the search index
+        underTest.tell(QueryThingsResponse.of(searchResult, indexProjectionHeaders), ActorRef.noSender());
+
+        // THEN: the things are not retrieved and the internal header is removed
+        originalSenderProbe.expectMsg(QueryThingsResponse.of(searchResult, dittoHeaders));
+        aggregatorProbe.expectNoMessage();
+    }
+
     @Test
     public void reportOutOfSyncThings() {
         final ActorRef underTest = createQueryThingsPerRequestActor(QueryThings.of(dittoHeaders));
@@ -182,6 +209,49 @@ public final class QueryThingsPerRequestActorTest {
         );
     }
 
+    @Test
+    public void streamsSearchResultWithSelectedFieldsAndReportsOutOfSyncThings() {
+        // GIVEN: QueryThings requested a streamed response and selected a field other than thingId
+        final DittoHeaders streamedHeaders = dittoHeaders.toBuilder()
+                .putHeader(DittoHeaderDefinition.STREAMED_RESPONSE.getKey(), "true")
+                .build();
+        final JsonFieldSelector fields = JsonFieldSelector.newInstance("definition");
+        final QueryThings queryThings = QueryThings.of(null, null, fields, null, streamedHeaders);
+        final ActorRef underTest = createQueryThingsPerRequestActor(queryThings);
+        final ThingId thingId1 = ThingId.of("thing:1");
+        final ThingId thingId2 = ThingId.of("thing:2");
+        final SearchResult searchResult = SearchResult.newBuilder()
+                .addAll(asArray(thingId1, thingId2))
+                .nextPageOffset(2L)
+                .build();
+
+        // WHEN: QueryThingsResponse has items and the aggregator streams only thing2
+        underTest.tell(QueryThingsResponse.of(searchResult, streamedHeaders), ActorRef.noSender());
+        aggregatorProbe.expectMsgClass(RetrieveThings.class);
+        final JsonObject thing2 = idItem(thingId2).toBuilder().set("definition", "vacuum:cleaner:1548").build();
+        aggregatorProbe.reply(StreamedThingsResponse.of(Source.single(thing2.toString()), streamedHeaders));
+
+        // THEN: the streamed search result contains the selected fields of thing2 and the next page offset
+        final StreamedThingsResponse response = originalSenderProbe.expectMsgClass(StreamedThingsResponse.class);
+        final String json = response.toJsonChunks()
+                .runWith(Sink.fold("", String::concat), SystemMaterializer.get(actorSystem).materializer())
+                .toCompletableFuture()
+                .join();
+        final SearchResult expectedSearchResult = SearchResult.newBuilder()
+                .add(JsonObject.newBuilder().set("definition", "vacuum:cleaner:1548").build())
+                .nextPageOffset(2L)
+                .build();
+        assertThat(JsonObject.of(json)).isEqualTo(expectedSearchResult.toJson());
+
+        // THEN: an UpdateThings command is published requesting search index update of thingId1
+        pubSubMediatorProbe.expectMsg(
+                DistPubSubAccess.publishViaGroup(
+                        ThingsOutOfSync.TYPE,
+                        ThingsOutOfSync.of(List.of(thingId1), streamedHeaders)
+                )
+        );
+    }
+
     private ActorRef createQueryThingsPerRequestActor(final QueryThings queryThings) {
         final Props props = QueryThingsPerRequestActor.props(
                 queryThings,
@@ -26,20 +26,25 @@ import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
 public final class JwtAuthenticationFactory {
 
     private static final String PUBLIC_KEY_CACHE_NAME = "ditto_authorization_jwt_publicKeys_cache";
+    private static final String VALIDATED_JWT_CACHE_NAME = "ditto_authorization_jwt_validated_cache";
 
     private final OAuthConfig oAuthConfig;
     private final CacheConfig publicKeyCacheConfig;
+    private final CacheConfig validatedJwtCacheConfig;
     private final HttpClientFacade httpClientFacade;
 
     @Nullable private JwtValidator jwtValidator;
     @Nullable private JwtSubjectIssuersConfig jwtSubjectIssuersConfig;
     @Nullable private PublicKeyProvider publicKeyProvider;
+    @Nullable private ValidatedJwtCache validatedJwtCache;
 
     private JwtAuthenticationFactory(final OAuthConfig oAuthConfig,
             final CacheConfig publicKeyCacheConfig,
+            final CacheConfig validatedJwtCacheConfig,
             final HttpClientFacade httpClientFacade) {
         this.oAuthConfig = checkNotNull(oAuthConfig, "authenticationConfig");
         this.publicKeyCacheConfig = checkNotNull(publicKeyCacheConfig, "publicKeyCacheConfig");
+        this.validatedJwtCacheConfig = checkNotNull(validatedJwtCacheConfig, "validatedJwtCacheConfig");
         this.httpClientFacade = checkNotNull(httpClientFacade, "httpClientFacade");
     }
 
@@ -48,13 +53,16 @@ public final class JwtAuthenticationFactory {
      *
      * @param oAuthConfig the OAuth configuration.
      * @param publicKeyCacheConfig  the public key cache configuration.
+     * @param validatedJwtCacheConfig the configuration of the cache of validated JWTs.
      * @param httpClientFacade the client facade of the HTTP client.
      * @return the new created instance.
      */
     public static JwtAuthenticationFactory newInstance(final OAuthConfig oAuthConfig,
             final CacheConfig publicKeyCacheConfig,
+            final CacheConfig validatedJwtCacheConfig,
             final HttpClientFacade httpClientFacade) {
-        return new JwtAuthenticationFactory(oAuthConfig, publicKeyCacheConfig, httpClientFacade);
+        return new JwtAuthenticationFactory(oAuthConfig, publicKeyCacheConfig, validatedJwtCacheConfig,
+                httpClientFacade);
     }
 
     public JwtValidator getJwtValidator() {
@@ -64,6 +72,19 @@ public final class JwtAuthenticationFactory {
         return jwtValidator;
     }
 
+    /**
+     * Returns the cache of successfully validated JWTs.
+     *
+     * @return the cache.
+     * @since 2.0.0
+     */
+    public ValidatedJwtCache getValidatedJwtCache() {
+        if (null == validatedJwtCache) {
+            validatedJwtCache = ValidatedJwtCache.of(validatedJwtCacheConfig, VALIDATED_JWT_CACHE_NAME);
+        }
+        return validatedJwtCache;
+    }
+
     private PublicKeyProvider getPublicKeyProvider() {
         if (null == publicKeyProvider) {
             publicKeyProvider = DittoPublicKeyProvider.of(
@@ -17,6 +17,7 @@ import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.NotThreadSafe;
 
 import org.eclipse.ditto.model.base.auth.AuthorizationContextType;
@@ -48,13 +49,16 @@ public final class JwtAuthenticationProvider extends TimeMeasuringAuthentication
 
     private final JwtAuthenticationResultProvider jwtAuthResultProvider;
     private final JwtValidator jwtValidator;
+    @Nullable private final ValidatedJwtCache validatedJwtCache;
 
     private JwtAuthenticationProvider(final JwtAuthenticationResultProvider jwtAuthenticationResultProvider,
-            final JwtValidator jwtValidator) {
+            final JwtValidator jwtValidator,
+            @Nullable final ValidatedJwtCache validatedJwtCache) {
 
         super(LOGGER);
         jwtAuthResultProvider = checkNotNull(jwtAuthenticationResultProvider, "jwtAuthorizationContextProvider");
         this.jwtValidator = checkNotNull(jwtValidator, "jwtValidator");
+        this.validatedJwtCache = validatedJwtCache;
     }
 
     /**
@@ -68,7 +72,26 @@ public final class JwtAuthenticationProvider extends TimeMeasuringAuthentication
     public static JwtAuthenticationProvider newInstance(
             final JwtAuthenticationResultProvider jwtAuthenticationResultProvider, final JwtValidator jwtValidator) {
 
-        return new JwtAuthenticationProvider(jwtAuthenticationResultProvider, jwtValidator);
+        return new JwtAuthenticationProvider(jwtAuthenticationResultProvider, jwtValidator, null);
+    }
+
+    /**
+     * Creates a new instance of the JWT authentication provider which validates each JWT only once as long as it is
+     * cached.
+     *
+     * @param jwtValidator the validator of JWTs.
+     * @param jwtAuthenticationResultProvider builds the authorization context based on the JWT.
+     * @param validatedJwtCache caches the authorization contexts of successfully validated JWTs.
+     * @return the created instance.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @since 2.0.0
+     */
+    public static JwtAuthenticationProvider newInstance(
+            final JwtAuthenticationResultProvider jwtAuthenticationResultProvider, final JwtValidator jwtValidator,
+            final ValidatedJwtCache validatedJwtCache) {
+
+        return new JwtAuthenticationProvider(jwtAuthenticationResultProvider, jwtValidator,
+                checkNotNull(validatedJwtCache, "validatedJwtCache"));
     }
 
     /**
@@ -121,10 +144,34 @@ public final class JwtAuthenticationProvider extends TimeMeasuringAuthentication
                 .build();
     }
 
-    @SuppressWarnings("ConstantConditions")
     private CompletableFuture<AuthenticationResult> getAuthenticationResult(final JsonWebToken jwt,
             final DittoHeaders dittoHeaders) {
 
+        if (null == validatedJwtCache) {
+            return validateAndGetAuthenticationResult(jwt, dittoHeaders);
+        }
+        return validatedJwtCache.get(jwt)
+                .thenCompose(cachedAuthorizationContext -> cachedAuthorizationContext
+                        .map(authorizationContext -> {
+                            LOGGER.withCorrelationId(dittoHeaders)
+                                    .info("Completed JWT authentication successfully with previously validated JWT.");
+                            return CompletableFuture.completedFuture(
+                                    DefaultAuthenticationResult.successful(dittoHeaders, authorizationContext));
+                        })
+                        .orElseGet(() -> validateAndGetAuthenticationResult(jwt, dittoHeaders)
+                                .thenApply(authenticationResult -> {
+                                    // the result provider may fail authentication of a valid JWT
+                                    if (authenticationResult.isSuccess()) {
+                                        validatedJwtCache.put(jwt, authenticationResult.getAuthorizationContext());
+                                    }
+                                    return authenticationResult;
+                                })));
+    }
+
+    @SuppressWarnings("ConstantConditions")
+    private CompletableFuture<AuthenticationResult> validateAndGetAuthenticationResult(final JsonWebToken jwt,
+            final DittoHeaders dittoHeaders) {
+
         return jwtValidator.validate(jwt)
                 .thenApply(validationResult -> {
                     if (!validationResult.isValid()) {
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.security.authentication.jwt;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.json.JsonMissingFieldException;
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.jwt.JsonWebToken;
+import org.eclipse.ditto.services.utils.cache.Cache;
+import org.eclipse.ditto.services.utils.cache.CaffeineCache;
+import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+/**
+ * Caches the authorization contexts of successfully validated JSON web tokens, so that the signature of a token is
+ * verified and its authorization subjects are determined only once for all requests using that token.
+ * <p>
+ * Tokens are identified by the SHA-256 digest of their serialized form, thus the tokens themselves are not kept.
+ * Each entry expires after the configured duration, but at the latest at the expiration time of its token.
+ * Hits and misses are reported as metrics of the cache name.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+@ThreadSafe
+public final class ValidatedJwtCache {
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private final Cache<String, ValidatedJwt> cache;
+
+    private ValidatedJwtCache(final CacheConfig cacheConfig, final String cacheName) {
+        final Caffeine<String, ValidatedJwt> caffeine = Caffeine.newBuilder()
+                .maximumSize(cacheConfig.getMaximumSize())
+                .expireAfter(new ValidatedJwtExpiry(cacheConfig.getExpireAfterWrite()));
+        cache = CaffeineCache.of(caffeine, cacheName);
+    }
+
+    /**
+     * Returns a new {@code ValidatedJwtCache}.
+     *
+     * @param cacheConfig the config of the cache.
+     * @param cacheName the name of the cache used for metrics.
+     * @return the cache.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static ValidatedJwtCache of(final CacheConfig cacheConfig, final String cacheName) {
+        checkNotNull(cacheConfig, "cacheConfig");
+        checkNotNull(cacheName, "cacheName");
+        return new ValidatedJwtCache(cacheConfig, cacheName);
+    }
+
+    /**
+     * Returns the authorization context of the given token if the token was validated successfully before and did
+     * not expire since.
+     *
+     * @param jwt the token.
+     * @return a future of the cached authorization context or an empty Optional.
+     */
+    CompletableFuture<Optional<AuthorizationContext>> get(final JsonWebToken jwt) {
+        return cache.getIfPresent(digest(jwt))
+                .thenApply(validatedJwt -> validatedJwt.map(ValidatedJwt::getAuthorizationContext));
+    }
+
+    /**
+     * Remembers the authorization context of a successfully validated token.
+     * Tokens without expiration time or which are already expired are not remembered.
+     *
+     * @param jwt the successfully validated token.
+     * @param authorizationContext the authorization context determined for the token.
+     */
+    void put(final JsonWebToken jwt, final AuthorizationContext authorizationContext) {
+        getExpirationTime(jwt)
+                .filter(expirationTime -> expirationTime.isAfter(Instant.now()))
+                .ifPresent(expirationTime -> cache.put(digest(jwt),
+                        new ValidatedJwt(authorizationContext, expirationTime)));
+    }
+
+    private static Optional<Instant> getExpirationTime(final JsonWebToken jwt) {
+        try {
+            return Optional.of(jwt.getExpirationTime());
+        } catch (final JsonMissingFieldException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static String digest(final JsonWebToken jwt) {
+        try {
+            final MessageDigest messageDigest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+            final byte[] digest = messageDigest.digest(jwt.getToken().getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (final NoSuchAlgorithmException e) {
+            // every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Immutable
+    private static final class ValidatedJwt {
+
+        private final AuthorizationContext authorizationContext;
+        private final Instant expirationTime;
+
+        private ValidatedJwt(final AuthorizationContext authorizationContext, final Instant expirationTime) {
+            this.authorizationContext = authorizationContext;
+            this.expirationTime = expirationTime;
+        }
+
+        private AuthorizationContext getAuthorizationContext() {
+            return authorizationContext;
+        }
+
+    }
+
+    /**
+     * Expires validated tokens after the configured duration or at their expiration time, whatever comes first.
+     */
+    private static final class ValidatedJwtExpiry implements Expiry<String, ValidatedJwt> {
+
+        private final Duration expireAfterWrite;
+
+        private ValidatedJwtExpiry(final Duration expireAfterWrite) {
+            this.expireAfterWrite = expireAfterWrite;
+        }
+
+        @Override
+        public long expireAfterCreate(final String key, final ValidatedJwt value, final long currentTime) {
+            final Duration untilExpirationTime = Duration.between(Instant.now(), value.expirationTime);
+            if (untilExpirationTime.isNegative()) {
+                return 0L;
+            }
+            return untilExpirationTime.compareTo(expireAfterWrite) < 0
+                    ? untilExpirationTime.toNanos()
+                    : expireAfterWrite.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(final String key, final ValidatedJwt value, final long currentTime,
+                final long currentDuration) {
+
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(final String key, final ValidatedJwt value, final long currentTime,
+                final long currentDuration) {
+
+            return currentDuration;
+        }
+
+    }
+
+}
@@ -15,6 +15,7 @@ package org.eclipse.ditto.services.gateway.security.authentication.jwt;
 import static org.eclipse.ditto.services.gateway.security.authentication.jwt.JwtTestConstants.VALID_JWT_TOKEN;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -33,6 +34,7 @@ import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.jwt.JsonWebToken;
 import org.eclipse.ditto.services.gateway.security.authentication.AuthenticationResult;
 import org.eclipse.ditto.services.gateway.security.authentication.DefaultAuthenticationResult;
+import org.eclipse.ditto.services.utils.cache.config.DefaultCacheConfig;
 import org.eclipse.ditto.signals.commands.base.exceptions.GatewayAuthenticationFailedException;
 import org.junit.Before;
 import org.junit.Rule;
@@ -42,6 +44,8 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import com.typesafe.config.ConfigFactory;
+
 import akka.http.javadsl.model.HttpHeader;
 import akka.http.javadsl.model.HttpRequest;
 import akka.http.javadsl.server.RequestContext;
@@ -108,6 +112,57 @@ public final class JwtAuthenticationProviderTest {
         softly.assertThat(authenticationResult.isSuccess()).isTrue();
     }
 
+    @Test
+    public void validatedJwtIsCached() {
+        final AuthorizationContext authorizationContext =
+                AuthorizationContext.newInstance(DittoAuthorizationContextType.JWT,
+                        AuthorizationSubject.newInstance("myAuthSubj"));
+        when(jwtValidator.validate(any(JsonWebToken.class)))
+                .thenReturn(CompletableFuture.completedFuture(BinaryValidationResult.valid()));
+        when(authenticationContextProvider.getAuthenticationResult(any(JsonWebToken.class), any(DittoHeaders.class)))
+                .thenReturn(DefaultAuthenticationResult.successful(knownDittoHeaders, authorizationContext));
+        final ValidatedJwtCache validatedJwtCache = ValidatedJwtCache.of(
+                DefaultCacheConfig.of(ConfigFactory.empty(), "validated-jwts"), testName.getMethodName());
+        final JwtAuthenticationProvider underTest =
+                JwtAuthenticationProvider.newInstance(authenticationContextProvider, jwtValidator, validatedJwtCache);
+        final RequestContext requestContext = mockRequestContext(
+                HttpHeader.parse("authorization", "Bearer " + JwtTestConstants.EXPIRING_JWT_TOKEN));
+        final DittoHeaders otherDittoHeaders = DittoHeaders.newBuilder().correlationId("other").build();
+
+        underTest.authenticate(requestContext, knownDittoHeaders);
+        final AuthenticationResult authenticationResult = underTest.authenticate(requestContext, otherDittoHeaders);
+
+        verify(jwtValidator, times(1)).validate(any(JsonWebToken.class));
+        verify(authenticationContextProvider, times(1))
+                .getAuthenticationResult(any(JsonWebToken.class), any(DittoHeaders.class));
+        softly.assertThat(authenticationResult.isSuccess()).isTrue();
+        softly.assertThat(authenticationResult.getAuthorizationContext()).isEqualTo(authorizationContext);
+        softly.assertThat(authenticationResult.getDittoHeaders().getCorrelationId())
+                .isEqualTo(otherDittoHeaders.getCorrelationId());
+    }
+
+    @Test
+    public void failedAuthenticationResultIsNotCached() {
+        final IllegalStateException reasonOfFailure = new IllegalStateException("not allowed");
+        when(jwtValidator.validate(any(JsonWebToken.class)))
+                .thenReturn(CompletableFuture.completedFuture(BinaryValidationResult.valid()));
+        when(authenticationContextProvider.getAuthenticationResult(any(JsonWebToken.class), any(DittoHeaders.class)))
+                .thenReturn(DefaultAuthenticationResult.failed(knownDittoHeaders, reasonOfFailure));
+        final ValidatedJwtCache validatedJwtCache = ValidatedJwtCache.of(
+                DefaultCacheConfig.of(ConfigFactory.empty(), "validated-jwts"), testName.getMethodName());
+        final JwtAuthenticationProvider underTest =
+                JwtAuthenticationProvider.newInstance(authenticationContextProvider, jwtValidator, validatedJwtCache);
+        final RequestContext requestContext = mockRequestContext(
+                HttpHeader.parse("authorization", "Bearer " + JwtTestConstants.EXPIRING_JWT_TOKEN));
+
+        underTest.authenticate(requestContext, knownDittoHeaders);
+        final AuthenticationResult authenticationResult = underTest.authenticate(requestContext, knownDittoHeaders);
+
+        verify(jwtValidator, times(2)).validate(any(JsonWebToken.class));
+        softly.assertThat(authenticationResult.isSuccess()).isFalse();
+        softly.assertThat(authenticationResult.getReasonOfFailure()).isEqualTo(reasonOfFailure);
+    }
+
     @Test
     public void doExtractAuthenticationWhenAuthorizationContextProviderErrors() {
         when(jwtValidator.validate(any(JsonWebToken.class)))
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.security.authentication.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Date;
+
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
+import org.eclipse.ditto.model.base.auth.DittoAuthorizationContextType;
+import org.eclipse.ditto.model.jwt.ImmutableJsonWebToken;
+import org.eclipse.ditto.model.jwt.JsonWebToken;
+import org.eclipse.ditto.services.utils.cache.config.DefaultCacheConfig;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestName;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Tests {@link ValidatedJwtCache}.
+ */
+public final class ValidatedJwtCacheTest {
+
+    private static final AuthorizationContext AUTHORIZATION_CONTEXT =
+            AuthorizationContext.newInstance(DittoAuthorizationContextType.JWT,
+                    AuthorizationSubject.newInstance("integration:subject"));
+
+    @Rule public final TestName testName = new TestName();
+
+    @Test
+    public void returnsAuthorizationContextOfValidatedJwt() {
+        final ValidatedJwtCache underTest = newCache("5m");
+        final JsonWebToken jwt = ImmutableJsonWebToken.fromToken(JwtTestConstants.EXPIRING_JWT_TOKEN);
+
+        assertThat(underTest.get(jwt).join()).isEmpty();
+
+        underTest.put(jwt, AUTHORIZATION_CONTEXT);
+
+        assertThat(underTest.get(ImmutableJsonWebToken.fromToken(JwtTestConstants.EXPIRING_JWT_TOKEN)).join())
+                .contains(AUTHORIZATION_CONTEXT);
+        assertThat(underTest.get(ImmutableJsonWebToken.fromToken(JwtTestConstants.VALID_JWT_TOKEN)).join())
+                .isEmpty();
+    }
+
+    @Test
+    public void doesNotCacheJwtsWithoutOrWithPastExpirationTime() {
+        final ValidatedJwtCache underTest = newCache("5m");
+        final JsonWebToken jwtWithoutExpiration = ImmutableJsonWebToken.fromToken(JwtTestConstants.VALID_JWT_TOKEN);
+        final JsonWebToken expiredJwt = ImmutableJsonWebToken.fromToken(JwtTestConstants.EXPIRED_JWT_TOKEN);
+
+        underTest.put(jwtWithoutExpiration, AUTHORIZATION_CONTEXT);
+        underTest.put(expiredJwt, AUTHORIZATION_CONTEXT);
+
+        assertThat(underTest.get(jwtWithoutExpiration).join()).isEmpty();
+        assertThat(underTest.get(expiredJwt).join()).isEmpty();
+    }
+
+    @Test
+    public void entryExpiresAtExpirationTimeOfJwt() throws InterruptedException {
+        final ValidatedJwtCache underTest = newCache("5m");
+        final JsonWebToken jwt = ImmutableJsonWebToken.fromToken(
+                JwtTestConstants.createJwtExpiringAt(new Date(System.currentTimeMillis() + 1500L)));
+
+        underTest.put(jwt, AUTHORIZATION_CONTEXT);
+        assertThat(underTest.get(jwt).join()).contains(AUTHORIZATION_CONTEXT);
+
+        // JWT expiration times have a precision of seconds
+        Thread.sleep(2000L);
+        assertThat(underTest.get(jwt).join()).isEmpty();
+    }
+
+    @Test
+    public void entryExpiresAfterConfiguredDuration() throws InterruptedException {
+        final ValidatedJwtCache underTest = newCache("200ms");
+        final JsonWebToken jwt = ImmutableJsonWebToken.fromToken(JwtTestConstants.EXPIRING_JWT_TOKEN);
+
+        underTest.put(jwt, AUTHORIZATION_CONTEXT);
+        assertThat(underTest.get(jwt).join()).contains(AUTHORIZATION_CONTEXT);
+
+        Thread.sleep(500L);
+        assertThat(underTest.get(jwt).join()).isEmpty();
+    }
+
+    private ValidatedJwtCache newCache(final String expireAfterWrite) {
+        return ValidatedJwtCache.of(DefaultCacheConfig.of(
+                ConfigFactory.parseString("validated-jwts.expire-after-write = " + expireAfterWrite),
+                "validated-jwts"), testName.getMethodName());
+    }
+
+}
@@ -48,6 +48,7 @@ import org.eclipse.ditto.services.gateway.util.config.endpoints.CommandConfig;
 import org.eclipse.ditto.services.gateway.util.config.endpoints.HttpConfig;
 import org.eclipse.ditto.services.gateway.util.config.health.HealthCheckConfig;
 import org.eclipse.ditto.services.gateway.util.config.security.AuthenticationConfig;
+import org.eclipse.ditto.services.gateway.util.config.security.CachesConfig;
 import org.eclipse.ditto.services.gateway.util.config.security.DevOpsConfig;
 import org.eclipse.ditto.services.gateway.util.config.streaming.GatewaySignalEnrichmentConfig;
 import org.eclipse.ditto.services.gateway.util.config.streaming.StreamingConfig;
@@ -131,9 +132,10 @@ final class GatewayRootActor extends DittoRootActor {
         final DefaultHttpClientFacade httpClient =
                 DefaultHttpClientFacade.getInstance(actorSystem, authenticationConfig.getHttpProxyConfig());
 
+        final CachesConfig cachesConfig = gatewayConfig.getCachesConfig();
         final JwtAuthenticationFactory jwtAuthenticationFactory =
                 JwtAuthenticationFactory.newInstance(authenticationConfig.getOAuthConfig(),
-                        gatewayConfig.getCachesConfig().getPublicKeysConfig(), httpClient);
+                        cachesConfig.getPublicKeysConfig(), cachesConfig.getValidatedJwtsConfig(), httpClient);
 
         final ProtocolAdapterProvider protocolAdapterProvider =
                 ProtocolAdapterProvider.load(gatewayConfig.getProtocolConfig(), actorSystem);
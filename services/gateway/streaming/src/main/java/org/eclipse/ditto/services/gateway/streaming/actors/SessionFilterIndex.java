@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.streaming.actors;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.query.criteria.Criteria;
+import org.eclipse.ditto.model.query.criteria.CriteriaFactoryImpl;
+import org.eclipse.ditto.model.query.filter.QueryFilterCriteriaFactory;
+import org.eclipse.ditto.model.query.things.ModelBasedThingsFieldExpressionFactory;
+import org.eclipse.ditto.model.query.things.ThingPredicateVisitor;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.signals.base.Signal;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Index of the event filters of all streaming sessions of a gateway instance.
+ * Sessions with identical filters share one parsed filter, which evaluates each signal only once.
+ * Signals are recognized by identity: pub-sub delivers the same signal object to all sessions of an instance.
+ */
+@ThreadSafe
+final class SessionFilterIndex {
+
+    /**
+     * How many signals to remember the result of per filter. Results of a signal are only looked up while it is
+     * being delivered to the sessions of the instance.
+     */
+    private static final int RESULTS_PER_FILTER = 256;
+
+    private final Map<String, SessionFilter> filters = new ConcurrentHashMap<>();
+
+    /**
+     * Get the shared filter of a session, parsing it if no other session has the same filter.
+     *
+     * @param filter the RQL filter of the session.
+     * @param dittoHeaders headers of errors in the filter.
+     * @return the shared filter.
+     * @throws org.eclipse.ditto.model.base.exceptions.DittoRuntimeException if the filter is invalid.
+     */
+    SessionFilter acquire(final String filter, final DittoHeaders dittoHeaders) {
+        return filters.compute(filter, (key, sessionFilter) -> {
+            final SessionFilter result =
+                    sessionFilter != null ? sessionFilter : new SessionFilter(key, parseCriteria(key, dittoHeaders));
+            result.sessions++;
+            return result;
+        });
+    }
+
+    /**
+     * Release the filter of a session. Filters are removed from the index when no session uses them.
+     *
+     * @param sessionFilter the filter acquired for the session.
+     */
+    void release(final SessionFilter sessionFilter) {
+        filters.computeIfPresent(sessionFilter.filter, (key, existing) -> --existing.sessions <= 0 ? null : existing);
+    }
+
+    /**
+     * @return the number of distinct filters of all sessions.
+     */
+    int size() {
+        return filters.size();
+    }
+
+    private static Criteria parseCriteria(final String filter, final DittoHeaders dittoHeaders) {
+        final QueryFilterCriteriaFactory queryFilterCriteriaFactory =
+                new QueryFilterCriteriaFactory(new CriteriaFactoryImpl(), new ModelBasedThingsFieldExpressionFactory());
+        return queryFilterCriteriaFactory.filterCriteria(filter, dittoHeaders);
+    }
+
+    /**
+     * Filter shared by all streaming sessions with the same RQL filter.
+     */
+    @ThreadSafe
+    static final class SessionFilter {
+
+        private final String filter;
+        private final Predicate<Thing> thingPredicate;
+        private final Cache<Signal<?>, Boolean> results;
+
+        // guarded by the map of filters
+        private int sessions;
+
+        private SessionFilter(final String filter, final Criteria criteria) {
+            this.filter = filter;
+            thingPredicate = ThingPredicateVisitor.apply(criteria);
+            results = Caffeine.newBuilder().weakKeys().maximumSize(RESULTS_PER_FILTER).build();
+        }
+
+        /**
+         * Test whether a thing passes the filter.
+         *
+         * @param thing the thing.
+         * @return whether the thing passes the filter.
+         */
+        boolean test(final Thing thing) {
+            return thingPredicate.test(thing);
+        }
+
+        /**
+         * Test whether the thing information in a signal passes the filter. The result is computed once per signal
+         * and shared by all sessions with this filter.
+         *
+         * @param signal the signal.
+         * @param toThing extraction of thing information from the signal. Must not depend on the session.
+         * @return whether the thing information in the signal passes the filter.
+         */
+        boolean test(final Signal<?> signal, final Function<Signal<?>, Thing> toThing) {
+            return results.get(signal, s -> thingPredicate.test(toThing.apply(s)));
+        }
+
+    }
+
+}
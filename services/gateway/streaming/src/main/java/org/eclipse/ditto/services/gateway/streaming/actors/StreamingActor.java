@@ -58,6 +58,8 @@ public final class StreamingActor extends AbstractActorWithTimers implements Ret
     private final DittoProtocolSub dittoProtocolSub;
     private final ActorRef commandRouter;
     private final Gauge streamingSessionsCounter;
+    private final Gauge sessionFiltersCounter;
+    private final SessionFilterIndex sessionFilterIndex;
     private final JwtValidator jwtValidator;
     private final JwtAuthenticationResultProvider jwtAuthenticationResultProvider;
     private final Props subscriptionManagerProps;
@@ -90,6 +92,8 @@ public final class StreamingActor extends AbstractActorWithTimers implements Ret
         this.streamingConfig = streamingConfig;
         this.headerTranslator = headerTranslator;
         streamingSessionsCounter = DittoMetrics.gauge("streaming_sessions_count");
+        sessionFiltersCounter = DittoMetrics.gauge("streaming_session_filters_count");
+        sessionFilterIndex = new SessionFilterIndex();
         jwtValidator = jwtAuthenticationFactory.getJwtValidator();
         jwtAuthenticationResultProvider = jwtAuthenticationFactory.newJwtAuthenticationResultProvider();
         subscriptionManagerProps =
@@ -141,7 +145,8 @@ public final class StreamingActor extends AbstractActorWithTimers implements Ret
                     final ActorRef streamingSessionActor = getContext().actorOf(
                             StreamingSessionActor.props(connect, dittoProtocolSub,
                                     commandRouter, streamingConfig.getAcknowledgementConfig(), headerTranslator,
-                                    subscriptionManagerProps, jwtValidator, jwtAuthenticationResultProvider),
+                                    subscriptionManagerProps, jwtValidator, jwtAuthenticationResultProvider,
+                                    sessionFilterIndex),
                             sessionActorName);
                     getSender().tell(streamingSessionActor, ActorRef.noSender());
                 })
@@ -182,6 +187,7 @@ public final class StreamingActor extends AbstractActorWithTimers implements Ret
         if (getContext() != null) {
             streamingSessionsCounter.set(
                     StreamSupport.stream(getContext().getChildren().spliterator(), false).count());
+            sessionFiltersCounter.set((long) sessionFilterIndex.size());
         }
     }
 
@@ -14,14 +14,11 @@ package org.eclipse.ditto.services.gateway.streaming.actors;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.function.Predicate;
 
 import javax.annotation.Nullable;
 
 import org.eclipse.ditto.json.JsonFieldSelector;
 import org.eclipse.ditto.json.JsonObject;
-import org.eclipse.ditto.model.query.criteria.Criteria;
-import org.eclipse.ditto.model.query.things.ThingPredicateVisitor;
 import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.signals.base.Signal;
 import org.eclipse.ditto.signals.events.things.ThingEventToThingConverter;
@@ -32,22 +29,22 @@ import org.eclipse.ditto.signals.events.things.ThingEventToThingConverter;
 public final class StreamingSession {
 
     private final List<String> namespaces;
-    private final Predicate<Thing> thingPredicate;
+    @Nullable private final SessionFilterIndex.SessionFilter eventFilter;
     @Nullable private final JsonFieldSelector extraFields;
 
-    private StreamingSession(final List<String> namespaces, @Nullable final Criteria eventFilterCriteria,
+    private StreamingSession(final List<String> namespaces,
+            @Nullable final SessionFilterIndex.SessionFilter eventFilter,
             @Nullable final JsonFieldSelector extraFields) {
         this.namespaces = namespaces;
-        thingPredicate = eventFilterCriteria == null
-                ? thing -> true
-                : ThingPredicateVisitor.apply(eventFilterCriteria);
+        this.eventFilter = eventFilter;
         this.extraFields = extraFields;
     }
 
-    static StreamingSession of(final List<String> namespaces, @Nullable final Criteria eventFilterCriteria,
+    static StreamingSession of(final List<String> namespaces,
+            @Nullable final SessionFilterIndex.SessionFilter eventFilter,
             @Nullable final JsonFieldSelector extraFields) {
 
-        return new StreamingSession(namespaces, eventFilterCriteria, extraFields);
+        return new StreamingSession(namespaces, eventFilter, extraFields);
     }
 
     /**
@@ -84,6 +81,30 @@ public final class StreamingSession {
      * @return whether the thing passes the filter.
      */
     public boolean matchesFilter(final Thing thing) {
-        return thingPredicate.test(thing);
+        return eventFilter == null || eventFilter.test(thing);
+    }
+
+    /**
+     * Test whether the thing information in a signal together with extra fields from signal enrichment matches the
+     * filter defined in this session. Without extra fields, the filter is evaluated once per signal for all sessions
+     * with the same filter.
+     *
+     * @param signal the signal.
+     * @param extra extra fields from signal enrichment.
+     * @return whether the signal passes the filter.
+     * @since 2.0.0
+     */
+    public boolean matchesFilter(final Signal<?> signal, final JsonObject extra) {
+        if (eventFilter == null) {
+            return true;
+        } else if (extraFields == null || extra.isEmpty()) {
+            return eventFilter.test(signal, s -> mergeThingWithExtra(s, extra));
+        } else {
+            return eventFilter.test(mergeThingWithExtra(signal, extra));
+        }
+    }
+
+    Optional<SessionFilterIndex.SessionFilter> getEventFilter() {
+        return Optional.ofNullable(eventFilter);
     }
 }
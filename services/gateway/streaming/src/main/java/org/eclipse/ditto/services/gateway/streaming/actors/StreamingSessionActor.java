@@ -36,12 +36,6 @@ import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 import org.eclipse.ditto.model.jwt.ImmutableJsonWebToken;
 import org.eclipse.ditto.model.jwt.JsonWebToken;
 import org.eclipse.ditto.model.namespaces.NamespaceReader;
-import org.eclipse.ditto.model.query.criteria.Criteria;
-import org.eclipse.ditto.model.query.criteria.CriteriaFactory;
-import org.eclipse.ditto.model.query.criteria.CriteriaFactoryImpl;
-import org.eclipse.ditto.model.query.expression.ThingsFieldExpressionFactory;
-import org.eclipse.ditto.model.query.filter.QueryFilterCriteriaFactory;
-import org.eclipse.ditto.model.query.things.ModelBasedThingsFieldExpressionFactory;
 import org.eclipse.ditto.model.things.WithThingId;
 import org.eclipse.ditto.protocoladapter.HeaderTranslator;
 import org.eclipse.ditto.protocoladapter.TopicPath;
@@ -105,6 +99,7 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
     private final ActorRef subscriptionManager;
     private final Set<StreamingType> outstandingSubscriptionAcks;
     private final Map<StreamingType, StreamingSession> streamingSessions;
+    private final SessionFilterIndex sessionFilterIndex;
     private final JwtValidator jwtValidator;
     private final JwtAuthenticationResultProvider jwtAuthenticationResultProvider;
     private final AcknowledgementAggregatorActorStarter ackregatorStarter;
@@ -121,7 +116,8 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
             final HeaderTranslator headerTranslator,
             final Props subscriptionManagerProps,
             final JwtValidator jwtValidator,
-            final JwtAuthenticationResultProvider jwtAuthenticationResultProvider) {
+            final JwtAuthenticationResultProvider jwtAuthenticationResultProvider,
+            final SessionFilterIndex sessionFilterIndex) {
 
         jsonSchemaVersion = connect.getJsonSchemaVersion();
         connectionCorrelationId = connect.getConnectionCorrelationId();
@@ -135,6 +131,7 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
         outstandingSubscriptionAcks = EnumSet.noneOf(StreamingType.class);
         authorizationContext = AuthorizationModelFactory.emptyAuthContext();
         streamingSessions = new EnumMap<>(StreamingType.class);
+        this.sessionFilterIndex = sessionFilterIndex;
         ackregatorStarter = AcknowledgementAggregatorActorStarter.of(getContext(),
                 acknowledgementConfig,
                 headerTranslator,
@@ -164,6 +161,7 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
      * @param subscriptionManagerProps Props of the subscription manager for search protocol.
      * @param jwtValidator validator of JWT tokens.
      * @param jwtAuthenticationResultProvider provider of JWT authentication results.
+     * @param sessionFilterIndex index of the event filters of all streaming sessions of this instance.
      * @return the Akka configuration Props object.
      */
     static Props props(final Connect connect,
@@ -173,16 +171,18 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
             final HeaderTranslator headerTranslator,
             final Props subscriptionManagerProps,
             final JwtValidator jwtValidator,
-            final JwtAuthenticationResultProvider jwtAuthenticationResultProvider) {
+            final JwtAuthenticationResultProvider jwtAuthenticationResultProvider,
+            final SessionFilterIndex sessionFilterIndex) {
 
         return Props.create(StreamingSessionActor.class, connect, dittoProtocolSub,
                 commandRouter, acknowledgementConfig, headerTranslator, subscriptionManagerProps, jwtValidator,
-                jwtAuthenticationResultProvider);
+                jwtAuthenticationResultProvider, sessionFilterIndex);
     }
 
     @Override
     public void postStop() {
         cancelSessionTimeout();
+        streamingSessions.values().forEach(this::releaseEventFilter);
         logger.info("Closing <{}> streaming session.", type);
     }
 
@@ -263,10 +263,10 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
                 .match(StartStreaming.class, startStreaming -> {
                     authorizationContext = startStreaming.getAuthorizationContext();
                     logger.setCorrelationId(connectionCorrelationId);
-                    Criteria criteria;
+                    final SessionFilterIndex.SessionFilter eventFilter;
                     try {
-                        criteria = startStreaming.getFilter()
-                                .map(f -> parseCriteria(f, DittoHeaders.newBuilder()
+                        eventFilter = startStreaming.getFilter()
+                                .map(f -> sessionFilterIndex.acquire(f, DittoHeaders.newBuilder()
                                         .correlationId(startStreaming.getConnectionCorrelationId())
                                         .build()))
                                 .orElse(null);
@@ -276,9 +276,13 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
                         eventAndResponsePublisher.offer(SessionedJsonifiable.error(e));
                         return;
                     }
-                    final StreamingSession session = StreamingSession.of(startStreaming.getNamespaces(), criteria,
+                    final StreamingSession session = StreamingSession.of(startStreaming.getNamespaces(), eventFilter,
                             startStreaming.getExtraFields().orElse(null));
-                    streamingSessions.put(startStreaming.getStreamingType(), session);
+                    @Nullable final StreamingSession previousSession =
+                            streamingSessions.put(startStreaming.getStreamingType(), session);
+                    if (previousSession != null) {
+                        releaseEventFilter(previousSession);
+                    }
 
                     logger.debug("Got 'StartStreaming' message in <{}> session, subscribing for <{}> in Cluster ...",
                             type, startStreaming.getStreamingType().name());
@@ -295,7 +299,11 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
                     logger.debug("Got 'StopStreaming' message in <{}> session, unsubscribing from <{}> in Cluster ...",
                             type, stopStreaming.getStreamingType().name());
 
-                    streamingSessions.remove(stopStreaming.getStreamingType());
+                    @Nullable final StreamingSession stoppedSession =
+                            streamingSessions.remove(stopStreaming.getStreamingType());
+                    if (stoppedSession != null) {
+                        releaseEventFilter(stoppedSession);
+                    }
 
                     // In Cluster: Unsubscribe
                     final ConfirmUnsubscription unsubscribeConfirmation =
@@ -558,14 +566,8 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
         return NamespaceReader.fromEntityId(withId.getEntityId()).orElse(null);
     }
 
-    private static Criteria parseCriteria(final String filter, final DittoHeaders dittoHeaders) {
-        final CriteriaFactory criteriaFactory = new CriteriaFactoryImpl();
-        final ThingsFieldExpressionFactory fieldExpressionFactory =
-                new ModelBasedThingsFieldExpressionFactory();
-        final QueryFilterCriteriaFactory queryFilterCriteriaFactory =
-                new QueryFilterCriteriaFactory(criteriaFactory, fieldExpressionFactory);
-
-        return queryFilterCriteriaFactory.filterCriteria(filter, dittoHeaders);
+    private void releaseEventFilter(final StreamingSession session) {
+        session.getEventFilter().ifPresent(sessionFilterIndex::release);
     }
 
     private void confirmSubscription(final StreamingType streamingType) {
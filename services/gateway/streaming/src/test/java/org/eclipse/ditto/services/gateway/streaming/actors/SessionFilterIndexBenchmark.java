@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.streaming.actors;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.signals.events.things.AttributeModified;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH Benchmark of the cost of delivering one event to all streaming sessions of a gateway, with filters shared
+ * by {@link SessionFilterIndex} and with one filter per session.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SessionFilterIndexBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    private static final int DISTINCT_FILTERS = 10;
+    private static final ThingId THING_ID = ThingId.of("namespace:thing");
+    private static final JsonPointer ATTRIBUTE = JsonPointer.of("counter");
+
+    @Param({"10", "100", "1000", "10000"})
+    public int sessions;
+
+    private List<StreamingSession> sharedFilterSessions;
+    private List<StreamingSession> ownFilterSessions;
+    private long counter;
+
+    @Setup
+    public void setUp() {
+        final SessionFilterIndex sharedIndex = new SessionFilterIndex();
+        sharedFilterSessions = new ArrayList<>(sessions);
+        ownFilterSessions = new ArrayList<>(sessions);
+        for (int i = 0; i < sessions; i++) {
+            final String filter = "gt(attributes/counter," + i % DISTINCT_FILTERS + ")";
+            sharedFilterSessions.add(StreamingSession.of(Collections.emptyList(),
+                    sharedIndex.acquire(filter, DittoHeaders.empty()), null));
+            ownFilterSessions.add(StreamingSession.of(Collections.emptyList(),
+                    new SessionFilterIndex().acquire(filter, DittoHeaders.empty()), null));
+        }
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public int deliverEventWithSharedFilters() {
+        return deliver(sharedFilterSessions);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public int deliverEventWithFilterPerSession() {
+        return deliver(ownFilterSessions);
+    }
+
+    @SuppressWarnings("deprecation")
+    private int deliver(final List<StreamingSession> streamingSessions) {
+        // every event is a new object as if received from pub-sub
+        final AttributeModified event = AttributeModified.of(THING_ID, ATTRIBUTE,
+                JsonValue.of(counter++ % (2 * DISTINCT_FILTERS)), counter, DittoHeaders.empty());
+        int matches = 0;
+        for (final StreamingSession session : streamingSessions) {
+            if (session.matchesFilter(event, JsonObject.empty())) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.streaming.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.exceptions.InvalidRqlExpressionException;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.signals.base.Signal;
+import org.eclipse.ditto.signals.events.things.AttributeModified;
+import org.junit.Test;
+
+/**
+ * Tests {@link SessionFilterIndex}.
+ */
+public final class SessionFilterIndexTest {
+
+    private static final String FILTER = "eq(attributes/x,5)";
+
+    private final SessionFilterIndex underTest = new SessionFilterIndex();
+
+    @Test
+    public void identicalFiltersAreShared() {
+        final SessionFilterIndex.SessionFilter filter1 = underTest.acquire(FILTER, DittoHeaders.empty());
+        final SessionFilterIndex.SessionFilter filter2 = underTest.acquire(FILTER, DittoHeaders.empty());
+        final SessionFilterIndex.SessionFilter filter3 = underTest.acquire("exists(attributes/y)", DittoHeaders.empty());
+
+        assertThat(filter1).isSameAs(filter2).isNotSameAs(filter3);
+        assertThat(underTest.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void filtersAreRemovedWhenReleasedByAllSessions() {
+        final SessionFilterIndex.SessionFilter filter1 = underTest.acquire(FILTER, DittoHeaders.empty());
+        final SessionFilterIndex.SessionFilter filter2 = underTest.acquire(FILTER, DittoHeaders.empty());
+
+        underTest.release(filter1);
+        assertThat(underTest.size()).isEqualTo(1);
+
+        underTest.release(filter2);
+        assertThat(underTest.size()).isZero();
+        assertThat(underTest.acquire(FILTER, DittoHeaders.empty())).isNotSameAs(filter1);
+    }
+
+    @Test
+    public void invalidFiltersAreNotIndexed() {
+        assertThatExceptionOfType(InvalidRqlExpressionException.class)
+                .isThrownBy(() -> underTest.acquire("eq(attributes/x", DittoHeaders.empty()));
+        assertThat(underTest.size()).isZero();
+    }
+
+    @Test
+    public void signalIsEvaluatedOncePerFilter() {
+        final SessionFilterIndex.SessionFilter filter = underTest.acquire(FILTER, DittoHeaders.empty());
+        final StreamingSession session1 = StreamingSession.of(Collections.emptyList(), filter, null);
+        final StreamingSession session2 = StreamingSession.of(Collections.emptyList(), filter, null);
+        final AttributeModified matching = attributeModified(5);
+        final AttributeModified notMatching = attributeModified(6);
+        final AtomicInteger evaluations = new AtomicInteger();
+
+        assertThat(filter.test(matching, signal -> countEvaluation(evaluations, session1, signal))).isTrue();
+        assertThat(filter.test(matching, signal -> countEvaluation(evaluations, session2, signal))).isTrue();
+        assertThat(evaluations).hasValue(1);
+
+        assertThat(session1.matchesFilter(notMatching, JsonObject.empty())).isFalse();
+        assertThat(session2.matchesFilter(notMatching, JsonObject.empty())).isFalse();
+    }
+
+    private static Thing countEvaluation(final AtomicInteger evaluations, final StreamingSession session,
+            final Signal<?> signal) {
+
+        evaluations.incrementAndGet();
+        return session.mergeThingWithExtra(signal, JsonObject.empty());
+    }
+
+    @SuppressWarnings("deprecation")
+    private static AttributeModified attributeModified(final int value) {
+        return AttributeModified.of(ThingId.of("namespace:thing"), JsonPointer.of("x"), JsonValue.of(value), 1L,
+                DittoHeaders.empty());
+    }
+
+}
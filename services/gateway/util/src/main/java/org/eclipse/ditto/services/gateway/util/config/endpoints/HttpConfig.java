@@ -103,6 +103,15 @@ public interface HttpConfig extends org.eclipse.ditto.services.base.config.http.
      */
     Set<String> getAdditionalAcceptedMediaTypes();
 
+    /**
+     * Indicates whether the things of {@code RetrieveThings} and search results are written to the HTTP client in
+     * chunks as soon as they are retrieved instead of being collected into one response.
+     *
+     * @return {@code true} if the responses should be streamed, {@code false} else.
+     * @since 2.0.0
+     */
+    boolean isStreamedResponsesEnabled();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code HttpConfig}.
@@ -167,7 +176,14 @@ public interface HttpConfig extends org.eclipse.ditto.services.base.config.http.
          *
          * @since 1.1.0
          */
-        ADDITIONAL_ACCEPTED_MEDIA_TYPES("additional-accepted-media-types", MediaTypes.APPLICATION_OCTET_STREAM.toString());
+        ADDITIONAL_ACCEPTED_MEDIA_TYPES("additional-accepted-media-types", MediaTypes.APPLICATION_OCTET_STREAM.toString()),
+
+        /**
+         * Determines whether the things of {@code RetrieveThings} and search results are streamed to the client.
+         *
+         * @since 2.0.0
+         */
+        STREAMED_RESPONSES_ENABLED("streamed-responses-enabled", false);
 
         private final String path;
         private final Object defaultValue;
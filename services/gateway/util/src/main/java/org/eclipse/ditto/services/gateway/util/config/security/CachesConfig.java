@@ -29,4 +29,13 @@ public interface CachesConfig {
      */
     CacheConfig getPublicKeysConfig();
 
+    /**
+     * Returns the configuration settings of the cache of successfully validated JSON web tokens.
+     * Cache entries expire at the latest at the expiration time of their token.
+     *
+     * @return the config.
+     * @since 2.0.0
+     */
+    CacheConfig getValidatedJwtsConfig();
+
 }
@@ -31,9 +31,11 @@ public final class DefaultCachesConfig implements CachesConfig {
     private static final String CONFIG_PATH = "cache";
 
     private final CacheConfig publicKeysConfig;
+    private final CacheConfig validatedJwtsConfig;
 
-    private DefaultCachesConfig(final CacheConfig thePublicKeysConfig) {
+    private DefaultCachesConfig(final CacheConfig thePublicKeysConfig, final CacheConfig theValidatedJwtsConfig) {
         publicKeysConfig = thePublicKeysConfig;
+        validatedJwtsConfig = theValidatedJwtsConfig;
     }
 
     /**
@@ -45,7 +47,8 @@ public final class DefaultCachesConfig implements CachesConfig {
      */
     public static DefaultCachesConfig of(final Config config) {
         final DefaultScopedConfig cacheScopedConfig = DefaultScopedConfig.newInstance(config, CONFIG_PATH);
-        return new DefaultCachesConfig(DefaultCacheConfig.of(cacheScopedConfig, "publickeys"));
+        return new DefaultCachesConfig(DefaultCacheConfig.of(cacheScopedConfig, "publickeys"),
+                DefaultCacheConfig.of(cacheScopedConfig, "validated-jwts"));
     }
 
     @Override
@@ -53,6 +56,11 @@ public final class DefaultCachesConfig implements CachesConfig {
         return publicKeysConfig;
     }
 
+    @Override
+    public CacheConfig getValidatedJwtsConfig() {
+        return validatedJwtsConfig;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -62,18 +70,20 @@ public final class DefaultCachesConfig implements CachesConfig {
             return false;
         }
         final DefaultCachesConfig that = (DefaultCachesConfig) o;
-        return Objects.equals(publicKeysConfig, that.publicKeysConfig);
+        return Objects.equals(publicKeysConfig, that.publicKeysConfig) &&
+                Objects.equals(validatedJwtsConfig, that.validatedJwtsConfig);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(publicKeysConfig);
+        return Objects.hash(publicKeysConfig, validatedJwtsConfig);
     }
 
     @Override
     public String toString() {
         return getClass().getSimpleName() + " [" +
                 "publicKeysConfig=" + publicKeysConfig +
+                ", validatedJwtsConfig=" + validatedJwtsConfig +
                 "]";
     }
 
@@ -178,6 +178,16 @@ public final class GatewayHttpConfigTest {
                 .contains(MediaTypes.APPLICATION_OCTET_STREAM.toString());
     }
 
+    @Test
+    public void streamedResponsesAreDisabledByDefault() {
+        softly.assertThat(GatewayHttpConfig.of(ConfigFactory.empty()).isStreamedResponsesEnabled())
+                .as(HttpConfig.GatewayHttpConfigValue.STREAMED_RESPONSES_ENABLED.getConfigPath())
+                .isFalse();
+        softly.assertThat(GatewayHttpConfig.of(gatewayHttpTestConfig).isStreamedResponsesEnabled())
+                .as(HttpConfig.GatewayHttpConfigValue.STREAMED_RESPONSES_ENABLED.getConfigPath())
+                .isTrue();
+    }
+
     @Test
     public void testMultipleCommaSeparatedMediaTypes() {
         final Config gatewayTestConfig = ConfigFactory.parseString("http {\n additional-accepted-media-types = " +
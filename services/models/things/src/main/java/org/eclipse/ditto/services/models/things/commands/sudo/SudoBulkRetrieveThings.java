@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.models.things.commands.sudo;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.entity.id.EntityId;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.FieldType;
+import org.eclipse.ditto.model.base.json.JsonParsableCommand;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.signals.commands.base.AbstractCommand;
+import org.eclipse.ditto.utils.jsr305.annotations.AllValuesAreNonnullByDefault;
+
+/**
+ * Command which retrieves several {@link org.eclipse.ditto.model.things.Thing}s of the same shard in their original
+ * schema version without authorization. The command is routed through the Things shard region by the ID of its first
+ * Thing, so that the Things are retrieved on the cluster node which hosts their shard. It is answered by an
+ * {@code akka.stream.SourceRef} of the JSON strings of the Things which could be retrieved, so that each Thing is
+ * transferred in a message of its own. This command is sent only internally by the Ditto services, e.g. search, in
+ * order to synchronize their Things cache.
+ */
+@Immutable
+@AllValuesAreNonnullByDefault
+@JsonParsableCommand(typePrefix = SudoBulkRetrieveThings.TYPE_PREFIX, name = SudoBulkRetrieveThings.NAME)
+public final class SudoBulkRetrieveThings extends AbstractCommand<SudoBulkRetrieveThings>
+        implements SudoCommand<SudoBulkRetrieveThings> {
+
+    /**
+     * Name of the "Sudo Bulk Retrieve Things" command.
+     */
+    public static final String NAME = "sudoBulkRetrieveThings";
+
+    /**
+     * Type of this command.
+     */
+    public static final String TYPE = TYPE_PREFIX + NAME;
+
+    static final JsonFieldDefinition<JsonArray> JSON_THING_IDS =
+            JsonFactory.newJsonArrayFieldDefinition("payload/thingIds", FieldType.REGULAR, JsonSchemaVersion.V_2);
+
+    private final List<ThingId> thingIds;
+
+    private SudoBulkRetrieveThings(final List<ThingId> thingIds, final DittoHeaders dittoHeaders) {
+        super(TYPE, dittoHeaders);
+        checkNotNull(thingIds, "Thing IDs");
+        if (thingIds.isEmpty()) {
+            throw new IllegalArgumentException("The Thing IDs must not be empty!");
+        }
+        this.thingIds = Collections.unmodifiableList(new ArrayList<>(thingIds));
+    }
+
+    /**
+     * Creates a new {@code SudoBulkRetrieveThings}.
+     *
+     * @param thingIds one or more IDs of Things belonging to the same shard.
+     * @param dittoHeaders the command headers of the request.
+     * @return a command for retrieving Things without authorization.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @throws IllegalArgumentException if {@code thingIds} is empty.
+     */
+    public static SudoBulkRetrieveThings of(final List<ThingId> thingIds, final DittoHeaders dittoHeaders) {
+        return new SudoBulkRetrieveThings(thingIds, dittoHeaders);
+    }
+
+    /**
+     * Creates a new {@code SudoBulkRetrieveThings} from a JSON string.
+     *
+     * @param jsonString the JSON string of which a new SudoBulkRetrieveThings is to be created.
+     * @param dittoHeaders the optional command headers of the request.
+     * @return the SudoBulkRetrieveThings which was created from the given JSON string.
+     * @throws NullPointerException if {@code jsonString} is {@code null}.
+     * @throws IllegalArgumentException if {@code jsonString} is empty.
+     * @throws org.eclipse.ditto.json.JsonParseException if the passed in {@code jsonString} does not contain a JSON
+     * object or if it is not valid JSON.
+     * @throws org.eclipse.ditto.json.JsonMissingFieldException if the passed in {@code jsonString} was not in the
+     * expected format.
+     */
+    public static SudoBulkRetrieveThings fromJson(final String jsonString, final DittoHeaders dittoHeaders) {
+        return fromJson(JsonFactory.newObject(jsonString), dittoHeaders);
+    }
+
+    /**
+     * Creates a new {@code SudoBulkRetrieveThings} from a JSON object.
+     *
+     * @param jsonObject the JSON object of which a new SudoBulkRetrieveThings is to be created.
+     * @param dittoHeaders the optional command headers of the request.
+     * @return the SudoBulkRetrieveThings which was created from the given JSON object.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     * @throws org.eclipse.ditto.json.JsonMissingFieldException if the passed in {@code jsonObject} was not in the
+     * expected format.
+     */
+    public static SudoBulkRetrieveThings fromJson(final JsonObject jsonObject, final DittoHeaders dittoHeaders) {
+        final List<ThingId> extractedThingIds = jsonObject.getValueOrThrow(JSON_THING_IDS)
+                .stream()
+                .filter(JsonValue::isString)
+                .map(JsonValue::asString)
+                .map(ThingId::of)
+                .collect(Collectors.toList());
+
+        return of(extractedThingIds, dittoHeaders);
+    }
+
+    /**
+     * Returns the IDs of the Things to be retrieved by this command.
+     *
+     * @return an unmodifiable list containing the IDs of Things to be retrieved by this command (in order how
+     * they were requested).
+     */
+    public List<ThingId> getThingIds() {
+        return thingIds;
+    }
+
+    @Override
+    public String getId() {
+        return String.valueOf(getEntityId());
+    }
+
+    /**
+     * Returns the ID of the first Thing to be retrieved. It determines the shard this command is routed to.
+     *
+     * @return the ID of the first Thing.
+     */
+    @Override
+    public EntityId getEntityId() {
+        return thingIds.get(0);
+    }
+
+    @Override
+    protected void appendPayload(final JsonObjectBuilder jsonObjectBuilder, final JsonSchemaVersion schemaVersion,
+            final Predicate<JsonField> thePredicate) {
+
+        final Predicate<JsonField> predicate = schemaVersion.and(thePredicate);
+
+        final JsonArray thingIdsJsonArray = thingIds.stream()
+                .map(String::valueOf)
+                .map(JsonFactory::newValue)
+                .collect(JsonCollectors.valuesToArray());
+
+        jsonObjectBuilder.set(JSON_THING_IDS, thingIdsJsonArray, predicate);
+    }
+
+    @Override
+    public Category getCategory() {
+        return Category.QUERY;
+    }
+
+    @Override
+    public SudoBulkRetrieveThings setDittoHeaders(final DittoHeaders dittoHeaders) {
+        return of(thingIds, dittoHeaders);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(thingIds, super.hashCode());
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final SudoBulkRetrieveThings that = (SudoBulkRetrieveThings) obj;
+        return that.canEqual(this) && Objects.equals(thingIds, that.thingIds) && super.equals(that);
+    }
+
+    @Override
+    protected boolean canEqual(@Nullable final Object other) {
+        return other instanceof SudoBulkRetrieveThings;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" + super.toString() + ", thingIds=" + thingIds + "]";
+    }
+
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.models.things.commands.sudo;
+
+import static org.eclipse.ditto.json.assertions.DittoJsonAssertions.assertThat;
+import static org.mutabilitydetector.unittesting.AllowedReason.provided;
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.assertj.core.api.Assertions;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.FieldType;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.models.things.TestConstants.Thing;
+import org.eclipse.ditto.signals.commands.base.Command;
+import org.eclipse.ditto.signals.commands.base.GlobalCommandRegistry;
+import org.junit.Test;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link SudoBulkRetrieveThings}.
+ */
+public final class SudoBulkRetrieveThingsTest {
+
+    private static final JsonArray THING_IDS = JsonFactory.newArrayBuilder()
+            .add(Thing.THING_ID.toString(), ThingId.of(Thing.THING_ID.getNamespace(), "otherThingId").toString())
+            .build();
+
+    private static final JsonObject KNOWN_JSON = JsonFactory.newObjectBuilder()
+            .set(Command.JsonFields.TYPE, SudoBulkRetrieveThings.TYPE)
+            .set(SudoBulkRetrieveThings.JSON_THING_IDS, THING_IDS)
+            .build();
+
+    private static final DittoHeaders EMPTY_DITTO_HEADERS = DittoHeaders.empty();
+
+    private static List<ThingId> getThingIds() {
+        return THING_IDS.stream().map(JsonValue::asString).map(ThingId::of).collect(Collectors.toList());
+    }
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(SudoBulkRetrieveThings.class,
+                areImmutable(),
+                provided(AuthorizationContext.class, ThingId.class).isAlsoImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(SudoBulkRetrieveThings.class)
+                .withRedefinedSuperclass()
+                .verify();
+    }
+
+    @Test
+    public void toJsonReturnsExpected() {
+        final SudoBulkRetrieveThings underTest = SudoBulkRetrieveThings.of(getThingIds(), EMPTY_DITTO_HEADERS);
+        final JsonObject actualJson = underTest.toJson(FieldType.regularOrSpecial());
+
+        assertThat(actualJson).isEqualTo(KNOWN_JSON);
+    }
+
+    @Test
+    public void createInstanceFromValidJson() {
+        final SudoBulkRetrieveThings underTest =
+                SudoBulkRetrieveThings.fromJson(KNOWN_JSON.toString(), EMPTY_DITTO_HEADERS);
+
+        assertThat(underTest).isNotNull();
+        assertThat(underTest.getThingIds()).isEqualTo(getThingIds());
+    }
+
+    @Test
+    public void entityIdIsFirstThingId() {
+        final SudoBulkRetrieveThings underTest = SudoBulkRetrieveThings.of(getThingIds(), EMPTY_DITTO_HEADERS);
+
+        assertThat(underTest.getEntityId()).isEqualTo(Thing.THING_ID);
+    }
+
+    @Test
+    public void createInstanceWithoutThingIdsFails() {
+        Assertions.assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> SudoBulkRetrieveThings.of(Collections.emptyList(), EMPTY_DITTO_HEADERS));
+    }
+
+    @Test
+    public void checkSudoCommandTypeWorks() {
+        final SudoBulkRetrieveThings sudoBulkRetrieveThings =
+                SudoBulkRetrieveThings.fromJson(KNOWN_JSON.toString(), EMPTY_DITTO_HEADERS);
+
+        final Command sudoCommand = GlobalCommandRegistry.getInstance().parse(KNOWN_JSON, EMPTY_DITTO_HEADERS);
+
+        assertThat(sudoBulkRetrieveThings).isEqualTo(sudoCommand);
+    }
+
+}
@@ -15,6 +15,7 @@ package org.eclipse.ditto.services.things.common.config;
 import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.services.base.config.supervision.WithSupervisorConfig;
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.WithActivityCheckConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.WithSnapshotConfig;
 
@@ -23,4 +24,45 @@ import org.eclipse.ditto.services.utils.persistence.mongo.config.WithSnapshotCon
  */
 @Immutable
 public interface ThingConfig extends WithSupervisorConfig, WithActivityCheckConfig, WithSnapshotConfig {
+
+    /**
+     * Indicates whether the events of modifications which arrive while a journal write is in flight are persisted
+     * together by one subsequent journal write.
+     *
+     * @return whether group commit of thing events is enabled.
+     * @since 2.0.0
+     */
+    boolean isGroupCommitEnabled();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code ThingConfig}.
+     */
+    enum ThingConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether group commit of thing events is enabled.
+         */
+        GROUP_COMMIT("group-commit", false);
+
+        private final String path;
+        private final Object defaultValue;
+
+        ThingConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+    }
+
 }
@@ -39,6 +39,7 @@ import org.eclipse.ditto.signals.commands.things.exceptions.ThingNotAccessibleEx
 import org.eclipse.ditto.signals.commands.things.modify.CreateThing;
 import org.eclipse.ditto.signals.events.things.ThingEvent;
 
+import akka.actor.ActorRef;
 import akka.actor.Props;
 import akka.persistence.RecoveryCompleted;
 
@@ -174,7 +175,17 @@ public final class ThingPersistenceActor
 
     @Override
     protected void publishEvent(final ThingEvent event) {
-        distributedPub.publish(event, getSender());
+        publishEvent(event, getSender());
+    }
+
+    @Override
+    protected void publishEvent(final ThingEvent event, final ActorRef sender) {
+        distributedPub.publish(event, sender);
+    }
+
+    @Override
+    protected boolean isGroupCommitEnabled() {
+        return thingConfig.isGroupCommitEnabled();
     }
 
     @Override
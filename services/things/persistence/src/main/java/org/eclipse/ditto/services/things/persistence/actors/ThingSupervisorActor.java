@@ -14,15 +14,23 @@ package org.eclipse.ditto.services.things.persistence.actors;
 
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Optional;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.eclipse.ditto.model.base.entity.id.DefaultNamespacedEntityId;
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeExceptionBuilder;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.base.actors.ShutdownBehaviour;
 import org.eclipse.ditto.services.base.config.supervision.ExponentialBackOffConfig;
+import org.eclipse.ditto.services.models.things.ThingsMessagingConstants;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoBulkRetrieveThings;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThing;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingResponse;
 import org.eclipse.ditto.services.things.common.config.DittoThingsConfig;
 import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
 import org.eclipse.ditto.services.utils.persistentactors.AbstractPersistenceSupervisor;
@@ -33,6 +41,13 @@ import org.eclipse.ditto.signals.events.things.ThingEvent;
 import akka.actor.ActorKilledException;
 import akka.actor.ActorRef;
 import akka.actor.Props;
+import akka.cluster.sharding.ClusterSharding;
+import akka.japi.pf.ReceiveBuilder;
+import akka.pattern.Patterns;
+import akka.stream.SourceRef;
+import akka.stream.SystemMaterializer;
+import akka.stream.javadsl.Source;
+import akka.stream.javadsl.StreamRefs;
 
 /**
  * Supervisor for {@link ThingPersistenceActor} which means it will create, start and watch it as child actor.
@@ -44,6 +59,11 @@ import akka.actor.Props;
  */
 public final class ThingSupervisorActor extends AbstractPersistenceSupervisor<ThingId> {
 
+    /**
+     * Timeout of retrieving one Thing of a {@link SudoBulkRetrieveThings} command without timeout header.
+     */
+    private static final Duration DEFAULT_BULK_RETRIEVE_TIMEOUT = Duration.ofSeconds(10L);
+
     private final ActorRef pubSubMediator;
     private final DistributedPub<ThingEvent> distributedPub;
     private final ThingPersistenceActorPropsFactory thingPersistenceActorPropsFactory;
@@ -83,6 +103,13 @@ public final class ThingSupervisorActor extends AbstractPersistenceSupervisor<Th
         return ThingId.of(URLDecoder.decode(getSelf().path().name(), StandardCharsets.UTF_8.name()));
     }
 
+    @Override
+    protected Receive activeBehaviour() {
+        return ReceiveBuilder.create()
+                .match(SudoBulkRetrieveThings.class, this::bulkRetrieveThings)
+                .build();
+    }
+
     @Override
     @Nonnull
     protected Props getPersistenceActorProps(@Nonnull final ThingId entityId) {
@@ -105,6 +132,38 @@ public final class ThingSupervisorActor extends AbstractPersistenceSupervisor<Th
         }
     }
 
+    /**
+     * Retrieve the Things of a bulk command through the local shard region. As they belong to the shard of this
+     * actor, they are delivered without leaving this cluster node. The Things are streamed to the sender through a
+     * {@link SourceRef}, one Thing per element, so that the size of a remote message does not grow with the number of
+     * Things. Things which could not be retrieved are omitted from the stream.
+     *
+     * @param command the command to retrieve Things of the shard of this actor.
+     */
+    private void bulkRetrieveThings(final SudoBulkRetrieveThings command) {
+        final ActorRef sender = getSender();
+        final ActorRef self = getSelf();
+        final ActorRef thingsShardRegion =
+                ClusterSharding.get(getContext().getSystem()).shardRegion(ThingsMessagingConstants.SHARD_REGION);
+        final DittoHeaders dittoHeaders = command.getDittoHeaders();
+        final Duration timeout = dittoHeaders.getTimeout().orElse(DEFAULT_BULK_RETRIEVE_TIMEOUT);
+        log.debug("Retrieving <{}> Things of the shard of <{}>.", command.getThingIds().size(), command.getEntityId());
+
+        final SourceRef<String> things = Source.from(command.getThingIds())
+                .mapAsyncUnordered(command.getThingIds().size(), thingId -> Patterns.ask(thingsShardRegion,
+                        SudoRetrieveThing.withOriginalSchemaVersion(thingId, dittoHeaders), timeout)
+                        .handle((response, error) -> {
+                            if (response instanceof SudoRetrieveThingResponse) {
+                                return Optional.of(((SudoRetrieveThingResponse) response).getEntity().toString());
+                            } else {
+                                return Optional.<String>empty();
+                            }
+                        }))
+                .mapConcat(thing -> thing.map(Collections::singletonList).orElse(Collections.emptyList()))
+                .runWith(StreamRefs.sourceRef(), SystemMaterializer.get(getContext().getSystem()).materializer());
+        sender.tell(things, self);
+    }
+
     @Override
     @Nonnull
     protected ExponentialBackOffConfig getExponentialBackOffConfig() {
@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.persistence.actors;
+
+import static org.eclipse.ditto.model.base.assertions.DittoBaseAssertions.assertThat;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+import org.awaitility.Awaitility;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.entity.id.DefaultEntityId;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.model.things.ThingsModelFactory;
+import org.eclipse.ditto.services.things.persistence.serializer.ThingMongoSnapshotAdapter;
+import org.eclipse.ditto.services.utils.test.Retry;
+import org.eclipse.ditto.signals.commands.cleanup.CleanupPersistence;
+import org.eclipse.ditto.signals.commands.cleanup.CleanupPersistenceResponse;
+import org.eclipse.ditto.signals.commands.things.modify.CreateThing;
+import org.eclipse.ditto.signals.commands.things.modify.CreateThingResponse;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyAttribute;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyAttributeResponse;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThing;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThingResponse;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ActorRef;
+import akka.actor.PoisonPill;
+import akka.persistence.DeleteSnapshotsSuccess;
+import akka.persistence.Persistence;
+import akka.persistence.SelectedSnapshot;
+import akka.persistence.SnapshotProtocol;
+import akka.persistence.SnapshotSelectionCriteria;
+import akka.testkit.javadsl.TestKit;
+import scala.Option;
+
+/**
+ * Unit test for the delta snapshots and the snapshots on passivation of {@link ThingPersistenceActor}.
+ */
+public final class ThingPersistenceActorDeltaSnapshotTest extends PersistenceActorTestBase {
+
+    private static final String SNAPSHOT_PLUGIN_ID = "akka-contrib-mongodb-persistence-things-snapshots";
+    private static final JsonPointer COUNTER = JsonPointer.of("counter");
+    private static final long FULL_SNAPSHOT_REVISION = 2L;
+    private static final long DELTA_SNAPSHOT_REVISION = 4L;
+    private static final long LATEST_REVISION = 5L;
+
+    private static final Config DELTA_SNAPSHOT_CONFIG = ConfigFactory.parseString("ditto.things.thing.snapshot {\n" +
+            "  threshold = 2\n" +
+            "  delta-enabled = true\n" +
+            "  delta-threshold = 100\n" +
+            "}");
+
+    private final ThingMongoSnapshotAdapter snapshotAdapter = new ThingMongoSnapshotAdapter();
+
+    @Test
+    public void recoversFromDeltaSnapshotAndEventsAfterIt() {
+        setup(DELTA_SNAPSHOT_CONFIG);
+        new TestKit(actorSystem) {{
+            final ThingId thingId = createThingWithDeltaSnapshot(this);
+
+            final SelectedSnapshot deltaSnapshot = loadSnapshot(thingId, DELTA_SNAPSHOT_REVISION)
+                    .orElseThrow(() -> new AssertionError("No delta snapshot found."));
+            assertThat(snapshotAdapter.getBaseSequenceNumber(deltaSnapshot.snapshot()))
+                    .isEqualTo(OptionalLong.of(FULL_SNAPSHOT_REVISION));
+
+            final ActorRef underTest = Retry.untilSuccess(() -> createPersistenceActorFor(thingId));
+            assertCounter(this, underTest, thingId, LATEST_REVISION, LATEST_REVISION - 1);
+        }};
+    }
+
+    @Test
+    public void missingBaseSnapshotStopsTheActor() {
+        setup(DELTA_SNAPSHOT_CONFIG);
+        disableLogging();
+        new TestKit(actorSystem) {{
+            final ThingId thingId = createThingWithDeltaSnapshot(this);
+
+            getSnapshotStore().tell(new SnapshotProtocol.DeleteSnapshots(toPersistenceId(thingId),
+                    SnapshotSelectionCriteria.create(FULL_SNAPSHOT_REVISION, Long.MAX_VALUE, FULL_SNAPSHOT_REVISION,
+                            0L)), getRef());
+            expectMsgClass(DeleteSnapshotsSuccess.class);
+
+            final ActorRef underTest = Retry.untilSuccess(() -> createPersistenceActorFor(thingId));
+            watch(underTest);
+            expectTerminated(dilated(Duration.ofSeconds(10)), underTest);
+        }};
+    }
+
+    @Test
+    public void messagesArrivingWhileTheBaseSnapshotIsLoadedAreStashed() {
+        setup(DELTA_SNAPSHOT_CONFIG);
+        new TestKit(actorSystem) {{
+            final ThingId thingId = createThingWithDeltaSnapshot(this);
+
+            // the messages arrive during the replay of the journal or while the base snapshot is loaded
+            final ActorRef underTest = Retry.untilSuccess(() -> createPersistenceActorFor(thingId));
+            underTest.tell(ModifyAttribute.of(thingId, COUNTER, JsonValue.of(100), dittoHeadersV2), getRef());
+            underTest.tell(retrieveThing(thingId), getRef());
+
+            expectMsgClass(dilated(Duration.ofSeconds(10)), ModifyAttributeResponse.class);
+            final Thing thing = expectMsgClass(RetrieveThingResponse.class).getThing();
+            assertThat(thing.getRevision()).contains(ThingsModelFactory.newThingRevision(LATEST_REVISION + 1));
+            assertThat(thing.getAttributes().flatMap(attributes -> attributes.getValue(COUNTER)))
+                    .contains(JsonValue.of(100));
+        }};
+    }
+
+    @Test
+    public void cleanupKeepsTheBaseOfTheLatestDeltaSnapshot() {
+        setup(DELTA_SNAPSHOT_CONFIG);
+        new TestKit(actorSystem) {{
+            final ThingId thingId = createThingWithDeltaSnapshot(this);
+            final ActorRef underTest = Retry.untilSuccess(() -> createPersistenceActorFor(thingId));
+            assertCounter(this, underTest, thingId, LATEST_REVISION, LATEST_REVISION - 1);
+
+            underTest.tell(CleanupPersistence.of(thingId, DittoHeaders.empty()), getRef());
+            expectMsg(CleanupPersistenceResponse.success(DefaultEntityId.of(toPersistenceId(thingId)),
+                    DittoHeaders.empty()));
+
+            assertThat(loadSnapshot(thingId, FULL_SNAPSHOT_REVISION).map(snapshot -> snapshot.metadata().sequenceNr()))
+                    .contains(FULL_SNAPSHOT_REVISION);
+            assertThat(loadSnapshot(thingId, DELTA_SNAPSHOT_REVISION).map(snapshot -> snapshot.metadata().sequenceNr()))
+                    .contains(DELTA_SNAPSHOT_REVISION);
+
+            // the entity is still recovered from the delta snapshot and its base after the cleanup
+            stop(this, underTest);
+            final ActorRef underTestAfterCleanup = Retry.untilSuccess(() -> createPersistenceActorFor(thingId));
+            assertCounter(this, underTestAfterCleanup, thingId, LATEST_REVISION, LATEST_REVISION - 1);
+        }};
+    }
+
+    @Test
+    public void snapshotIsTakenOnPassivation() {
+        setup(ConfigFactory.parseString("ditto.things.thing.snapshot {\n" +
+                "  threshold = 100\n" +
+                "  on-passivation = true\n" +
+                "}"));
+        new TestKit(actorSystem) {{
+            final Thing thing = createThingV2WithRandomId();
+            final ThingId thingId = thing.getEntityId().orElseThrow(IllegalStateException::new);
+            final ActorRef underTest = createPersistenceActorFor(thingId);
+            underTest.tell(CreateThing.of(thing, null, dittoHeadersV2), getRef());
+            expectMsgClass(dilated(Duration.ofSeconds(10)), CreateThingResponse.class);
+            modifyCounter(this, underTest, thingId, 1);
+            assertThat(loadSnapshot(thingId, Long.MAX_VALUE)).isEmpty();
+
+            stop(this, underTest);
+
+            awaitSnapshot(thingId, 2L);
+            final SelectedSnapshot snapshot = loadSnapshot(thingId, Long.MAX_VALUE)
+                    .orElseThrow(() -> new AssertionError("No snapshot found."));
+            assertThat(snapshot.metadata().sequenceNr()).isEqualTo(2L);
+        }};
+    }
+
+    /**
+     * Creates a thing with a full snapshot at revision 2, a delta snapshot at revision 4 and an event at revision 5.
+     * The persistence actor of the thing is stopped afterwards.
+     */
+    private ThingId createThingWithDeltaSnapshot(final TestKit testKit) {
+        final Thing thing = createThingV2WithRandomId();
+        final ThingId thingId = thing.getEntityId().orElseThrow(IllegalStateException::new);
+        final ActorRef underTest = createPersistenceActorFor(thingId);
+
+        underTest.tell(CreateThing.of(thing, null, dittoHeadersV2), testKit.getRef());
+        testKit.expectMsgClass(testKit.dilated(Duration.ofSeconds(10)), CreateThingResponse.class);
+        modifyCounter(testKit, underTest, thingId, 1);
+        awaitSnapshot(thingId, FULL_SNAPSHOT_REVISION);
+        modifyCounter(testKit, underTest, thingId, 2);
+        modifyCounter(testKit, underTest, thingId, 3);
+        awaitSnapshot(thingId, DELTA_SNAPSHOT_REVISION);
+        modifyCounter(testKit, underTest, thingId, 4);
+
+        stop(testKit, underTest);
+        return thingId;
+    }
+
+    private void modifyCounter(final TestKit testKit, final ActorRef underTest, final ThingId thingId,
+            final int value) {
+
+        underTest.tell(ModifyAttribute.of(thingId, COUNTER, JsonValue.of(value), dittoHeadersV2), testKit.getRef());
+        testKit.expectMsgClass(ModifyAttributeResponse.class);
+    }
+
+    private void assertCounter(final TestKit testKit, final ActorRef underTest, final ThingId thingId,
+            final long expectedRevision, final long expectedCounter) {
+
+        underTest.tell(retrieveThing(thingId), testKit.getRef());
+        final Thing thing = testKit.expectMsgClass(testKit.dilated(Duration.ofSeconds(10)),
+                RetrieveThingResponse.class).getThing();
+        assertThat(thing.getRevision()).contains(ThingsModelFactory.newThingRevision(expectedRevision));
+        assertThat(thing.getAttributes().flatMap(attributes -> attributes.getValue(COUNTER)))
+                .contains(JsonValue.of(expectedCounter));
+    }
+
+    private RetrieveThing retrieveThing(final ThingId thingId) {
+        return RetrieveThing.getBuilder(thingId, dittoHeadersV2)
+                .withSelectedFields(JsonFactory.newFieldSelector(Thing.JsonFields.REVISION.getPointer(),
+                        Thing.JsonFields.ATTRIBUTES.getPointer()))
+                .build();
+    }
+
+    private static void stop(final TestKit testKit, final ActorRef underTest) {
+        testKit.watch(underTest);
+        underTest.tell(PoisonPill.getInstance(), testKit.getRef());
+        testKit.expectTerminated(underTest);
+    }
+
+    private void awaitSnapshot(final ThingId thingId, final long sequenceNumber) {
+        Awaitility.await().atMost(10L, TimeUnit.SECONDS)
+                .until(() -> loadSnapshot(thingId, sequenceNumber)
+                        .filter(snapshot -> snapshot.metadata().sequenceNr() == sequenceNumber)
+                        .isPresent());
+    }
+
+    private Optional<SelectedSnapshot> loadSnapshot(final ThingId thingId, final long maxSequenceNumber) {
+        final TestKit probe = new TestKit(actorSystem);
+        getSnapshotStore().tell(new SnapshotProtocol.LoadSnapshot(toPersistenceId(thingId),
+                SnapshotSelectionCriteria.create(maxSequenceNumber, Long.MAX_VALUE), maxSequenceNumber),
+                probe.getRef());
+        final Option<SelectedSnapshot> snapshot =
+                probe.expectMsgClass(SnapshotProtocol.LoadSnapshotResult.class).snapshot();
+        return snapshot.isDefined() ? Optional.of(snapshot.get()) : Optional.empty();
+    }
+
+    private ActorRef getSnapshotStore() {
+        return Persistence.get(actorSystem).snapshotStoreFor(SNAPSHOT_PLUGIN_ID, ConfigFactory.empty());
+    }
+
+    private static String toPersistenceId(final ThingId thingId) {
+        return ThingPersistenceActor.PERSISTENCE_ID_PREFIX + thingId;
+    }
+
+}
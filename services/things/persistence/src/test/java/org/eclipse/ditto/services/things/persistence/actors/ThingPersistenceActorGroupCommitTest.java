@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.persistence.actors;
+
+import static org.eclipse.ditto.model.base.assertions.DittoBaseAssertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.awaitility.Awaitility;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.model.things.ThingsModelFactory;
+import org.eclipse.ditto.services.utils.test.Retry;
+import org.eclipse.ditto.signals.commands.things.modify.CreateThing;
+import org.eclipse.ditto.signals.commands.things.modify.CreateThingResponse;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyAttribute;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyAttributeResponse;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveAttribute;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveAttributeResponse;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThing;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThingResponse;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ActorRef;
+import akka.actor.PoisonPill;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Unit test for the group commit of events by {@link ThingPersistenceActor}.
+ */
+public final class ThingPersistenceActorGroupCommitTest extends PersistenceActorTestBase {
+
+    private static final int MODIFICATIONS = 20;
+    private static final JsonPointer COUNTER = JsonPointer.of("counter");
+    private static final Config GROUP_COMMIT_CONFIG =
+            ConfigFactory.parseString("ditto.things.thing.group-commit = true");
+
+    @Test
+    public void modificationsArrivingDuringJournalWritesAreAnsweredInOrder() {
+        setup(GROUP_COMMIT_CONFIG);
+        new TestKit(actorSystem) {{
+            final Thing thing = createThingV2WithRandomId();
+            final ThingId thingId = thing.getEntityId().orElseThrow(IllegalStateException::new);
+            final ActorRef underTest = createPersistenceActorFor(thingId);
+
+            underTest.tell(CreateThing.of(thing, null, dittoHeadersV2), getRef());
+            for (int i = 0; i < MODIFICATIONS; i++) {
+                underTest.tell(ModifyAttribute.of(thingId, COUNTER, JsonValue.of(i), dittoHeadersV2), getRef());
+            }
+            underTest.tell(RetrieveAttribute.of(thingId, COUNTER, dittoHeadersV2), getRef());
+
+            expectMsgClass(dilated(Duration.ofSeconds(10)), CreateThingResponse.class);
+            for (int i = 0; i < MODIFICATIONS; i++) {
+                final ModifyAttributeResponse response = expectMsgClass(ModifyAttributeResponse.class);
+                assertThat(response.getAttributePointer()).isEqualTo(COUNTER);
+            }
+            assertThat(expectMsgClass(RetrieveAttributeResponse.class).getAttributeValue())
+                    .isEqualTo(JsonValue.of(MODIFICATIONS - 1));
+
+            // restart the actor to recover the persisted events
+            watch(underTest);
+            underTest.tell(PoisonPill.getInstance(), getRef());
+            expectTerminated(underTest);
+            final ActorRef underTestAfterRestart = Retry.untilSuccess(() -> createPersistenceActorFor(thingId));
+
+            Awaitility.await().atMost(10L, TimeUnit.SECONDS).untilAsserted(() -> {
+                underTestAfterRestart.tell(RetrieveThing.getBuilder(thingId, dittoHeadersV2)
+                        .withSelectedFields(JsonFactory.newFieldSelector(Thing.JsonFields.REVISION.getPointer(),
+                                Thing.JsonFields.ATTRIBUTES.getPointer()))
+                        .build(), getRef());
+                final Thing recoveredThing = expectMsgClass(RetrieveThingResponse.class).getThing();
+                assertThat(recoveredThing.getRevision())
+                        .contains(ThingsModelFactory.newThingRevision(MODIFICATIONS + 1));
+                assertThat(recoveredThing.getAttributes().flatMap(attributes -> attributes.getValue(COUNTER)))
+                        .contains(JsonValue.of(MODIFICATIONS - 1));
+            });
+        }};
+    }
+
+    @Test
+    public void revisionsCountEventsInFlightOnce() {
+        setup(GROUP_COMMIT_CONFIG);
+        new TestKit(actorSystem) {{
+            final Thing thing = createThingV2WithRandomId();
+            final ThingId thingId = thing.getEntityId().orElseThrow(IllegalStateException::new);
+            final ActorRef underTest = createPersistenceActorFor(thingId);
+            final RetrieveThing retrieveThing = RetrieveThing.getBuilder(thingId, dittoHeadersV2)
+                    .withSelectedFields(JsonFactory.newFieldSelector(Thing.JsonFields.REVISION.getPointer(),
+                            Thing.JsonFields.ATTRIBUTES.getPointer()))
+                    .build();
+
+            // each retrieval is answered by the state after the preceding modification, written or not
+            underTest.tell(CreateThing.of(thing, null, dittoHeadersV2), getRef());
+            for (int i = 0; i < MODIFICATIONS; i++) {
+                underTest.tell(ModifyAttribute.of(thingId, COUNTER, JsonValue.of(i), dittoHeadersV2), getRef());
+                underTest.tell(retrieveThing, getRef());
+            }
+
+            expectMsgClass(dilated(Duration.ofSeconds(10)), CreateThingResponse.class);
+            for (int i = 0; i < MODIFICATIONS; i++) {
+                expectMsgClass(ModifyAttributeResponse.class);
+                final Thing retrievedThing = expectMsgClass(RetrieveThingResponse.class).getThing();
+                assertThat(retrievedThing.getRevision()).contains(ThingsModelFactory.newThingRevision(i + 2));
+                assertThat(retrievedThing.getAttributes().flatMap(attributes -> attributes.getValue(COUNTER)))
+                        .contains(JsonValue.of(i));
+            }
+        }};
+    }
+
+    @Test
+    public void snapshotsTakenDuringJournalWritesContainOnlyWrittenEvents() {
+        // take snapshots by interval while the journal writes of the modifications are in flight
+        setup(ConfigFactory.parseString("ditto.things.thing.snapshot.interval = 10ms")
+                .withFallback(GROUP_COMMIT_CONFIG));
+        new TestKit(actorSystem) {{
+            final int modifications = 5 * MODIFICATIONS;
+            final Thing thing = createThingV2WithRandomId();
+            final ThingId thingId = thing.getEntityId().orElseThrow(IllegalStateException::new);
+            final ActorRef underTest = createPersistenceActorFor(thingId);
+
+            underTest.tell(CreateThing.of(thing, null, dittoHeadersV2), getRef());
+            expectMsgClass(dilated(Duration.ofSeconds(10)), CreateThingResponse.class);
+            for (int i = 0; i < modifications; i++) {
+                underTest.tell(ModifyAttribute.of(thingId, COUNTER, JsonValue.of(i), dittoHeadersV2), getRef());
+            }
+            for (int i = 0; i < modifications; i++) {
+                expectMsgClass(dilated(Duration.ofSeconds(10)), ModifyAttributeResponse.class);
+            }
+
+            // restart the actor to recover from the latest snapshot and the events after it
+            watch(underTest);
+            underTest.tell(PoisonPill.getInstance(), getRef());
+            expectTerminated(underTest);
+            final ActorRef underTestAfterRestart = Retry.untilSuccess(() -> createPersistenceActorFor(thingId));
+
+            underTestAfterRestart.tell(RetrieveThing.getBuilder(thingId, dittoHeadersV2)
+                    .withSelectedFields(JsonFactory.newFieldSelector(Thing.JsonFields.REVISION.getPointer(),
+                            Thing.JsonFields.ATTRIBUTES.getPointer()))
+                    .build(), getRef());
+            final Thing recoveredThing = expectMsgClass(RetrieveThingResponse.class).getThing();
+            assertThat(recoveredThing.getRevision()).contains(ThingsModelFactory.newThingRevision(modifications + 1));
+            assertThat(recoveredThing.getAttributes().flatMap(attributes -> attributes.getValue(COUNTER)))
+                    .contains(JsonValue.of(modifications - 1));
+        }};
+    }
+
+}
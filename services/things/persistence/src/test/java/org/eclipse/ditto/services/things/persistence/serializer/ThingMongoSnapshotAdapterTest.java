@@ -14,7 +14,11 @@ package org.eclipse.ditto.services.things.persistence.serializer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.OptionalLong;
+
 import org.bson.BsonDocument;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.things.TestConstants;
 import org.eclipse.ditto.model.things.Thing;
 import org.junit.Before;
@@ -48,6 +52,41 @@ public final class ThingMongoSnapshotAdapterTest {
         toSnapshotStoreFromSnapshotStoreRoundtripReturnsExpected(TestConstants.Thing.THING_V2);
     }
 
+    @Test
+    public void fullSnapshotHasNoBaseSequenceNumber() {
+        final Object rawSnapshotEntity = underTest.toSnapshotStore(TestConstants.Thing.THING_V2);
+
+        assertThat(underTest.getBaseSequenceNumber(rawSnapshotEntity)).isEmpty();
+    }
+
+    @Test
+    public void deltaSnapshotContainsChangedSectionsOnly() {
+        final Thing baseThing = TestConstants.Thing.THING_V2;
+        final Thing thing = baseThing.setAttribute(JsonPointer.of("changed"), JsonValue.of(true));
+
+        final Object rawSnapshotEntity = underTest.toDeltaSnapshotStore(thing, baseThing, 42L);
+
+        assertThat(rawSnapshotEntity).isInstanceOf(BsonDocument.class);
+        final BsonDocument delta = (BsonDocument) rawSnapshotEntity;
+        assertThat(delta.containsKey("attributes")).isTrue();
+        assertThat(delta.containsKey("features")).isFalse();
+        assertThat(delta.containsKey("thingId")).isTrue();
+        assertThat(underTest.getBaseSequenceNumber(delta)).isEqualTo(OptionalLong.of(42L));
+        assertThat(underTest.fromDeltaSnapshotStore(new SnapshotOffer(SNAPSHOT_METADATA, delta), baseThing))
+                .isEqualTo(thing);
+    }
+
+    @Test
+    public void deltaSnapshotRemovesSections() {
+        final Thing baseThing = TestConstants.Thing.THING_V2;
+        final Thing thing = baseThing.removeAttributes();
+
+        final Object rawSnapshotEntity = underTest.toDeltaSnapshotStore(thing, baseThing, 42L);
+
+        assertThat(underTest.fromDeltaSnapshotStore(new SnapshotOffer(SNAPSHOT_METADATA, rawSnapshotEntity), baseThing))
+                .isEqualTo(thing);
+    }
+
     private void toSnapshotStoreFromSnapshotStoreRoundtripReturnsExpected(final Thing thing) {
         final Object rawSnapshotEntity = underTest.toSnapshotStore(thing);
         assertThat(rawSnapshotEntity).isInstanceOf(BsonDocument.class);
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.common.config;
+
+import java.time.Duration;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
+/**
+ * Provides the configuration settings for counting things in the search index.
+ *
+ * @since 2.0.0
+ */
+@Immutable
+public interface CountConfig {
+
+    /**
+     * Returns how many count results to cache. A value of 0 disables the cache.
+     *
+     * @return the maximum number of cached count results.
+     */
+    int getCacheMaximumSize();
+
+    /**
+     * Returns how long a cached count result is served unless the search index entries of its namespaces change
+     * before.
+     *
+     * @return the time to live of cached count results.
+     */
+    Duration getCacheExpireAfterWrite();
+
+    /**
+     * Returns the number at which approximate counts stop counting.
+     *
+     * @return the maximum approximate count.
+     */
+    int getApproximateLimit();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for CountConfig.
+     */
+    enum CountConfigValue implements KnownConfigValue {
+
+        /**
+         * How many count results to cache.
+         */
+        CACHE_MAXIMUM_SIZE("cache-maximum-size", 1000),
+
+        /**
+         * How long to serve cached count results.
+         */
+        CACHE_EXPIRE_AFTER_WRITE("cache-expire-after-write", Duration.ofSeconds(5L)),
+
+        /**
+         * The number at which approximate counts stop counting.
+         */
+        APPROXIMATE_LIMIT("approximate-limit", 10_000);
+
+        private final String configPath;
+        private final Object defaultValue;
+
+        private CountConfigValue(final String configPath, final Object defaultValue) {
+            this.configPath = configPath;
+            this.defaultValue = defaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return configPath;
+        }
+
+    }
+
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.common.config;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class is the default implementation of {@link CountConfig}.
+ *
+ * @since 2.0.0
+ */
+@Immutable
+public final class DefaultCountConfig implements CountConfig {
+
+    /**
+     * Path where the count config values are expected.
+     */
+    static final String CONFIG_PATH = "count";
+
+    private final int cacheMaximumSize;
+    private final Duration cacheExpireAfterWrite;
+    private final int approximateLimit;
+
+    private DefaultCountConfig(final ConfigWithFallback countScopedConfig) {
+        cacheMaximumSize = countScopedConfig.getInt(CountConfigValue.CACHE_MAXIMUM_SIZE.getConfigPath());
+        cacheExpireAfterWrite =
+                countScopedConfig.getDuration(CountConfigValue.CACHE_EXPIRE_AFTER_WRITE.getConfigPath());
+        approximateLimit = countScopedConfig.getInt(CountConfigValue.APPROXIMATE_LIMIT.getConfigPath());
+    }
+
+    /**
+     * Returns an instance of DefaultCountConfig based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the count config at {@value #CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultCountConfig of(final Config config) {
+        return new DefaultCountConfig(ConfigWithFallback.newInstance(config, CONFIG_PATH, CountConfigValue.values()));
+    }
+
+    @Override
+    public int getCacheMaximumSize() {
+        return cacheMaximumSize;
+    }
+
+    @Override
+    public Duration getCacheExpireAfterWrite() {
+        return cacheExpireAfterWrite;
+    }
+
+    @Override
+    public int getApproximateLimit() {
+        return approximateLimit;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultCountConfig that = (DefaultCountConfig) o;
+        return cacheMaximumSize == that.cacheMaximumSize &&
+                approximateLimit == that.approximateLimit &&
+                Objects.equals(cacheExpireAfterWrite, that.cacheExpireAfterWrite);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(cacheMaximumSize, cacheExpireAfterWrite, approximateLimit);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "cacheMaximumSize=" + cacheMaximumSize +
+                ", cacheExpireAfterWrite=" + cacheExpireAfterWrite +
+                ", approximateLimit=" + approximateLimit +
+                "]";
+    }
+
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.common.config;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class is the default implementation of {@link StatefulCursorConfig}.
+ *
+ * @since 2.0.0
+ */
+@Immutable
+public final class DefaultStatefulCursorConfig implements StatefulCursorConfig {
+
+    /**
+     * Path where the stateful cursor config values are expected.
+     */
+    static final String CONFIG_PATH = "stateful-cursor";
+
+    private final boolean enabled;
+    private final int maxOpenCursors;
+    private final Duration idleTimeout;
+    private final Duration routingTimeout;
+
+    private DefaultStatefulCursorConfig(final ConfigWithFallback cursorScopedConfig) {
+        enabled = cursorScopedConfig.getBoolean(StatefulCursorConfigValue.ENABLED.getConfigPath());
+        maxOpenCursors = cursorScopedConfig.getInt(StatefulCursorConfigValue.MAX_OPEN_CURSORS.getConfigPath());
+        idleTimeout = cursorScopedConfig.getDuration(StatefulCursorConfigValue.IDLE_TIMEOUT.getConfigPath());
+        routingTimeout = cursorScopedConfig.getDuration(StatefulCursorConfigValue.ROUTING_TIMEOUT.getConfigPath());
+    }
+
+    /**
+     * Returns an instance of DefaultStatefulCursorConfig based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the stateful cursor config at {@value #CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultStatefulCursorConfig of(final Config config) {
+        return new DefaultStatefulCursorConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, StatefulCursorConfigValue.values()));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public int getMaxOpenCursors() {
+        return maxOpenCursors;
+    }
+
+    @Override
+    public Duration getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    @Override
+    public Duration getRoutingTimeout() {
+        return routingTimeout;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultStatefulCursorConfig that = (DefaultStatefulCursorConfig) o;
+        return enabled == that.enabled &&
+                maxOpenCursors == that.maxOpenCursors &&
+                Objects.equals(idleTimeout, that.idleTimeout) &&
+                Objects.equals(routingTimeout, that.routingTimeout);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, maxOpenCursors, idleTimeout, routingTimeout);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "enabled=" + enabled +
+                ", maxOpenCursors=" + maxOpenCursors +
+                ", idleTimeout=" + idleTimeout +
+                ", routingTimeout=" + routingTimeout +
+                "]";
+    }
+
+}
@@ -52,6 +52,9 @@ public final class DittoSearchConfig implements SearchConfig {
     private final PersistenceOperationsConfig persistenceOperationsConfig;
     private final MongoDbConfig mongoDbConfig;
     private final StreamConfig streamConfig;
+    private final CountConfig countConfig;
+    private final StatefulCursorConfig statefulCursorConfig;
+    private final boolean indexProjectionEnabled;
 
     private DittoSearchConfig(final ScopedConfig dittoScopedConfig) {
         dittoServiceConfig = DittoServiceConfig.of(dittoScopedConfig, CONFIG_PATH);
@@ -67,6 +70,10 @@ public final class DittoSearchConfig implements SearchConfig {
         updaterConfig = DefaultUpdaterConfig.of(configWithFallback);
         indexInitializationConfig = DefaultIndexInitializationConfig.of(configWithFallback);
         streamConfig = DefaultStreamConfig.of(configWithFallback);
+        countConfig = DefaultCountConfig.of(configWithFallback);
+        statefulCursorConfig = DefaultStatefulCursorConfig.of(configWithFallback);
+        indexProjectionEnabled =
+                configWithFallback.getBoolean(SearchConfigValue.INDEX_PROJECTION_ENABLED.getConfigPath());
     }
 
     /**
@@ -106,6 +113,21 @@ public final class DittoSearchConfig implements SearchConfig {
         return streamConfig;
     }
 
+    @Override
+    public CountConfig getCountConfig() {
+        return countConfig;
+    }
+
+    @Override
+    public StatefulCursorConfig getStatefulCursorConfig() {
+        return statefulCursorConfig;
+    }
+
+    @Override
+    public boolean isIndexProjectionEnabled() {
+        return indexProjectionEnabled;
+    }
+
     @Override
     public ClusterConfig getClusterConfig() {
         return dittoServiceConfig.getClusterConfig();
@@ -165,13 +187,17 @@ public final class DittoSearchConfig implements SearchConfig {
                 Objects.equals(indexInitializationConfig, that.indexInitializationConfig) &&
                 Objects.equals(persistenceOperationsConfig, that.persistenceOperationsConfig) &&
                 Objects.equals(mongoDbConfig, that.mongoDbConfig) &&
-                Objects.equals(streamConfig, that.streamConfig);
+                Objects.equals(streamConfig, that.streamConfig) &&
+                Objects.equals(countConfig, that.countConfig) &&
+                Objects.equals(statefulCursorConfig, that.statefulCursorConfig) &&
+                indexProjectionEnabled == that.indexProjectionEnabled;
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(mongoHintsByNamespace, deleteConfig, deletionConfig, updaterConfig, dittoServiceConfig,
-                healthCheckConfig, indexInitializationConfig, persistenceOperationsConfig, mongoDbConfig, streamConfig);
+                healthCheckConfig, indexInitializationConfig, persistenceOperationsConfig, mongoDbConfig, streamConfig,
+                countConfig, statefulCursorConfig, indexProjectionEnabled);
     }
 
     @Override
@@ -187,6 +213,9 @@ public final class DittoSearchConfig implements SearchConfig {
                 ", persistenceOperationsConfig=" + persistenceOperationsConfig +
                 ", mongoDbConfig=" + mongoDbConfig +
                 ", streamConfig=" + streamConfig +
+                ", countConfig=" + countConfig +
+                ", statefulCursorConfig=" + statefulCursorConfig +
+                ", indexProjectionEnabled=" + indexProjectionEnabled +
                 "]";
     }
 
@@ -29,6 +29,16 @@ public interface PersistenceStreamConfig extends StreamStageConfig {
      */
     int getMaxBulkSize();
 
+    /**
+     * Returns how many of the last written search index documents to keep in order to write subsequent changes of
+     * the same Things as incremental updates instead of full document replacements. A value of 0 disables
+     * incremental updates.
+     *
+     * @return the maximum number of cached search index documents.
+     * @since 2.0.0
+     */
+    int getIncrementalUpdateCacheSize();
+
     /**
      * An enumeration of known config path expressions and their associated default values for
      * {@code PersistenceStreamConfig}.
@@ -39,7 +49,14 @@ public interface PersistenceStreamConfig extends StreamStageConfig {
         /**
          * The amount of write operations to perform in one bulk.
          */
-        MAX_BULK_SIZE("max-bulk-size", 250);
+        MAX_BULK_SIZE("max-bulk-size", 250),
+
+        /**
+         * How many of the last written search index documents to keep for incremental updates.
+         *
+         * @since 2.0.0
+         */
+        INCREMENTAL_UPDATE_CACHE_SIZE("incremental-update-cache-size", 1000);
 
         private final String configPath;
         private final Object defaultValue;
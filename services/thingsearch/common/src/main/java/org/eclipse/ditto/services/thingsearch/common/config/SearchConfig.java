@@ -61,6 +61,31 @@ public interface SearchConfig extends ServiceSpecificConfig, WithHealthCheckConf
      */
     StreamConfig getStreamConfig();
 
+    /**
+     * Returns the configuration settings for counting things.
+     *
+     * @return the config.
+     * @since 2.0.0
+     */
+    CountConfig getCountConfig();
+
+    /**
+     * Returns the configuration settings for stateful search cursors.
+     *
+     * @return the config.
+     * @since 2.0.0
+     */
+    StatefulCursorConfig getStatefulCursorConfig();
+
+    /**
+     * Indicates whether things of search results are reconstructed from their search index entries if the selected
+     * fields are covered by them, so that the gateway does not have to retrieve them from the things service.
+     *
+     * @return whether search results are served from the search index.
+     * @since 2.0.0
+     */
+    boolean isIndexProjectionEnabled();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for SearchConfig.
      */
@@ -69,7 +94,12 @@ public interface SearchConfig extends ServiceSpecificConfig, WithHealthCheckConf
         /**
          * Default value is {@code null}.
          */
-        MONGO_HINTS_BY_NAMESPACE("mongo-hints-by-namespace", null);
+        MONGO_HINTS_BY_NAMESPACE("mongo-hints-by-namespace", null),
+
+        /**
+         * Whether search results are served from the search index.
+         */
+        INDEX_PROJECTION_ENABLED("index-projection-enabled", false);
 
         private final String path;
         private final Object defaultValue;
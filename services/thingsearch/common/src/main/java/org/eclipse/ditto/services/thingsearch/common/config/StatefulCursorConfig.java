@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.common.config;
+
+import java.time.Duration;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
+/**
+ * Provides the configuration settings for stateful search cursors which keep the database cursor of a paged search
+ * open between pages.
+ *
+ * @since 2.0.0
+ */
+@Immutable
+public interface StatefulCursorConfig {
+
+    /**
+     * Indicates whether follow-up pages of cursor searches are served from database cursors kept open on the node
+     * which served the previous page.
+     *
+     * @return whether stateful cursors are enabled.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns how many database cursors each search node keeps open at most. Searches beyond that number use
+     * stateless cursors.
+     *
+     * @return the maximum number of open cursors per node.
+     */
+    int getMaxOpenCursors();
+
+    /**
+     * Returns how long an open database cursor is kept without being used. Should be well below the cursor timeout
+     * of the database.
+     *
+     * @return the idle timeout of open cursors.
+     */
+    Duration getIdleTimeout();
+
+    /**
+     * Returns how long to wait for the node holding the open cursor of a follow-up page before computing the page
+     * from the stateless cursor.
+     *
+     * @return the timeout of routing follow-up pages.
+     */
+    Duration getRoutingTimeout();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * StatefulCursorConfig.
+     */
+    enum StatefulCursorConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether stateful cursors are enabled.
+         */
+        ENABLED("enabled", false),
+
+        /**
+         * The maximum number of open cursors per node.
+         */
+        MAX_OPEN_CURSORS("max-open-cursors", 100),
+
+        /**
+         * How long to keep unused cursors open.
+         */
+        IDLE_TIMEOUT("idle-timeout", Duration.ofMinutes(1L)),
+
+        /**
+         * How long to wait for the node holding the open cursor.
+         */
+        ROUTING_TIMEOUT("routing-timeout", Duration.ofSeconds(5L));
+
+        private final String configPath;
+        private final Object defaultValue;
+
+        private StatefulCursorConfigValue(final String configPath, final Object defaultValue) {
+            this.configPath = configPath;
+            this.defaultValue = defaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return configPath;
+        }
+
+    }
+
+}
@@ -45,6 +45,13 @@ public interface StreamConfig {
      */
     Duration getAskTimeout();
 
+    /**
+     * Returns the maximum number of Things to retrieve with one bulk command.
+     *
+     * @return the maximum number of Things.
+     */
+    int getMaxBulkRetrievalSize();
+
     /**
      * Returns the configuration settings for the retrieval of things and policy-enforcers.
      *
@@ -84,7 +91,12 @@ public interface StreamConfig {
         /**
          * The timeout for messages to Things shard.
          */
-        ASK_TIMEOUT("ask-timeout", Duration.ofSeconds(30L));
+        ASK_TIMEOUT("ask-timeout", Duration.ofSeconds(30L)),
+
+        /**
+         * The maximum number of Things to retrieve with one bulk command.
+         */
+        MAX_BULK_RETRIEVAL_SIZE("max-bulk-retrieval-size", 25);
 
         private final String configPath;
         private final Object defaultValue;
@@ -41,4 +41,18 @@ public final class KeyEscapeUtil {
                 .replace("$", FAKE_DOLLAR)
                 .replace(".", FAKE_DOT);
     }
+
+    /**
+     * Reverts the escaping of {@link #escape(String)}.
+     *
+     * @param str the escaped String
+     * @return the original String
+     * @since 2.0.0
+     */
+    public static String unescape(final String str) {
+        requireNonNull(str);
+        return str.replace(FAKE_DOT, ".")
+                .replace(FAKE_DOLLAR, "$")
+                .replace(FAKE_TILDA, "~");
+    }
 }
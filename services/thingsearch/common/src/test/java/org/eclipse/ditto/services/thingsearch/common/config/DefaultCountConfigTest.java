@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.common.config;
+
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.eclipse.ditto.services.thingsearch.common.config.CountConfig.CountConfigValue;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link DefaultCountConfig}.
+ */
+public final class DefaultCountConfigTest {
+
+    private static Config countTestConfig;
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @BeforeClass
+    public static void initTestFixture() {
+        countTestConfig = ConfigFactory.load("count-test");
+    }
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(DefaultCountConfig.class, areImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultCountConfig.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void gettersReturnDefaultValuesIfNotConfigured() {
+        final DefaultCountConfig underTest = DefaultCountConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.getCacheMaximumSize())
+                .as(CountConfigValue.CACHE_MAXIMUM_SIZE.getConfigPath())
+                .isEqualTo(CountConfigValue.CACHE_MAXIMUM_SIZE.getDefaultValue());
+        softly.assertThat(underTest.getCacheExpireAfterWrite())
+                .as(CountConfigValue.CACHE_EXPIRE_AFTER_WRITE.getConfigPath())
+                .isEqualTo(CountConfigValue.CACHE_EXPIRE_AFTER_WRITE.getDefaultValue());
+        softly.assertThat(underTest.getApproximateLimit())
+                .as(CountConfigValue.APPROXIMATE_LIMIT.getConfigPath())
+                .isEqualTo(CountConfigValue.APPROXIMATE_LIMIT.getDefaultValue());
+    }
+
+    @Test
+    public void gettersReturnConfiguredValues() {
+        final DefaultCountConfig underTest = DefaultCountConfig.of(countTestConfig);
+        final Config countScopedRawConfig = countTestConfig.getConfig(DefaultCountConfig.CONFIG_PATH);
+
+        softly.assertThat(underTest.getCacheMaximumSize())
+                .as(CountConfigValue.CACHE_MAXIMUM_SIZE.getConfigPath())
+                .isEqualTo(countScopedRawConfig.getInt(CountConfigValue.CACHE_MAXIMUM_SIZE.getConfigPath()));
+        softly.assertThat(underTest.getCacheExpireAfterWrite())
+                .as(CountConfigValue.CACHE_EXPIRE_AFTER_WRITE.getConfigPath())
+                .isEqualTo(countScopedRawConfig.getDuration(
+                        CountConfigValue.CACHE_EXPIRE_AFTER_WRITE.getConfigPath()));
+        softly.assertThat(underTest.getApproximateLimit())
+                .as(CountConfigValue.APPROXIMATE_LIMIT.getConfigPath())
+                .isEqualTo(countScopedRawConfig.getInt(CountConfigValue.APPROXIMATE_LIMIT.getConfigPath()));
+    }
+
+}
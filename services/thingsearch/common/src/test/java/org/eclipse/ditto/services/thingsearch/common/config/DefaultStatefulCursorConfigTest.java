@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.common.config;
+
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.eclipse.ditto.services.thingsearch.common.config.StatefulCursorConfig.StatefulCursorConfigValue;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link DefaultStatefulCursorConfig}.
+ */
+public final class DefaultStatefulCursorConfigTest {
+
+    private static Config statefulCursorTestConfig;
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @BeforeClass
+    public static void initTestFixture() {
+        statefulCursorTestConfig = ConfigFactory.load("stateful-cursor-test");
+    }
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(DefaultStatefulCursorConfig.class, areImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultStatefulCursorConfig.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void gettersReturnDefaultValuesIfNotConfigured() {
+        final DefaultStatefulCursorConfig underTest = DefaultStatefulCursorConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.isEnabled())
+                .as(StatefulCursorConfigValue.ENABLED.getConfigPath())
+                .isEqualTo(StatefulCursorConfigValue.ENABLED.getDefaultValue());
+        softly.assertThat(underTest.getMaxOpenCursors())
+                .as(StatefulCursorConfigValue.MAX_OPEN_CURSORS.getConfigPath())
+                .isEqualTo(StatefulCursorConfigValue.MAX_OPEN_CURSORS.getDefaultValue());
+        softly.assertThat(underTest.getIdleTimeout())
+                .as(StatefulCursorConfigValue.IDLE_TIMEOUT.getConfigPath())
+                .isEqualTo(StatefulCursorConfigValue.IDLE_TIMEOUT.getDefaultValue());
+        softly.assertThat(underTest.getRoutingTimeout())
+                .as(StatefulCursorConfigValue.ROUTING_TIMEOUT.getConfigPath())
+                .isEqualTo(StatefulCursorConfigValue.ROUTING_TIMEOUT.getDefaultValue());
+    }
+
+    @Test
+    public void gettersReturnConfiguredValues() {
+        final DefaultStatefulCursorConfig underTest = DefaultStatefulCursorConfig.of(statefulCursorTestConfig);
+        final Config cursorScopedRawConfig =
+                statefulCursorTestConfig.getConfig(DefaultStatefulCursorConfig.CONFIG_PATH);
+
+        softly.assertThat(underTest.isEnabled())
+                .as(StatefulCursorConfigValue.ENABLED.getConfigPath())
+                .isEqualTo(cursorScopedRawConfig.getBoolean(StatefulCursorConfigValue.ENABLED.getConfigPath()));
+        softly.assertThat(underTest.getMaxOpenCursors())
+                .as(StatefulCursorConfigValue.MAX_OPEN_CURSORS.getConfigPath())
+                .isEqualTo(cursorScopedRawConfig.getInt(StatefulCursorConfigValue.MAX_OPEN_CURSORS.getConfigPath()));
+        softly.assertThat(underTest.getIdleTimeout())
+                .as(StatefulCursorConfigValue.IDLE_TIMEOUT.getConfigPath())
+                .isEqualTo(cursorScopedRawConfig.getDuration(StatefulCursorConfigValue.IDLE_TIMEOUT.getConfigPath()));
+        softly.assertThat(underTest.getRoutingTimeout())
+                .as(StatefulCursorConfigValue.ROUTING_TIMEOUT.getConfigPath())
+                .isEqualTo(cursorScopedRawConfig.getDuration(
+                        StatefulCursorConfigValue.ROUTING_TIMEOUT.getConfigPath()));
+    }
+
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.read;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.bson.BsonDocument;
+import org.eclipse.ditto.services.thingsearch.common.config.CountConfig;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import akka.NotUsed;
+import akka.stream.javadsl.Source;
+
+/**
+ * Short-lived cache of count results keyed by the MongoDB filter of the count, which comprises the search filter,
+ * the namespaces and the authorization subjects.
+ * Cached results are discarded when they expire or when search index entries of their namespaces are written.
+ */
+@ThreadSafe
+final class CountCache {
+
+    private static final String COUNT_CACHE_METRIC_NAME = "things_search_count_cache";
+    private static final String RESULT_TAG = "result";
+
+    private final Cache<CountKey, Long> cache;
+    private final Counter hits;
+    private final Counter misses;
+
+    private CountCache(final Cache<CountKey, Long> cache) {
+        this.cache = cache;
+        hits = DittoMetrics.counter(COUNT_CACHE_METRIC_NAME).tag(RESULT_TAG, "hit");
+        misses = DittoMetrics.counter(COUNT_CACHE_METRIC_NAME).tag(RESULT_TAG, "miss");
+    }
+
+    /**
+     * Create a count cache if it is enabled by the config.
+     *
+     * @param countConfig the count config.
+     * @return the count cache, or null if caching of counts is disabled.
+     */
+    @Nullable
+    static CountCache of(final CountConfig countConfig) {
+        if (countConfig.getCacheMaximumSize() <= 0) {
+            return null;
+        }
+        return new CountCache(Caffeine.newBuilder()
+                .maximumSize(countConfig.getCacheMaximumSize())
+                .expireAfterWrite(countConfig.getCacheExpireAfterWrite())
+                .build());
+    }
+
+    /**
+     * Serve a count from the cache or compute and cache it.
+     * Counts started before a write into their namespaces may be cached until they expire.
+     *
+     * @param filter the MongoDB filter of the count.
+     * @param skip how many matching documents are skipped.
+     * @param limit the maximum count.
+     * @param namespaces the namespaces the filter is restricted to, or null for all namespaces.
+     * @param countSupplier supplier of the count from the persistence.
+     * @return source of the count.
+     */
+    Source<Long, NotUsed> getOrCount(final BsonDocument filter, final int skip, final int limit,
+            @Nullable final Set<String> namespaces, final Supplier<Source<Long, NotUsed>> countSupplier) {
+
+        final CountKey key = new CountKey(filter, skip, limit, namespaces);
+        final Long cachedCount = cache.getIfPresent(key);
+        if (null != cachedCount) {
+            hits.increment();
+            return Source.single(cachedCount);
+        }
+        misses.increment();
+        return countSupplier.get().map(count -> {
+            cache.put(key, count);
+            return count;
+        });
+    }
+
+    /**
+     * Discard cached counts which may include things of the given namespaces.
+     *
+     * @param namespaces namespaces of written search index entries.
+     */
+    void invalidate(final Collection<String> namespaces) {
+        if (!namespaces.isEmpty()) {
+            cache.asMap().keySet().removeIf(key -> key.mayInclude(namespaces));
+        }
+    }
+
+    @Immutable
+    private static final class CountKey {
+
+        private final BsonDocument filter;
+        private final int skip;
+        private final int limit;
+        @Nullable private final Set<String> namespaces;
+
+        private CountKey(final BsonDocument filter, final int skip, final int limit,
+                @Nullable final Set<String> namespaces) {
+            this.filter = filter;
+            this.skip = skip;
+            this.limit = limit;
+            this.namespaces = namespaces;
+        }
+
+        private boolean mayInclude(final Collection<String> writtenNamespaces) {
+            return namespaces == null || !Collections.disjoint(namespaces, writtenNamespaces);
+        }
+
+        @Override
+        public boolean equals(@Nullable final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final CountKey that = (CountKey) o;
+            return skip == that.skip &&
+                    limit == that.limit &&
+                    filter.equals(that.filter) &&
+                    Objects.equals(namespaces, that.namespaces);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(filter, skip, limit, namespaces);
+        }
+
+    }
+
+}
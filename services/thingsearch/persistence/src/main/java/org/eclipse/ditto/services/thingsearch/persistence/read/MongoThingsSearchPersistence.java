@@ -15,6 +15,7 @@ package org.eclipse.ditto.services.thingsearch.persistence.read;
 import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_DELETE_AT;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_ID;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_INTERNAL;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_MODIFIED;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_PATH_MODIFIED;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_POLICY_ID;
@@ -25,6 +26,7 @@ import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceCons
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -39,6 +41,7 @@ import org.bson.BsonDocument;
 import org.bson.Document;
 import org.bson.conversions.Bson;
 import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonFieldSelector;
 import org.eclipse.ditto.model.base.entity.id.EntityId;
 import org.eclipse.ditto.model.policies.PolicyId;
 import org.eclipse.ditto.model.query.Query;
@@ -46,6 +49,7 @@ import org.eclipse.ditto.model.query.SortOption;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.models.thingsearch.SearchNamespaceReportResult;
 import org.eclipse.ditto.services.models.thingsearch.SearchNamespaceResultEntry;
+import org.eclipse.ditto.services.thingsearch.common.config.CountConfig;
 import org.eclipse.ditto.services.thingsearch.common.model.ResultList;
 import org.eclipse.ditto.services.thingsearch.common.model.ResultListImpl;
 import org.eclipse.ditto.services.thingsearch.persistence.Indices;
@@ -75,6 +79,7 @@ import akka.NotUsed;
 import akka.actor.ActorSystem;
 import akka.event.Logging;
 import akka.event.LoggingAdapter;
+import akka.japi.Pair;
 import akka.japi.pf.PFBuilder;
 import akka.stream.SystemMaterializer;
 import akka.stream.javadsl.Source;
@@ -91,6 +96,8 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
     private final IndexInitializer indexInitializer;
     private final Duration maxQueryTime;
     private final MongoHints hints;
+    @Nullable private final CountCache countCache;
+    private final int approximateCountLimit;
 
     /**
      * Initializes the things search persistence with a passed in {@code persistence}.
@@ -110,6 +117,8 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
         indexInitializer = IndexInitializer.of(database, SystemMaterializer.get(actorSystem).materializer());
         maxQueryTime = mongoClient.getDittoSettings().getMaxQueryTime();
         hints = MongoHints.empty();
+        countCache = null;
+        approximateCountLimit = Integer.MAX_VALUE;
     }
 
     private MongoThingsSearchPersistence(
@@ -117,13 +126,17 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
             final LoggingAdapter log,
             final IndexInitializer indexInitializer,
             final Duration maxQueryTime,
-            final MongoHints hints) {
+            final MongoHints hints,
+            @Nullable final CountCache countCache,
+            final int approximateCountLimit) {
 
         this.collection = collection;
         this.log = log;
         this.indexInitializer = indexInitializer;
         this.maxQueryTime = maxQueryTime;
         this.hints = hints;
+        this.countCache = countCache;
+        this.approximateCountLimit = approximateCountLimit;
     }
 
     /**
@@ -134,7 +147,20 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
      */
     public MongoThingsSearchPersistence withHintsByNamespace(final String jsonString) {
         final MongoHints hints = MongoHints.byNamespace(jsonString);
-        return new MongoThingsSearchPersistence(collection, log, indexInitializer, maxQueryTime, hints);
+        return new MongoThingsSearchPersistence(collection, log, indexInitializer, maxQueryTime, hints, countCache,
+                approximateCountLimit);
+    }
+
+    /**
+     * Create a copy of this object which caches counts and counts approximately as configured.
+     *
+     * @param countConfig the configuration of counts.
+     * @return copy of this object with count cache and approximate count limit configured.
+     * @since 2.0.0
+     */
+    public MongoThingsSearchPersistence withCountConfig(final CountConfig countConfig) {
+        return new MongoThingsSearchPersistence(collection, log, indexInitializer, maxQueryTime, hints,
+                CountCache.of(countConfig), countConfig.getApproximateLimit());
     }
 
     @Override
@@ -179,11 +205,38 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
         checkNotNull(query, "query");
 
         final BsonDocument queryFilter = getMongoFilter(query, authorizationSubjectIds);
+        return countDocuments(queryFilter, query.getSkip(), query.getLimit());
+    }
+
+    @Override
+    public Source<Long, NotUsed> count(final Query query, @Nullable final List<String> authorizationSubjectIds,
+            @Nullable final Set<String> namespaces, final boolean approximate) {
+
+        checkNotNull(query, "query");
+
+        final BsonDocument queryFilter = getMongoFilter(query, authorizationSubjectIds);
+        final int skip = query.getSkip();
+        final int limit = approximate ? Math.min(query.getLimit(), approximateCountLimit) : query.getLimit();
+        if (null != countCache) {
+            return countCache.getOrCount(queryFilter, skip, limit, namespaces,
+                    () -> countDocuments(queryFilter, skip, limit));
+        }
+        return countDocuments(queryFilter, skip, limit);
+    }
+
+    @Override
+    public void invalidateCounts(final Collection<String> namespaces) {
+        if (null != countCache) {
+            countCache.invalidate(namespaces);
+        }
+    }
+
+    private Source<Long, NotUsed> countDocuments(final BsonDocument queryFilter, final int skip, final int limit) {
         log.debug("count with query filter <{}>.", queryFilter);
 
         final CountOptions countOptions = new CountOptions()
-                .skip(query.getSkip())
-                .limit(query.getLimit())
+                .skip(skip)
+                .limit(limit)
                 .maxTime(maxQueryTime.getSeconds(), TimeUnit.SECONDS);
 
         return Source.fromPublisher(collection.countDocuments(queryFilter, countOptions))
@@ -205,7 +258,7 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
         final int limit = query.getLimit();
         final int limitPlusOne = limit + 1;
 
-        return findAllInternal(query, authorizationSubjectIds, namespaces, limitPlusOne, maxQueryTime)
+        return findAllInternal(query, authorizationSubjectIds, namespaces, limitPlusOne, null, maxQueryTime)
                 .grouped(limitPlusOne)
                 .orElse(Source.single(Collections.emptyList()))
                 .map(resultsPlus0ne -> toResultList(resultsPlus0ne, skip, limit, query.getSortOptions()))
@@ -213,21 +266,70 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
                 .log("findAll");
     }
 
+    @Override
+    public Source<Pair<ResultList<ThingId>, Optional<JsonArray>>, NotUsed> findAllWithThings(final Query query,
+            final List<String> authorizationSubjectIds,
+            @Nullable final Set<String> namespaces,
+            @Nullable final JsonFieldSelector fields) {
+
+        final Optional<SearchIndexProjection> projection = SearchIndexProjection.of(fields, authorizationSubjectIds);
+        if (projection.isEmpty()) {
+            return ThingsSearchPersistence.super.findAllWithThings(query, authorizationSubjectIds, namespaces, fields);
+        }
+
+        final int skip = query.getSkip();
+        final int limit = query.getLimit();
+        final int limitPlusOne = limit + 1;
+
+        return findAllInternal(query, authorizationSubjectIds, namespaces, limitPlusOne, null, maxQueryTime,
+                getThingProjection(query.getSortOptions()))
+                .grouped(limitPlusOne)
+                .orElse(Source.single(Collections.emptyList()))
+                .map(resultsPlus0ne -> Pair.create(
+                        toResultList(resultsPlus0ne, skip, limit, query.getSortOptions()),
+                        projection.get().projectAll(getPage(resultsPlus0ne, limit))))
+                .mapError(handleMongoExecutionTimeExceededException())
+                .log("findAllWithThings");
+    }
+
     @Override
     public Source<ThingId, NotUsed> findAllUnlimited(final Query query, final List<String> authorizationSubjectIds,
             @Nullable final Set<String> namespaces) {
 
         final Integer limit = query.getLimit() == Integer.MAX_VALUE ? null : query.getLimit();
-        return findAllInternal(query, authorizationSubjectIds, namespaces, limit, null)
+        return findAllInternal(query, authorizationSubjectIds, namespaces, limit, null, null)
                 .map(MongoThingsSearchPersistence::toId)
                 .idleTimeout(maxQueryTime);
     }
 
+    @Override
+    public Source<Pair<ThingId, JsonArray>, NotUsed> findAllWithSortValues(final Query query,
+            final List<String> authorizationSubjectIds, @Nullable final Set<String> namespaces) {
+
+        final List<SortOption> sortOptions = query.getSortOptions();
+        // fetch one page plus the element which tells whether there is a next page with each batch
+        final Integer batchSize = query.getLimit() == Integer.MAX_VALUE ? null : query.getLimit() + 1;
+        return findAllInternal(query, authorizationSubjectIds, namespaces, null, batchSize, null)
+                .map(doc -> Pair.create(toId(doc), GetSortBsonVisitor.sortValuesAsArray(doc, sortOptions)));
+    }
+
     private Source<Document, NotUsed> findAllInternal(final Query query, final List<String> authorizationSubjectIds,
             @Nullable final Set<String> namespaces,
             @Nullable final Integer limit,
+            @Nullable final Integer batchSize,
             @Nullable final Duration maxQueryTime) {
 
+        return findAllInternal(query, authorizationSubjectIds, namespaces, limit, batchSize, maxQueryTime,
+                GetSortBsonVisitor.projections(query.getSortOptions()));
+    }
+
+    private Source<Document, NotUsed> findAllInternal(final Query query, final List<String> authorizationSubjectIds,
+            @Nullable final Set<String> namespaces,
+            @Nullable final Integer limit,
+            @Nullable final Integer batchSize,
+            @Nullable final Duration maxQueryTime,
+            final Bson projection) {
+
         checkNotNull(query, "query");
 
         final BsonDocument queryFilter = getMongoFilter(query, authorizationSubjectIds);
@@ -238,7 +340,6 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
         final Bson sortOptions = getMongoSort(query);
 
         final int skip = query.getSkip();
-        final Bson projection = GetSortBsonVisitor.projections(query.getSortOptions());
         final FindPublisher<Document> findPublisher =
                 collection.find(queryFilter, Document.class)
                         .hint(hints.getHint(namespaces).orElse(null))
@@ -248,9 +349,12 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
         final FindPublisher<Document> findPublisherWithLimit = limit != null
                 ? findPublisher.limit(limit)
                 : findPublisher;
-        final FindPublisher<Document> findPublisherWithMaxQueryTime = maxQueryTime != null
-                ? findPublisherWithLimit.maxTime(maxQueryTime.getSeconds(), TimeUnit.SECONDS)
+        final FindPublisher<Document> findPublisherWithBatchSize = batchSize != null
+                ? findPublisherWithLimit.batchSize(batchSize)
                 : findPublisherWithLimit;
+        final FindPublisher<Document> findPublisherWithMaxQueryTime = maxQueryTime != null
+                ? findPublisherWithBatchSize.maxTime(maxQueryTime.getSeconds(), TimeUnit.SECONDS)
+                : findPublisherWithBatchSize;
 
         return Source.fromPublisher(findPublisherWithMaxQueryTime);
     }
@@ -278,11 +382,10 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
                 resultsPlus0ne, skip, limit);
 
         final ResultList<ThingId> pagedResultList;
-        if (resultsPlus0ne.size() <= limit || limit <= 0) {
+        if (!hasNextPage(resultsPlus0ne, limit)) {
             pagedResultList = new ResultListImpl<>(toIds(resultsPlus0ne), ResultList.NO_NEXT_PAGE);
         } else {
-            // MongoDB returned limit + 1 items. However only <limit> items are of interest per page.
-            final List<Document> results = resultsPlus0ne.subList(0, limit);
+            final List<Document> results = getPage(resultsPlus0ne, limit);
             final Document lastResult = results.get(limit - 1);
             final long nextPageOffset = (long) skip + limit;
             final JsonArray sortValues = GetSortBsonVisitor.sortValuesAsArray(lastResult, sortOptions);
@@ -293,6 +396,31 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
         return pagedResultList;
     }
 
+    private static boolean hasNextPage(final List<Document> resultsPlus0ne, final int limit) {
+        return resultsPlus0ne.size() > limit && limit > 0;
+    }
+
+    private static List<Document> getPage(final List<Document> resultsPlus0ne, final int limit) {
+        // MongoDB returned limit + 1 items. However only <limit> items are of interest per page.
+        return hasNextPage(resultsPlus0ne, limit) ? resultsPlus0ne.subList(0, limit) : resultsPlus0ne;
+    }
+
+    /**
+     * Project the fields needed to reconstruct things from their search index entries. The sort keys are contained
+     * in the hierarchical copy of the things, apart from the ones at the top level of the search index entries.
+     */
+    private static Bson getThingProjection(final List<SortOption> sortOptions) {
+        final Document projection = new Document();
+        GetSortBsonVisitor.projections(sortOptions)
+                .keySet()
+                .stream()
+                .filter(path -> !path.startsWith(FIELD_SORTING + PersistenceConstants.DOT))
+                .forEach(path -> projection.append(path, true));
+        return projection.append(FIELD_ID, true)
+                .append(FIELD_SORTING, true)
+                .append(FIELD_INTERNAL, true);
+    }
+
     private static List<ThingId> toIds(final List<Document> docs) {
         return docs.stream()
                 .map(MongoThingsSearchPersistence::toId)
@@ -0,0 +1,265 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.read;
+
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_GRANTED;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_INTERNAL;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_INTERNAL_KEY;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_REVOKED;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_SORTING;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.conversions.Bson;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonArrayBuilder;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.services.thingsearch.common.util.KeyEscapeUtil;
+import org.eclipse.ditto.services.utils.persistence.mongo.BsonUtil;
+
+/**
+ * Reconstructs the policy-filtered view of things from their search index entries.
+ * <p>
+ * The values are taken from the hierarchical copy of the thing which is stored for sorting. The visibility of each
+ * value is decided by the read grants and revokes stored for its flattened key in the same way as search filters
+ * decide it. A thing is not covered by its index entry if the selected fields contain arrays, values which are not
+ * indexed or fields which are not stored in the search index; it has to be retrieved from the things service then.
+ * </p>
+ */
+@Immutable
+final class SearchIndexProjection {
+
+    private static final JsonKey THING_ID_KEY = getRootKey(Thing.JsonFields.ID);
+
+    /**
+     * Fields of a thing returned by default when no fields are selected.
+     */
+    private static final JsonFieldSelector DEFAULT_FIELDS = JsonFactory.newFieldSelector(
+            Thing.JsonFields.ID,
+            Thing.JsonFields.POLICY_ID,
+            Thing.JsonFields.DEFINITION,
+            Thing.JsonFields.ATTRIBUTES,
+            Thing.JsonFields.FEATURES);
+
+    /**
+     * Root keys of selectable fields which are stored in the search index with their read grants.
+     */
+    private static final Set<JsonKey> COVERED_ROOT_KEYS = Set.of(
+            THING_ID_KEY,
+            getRootKey(Thing.JsonFields.POLICY_ID),
+            getRootKey(Thing.JsonFields.DEFINITION),
+            getRootKey(Thing.JsonFields.ATTRIBUTES),
+            getRootKey(Thing.JsonFields.FEATURES),
+            getRootKey(Thing.JsonFields.NAMESPACE),
+            getRootKey(Thing.JsonFields.REVISION),
+            getRootKey(Thing.JsonFields.MODIFIED),
+            getRootKey(Thing.JsonFields.CREATED));
+
+    private final JsonFieldSelector fields;
+    private final Set<String> authorizationSubjectIds;
+
+    private SearchIndexProjection(final JsonFieldSelector fields, final Collection<String> authorizationSubjectIds) {
+        this.fields = fields;
+        this.authorizationSubjectIds = new HashSet<>(authorizationSubjectIds);
+    }
+
+    /**
+     * Create a projection of search index entries to things.
+     *
+     * @param fields the selected fields, or null if the default fields are requested.
+     * @param authorizationSubjectIds the authorization subject IDs of the requester.
+     * @return the projection if the selected fields are stored in the search index, or an empty optional otherwise.
+     */
+    static Optional<SearchIndexProjection> of(@Nullable final JsonFieldSelector fields,
+            final Collection<String> authorizationSubjectIds) {
+
+        if (fields == null) {
+            return Optional.of(new SearchIndexProjection(DEFAULT_FIELDS, authorizationSubjectIds));
+        } else if (fields.getPointers().stream().allMatch(SearchIndexProjection::isCovered)) {
+            return Optional.of(new SearchIndexProjection(fields, authorizationSubjectIds));
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Project a page of search index entries to things.
+     *
+     * @param documents the search index entries which contain the sorting and the internal fields.
+     * @return the things of the page, or an empty optional if any of them is not covered by its index entry.
+     */
+    Optional<JsonArray> projectAll(final List<? extends Bson> documents) {
+        final JsonArrayBuilder builder = JsonFactory.newArrayBuilder();
+        for (final Bson document : documents) {
+            final Optional<JsonObject> thing = project(BsonUtil.toBsonDocument(document));
+            if (thing.isPresent()) {
+                builder.add(thing.get());
+            } else {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(builder.build());
+    }
+
+    /**
+     * Project one search index entry to the view of the thing the requester may read.
+     *
+     * @param document the search index entry which contains the sorting and the internal fields.
+     * @return the thing, or an empty optional if it is not covered by the index entry.
+     */
+    Optional<JsonObject> project(final BsonDocument document) {
+        final BsonValue storedThing = document.get(FIELD_SORTING);
+        final BsonValue flattenedValues = document.get(FIELD_INTERNAL);
+        if (storedThing == null || !storedThing.isDocument() || flattenedValues == null ||
+                !flattenedValues.isArray()) {
+            return Optional.empty();
+        }
+        final Map<String, Boolean> visibility = getVisibilityByKey(flattenedValues.asArray());
+        return toJson(storedThing)
+                .map(thing -> thing.asObject().get(fields))
+                .flatMap(selectedThing -> filterObject(JsonPointer.empty(), selectedThing, visibility));
+    }
+
+    private Map<String, Boolean> getVisibilityByKey(final BsonArray flattenedValues) {
+        final Map<String, Boolean> visibility = new HashMap<>();
+        for (final BsonValue flattenedValue : flattenedValues) {
+            if (flattenedValue.isDocument()) {
+                final BsonDocument keyValuePair = flattenedValue.asDocument();
+                final BsonValue key = keyValuePair.get(FIELD_INTERNAL_KEY);
+                if (key != null && key.isString()) {
+                    final boolean visible = containsAnySubject(keyValuePair.get(FIELD_GRANTED)) &&
+                            !containsAnySubject(keyValuePair.get(FIELD_REVOKED));
+                    visibility.merge(key.asString().getValue(), visible, Boolean::logicalAnd);
+                }
+            }
+        }
+        return visibility;
+    }
+
+    private boolean containsAnySubject(@Nullable final BsonValue subjectIds) {
+        if (subjectIds != null && subjectIds.isArray()) {
+            for (final BsonValue subjectId : subjectIds.asArray()) {
+                if (subjectId.isString() && authorizationSubjectIds.contains(subjectId.asString().getValue())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Filter the fields of an object by their visibility.
+     *
+     * @return the visible part of the object, or an empty optional if the visibility of a field is unknown.
+     */
+    private static Optional<JsonObject> filterObject(final JsonPointer pointer, final JsonObject object,
+            final Map<String, Boolean> visibility) {
+
+        final JsonObjectBuilder builder = JsonFactory.newObjectBuilder();
+        for (final JsonField field : object) {
+            final JsonPointer fieldPointer = pointer.addLeaf(field.getKey());
+            final JsonValue value = field.getValue();
+            if (value.isArray()) {
+                // arrays may be truncated in the search index and their elements share one key
+                return Optional.empty();
+            } else if (value.isObject() && !value.asObject().isEmpty()) {
+                final Optional<JsonObject> visiblePart = filterObject(fieldPointer, value.asObject(), visibility);
+                if (visiblePart.isEmpty()) {
+                    return Optional.empty();
+                } else if (!visiblePart.get().isEmpty()) {
+                    builder.set(JsonFactory.newField(field.getKey(), visiblePart.get()));
+                }
+            } else {
+                final Boolean visible = visibility.get(fieldPointer.toString());
+                if (visible == null) {
+                    // values too long for the search index are not indexed
+                    return Optional.empty();
+                } else if (visible || (pointer.isEmpty() && THING_ID_KEY.equals(field.getKey()))) {
+                    builder.set(field);
+                }
+            }
+        }
+        return Optional.of(builder.build());
+    }
+
+    private static Optional<JsonValue> toJson(final BsonValue bsonValue) {
+        switch (bsonValue.getBsonType()) {
+            case NULL:
+                return Optional.of(JsonValue.nullLiteral());
+            case BOOLEAN:
+                return Optional.of(JsonValue.of(bsonValue.asBoolean().getValue()));
+            case STRING:
+                return Optional.of(JsonValue.of(bsonValue.asString().getValue()));
+            case INT32:
+                return Optional.of(JsonValue.of(bsonValue.asInt32().getValue()));
+            case INT64:
+                return Optional.of(JsonValue.of(bsonValue.asInt64().getValue()));
+            case DOUBLE:
+                return Optional.of(JsonValue.of(bsonValue.asDouble().getValue()));
+            case ARRAY:
+                final JsonArrayBuilder arrayBuilder = JsonFactory.newArrayBuilder();
+                for (final BsonValue element : bsonValue.asArray()) {
+                    final Optional<JsonValue> jsonElement = toJson(element);
+                    if (jsonElement.isEmpty()) {
+                        return Optional.empty();
+                    }
+                    arrayBuilder.add(jsonElement.get());
+                }
+                return Optional.of(arrayBuilder.build());
+            case DOCUMENT:
+                final JsonObjectBuilder objectBuilder = JsonFactory.newObjectBuilder();
+                for (final Map.Entry<String, BsonValue> entry : bsonValue.asDocument().entrySet()) {
+                    final Optional<JsonValue> jsonValue = toJson(entry.getValue());
+                    if (jsonValue.isEmpty()) {
+                        return Optional.empty();
+                    }
+                    final JsonKey key = JsonKey.of(KeyEscapeUtil.unescape(entry.getKey()));
+                    objectBuilder.set(JsonFactory.newField(key, jsonValue.get()));
+                }
+                return Optional.of(objectBuilder.build());
+            default:
+                // JsonToBson does not write other types
+                return Optional.empty();
+        }
+    }
+
+    private static boolean isCovered(final JsonPointer selectedPointer) {
+        return selectedPointer.getRoot().filter(COVERED_ROOT_KEYS::contains).isPresent();
+    }
+
+    private static JsonKey getRootKey(final JsonFieldDefinition<?> fieldDefinition) {
+        return fieldDefinition.getPointer().getRoot().orElseThrow();
+    }
+
+}
@@ -12,12 +12,16 @@
  */
 package org.eclipse.ditto.services.thingsearch.persistence.read;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
 
 import javax.annotation.Nullable;
 
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonFieldSelector;
 import org.eclipse.ditto.model.base.entity.id.EntityId;
 import org.eclipse.ditto.model.query.Query;
 import org.eclipse.ditto.model.things.ThingId;
@@ -26,6 +30,7 @@ import org.eclipse.ditto.services.thingsearch.common.model.ResultList;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
 
 import akka.NotUsed;
+import akka.japi.Pair;
 import akka.stream.javadsl.Source;
 
 /**
@@ -58,6 +63,33 @@ public interface ThingsSearchPersistence {
      */
     Source<Long, NotUsed> count(Query query, List<String> authorizationSubjectIds);
 
+    /**
+     * Returns the count of documents found by the given {@code query}, possibly served from a short-lived cache.
+     *
+     * @param query the query for matching.
+     * @param authorizationSubjectIds authorization subject IDs.
+     * @param namespaces namespaces the query is restricted to, or null if the query is not restricted to namespaces.
+     * @param approximate whether counting may stop at a configured maximum.
+     * @return an {@link Source} which emits the count.
+     * @throws NullPointerException if {@code query} is {@code null}.
+     * @since 2.0.0
+     */
+    default Source<Long, NotUsed> count(final Query query, final List<String> authorizationSubjectIds,
+            @Nullable final Set<String> namespaces, final boolean approximate) {
+        return count(query, authorizationSubjectIds);
+    }
+
+    /**
+     * Notifies the persistence that search index entries of the given namespaces were written, so that cached counts
+     * possibly including things of these namespaces are no longer served.
+     *
+     * @param namespaces the namespaces of the written search index entries.
+     * @since 2.0.0
+     */
+    default void invalidateCounts(final Collection<String> namespaces) {
+        // nothing cached by default
+    }
+
     /**
      * Returns the count of documents found by the given {@code query} regardless of visibility.
      *
@@ -79,6 +111,28 @@ public interface ThingsSearchPersistence {
     Source<ResultList<ThingId>, NotUsed> findAll(Query query, List<String> authorizationSubjectIds,
             @Nullable Set<String> namespaces);
 
+    /**
+     * Returns the IDs for all found documents together with the things of the page as far as the requester may read
+     * them, if all of them can be reconstructed from their search index entries.
+     *
+     * @param query the query for matching.
+     * @param authorizationSubjectIds authorization subject IDs.
+     * @param namespaces namespaces to execute searches in, or null to search in all namespaces.
+     * @param fields the selected fields of the things, or null for the default fields.
+     * @return an {@link Source} which emits the IDs paired with the things of the page, or with an empty optional if
+     * the things have to be retrieved from the things service.
+     * @throws NullPointerException if {@code query} is {@code null}.
+     * @since 2.0.0
+     */
+    default Source<Pair<ResultList<ThingId>, Optional<JsonArray>>, NotUsed> findAllWithThings(final Query query,
+            final List<String> authorizationSubjectIds,
+            @Nullable final Set<String> namespaces,
+            @Nullable final JsonFieldSelector fields) {
+
+        return findAll(query, authorizationSubjectIds, namespaces)
+                .map(resultList -> Pair.create(resultList, Optional.<JsonArray>empty()));
+    }
+
     /**
      * Stream the IDs for all found documents without result size limit.
      *
@@ -92,6 +146,21 @@ public interface ThingsSearchPersistence {
     Source<ThingId, NotUsed> findAllUnlimited(Query query, List<String> authorizationSubjectIds,
             @Nullable Set<String> namespaces);
 
+    /**
+     * Stream the IDs of all found documents together with their values of the sort options of the query from one
+     * database cursor. The limit of the query is used as the batch size of the cursor instead of limiting the
+     * results. The cursor is kept open as long as the stream is neither completed nor cancelled.
+     *
+     * @param query the query for matching.
+     * @param authorizationSubjectIds authorization subject IDs.
+     * @param namespaces namespaces to execute searches in, or null to search in all namespaces.
+     * @return an {@link Source} which emits the IDs paired with their sort values.
+     * @throws NullPointerException if {@code query} is {@code null}.
+     * @since 2.0.0
+     */
+    Source<Pair<ThingId, JsonArray>, NotUsed> findAllWithSortValues(Query query,
+            List<String> authorizationSubjectIds, @Nullable Set<String> namespaces);
+
     /**
      * Start a stream of metadata of all search index entries not marked for deletion.
      * Do not consider authorization.
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.write.model;
+
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_GLOBAL_READ;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_ID;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_INTERNAL;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_NAMESPACE;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_POLICY_ID;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_POLICY_REVISION;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_REVISION;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_SORTING;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DocumentCodec;
+
+/**
+ * Computes the {@code $set}/{@code $unset} update turning a previously written search index document into the
+ * search index document of a later revision of the same Thing.
+ */
+@Immutable
+final class ThingDocumentDiff {
+
+    private static final String UNSET = "$unset";
+    private static final char DOT = '.';
+    private static final char DOLLAR = '$';
+
+    /**
+     * Fields which change the visibility of the whole document; documents differing in them are replaced.
+     */
+    private static final Set<String> REPLACEMENT_FIELDS = Collections.unmodifiableSet(new HashSet<>(
+            Arrays.asList(FIELD_ID, FIELD_NAMESPACE, FIELD_GLOBAL_READ, FIELD_POLICY_ID, FIELD_POLICY_REVISION)));
+
+    private static final DocumentCodec DOCUMENT_CODEC = new DocumentCodec();
+
+    private ThingDocumentDiff() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Compute the update from the previous to the next search index document of a Thing.
+     *
+     * @param previous the previously written search index document.
+     * @param next the search index document to write.
+     * @return the encoded update document, or an empty optional if the policy or the structure of the document
+     * changed so that the document has to be replaced.
+     */
+    static Optional<RawBsonDocument> diff(final Document previous, final Document next) {
+        if (!previous.keySet().equals(next.keySet())) {
+            return Optional.empty();
+        }
+        final Document set = new Document();
+        final Document unset = new Document();
+        for (final Map.Entry<String, Object> entry : next.entrySet()) {
+            final String key = entry.getKey();
+            final Object previousValue = previous.get(key);
+            final Object nextValue = entry.getValue();
+            if (REPLACEMENT_FIELDS.contains(key)) {
+                if (!Objects.equals(previousValue, nextValue)) {
+                    return Optional.empty();
+                }
+            } else if (FIELD_SORTING.equals(key)) {
+                diffValues(key, previousValue, nextValue, set, unset);
+            } else if (FIELD_INTERNAL.equals(key)) {
+                diffArrays(key, previousValue, nextValue, set);
+            } else if (!Objects.equals(previousValue, nextValue)) {
+                set.append(key, nextValue);
+            }
+        }
+        if (set.isEmpty() && unset.isEmpty()) {
+            // MongoDB rejects empty updates
+            set.append(FIELD_REVISION, next.get(FIELD_REVISION));
+        }
+        final Document update = new Document();
+        if (!set.isEmpty()) {
+            update.append(AbstractWriteModel.SET, set);
+        }
+        if (!unset.isEmpty()) {
+            update.append(UNSET, unset);
+        }
+        return Optional.of(new RawBsonDocument(update, DOCUMENT_CODEC));
+    }
+
+    private static void diffValues(final String path, final Object previousValue, final Object nextValue,
+            final Document set, final Document unset) {
+
+        if (previousValue instanceof BsonDocument && nextValue instanceof BsonDocument) {
+            final BsonDocument previousDocument = (BsonDocument) previousValue;
+            final BsonDocument nextDocument = (BsonDocument) nextValue;
+            if (hasOnlyPathKeys(previousDocument) && hasOnlyPathKeys(nextDocument)) {
+                for (final Map.Entry<String, BsonValue> entry : nextDocument.entrySet()) {
+                    final String childPath = path + DOT + entry.getKey();
+                    final BsonValue previousChild = previousDocument.get(entry.getKey());
+                    if (previousChild == null) {
+                        set.append(childPath, entry.getValue());
+                    } else {
+                        diffValues(childPath, previousChild, entry.getValue(), set, unset);
+                    }
+                }
+                for (final String previousKey : previousDocument.keySet()) {
+                    if (!nextDocument.containsKey(previousKey)) {
+                        unset.append(path + DOT + previousKey, "");
+                    }
+                }
+                return;
+            }
+        }
+        if (!Objects.equals(previousValue, nextValue)) {
+            // keys not addressable by dot notation, arrays and changed types are set as a whole
+            set.append(path, nextValue);
+        }
+    }
+
+    private static void diffArrays(final String path, final Object previousValue, final Object nextValue,
+            final Document set) {
+
+        if (previousValue instanceof BsonArray && nextValue instanceof BsonArray &&
+                ((BsonArray) previousValue).size() == ((BsonArray) nextValue).size()) {
+            final BsonArray previousArray = (BsonArray) previousValue;
+            final BsonArray nextArray = (BsonArray) nextValue;
+            final Document elementUpdates = new Document();
+            for (int i = 0; i < nextArray.size(); i++) {
+                if (!previousArray.get(i).equals(nextArray.get(i))) {
+                    elementUpdates.append(path + DOT + i, nextArray.get(i));
+                }
+            }
+            // setting more than half of the elements one by one is not cheaper than setting the whole array
+            if (elementUpdates.size() * 2 <= nextArray.size()) {
+                set.putAll(elementUpdates);
+                return;
+            }
+        }
+        if (!Objects.equals(previousValue, nextValue)) {
+            set.append(path, nextValue);
+        }
+    }
+
+    private static boolean hasOnlyPathKeys(final BsonDocument document) {
+        for (final String key : document.keySet()) {
+            if (key.isEmpty() || key.charAt(0) == DOLLAR || key.indexOf(DOT) >= 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
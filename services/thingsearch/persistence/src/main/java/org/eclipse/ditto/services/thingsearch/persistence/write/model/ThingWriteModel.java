@@ -12,15 +12,20 @@
  */
 package org.eclipse.ditto.services.thingsearch.persistence.write.model;
 
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_REVISION;
+
 import java.util.Objects;
+import java.util.Optional;
 
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.NotThreadSafe;
 
 import org.bson.Document;
 
+import com.mongodb.client.model.Filters;
 import com.mongodb.client.model.ReplaceOneModel;
 import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.UpdateOneModel;
 import com.mongodb.client.model.WriteModel;
 
 /**
@@ -52,6 +57,22 @@ public final class ThingWriteModel extends AbstractWriteModel {
         return new ReplaceOneModel<>(getFilter(), thingDocument, upsert());
     }
 
+    /**
+     * Convert this write model into a MongoDB update which sets and unsets only the fields that differ from the
+     * search index document written for an earlier revision of the same Thing. The update matches only if the
+     * persisted document still has the revision of the given document and never inserts a document.
+     *
+     * @param lastWrittenDocument the search index document last written for the Thing.
+     * @return the update, or an empty optional if the document has to be replaced because its policy or structure
+     * changed.
+     * @since 2.0.0
+     */
+    public Optional<UpdateOneModel<Document>> toIncrementalMongo(final Document lastWrittenDocument) {
+        return ThingDocumentDiff.diff(lastWrittenDocument, thingDocument)
+                .map(update -> new UpdateOneModel<>(Filters.and(getFilter(),
+                        Filters.eq(FIELD_REVISION, lastWrittenDocument.get(FIELD_REVISION))), update));
+    }
+
     /**
      * @return the Thing document to be written in the persistence.
      */
@@ -71,6 +71,20 @@ public final class WriteResultAndErrors {
                 mongoBulkWriteException.getWriteErrors(), null);
     }
 
+    /**
+     * Create a WriteResultAndErrors from a bulk write result and errors detected for some of the write models.
+     *
+     * @param writeModels the requested write models.
+     * @param bulkWriteResult the bulk write result.
+     * @param bulkWriteErrors the errors of the failed write models.
+     * @return the write result with errors.
+     * @since 2.0.0
+     */
+    public static WriteResultAndErrors failure(final List<AbstractWriteModel> writeModels,
+            final BulkWriteResult bulkWriteResult, final List<BulkWriteError> bulkWriteErrors) {
+        return new WriteResultAndErrors(writeModels, bulkWriteResult, bulkWriteErrors, null);
+    }
+
     /**
      * Create a WriteResultAndErrors from an unexpected error. Getting called suggests a bug in Ditto or in its
      * environment.
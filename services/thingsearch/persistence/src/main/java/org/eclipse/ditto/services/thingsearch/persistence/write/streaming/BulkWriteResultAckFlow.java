@@ -27,9 +27,9 @@ import org.eclipse.ditto.services.models.thingsearch.commands.sudo.UpdateThingRe
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.AbstractWriteModel;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.WriteResultAndErrors;
+import org.eclipse.ditto.services.utils.cluster.LocalShardedMessageEnvelope;
 import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
 import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
-import org.eclipse.ditto.signals.base.ShardedMessageEnvelope;
 
 import com.mongodb.bulk.BulkWriteError;
 import com.mongodb.bulk.BulkWriteResult;
@@ -99,9 +99,9 @@ final class BulkWriteResultAckFlow {
 
         for (final Metadata metadata : things) {
             final UpdateThingResponse response = responseCreator.apply(metadata);
-            final ShardedMessageEnvelope envelope =
-                    ShardedMessageEnvelope.of(response.getEntityId(), response.getType(), response.toJson(),
-                            response.getDittoHeaders());
+            final LocalShardedMessageEnvelope<UpdateThingResponse> envelope =
+                    LocalShardedMessageEnvelope.of(response.getEntityId(), response.getType(), response,
+                            UpdateThingResponse::toJson, response.getDittoHeaders());
             updaterShard.tell(envelope, ActorRef.noSender());
         }
     }
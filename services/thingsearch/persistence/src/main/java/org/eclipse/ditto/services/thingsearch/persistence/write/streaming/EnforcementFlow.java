@@ -15,10 +15,14 @@ package org.eclipse.ditto.services.thingsearch.persistence.write.streaming;
 import java.time.Duration;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import javax.annotation.Nullable;
 
@@ -32,6 +36,7 @@ import org.eclipse.ditto.model.policies.PolicyIdInvalidException;
 import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.model.things.ThingsModelFactory;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoBulkRetrieveThings;
 import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThing;
 import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingResponse;
 import org.eclipse.ditto.services.thingsearch.common.config.StreamCacheConfig;
@@ -45,6 +50,10 @@ import org.eclipse.ditto.services.utils.cache.CacheFactory;
 import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
 import org.eclipse.ditto.services.utils.cache.entry.Entry;
 import org.eclipse.ditto.services.utils.cacheloaders.PolicyEnforcerCacheLoader;
+import org.eclipse.ditto.services.utils.cluster.ShardRegionExtractor;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.services.utils.metrics.instruments.timer.StartedTimer;
 import org.eclipse.ditto.signals.commands.policies.PolicyCommand;
 import org.eclipse.ditto.signals.commands.things.exceptions.ThingNotAccessibleException;
 import org.slf4j.Logger;
@@ -55,20 +64,39 @@ import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
 import akka.NotUsed;
 import akka.actor.ActorRef;
 import akka.dispatch.MessageDispatcher;
+import akka.japi.pf.PFBuilder;
 import akka.pattern.Patterns;
+import akka.stream.Graph;
+import akka.stream.SourceRef;
+import akka.stream.SourceShape;
 import akka.stream.javadsl.Flow;
 import akka.stream.javadsl.Keep;
 import akka.stream.javadsl.Source;
 
 /**
  * Converts Thing changes into write models by retrieving data and applying enforcement via an enforcer cache.
+ * Things are retrieved with {@link SudoBulkRetrieveThings} commands of a bounded number of Things of the same shard of
+ * the Things shard region. Each command is answered by a stream of its Things; the Things of a failed bulk retrieval
+ * which were not received yet are retrieved one by one.
  */
 final class EnforcementFlow {
 
     private static final Source<Entry<Enforcer>, NotUsed> ENFORCER_NONEXISTENT = Source.single(Entry.nonexistent());
 
+    private static final String RETRIEVED_THINGS_METRIC = "things_search_updater_retrieved_things";
+    private static final String RETRIEVE_THINGS_TIMER = "things_search_updater_retrieve_things";
+    private static final String THINGS_PER_BULK_METRIC = "things_search_updater_retrieve_things_per_bulk";
+    private static final String RETRIEVAL_TAG = "retrieval";
+    private static final String RETRIEVAL_BULK = "bulk";
+    private static final String RETRIEVAL_SINGLE = "single";
+    private static final String SUCCESS_TAG = "success";
+
     private final Logger log = LoggerFactory.getLogger(getClass());
+    private final Counter thingsRetrievedInBulk;
+    private final Counter thingsRetrievedSingly;
     private final ActorRef thingsShardRegion;
+    private final int numberOfShards;
+    private final int maxBulkRetrievalSize;
     private final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache;
     private final Duration thingsTimeout;
     private final Duration cacheRetryDelay;
@@ -76,13 +104,19 @@ final class EnforcementFlow {
     private final boolean deleteEvent;
 
     private EnforcementFlow(final ActorRef thingsShardRegion,
+            final int numberOfShards,
+            final int maxBulkRetrievalSize,
             final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache,
             final Duration thingsTimeout,
             final Duration cacheRetryDelay,
             final int maxArraySize,
             final boolean deleteEvent) {
 
+        thingsRetrievedInBulk = DittoMetrics.counter(RETRIEVED_THINGS_METRIC).tag(RETRIEVAL_TAG, RETRIEVAL_BULK);
+        thingsRetrievedSingly = DittoMetrics.counter(RETRIEVED_THINGS_METRIC).tag(RETRIEVAL_TAG, RETRIEVAL_SINGLE);
         this.thingsShardRegion = thingsShardRegion;
+        this.numberOfShards = numberOfShards;
+        this.maxBulkRetrievalSize = Math.max(1, maxBulkRetrievalSize);
         this.policyEnforcerCache = policyEnforcerCache;
         this.thingsTimeout = thingsTimeout;
         this.cacheRetryDelay = cacheRetryDelay;
@@ -95,12 +129,14 @@ final class EnforcementFlow {
      *
      * @param updaterStreamConfig configuration of the updater stream.
      * @param thingsShardRegion the shard region to retrieve things from.
+     * @param numberOfShards the number of shards of the things shard region.
      * @param policiesShardRegion the shard region to retrieve policies from.
      * @param cacheDispatcher dispatcher for the enforcer cache.
      * @return an EnforcementFlow object.
      */
     public static EnforcementFlow of(final StreamConfig updaterStreamConfig,
             final ActorRef thingsShardRegion,
+            final int numberOfShards,
             final ActorRef policiesShardRegion,
             final MessageDispatcher cacheDispatcher,
             final boolean deleteEvent) {
@@ -114,7 +150,8 @@ final class EnforcementFlow {
                 CacheFactory.createCache(policyEnforcerCacheLoader, streamCacheConfig,
                         EnforcementFlow.class.getCanonicalName() + ".cache", cacheDispatcher);
 
-        return new EnforcementFlow(thingsShardRegion, policyEnforcerCache, askTimeout,
+        return new EnforcementFlow(thingsShardRegion, numberOfShards, updaterStreamConfig.getMaxBulkRetrievalSize(),
+                policyEnforcerCache, askTimeout,
                 streamCacheConfig.getRetryDelay(), updaterStreamConfig.getMaxArraySize(), deleteEvent);
     }
 
@@ -123,15 +160,22 @@ final class EnforcementFlow {
     }
 
     /**
-     * Extract Thing ID from SudoRetrieveThingResponse.
+     * Extract Thing ID from a retrieved Thing.
      * This is needed because SudoRetrieveThingResponse#id() is always the empty string.
      *
-     * @param response the SudoRetrieveThingResponse.
+     * @param thing the retrieved Thing.
      * @return the extracted Thing ID.
      */
-    private static ThingId getThingId(final SudoRetrieveThingResponse response) {
-        final String thingId = response.getEntity().asObject().getValueOrThrow(Thing.JsonFields.ID);
-        return ThingId.of(thingId);
+    private static ThingId getThingId(final JsonObject thing) {
+        return ThingId.of(thing.getValueOrThrow(Thing.JsonFields.ID));
+    }
+
+    private static void stopTimer(final StartedTimer timer, final boolean success) {
+        try {
+            timer.tag(SUCCESS_TAG, success).stop();
+        } catch (final IllegalStateException e) {
+            // it is okay if the timer stopped already.
+        }
     }
 
     /**
@@ -158,7 +202,7 @@ final class EnforcementFlow {
     /**
      * Create a flow from Thing changes to write models by retrieving data from Things shard region and enforcer cache.
      *
-     * @param parallelism how many SudoRetrieveThing commands to send in parallel.
+     * @param parallelism how many SudoBulkRetrieveThings commands to send in parallel.
      * @return the flow.
      */
     public Flow<Map<ThingId, Metadata>, Source<AbstractWriteModel, NotUsed>, NotUsed> create(final int parallelism) {
@@ -173,31 +217,110 @@ final class EnforcementFlow {
 
     }
 
-    private Source<Map<ThingId, SudoRetrieveThingResponse>, NotUsed> sudoRetrieveThingJsons(
+    private Source<Map<ThingId, JsonObject>, NotUsed> sudoRetrieveThingJsons(
             final int parallelism, final Collection<ThingId> thingIds) {
 
-        return Source.fromIterator(thingIds::iterator)
-                .flatMapMerge(parallelism, this::sudoRetrieveThing)
-                .<Map<ThingId, SudoRetrieveThingResponse>>fold(new HashMap<>(), (map, response) -> {
-                    map.put(getThingId(response), response);
+        return Source.from(groupByShard(thingIds))
+                .flatMapMerge(parallelism, this::sudoBulkRetrieveThings)
+                .<Map<ThingId, JsonObject>>fold(new HashMap<>(), (map, thing) -> {
+                    map.put(getThingId(thing), thing);
                     return map;
                 })
                 .map(result -> {
-                    log.info("Got SudoRetrieveThingResponse <{}> times", result.size());
+                    log.info("Retrieved <{}> things", result.size());
                     return result;
                 });
     }
 
-    private Source<SudoRetrieveThingResponse, NotUsed> sudoRetrieveThing(final ThingId thingId) {
+    /**
+     * Group Thing IDs by their shard and split each group into chunks of at most the maximum bulk retrieval size.
+     */
+    private List<List<ThingId>> groupByShard(final Collection<ThingId> thingIds) {
+        return thingIds.stream()
+                .collect(Collectors.groupingBy(thingId -> ShardRegionExtractor.getShardId(thingId, numberOfShards)))
+                .values()
+                .stream()
+                .flatMap(group -> IntStream.range(0, (group.size() + maxBulkRetrievalSize - 1) / maxBulkRetrievalSize)
+                        .mapToObj(i -> group.subList(i * maxBulkRetrievalSize,
+                                Math.min(group.size(), (i + 1) * maxBulkRetrievalSize))))
+                .collect(Collectors.toList());
+    }
+
+    private Source<JsonObject, NotUsed> sudoBulkRetrieveThings(final List<ThingId> thingIds) {
+        // the things service retrieves each thing with the timeout header; give it time to answer afterwards
+        final SudoBulkRetrieveThings command =
+                SudoBulkRetrieveThings.of(thingIds, DittoHeaders.newBuilder().timeout(thingsTimeout).build());
+        DittoMetrics.histogram(THINGS_PER_BULK_METRIC).record((long) thingIds.size());
+        final StartedTimer timer = DittoMetrics.timer(RETRIEVE_THINGS_TIMER).tag(RETRIEVAL_TAG, RETRIEVAL_BULK).start();
+        final CompletionStage<Source<JsonObject, NotUsed>> responseFuture =
+                // using default thread-pool for asking Things shard region
+                Patterns.ask(thingsShardRegion, command, thingsTimeout.multipliedBy(2L))
+                        .handle((response, error) -> {
+                            if (response instanceof SourceRef) {
+                                stopTimer(timer, true);
+                                return streamThings(command, (SourceRef<?>) response);
+                            } else {
+                                stopTimer(timer, false);
+                                if (error != null) {
+                                    log.warn("Failed <{}>, retrieving things one by one: {}", command, error);
+                                } else {
+                                    log.warn("Unexpected response for <{}>, retrieving things one by one: <{}>",
+                                            command, response);
+                                }
+                                return sudoRetrieveThings(thingIds);
+                            }
+                        });
+
+        return Source.fromSourceCompletionStage(responseFuture)
+                .viaMat(Flow.create(), Keep.none());
+    }
+
+    /**
+     * Receive the Things of a bulk retrieval one by one. If the stream fails, the Things not received yet are retrieved
+     * one by one.
+     */
+    private Source<JsonObject, NotUsed> streamThings(final SudoBulkRetrieveThings command,
+            final SourceRef<?> sourceRef) {
+
+        final Set<ThingId> receivedThingIds = ConcurrentHashMap.newKeySet();
+        return sourceRef.getSource()
+                .map(thing -> {
+                    final JsonObject thingJson = JsonObject.of(thing.toString());
+                    receivedThingIds.add(getThingId(thingJson));
+                    thingsRetrievedInBulk.increment();
+                    return thingJson;
+                })
+                .recoverWithRetries(1, new PFBuilder<Throwable, Graph<SourceShape<JsonObject>, NotUsed>>()
+                        .matchAny(error -> {
+                            log.warn("Failed to stream the things of <{}>, retrieving the rest one by one: {}",
+                                    command, error);
+                            return sudoRetrieveThings(command.getThingIds()
+                                    .stream()
+                                    .filter(thingId -> !receivedThingIds.contains(thingId))
+                                    .collect(Collectors.toList()));
+                        })
+                        .build());
+    }
+
+    private Source<JsonObject, NotUsed> sudoRetrieveThings(final List<ThingId> thingIds) {
+        return Source.from(thingIds).flatMapMerge(Math.max(1, thingIds.size()), this::sudoRetrieveThing);
+    }
+
+    private Source<JsonObject, NotUsed> sudoRetrieveThing(final ThingId thingId) {
         final SudoRetrieveThing command =
                 SudoRetrieveThing.withOriginalSchemaVersion(thingId, DittoHeaders.empty());
-        final CompletionStage<Source<SudoRetrieveThingResponse, NotUsed>> responseFuture =
+        final StartedTimer timer =
+                DittoMetrics.timer(RETRIEVE_THINGS_TIMER).tag(RETRIEVAL_TAG, RETRIEVAL_SINGLE).start();
+        final CompletionStage<Source<JsonObject, NotUsed>> responseFuture =
                 // using default thread-pool for asking Things shard region
                 Patterns.ask(thingsShardRegion, command, thingsTimeout)
                         .handle((response, error) -> {
                             if (response instanceof SudoRetrieveThingResponse) {
-                                return Source.single((SudoRetrieveThingResponse) response);
+                                stopTimer(timer, true);
+                                thingsRetrievedSingly.increment();
+                                return Source.single(((SudoRetrieveThingResponse) response).getEntity().asObject());
                             } else {
+                                stopTimer(timer, response instanceof ThingNotAccessibleException);
                                 if (error != null) {
                                     log.error("Failed " + command, error);
                                 } else if (!(response instanceof ThingNotAccessibleException)) {
@@ -212,15 +335,13 @@ final class EnforcementFlow {
     }
 
     private Source<AbstractWriteModel, NotUsed> computeWriteModel(final Metadata metadata,
-            @Nullable final SudoRetrieveThingResponse sudoRetrieveThingResponse) {
+            @Nullable final JsonObject thing) {
 
-        if (sudoRetrieveThingResponse == null) {
+        if (thing == null) {
             return deleteEvent
                     ? Source.single(ThingDeleteModel.of(metadata))
                     : Source.empty();
         } else {
-            final JsonObject thing = sudoRetrieveThingResponse.getEntity().asObject();
-
             return getEnforcer(metadata, thing)
                     .map(entry -> {
                         if (entry.exists()) {
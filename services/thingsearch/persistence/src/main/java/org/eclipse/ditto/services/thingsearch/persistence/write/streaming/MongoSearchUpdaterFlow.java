@@ -15,19 +15,40 @@ package org.eclipse.ditto.services.thingsearch.persistence.write.streaming;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.THINGS_COLLECTION_NAME;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
 
+import javax.annotation.Nullable;
+
+import org.bson.BsonDocument;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.DocumentCodec;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.conversions.Bson;
+import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.AbstractWriteModel;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.ThingDeleteModel;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.ThingWriteModel;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.WriteResultAndErrors;
 import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
 import org.eclipse.ditto.services.utils.metrics.instruments.timer.StartedTimer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.mongodb.MongoBulkWriteException;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
 import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.UpdateOneModel;
 import com.mongodb.client.model.WriteModel;
 import com.mongodb.reactivestreams.client.MongoCollection;
 import com.mongodb.reactivestreams.client.MongoDatabase;
@@ -55,26 +76,58 @@ final class MongoSearchUpdaterFlow {
 
     private static final String TRACE_THING_BULK_UPDATE = "things_search_thing_bulkUpdate";
     private static final String COUNT_THING_BULK_UPDATES_PER_BULK = "things_search_thing_bulkUpdate_updates_per_bulk";
+    private static final String HISTOGRAM_BYTES_PER_UPDATE = "things_search_thing_bulkUpdate_bytes_per_update";
+    private static final String COUNT_INCREMENTAL_UPDATES_NOT_MATCHED =
+            "things_search_thing_bulkUpdate_incremental_not_matched";
     private static final String UPDATE_TYPE_TAG = "update_type";
+    private static final String UPDATE_TYPE_INCREMENTAL = "incremental";
+    private static final String UPDATE_TYPE_REPLACE = "replace";
+    private static final int INCREMENTAL_UPDATE_NOT_MATCHED_CODE = -1;
+
+    /**
+     * Measuring the size of an update encodes it a second time, hence only 1 in this many updates is measured.
+     */
+    private static final int BYTES_PER_UPDATE_SAMPLING_INTERVAL = 100;
+    private static final CodecRegistry CODEC_REGISTRY = MongoClientSettings.getDefaultCodecRegistry();
+    private static final BsonDocumentCodec BSON_CODEC = new BsonDocumentCodec();
+    private static final DocumentCodec DOCUMENT_CODEC = new DocumentCodec();
 
     private Logger log = LoggerFactory.getLogger(MongoSearchUpdaterFlow.class);
 
     private final MongoCollection<Document> collection;
+    @Nullable private final Cache<ThingId, Document> lastWrittenDocuments;
 
-    private MongoSearchUpdaterFlow(final MongoCollection<Document> collection) {
+    private MongoSearchUpdaterFlow(final MongoCollection<Document> collection, final int incrementalUpdateCacheSize) {
         this.collection = collection;
+        if (incrementalUpdateCacheSize > 0) {
+            lastWrittenDocuments = Caffeine.newBuilder().maximumSize(incrementalUpdateCacheSize).build();
+        } else {
+            lastWrittenDocuments = null;
+        }
     }
 
     /**
-     * Create a MongoSearchUpdaterFlow object.
+     * Create a MongoSearchUpdaterFlow object which always replaces whole search index documents.
      *
      * @param database the MongoDB database.
      * @return the MongoSearchUpdaterFlow object.
      */
     public static MongoSearchUpdaterFlow of(final MongoDatabase database) {
-        return new MongoSearchUpdaterFlow(database.getCollection(THINGS_COLLECTION_NAME));
+        return of(database, 0);
     }
 
+    /**
+     * Create a MongoSearchUpdaterFlow object.
+     *
+     * @param database the MongoDB database.
+     * @param incrementalUpdateCacheSize how many of the last written search index documents to remember in order to
+     * write further changes of the same Things as incremental updates; 0 to always replace whole documents.
+     * @return the MongoSearchUpdaterFlow object.
+     * @since 2.0.0
+     */
+    public static MongoSearchUpdaterFlow of(final MongoDatabase database, final int incrementalUpdateCacheSize) {
+        return new MongoSearchUpdaterFlow(database.getCollection(THINGS_COLLECTION_NAME), incrementalUpdateCacheSize);
+    }
 
     /**
      * Create a new flow through the search persistence.
@@ -114,9 +167,15 @@ final class MongoSearchUpdaterFlow {
 
     private Source<WriteResultAndErrors, NotUsed> executeBulkWrite(
             final List<AbstractWriteModel> abstractWriteModels) {
-        final List<WriteModel<Document>> writeModels = abstractWriteModels.stream()
-                .map(AbstractWriteModel::toMongo)
-                .collect(Collectors.toList());
+        final List<WriteModel<Document>> writeModels = new ArrayList<>(abstractWriteModels.size());
+        final List<Integer> incrementalUpdateIndexes = new ArrayList<>();
+        for (final AbstractWriteModel abstractWriteModel : abstractWriteModels) {
+            final WriteModel<Document> writeModel = toMongo(abstractWriteModel);
+            if (writeModel instanceof UpdateOneModel && abstractWriteModel instanceof ThingWriteModel) {
+                incrementalUpdateIndexes.add(writeModels.size());
+            }
+            writeModels.add(writeModel);
+        }
         return Source.fromPublisher(collection.bulkWrite(writeModels, new BulkWriteOptions().ordered(false)))
                 .map(bulkWriteResult -> WriteResultAndErrors.success(abstractWriteModels, bulkWriteResult))
                 .recoverWithRetries(1, new PFBuilder<Throwable, Source<WriteResultAndErrors, NotUsed>>()
@@ -127,7 +186,120 @@ final class MongoSearchUpdaterFlow {
                                 Source.single(WriteResultAndErrors.unexpectedError(abstractWriteModels, error))
                         )
                         .build()
-                );
+                )
+                .map(resultAndErrors -> checkIncrementalUpdates(resultAndErrors, incrementalUpdateIndexes))
+                .map(this::rememberWrittenDocuments);
+    }
+
+    private WriteModel<Document> toMongo(final AbstractWriteModel abstractWriteModel) {
+        if (abstractWriteModel instanceof ThingWriteModel) {
+            final ThingWriteModel thingWriteModel = (ThingWriteModel) abstractWriteModel;
+            final Document lastWrittenDocument = null != lastWrittenDocuments
+                    ? lastWrittenDocuments.getIfPresent(thingWriteModel.getMetadata().getThingId())
+                    : null;
+            if (null != lastWrittenDocument) {
+                final Optional<UpdateOneModel<Document>> incrementalUpdate =
+                        thingWriteModel.toIncrementalMongo(lastWrittenDocument);
+                if (incrementalUpdate.isPresent()) {
+                    recordBytesPerUpdate(UPDATE_TYPE_INCREMENTAL, incrementalUpdate.get().getUpdate());
+                    return incrementalUpdate.get();
+                }
+            }
+            if (null != lastWrittenDocuments) {
+                recordBytesPerUpdate(UPDATE_TYPE_REPLACE, thingWriteModel.getThingDocument());
+            }
+        }
+        return abstractWriteModel.toMongo();
+    }
+
+    /**
+     * Incremental updates match only if the persisted document has the expected revision; an incremental update
+     * matching no document is not an error for MongoDB. As the bulk write result does not tell which updates matched,
+     * all incremental updates of a bulk are reported as failed if fewer documents matched than expected, so that the
+     * Things are written again by full replacements. Only replacements and incremental updates are expected to match;
+     * deletions match no document if the Thing was never indexed.
+     */
+    private static WriteResultAndErrors checkIncrementalUpdates(final WriteResultAndErrors resultAndErrors,
+            final List<Integer> incrementalUpdateIndexes) {
+
+        final BulkWriteResult bulkWriteResult = resultAndErrors.getBulkWriteResult();
+        if (incrementalUpdateIndexes.isEmpty() || !bulkWriteResult.wasAcknowledged() ||
+                resultAndErrors.getUnexpectedError().isPresent()) {
+            return resultAndErrors;
+        }
+        final List<BulkWriteError> errors = resultAndErrors.getBulkWriteErrors();
+        final Set<Integer> errorIndexes = errors.stream().map(BulkWriteError::getIndex).collect(Collectors.toSet());
+        final int expectedMatches = countWriteModelsWhichMustMatch(resultAndErrors.getWriteModels(), errorIndexes);
+        final int actualMatches = bulkWriteResult.getMatchedCount() + bulkWriteResult.getUpserts().size();
+        if (actualMatches >= expectedMatches) {
+            return resultAndErrors;
+        }
+        final List<BulkWriteError> errorsWithMissedUpdates = new ArrayList<>(errors);
+        for (final Integer index : incrementalUpdateIndexes) {
+            if (!errorIndexes.contains(index)) {
+                errorsWithMissedUpdates.add(new BulkWriteError(INCREMENTAL_UPDATE_NOT_MATCHED_CODE,
+                        "Incremental update possibly matched no document of the expected revision",
+                        new BsonDocument(), index));
+            }
+        }
+        DittoMetrics.counter(COUNT_INCREMENTAL_UPDATES_NOT_MATCHED).increment(incrementalUpdateIndexes.size());
+        return WriteResultAndErrors.failure(resultAndErrors.getWriteModels(), bulkWriteResult,
+                errorsWithMissedUpdates);
+    }
+
+    private static int countWriteModelsWhichMustMatch(final List<AbstractWriteModel> writeModels,
+            final Set<Integer> errorIndexes) {
+
+        int result = 0;
+        for (int i = 0; i < writeModels.size(); i++) {
+            if (!errorIndexes.contains(i) && !(writeModels.get(i) instanceof ThingDeleteModel)) {
+                result++;
+            }
+        }
+        return result;
+    }
+
+    private WriteResultAndErrors rememberWrittenDocuments(final WriteResultAndErrors resultAndErrors) {
+        if (null == lastWrittenDocuments) {
+            return resultAndErrors;
+        }
+        final List<AbstractWriteModel> writeModels = resultAndErrors.getWriteModels();
+        if (!resultAndErrors.getBulkWriteResult().wasAcknowledged() ||
+                resultAndErrors.getUnexpectedError().isPresent()) {
+            writeModels.forEach(writeModel -> lastWrittenDocuments.invalidate(writeModel.getMetadata().getThingId()));
+            return resultAndErrors;
+        }
+        final Set<Integer> errorIndexes = resultAndErrors.getBulkWriteErrors()
+                .stream()
+                .map(BulkWriteError::getIndex)
+                .collect(Collectors.toSet());
+        for (int i = 0; i < writeModels.size(); i++) {
+            final AbstractWriteModel writeModel = writeModels.get(i);
+            final ThingId thingId = writeModel.getMetadata().getThingId();
+            if (writeModel instanceof ThingWriteModel && !errorIndexes.contains(i)) {
+                lastWrittenDocuments.put(thingId, ((ThingWriteModel) writeModel).getThingDocument());
+            } else {
+                lastWrittenDocuments.invalidate(thingId);
+            }
+        }
+        return resultAndErrors;
+    }
+
+    private static void recordBytesPerUpdate(final String updateType, final Bson update) {
+        if (ThreadLocalRandom.current().nextInt(BYTES_PER_UPDATE_SAMPLING_INTERVAL) != 0) {
+            return;
+        }
+        final RawBsonDocument rawUpdate;
+        if (update instanceof RawBsonDocument) {
+            rawUpdate = (RawBsonDocument) update;
+        } else if (update instanceof Document) {
+            rawUpdate = new RawBsonDocument((Document) update, DOCUMENT_CODEC);
+        } else {
+            rawUpdate = new RawBsonDocument(update.toBsonDocument(BsonDocument.class, CODEC_REGISTRY), BSON_CODEC);
+        }
+        DittoMetrics.histogram(HISTOGRAM_BYTES_PER_UPDATE)
+                .tag(UPDATE_TYPE_TAG, updateType)
+                .record((long) rawUpdate.getByteBuffer().remaining());
     }
 
     private static <T> Flow<List<T>, StartedTimer, NotUsed> createStartTimerFlow() {
@@ -17,6 +17,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.base.config.supervision.ExponentialBackOffConfig;
@@ -26,7 +27,9 @@ import org.eclipse.ditto.services.thingsearch.common.config.SearchConfig;
 import org.eclipse.ditto.services.thingsearch.common.config.StreamCacheConfig;
 import org.eclipse.ditto.services.thingsearch.common.config.StreamConfig;
 import org.eclipse.ditto.services.thingsearch.common.config.StreamStageConfig;
+import org.eclipse.ditto.services.thingsearch.persistence.read.ThingsSearchPersistence;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.AbstractWriteModel;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.WriteResultAndErrors;
 import org.eclipse.ditto.services.utils.namespaces.BlockedNamespaces;
 
 import com.mongodb.reactivestreams.client.MongoDatabase;
@@ -57,13 +60,15 @@ public final class SearchUpdaterStream {
     private final BulkWriteResultAckFlow bulkWriteResultAckFlow;
     private final ActorRef changeQueueActor;
     private final BlockedNamespaces blockedNamespaces;
+    private final ThingsSearchPersistence thingsSearchPersistence;
 
     private SearchUpdaterStream(final SearchConfig searchConfig,
             final EnforcementFlow enforcementFlow,
             final MongoSearchUpdaterFlow mongoSearchUpdaterFlow,
             final BulkWriteResultAckFlow bulkWriteResultAckFlow,
             final ActorRef changeQueueActor,
-            final BlockedNamespaces blockedNamespaces) {
+            final BlockedNamespaces blockedNamespaces,
+            final ThingsSearchPersistence thingsSearchPersistence) {
 
         this.searchConfig = searchConfig;
         this.enforcementFlow = enforcementFlow;
@@ -71,6 +76,7 @@ public final class SearchUpdaterStream {
         this.bulkWriteResultAckFlow = bulkWriteResultAckFlow;
         this.changeQueueActor = changeQueueActor;
         this.blockedNamespaces = blockedNamespaces;
+        this.thingsSearchPersistence = thingsSearchPersistence;
     }
 
     /**
@@ -83,6 +89,8 @@ public final class SearchUpdaterStream {
      * @param updaterShard shard region of search updaters.
      * @param changeQueueActor reference of the change queue actor.
      * @param database MongoDB database.
+     * @param blockedNamespaces the namespaces whose search index entries are not updated.
+     * @param thingsSearchPersistence the search persistence whose cached counts are invalidated by writes.
      * @return a SearchUpdaterStream object.
      */
     public static SearchUpdaterStream of(final SearchConfig searchConfig,
@@ -92,7 +100,8 @@ public final class SearchUpdaterStream {
             final ActorRef updaterShard,
             final ActorRef changeQueueActor,
             final MongoDatabase database,
-            final BlockedNamespaces blockedNamespaces) {
+            final BlockedNamespaces blockedNamespaces,
+            final ThingsSearchPersistence thingsSearchPersistence) {
 
         final StreamConfig streamConfig = searchConfig.getStreamConfig();
 
@@ -103,16 +112,19 @@ public final class SearchUpdaterStream {
         final DeleteConfig deleteConfig = searchConfig.getDeleteConfig();
         final boolean deleteEvent = deleteConfig.isDeleteEvent();
 
+        final int numberOfShards = searchConfig.getClusterConfig().getNumberOfShards();
+
         final EnforcementFlow enforcementFlow =
-                EnforcementFlow.of(streamConfig, thingsShard, policiesShard, messageDispatcher,
+                EnforcementFlow.of(streamConfig, thingsShard, numberOfShards, policiesShard, messageDispatcher,
                         deleteEvent);
 
-        final MongoSearchUpdaterFlow mongoSearchUpdaterFlow = MongoSearchUpdaterFlow.of(database);
+        final MongoSearchUpdaterFlow mongoSearchUpdaterFlow = MongoSearchUpdaterFlow.of(database,
+                streamConfig.getPersistenceConfig().getIncrementalUpdateCacheSize());
 
         final BulkWriteResultAckFlow bulkWriteResultAckFlow = BulkWriteResultAckFlow.of(updaterShard);
 
         return new SearchUpdaterStream(searchConfig, enforcementFlow, mongoSearchUpdaterFlow, bulkWriteResultAckFlow,
-                changeQueueActor, blockedNamespaces);
+                changeQueueActor, blockedNamespaces, thingsSearchPersistence);
     }
 
     /**
@@ -155,6 +167,7 @@ public final class SearchUpdaterStream {
         final Duration writeInterval = streamConfig.getWriteInterval();
         final Sink<Source<AbstractWriteModel, NotUsed>, NotUsed> sink =
                 mongoSearchUpdaterFlow.start(parallelism, maxBulkSize, writeInterval)
+                        .wireTap(this::invalidateCountsOfWrittenNamespaces)
                         .via(bulkWriteResultAckFlow.start())
                         .log("SearchUpdaterStream/BulkWriteResult")
                         .withAttributes(Attributes.logLevels(
@@ -193,6 +206,13 @@ public final class SearchUpdaterStream {
                 });
     }
 
+    private void invalidateCountsOfWrittenNamespaces(final WriteResultAndErrors writeResultAndErrors) {
+        thingsSearchPersistence.invalidateCounts(writeResultAndErrors.getWriteModels()
+                .stream()
+                .map(SearchUpdaterStream::namespaceOfWriteModel)
+                .collect(Collectors.toSet()));
+    }
+
     private static String namespaceOfWriteModel(final AbstractWriteModel writeModel) {
         return writeModel.getMetadata().getThingId().getNamespace();
     }
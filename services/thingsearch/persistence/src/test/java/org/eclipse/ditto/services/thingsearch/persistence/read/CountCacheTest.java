@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.read;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.Nullable;
+
+import org.bson.BsonDocument;
+import org.eclipse.ditto.services.thingsearch.common.config.DefaultCountConfig;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ActorSystem;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Unit test for {@link CountCache}.
+ */
+public final class CountCacheTest {
+
+    private static final BsonDocument FILTER = BsonDocument.parse("{\"_namespace\":\"ns1\"}");
+
+    @Nullable private ActorSystem actorSystem;
+    private AtomicLong countedDocuments;
+    private CountCache underTest;
+
+    @Before
+    public void setUp() {
+        actorSystem = ActorSystem.create();
+        countedDocuments = new AtomicLong();
+        underTest = CountCache.of(DefaultCountConfig.of(ConfigFactory.empty()));
+    }
+
+    @After
+    public void shutdownActorSystem() {
+        if (actorSystem != null) {
+            TestKit.shutdownActorSystem(actorSystem);
+        }
+    }
+
+    @Test
+    public void countIsDisabledForCacheSizeZero() {
+        assertThat(CountCache.of(DefaultCountConfig.of(ConfigFactory.parseString("count.cache-maximum-size = 0"))))
+                .isNull();
+    }
+
+    @Test
+    public void countsAreServedFromCacheUntilTheirNamespacesAreWritten() throws Exception {
+        final Set<String> namespaces = Collections.singleton("ns1");
+
+        assertThat(count(namespaces)).isEqualTo(1L);
+        assertThat(count(namespaces)).isEqualTo(1L);
+
+        underTest.invalidate(Collections.singleton("ns2"));
+        assertThat(count(namespaces)).isEqualTo(1L);
+
+        underTest.invalidate(Collections.singleton("ns1"));
+        assertThat(count(namespaces)).isEqualTo(2L);
+    }
+
+    @Test
+    public void countsOfAllNamespacesAreInvalidatedByAnyWrite() throws Exception {
+        assertThat(count(null)).isEqualTo(1L);
+        assertThat(count(null)).isEqualTo(1L);
+
+        underTest.invalidate(Collections.singleton("ns2"));
+        assertThat(count(null)).isEqualTo(2L);
+    }
+
+    private long count(@Nullable final Set<String> namespaces) throws Exception {
+        return underTest.getOrCount(FILTER, 0, Integer.MAX_VALUE, namespaces,
+                () -> Source.single(countedDocuments.incrementAndGet()))
+                .runWith(Sink.head(), actorSystem)
+                .toCompletableFuture()
+                .get(5L, TimeUnit.SECONDS);
+    }
+
+}
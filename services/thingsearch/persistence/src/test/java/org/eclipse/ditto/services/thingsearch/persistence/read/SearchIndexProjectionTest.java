@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.read;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.ditto.model.policies.PoliciesResourceType.THING;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.bson.Document;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.model.enforcers.PolicyEnforcers;
+import org.eclipse.ditto.model.policies.PoliciesModelFactory;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.model.policies.SubjectType;
+import org.eclipse.ditto.services.models.policies.Permission;
+import org.eclipse.ditto.services.thingsearch.persistence.write.mapping.EnforcedThingMapper;
+import org.junit.Test;
+
+/**
+ * Tests {@link SearchIndexProjection}.
+ */
+public final class SearchIndexProjectionTest {
+
+    private static final JsonObject THING = JsonFactory.newObject("{\n" +
+            "  \"thingId\": \"hello:world\",\n" +
+            "  \"_namespace\": \"hello\",\n" +
+            "  \"_revision\": 1024,\n" +
+            "  \"_modified\": \"2019-01-02T03:04:05.006Z\",\n" +
+            "  \"policyId\": \"hello:world\",\n" +
+            "  \"features\": {\n" +
+            "    \"hi\": {\n" +
+            "      \"definition\": [\n" +
+            "        \"earth:v0:1\"\n" +
+            "      ],\n" +
+            "      \"properties\": {\n" +
+            "        \"there\": true,\n" +
+            "        \"secret\": 42\n" +
+            "      }\n" +
+            "    }\n" +
+            "  },\n" +
+            "  \"attributes\": {\n" +
+            "    \"hello.world\": \"world\",\n" +
+            "    \"empty\": {}\n" +
+            "  }\n" +
+            "}");
+
+    private static final Enforcer ENFORCER = PolicyEnforcers.defaultEvaluator(
+            PoliciesModelFactory.newPolicyBuilder(PolicyId.of("policy", "id"))
+                    .forLabel("grant-root")
+                    .setSubject("g:0", SubjectType.GENERATED)
+                    .setGrantedPermissions(THING, "/", Permission.READ)
+                    .forLabel("grant-there")
+                    .setSubject("g:1", SubjectType.GENERATED)
+                    .setGrantedPermissions(THING, "/features/hi/properties", Permission.READ)
+                    .setRevokedPermissions(THING, "/features/hi/properties/secret", Permission.READ)
+                    .build());
+
+    private static final Document DOCUMENT = EnforcedThingMapper.mapThing(THING, ENFORCER, 56L);
+
+    @Test
+    public void projectSelectedFields() {
+        final JsonFieldSelector fields = JsonFieldSelector.newInstance("thingId", "policyId", "attributes");
+
+        final Optional<JsonArray> result = SearchIndexProjection.of(fields, List.of("g:0"))
+                .flatMap(projection -> projection.projectAll(List.of(DOCUMENT)));
+
+        assertThat(result).contains(asArray(JsonFactory.newObject("{\n" +
+                "  \"thingId\": \"hello:world\",\n" +
+                "  \"policyId\": \"hello:world\",\n" +
+                "  \"attributes\": {\n" +
+                "    \"hello.world\": \"world\",\n" +
+                "    \"empty\": {}\n" +
+                "  }\n" +
+                "}")));
+    }
+
+    @Test
+    public void projectOnlyVisibleValues() {
+        final JsonFieldSelector fields = JsonFieldSelector.newInstance("features/hi/properties", "attributes");
+
+        final Optional<JsonArray> result = SearchIndexProjection.of(fields, List.of("g:1"))
+                .flatMap(projection -> projection.projectAll(List.of(DOCUMENT)));
+
+        assertThat(result).contains(asArray(JsonFactory.newObject(
+                "{\"features\":{\"hi\":{\"properties\":{\"there\":true}}}}")));
+    }
+
+    @Test
+    public void projectSpecialFields() {
+        final JsonFieldSelector fields = JsonFieldSelector.newInstance("thingId", "_revision", "_modified");
+
+        final Optional<JsonArray> result = SearchIndexProjection.of(fields, List.of("g:0", "g:1"))
+                .flatMap(projection -> projection.projectAll(List.of(DOCUMENT)));
+
+        assertThat(result).contains(asArray(JsonFactory.newObject("{\n" +
+                "  \"thingId\": \"hello:world\",\n" +
+                "  \"_revision\": 1024,\n" +
+                "  \"_modified\": \"2019-01-02T03:04:05.006Z\"\n" +
+                "}")));
+    }
+
+    @Test
+    public void keepThingIdEvenIfNotReadable() {
+        final JsonFieldSelector fields = JsonFieldSelector.newInstance("thingId", "policyId");
+
+        final Optional<JsonArray> result = SearchIndexProjection.of(fields, List.of("g:1"))
+                .flatMap(projection -> projection.projectAll(List.of(DOCUMENT)));
+
+        assertThat(result).contains(asArray(JsonFactory.newObject("{\"thingId\":\"hello:world\"}")));
+    }
+
+    @Test
+    public void doNotProjectArrays() {
+        final Optional<JsonArray> result = SearchIndexProjection.of(null, List.of("g:0"))
+                .flatMap(projection -> projection.projectAll(List.of(DOCUMENT)));
+
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    public void doNotProjectFieldsNotInSearchIndex() {
+        final JsonFieldSelector fields = JsonFieldSelector.newInstance("thingId", "_policy");
+
+        assertThat(SearchIndexProjection.of(fields, List.of("g:0"))).isEmpty();
+    }
+
+    private static JsonArray asArray(final JsonObject thing) {
+        return JsonFactory.newArrayBuilder().add(thing).build();
+    }
+
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.write.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Optional;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link ThingDocumentDiff}.
+ */
+public final class ThingDocumentDiffTest {
+
+    private static final String SORTING = "{\"attributes\":{\"a\":1,\"b\":{\"c\":true},\"x.y\":{\"z\":1}}}";
+    private static final String INTERNAL = "[{\"k\":\"/attributes/a\",\"v\":1},{\"k\":\"/attributes/b/c\",\"v\":true}]";
+
+    @Test
+    public void changedLeavesAreSetAndRemovedFieldsAreUnset() {
+        final Document previous = document(1L, "policy", "{\"attributes\":{\"a\":1,\"b\":{\"c\":true}}}", INTERNAL);
+        final Document next = document(2L, "policy", "{\"attributes\":{\"a\":2,\"b\":{}}}",
+                "[{\"k\":\"/attributes/a\",\"v\":2},{\"k\":\"/attributes/b/c\",\"v\":true}]");
+
+        final Optional<RawBsonDocument> underTest = ThingDocumentDiff.diff(previous, next);
+
+        assertThat(underTest).contains(RawBsonDocument.parse("{" +
+                "\"$set\":{\"_revision\":{\"$numberLong\":\"2\"},\"s.attributes.a\":2," +
+                "\"d.0\":{\"k\":\"/attributes/a\",\"v\":2}}," +
+                "\"$unset\":{\"s.attributes.b.c\":\"\"}" +
+                "}"));
+    }
+
+    @Test
+    public void fieldsWithKeysNotAddressableByDotNotationAreSetAsWhole() {
+        final Document previous = document(1L, "policy", SORTING, INTERNAL);
+        final Document next = document(2L, "policy",
+                "{\"attributes\":{\"a\":1,\"b\":{\"c\":true},\"x.y\":{\"z\":2}}}", INTERNAL);
+
+        final Optional<RawBsonDocument> underTest = ThingDocumentDiff.diff(previous, next);
+
+        assertThat(underTest).contains(RawBsonDocument.parse("{\"$set\":{\"_revision\":{\"$numberLong\":\"2\"}," +
+                "\"s.attributes\":{\"a\":1,\"b\":{\"c\":true},\"x.y\":{\"z\":2}}}}"));
+    }
+
+    @Test
+    public void arraysOfDifferentLengthAreSetAsWhole() {
+        final Document previous = document(1L, "policy", SORTING, INTERNAL);
+        final Document next = document(2L, "policy", SORTING, "[{\"k\":\"/attributes/a\",\"v\":1}]");
+
+        final Optional<RawBsonDocument> underTest = ThingDocumentDiff.diff(previous, next);
+
+        assertThat(underTest).contains(RawBsonDocument.parse("{\"$set\":{\"_revision\":{\"$numberLong\":\"2\"}," +
+                "\"d\":[{\"k\":\"/attributes/a\",\"v\":1}]}}"));
+    }
+
+    @Test
+    public void changedPolicyRequiresReplacement() {
+        final Document previous = document(1L, "policy", SORTING, INTERNAL);
+        final Document next = document(2L, "otherPolicy", SORTING, INTERNAL);
+
+        assertThat(ThingDocumentDiff.diff(previous, next)).isEmpty();
+    }
+
+    @Test
+    public void changedStructureRequiresReplacement() {
+        final Document previous = document(1L, "policy", SORTING, INTERNAL);
+        final Document next = document(2L, "policy", SORTING, INTERNAL).append("__deleteAt", 0L);
+
+        assertThat(ThingDocumentDiff.diff(previous, next)).isEmpty();
+    }
+
+    @Test
+    public void unchangedDocumentResultsInNonEmptyUpdate() {
+        final Document previous = document(1L, "policy", SORTING, INTERNAL);
+
+        assertThat(ThingDocumentDiff.diff(previous, document(1L, "policy", SORTING, INTERNAL)))
+                .contains(RawBsonDocument.parse("{\"$set\":{\"_revision\":{\"$numberLong\":\"1\"}}}"));
+    }
+
+    private static Document document(final long revision, final String policyId, final String sorting,
+            final String internal) {
+        return new Document().append("_id", "namespace:thing")
+                .append("_revision", revision)
+                .append("_namespace", "namespace")
+                .append("gr", new BsonArray())
+                .append("policyId", policyId)
+                .append("__policyRev", 1L)
+                .append("s", BsonDocument.parse(sorting))
+                .append("d", BsonDocument.parse("{\"d\":" + internal + "}").getArray("d"));
+    }
+
+}
@@ -28,6 +28,7 @@ import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.ThingDeleteModel;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.ThingWriteModel;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.WriteResultAndErrors;
+import org.eclipse.ditto.services.utils.cluster.LocalShardedMessageEnvelope;
 import org.eclipse.ditto.signals.base.ShardedMessageEnvelope;
 import org.junit.After;
 import org.junit.Test;
@@ -172,7 +173,8 @@ public final class BulkWriteResultAckFlowTest {
     }
 
     private UpdateThingResponse expectUpdateThingResponse(final ThingId forWhom) {
-        final ShardedMessageEnvelope envelope = updaterShardProbe.expectMsgClass(ShardedMessageEnvelope.class);
+        final ShardedMessageEnvelope envelope =
+                updaterShardProbe.expectMsgClass(LocalShardedMessageEnvelope.class).toShardedMessageEnvelope();
         assertThat(envelope.getType()).describedAs("ShardedMessageEnvelope#getType")
                 .isEqualTo(UpdateThingResponse.TYPE);
         assertThat((CharSequence) envelope.getEntityId()).describedAs("ShardedMessageEnvelope#getEntityId")
@@ -13,8 +13,12 @@
 package org.eclipse.ditto.services.thingsearch.persistence.write.streaming;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_ID;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_REVISION;
 
 import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -22,8 +26,14 @@ import java.util.function.Supplier;
 
 import javax.annotation.Nullable;
 
+import org.bson.BsonString;
 import org.bson.Document;
+import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.AbstractWriteModel;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.ThingDeleteModel;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.ThingWriteModel;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.WriteResultAndErrors;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -33,6 +43,7 @@ import org.reactivestreams.Publisher;
 import com.mongodb.MongoBulkWriteException;
 import com.mongodb.MongoException;
 import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.bulk.BulkWriteUpsert;
 import com.mongodb.client.model.BulkWriteOptions;
 import com.mongodb.client.model.DeleteOneModel;
 import com.mongodb.client.model.WriteModel;
@@ -43,6 +54,7 @@ import akka.NotUsed;
 import akka.actor.ActorSystem;
 import akka.stream.OverflowStrategy;
 import akka.stream.javadsl.RestartSink;
+import akka.stream.javadsl.AsPublisher;
 import akka.stream.javadsl.Sink;
 import akka.stream.javadsl.Source;
 import akka.testkit.javadsl.TestKit;
@@ -81,6 +93,69 @@ public final class MongoSearchUpdaterFlowTest {
         testStreamRestart(new FakeMongoExceptionSupplier());
     }
 
+    @Test
+    public void deletionMatchingNoDocumentDoesNotFailIncrementalUpdates() throws Exception {
+        // the incremental update matches; the deletion of a never indexed thing does not
+        final List<WriteResultAndErrors> results = writeIncrementalUpdateAndDeletion(1);
+
+        assertThat(results).hasSize(2);
+        assertThat(results.get(1).getBulkWriteErrors()).isEmpty();
+    }
+
+    @Test
+    public void incrementalUpdateMatchingNoDocumentIsReportedAsFailed() throws Exception {
+        final List<WriteResultAndErrors> results = writeIncrementalUpdateAndDeletion(0);
+
+        assertThat(results).hasSize(2);
+        assertThat(results.get(1).getBulkWriteErrors()).hasSize(1);
+        assertThat(results.get(1).getBulkWriteErrors().get(0).getIndex()).isZero();
+    }
+
+    /**
+     * Write a thing by replacement, then write it again by an incremental update in one bulk with the deletion of
+     * another thing.
+     */
+    @SuppressWarnings("unchecked")
+    private List<WriteResultAndErrors> writeIncrementalUpdateAndDeletion(final int matchedCountOfSecondBulk)
+            throws Exception {
+
+        final MongoDatabase db = Mockito.mock(MongoDatabase.class);
+        final MongoCollection<Document> collection = Mockito.mock(MongoCollection.class);
+        Mockito.when(db.getCollection(Mockito.any())).thenReturn(collection);
+        final BulkWriteResult firstResult = mockBulkWriteResult(0, 1);
+        final BulkWriteResult secondResult = mockBulkWriteResult(matchedCountOfSecondBulk, 0);
+        Mockito.when(collection.bulkWrite(Mockito.any(), Mockito.any(BulkWriteOptions.class)))
+                .thenReturn(toPublisher(firstResult), toPublisher(secondResult));
+
+        final ThingId thingId = ThingId.of("thing:updated");
+        final ThingWriteModel replacement = ThingWriteModel.of(Metadata.of(thingId, 1L, null, null),
+                new Document().append(FIELD_ID, thingId.toString()).append(FIELD_REVISION, 1L));
+        final ThingWriteModel incrementalUpdate = ThingWriteModel.of(Metadata.of(thingId, 2L, null, null),
+                new Document().append(FIELD_ID, thingId.toString()).append(FIELD_REVISION, 2L));
+        final ThingDeleteModel deletion =
+                ThingDeleteModel.of(Metadata.of(ThingId.of("thing:neverIndexed"), 3L, null, null));
+
+        return Source.from(List.of(Source.<AbstractWriteModel>single(replacement),
+                Source.<AbstractWriteModel>from(List.of(incrementalUpdate, deletion))))
+                .via(MongoSearchUpdaterFlow.of(db, 10).start(1, 10, Duration.ZERO))
+                .runWith(Sink.seq(), actorSystem)
+                .toCompletableFuture()
+                .get(5L, TimeUnit.SECONDS);
+    }
+
+    private static BulkWriteResult mockBulkWriteResult(final int matchedCount, final int upsertCount) {
+        final BulkWriteResult bulkWriteResult = Mockito.mock(BulkWriteResult.class);
+        Mockito.when(bulkWriteResult.wasAcknowledged()).thenReturn(true);
+        Mockito.when(bulkWriteResult.getMatchedCount()).thenReturn(matchedCount);
+        Mockito.when(bulkWriteResult.getUpserts())
+                .thenReturn(Collections.nCopies(upsertCount, new BulkWriteUpsert(0, new BsonString("thing:updated"))));
+        return bulkWriteResult;
+    }
+
+    private Publisher<BulkWriteResult> toPublisher(final BulkWriteResult bulkWriteResult) {
+        return Source.single(bulkWriteResult).runWith(Sink.asPublisher(AsPublisher.WITHOUT_FANOUT), actorSystem);
+    }
+
     @SuppressWarnings("unchecked")
     private void testStreamRestart(final Supplier<Throwable> errorSupplier) throws Exception {
 
@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.starter.actors;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.thingsearch.common.model.ResultList;
+import org.eclipse.ditto.services.thingsearch.common.model.ResultListImpl;
+import org.eclipse.ditto.signals.commands.thingsearch.query.QueryThings;
+
+import akka.japi.Pair;
+import akka.stream.Materializer;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.SinkQueueWithCancel;
+import akka.stream.javadsl.Source;
+
+/**
+ * Package-private open database cursor of a search whose pages are pulled one after another.
+ * <p>
+ * A pinned cursor is used by one page at a time: the search actor removes it from its open cursors while a page is
+ * pulled and adds it back afterwards. It holds back the first result of the next page to know whether there is one.
+ * </p>
+ * <p>
+ * A pinned cursor continues only the search it was opened for: the authorization subjects, namespaces, filter and
+ * sort option of each page must be those of the first page.
+ * </p>
+ */
+final class PinnedSearchCursor {
+
+    private final SinkQueueWithCancel<Pair<ThingId, JsonArray>> queue;
+    private final Set<String> authorizationSubjectIds;
+    @Nullable private final Set<String> namespaces;
+    @Nullable private final String filter;
+    private final String sortOption;
+    private final AtomicBoolean closed;
+
+    @Nullable private Pair<ThingId, JsonArray> nextResult;
+    private long offset;
+    private volatile long lastUsed;
+
+    private PinnedSearchCursor(final SinkQueueWithCancel<Pair<ThingId, JsonArray>> queue,
+            final QueryThings queryThings) {
+
+        this.queue = queue;
+        authorizationSubjectIds = getAuthorizationSubjectIds(queryThings);
+        namespaces = queryThings.getNamespaces().orElse(null);
+        filter = queryThings.getFilter().orElse(null);
+        sortOption = ThingsSearchCursor.renderCursorSortOption(queryThings);
+        closed = new AtomicBoolean(false);
+        nextResult = null;
+        offset = 0L;
+        lastUsed = System.nanoTime();
+    }
+
+    /**
+     * Open a cursor by running the source of its results.
+     *
+     * @param results the results of the search with their sort values.
+     * @param queryThings the command of the first page of the search.
+     * @param materializer the materializer to run the source with.
+     * @return the cursor.
+     */
+    static PinnedSearchCursor open(final Source<Pair<ThingId, JsonArray>, ?> results,
+            final QueryThings queryThings,
+            final Materializer materializer) {
+
+        return new PinnedSearchCursor(results.runWith(Sink.queue(), materializer), queryThings);
+    }
+
+    /**
+     * Test whether a command continues the search this cursor was opened for.
+     *
+     * @param queryThings the command adjusted by its cursor.
+     * @return whether the command has the authorization subjects, namespaces, filter and sort option of the search.
+     */
+    boolean isContinuedBy(final QueryThings queryThings) {
+        return authorizationSubjectIds.equals(getAuthorizationSubjectIds(queryThings)) &&
+                Objects.equals(namespaces, queryThings.getNamespaces().orElse(null)) &&
+                Objects.equals(filter, queryThings.getFilter().orElse(null)) &&
+                sortOption.equals(ThingsSearchCursor.renderCursorSortOption(queryThings));
+    }
+
+    /**
+     * Pull the next page. Must not be called again before the returned future completes.
+     *
+     * @param size the size of the page.
+     * @return the page with the sort values of its last result if there are more results.
+     */
+    CompletionStage<ResultList<ThingId>> nextPage(final int size) {
+        final List<Pair<ThingId, JsonArray>> results = new ArrayList<>(size + 1);
+        if (nextResult != null) {
+            results.add(nextResult);
+            nextResult = null;
+        }
+        return pull(results, size + 1).thenApply(resultsPlusOne -> toResultList(resultsPlusOne, size));
+    }
+
+    /**
+     * @return whether the last pulled page is followed by more results.
+     */
+    boolean hasNextPage() {
+        return nextResult != null;
+    }
+
+    /**
+     * Mark the cursor as used now.
+     */
+    void touch() {
+        lastUsed = System.nanoTime();
+    }
+
+    /**
+     * Test whether the cursor was not used for some time.
+     *
+     * @param now the current value of {@link System#nanoTime()}.
+     * @param idleTimeout how long a cursor may remain unused.
+     * @return whether the cursor was not used for longer than the idle timeout.
+     */
+    boolean isIdle(final long now, final Duration idleTimeout) {
+        return now - lastUsed > idleTimeout.toNanos();
+    }
+
+    /**
+     * Close the database cursor.
+     *
+     * @return whether this call closed the cursor, i.e., it was not closed before.
+     */
+    boolean close() {
+        if (closed.compareAndSet(false, true)) {
+            queue.cancel();
+            return true;
+        } else {
+            return false;
+        }
+    }
+
+    private CompletionStage<List<Pair<ThingId, JsonArray>>> pull(final List<Pair<ThingId, JsonArray>> results,
+            final int count) {
+
+        if (results.size() >= count) {
+            return CompletableFuture.completedFuture(results);
+        } else {
+            return queue.pull().thenCompose(next -> {
+                if (next.isPresent()) {
+                    results.add(next.get());
+                    return pull(results, count);
+                } else {
+                    return CompletableFuture.completedFuture(results);
+                }
+            });
+        }
+    }
+
+    private ResultList<ThingId> toResultList(final List<Pair<ThingId, JsonArray>> resultsPlusOne, final int size) {
+        if (resultsPlusOne.size() <= size) {
+            offset += resultsPlusOne.size();
+            return new ResultListImpl<>(toIds(resultsPlusOne), ResultList.NO_NEXT_PAGE);
+        } else {
+            final List<Pair<ThingId, JsonArray>> results = resultsPlusOne.subList(0, size);
+            nextResult = resultsPlusOne.get(size);
+            offset += size;
+            return new ResultListImpl<>(toIds(results), offset, results.get(size - 1).second());
+        }
+    }
+
+    private static Set<String> getAuthorizationSubjectIds(final QueryThings queryThings) {
+        return new HashSet<>(queryThings.getDittoHeaders().getAuthorizationContext().getAuthorizationSubjectIds());
+    }
+
+    private static List<ThingId> toIds(final List<Pair<ThingId, JsonArray>> results) {
+        return results.stream().map(Pair::first).collect(Collectors.toList());
+    }
+
+}
@@ -12,9 +12,14 @@
  */
 package org.eclipse.ditto.services.thingsearch.starter.actors;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 import javax.annotation.Nullable;
@@ -24,6 +29,7 @@ import org.eclipse.ditto.json.JsonCollectors;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.model.base.headers.DittoHeaderDefinition;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
@@ -34,13 +40,18 @@ import org.eclipse.ditto.model.thingsearch.SearchModelFactory;
 import org.eclipse.ditto.model.thingsearch.SearchResult;
 import org.eclipse.ditto.services.models.thingsearch.commands.sudo.SudoCountThings;
 import org.eclipse.ditto.services.models.thingsearch.commands.sudo.SudoRetrieveNamespaceReport;
+import org.eclipse.ditto.services.thingsearch.common.config.DefaultStatefulCursorConfig;
+import org.eclipse.ditto.services.thingsearch.common.config.StatefulCursorConfig;
 import org.eclipse.ditto.services.thingsearch.common.model.ResultList;
 import org.eclipse.ditto.services.thingsearch.persistence.query.QueryParser;
 import org.eclipse.ditto.services.thingsearch.persistence.read.ThingsSearchPersistence;
+import org.eclipse.ditto.services.thingsearch.updater.actors.SearchUpdaterRootActor;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
 import org.eclipse.ditto.services.utils.akka.logging.DittoDiagnosticLoggingAdapter;
 import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
 import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.services.utils.metrics.instruments.gauge.Gauge;
 import org.eclipse.ditto.services.utils.metrics.instruments.timer.StartedTimer;
 import org.eclipse.ditto.signals.commands.base.Command;
 import org.eclipse.ditto.signals.commands.base.exceptions.GatewayInternalErrorException;
@@ -51,11 +62,19 @@ import org.eclipse.ditto.signals.commands.thingsearch.query.QueryThings;
 import org.eclipse.ditto.signals.commands.thingsearch.query.QueryThingsResponse;
 import org.eclipse.ditto.signals.commands.thingsearch.query.StreamThings;
 
+import com.typesafe.config.ConfigFactory;
+
 import akka.NotUsed;
-import akka.actor.AbstractActor;
+import akka.actor.AbstractActorWithTimers;
+import akka.actor.ActorPath;
 import akka.actor.ActorRef;
+import akka.actor.ActorSelection;
 import akka.actor.ActorSystem;
+import akka.actor.Address;
 import akka.actor.Props;
+import akka.cluster.Cluster;
+import akka.cluster.ClusterEvent;
+import akka.cluster.Member;
 import akka.japi.pf.PFBuilder;
 import akka.japi.pf.ReceiveBuilder;
 import akka.pattern.Patterns;
@@ -82,8 +101,19 @@ import akka.stream.javadsl.StreamRefs;
  * <p>
  * The ThingsSearchPersistence returns only Thing IDs. Thus to provide complete Thing information to the requester,
  * things have to be retrieved from Things Service via distributed pub/sub.
+ * <p>
+ * If stateful cursors are enabled, the database cursors of cursor searches are kept open and the cursors of their
+ * pages are pinned to them by opaque keys. The keys are generated such that they hash to the node holding the open
+ * database cursor among the known search nodes, and follow-up pages are routed by consistent hashing of their keys.
+ * A routed page is answered where it was routed to, even if the search nodes known there differ. Pages are computed
+ * from the stateless cursor if the database cursor is no longer open or if they do not continue the search it was
+ * opened for.
+ * <p>
+ * If the index projection is enabled, the things of a page are reconstructed from their search index entries whenever
+ * the selected fields are covered by them. The response is then marked by the header
+ * {@link DittoHeaderDefinition#SEARCH_INDEX_PROJECTION} and the things need not be retrieved from Things Service.
  */
-public final class SearchActor extends AbstractActor {
+public final class SearchActor extends AbstractActorWithTimers {
 
     /**
      * The name of this actor in the system.
@@ -97,19 +127,44 @@ public final class SearchActor extends AbstractActor {
     private static final String DATABASE_ACCESS_SEGMENT_NAME = "database_access";
     private static final String QUERY_TYPE_TAG = "query_type";
     private static final String API_VERSION_TAG = "api_version";
+    private static final String OPEN_CURSORS_METRIC = "things_search_open_cursors";
+    private static final String INDEX_PROJECTION_PAGES_METRIC = "things_search_index_projection_pages";
+    private static final String SERVED_FROM_INDEX_TAG = "served_from_index";
 
     private final DittoDiagnosticLoggingAdapter log = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
 
     private final QueryParser queryParser;
     private final ThingsSearchPersistence searchPersistence;
+    private final StatefulCursorConfig statefulCursorConfig;
+    private final ActorPath selfPath;
+    private final SearchNodeRing searchNodes;
+    private final Map<String, PinnedSearchCursor> pinnedCursors;
+    private final AtomicInteger openCursors;
+    private final Gauge openCursorsGauge;
+    private final boolean indexProjectionEnabled;
+    private final Counter pagesServedFromIndex;
+    private final Counter pagesNotServedFromIndex;
 
     @SuppressWarnings("unused")
     private SearchActor(
             final QueryParser queryParser,
-            final ThingsSearchPersistence searchPersistence) {
+            final ThingsSearchPersistence searchPersistence,
+            final StatefulCursorConfig statefulCursorConfig,
+            final boolean indexProjectionEnabled) {
 
         this.queryParser = queryParser;
         this.searchPersistence = searchPersistence;
+        this.statefulCursorConfig = statefulCursorConfig;
+        selfPath = getSelf().path();
+        searchNodes = new SearchNodeRing(getSystem().provider().getDefaultAddress());
+        pinnedCursors = new ConcurrentHashMap<>();
+        openCursors = new AtomicInteger(0);
+        openCursorsGauge = DittoMetrics.gauge(OPEN_CURSORS_METRIC);
+        this.indexProjectionEnabled = indexProjectionEnabled;
+        pagesServedFromIndex = DittoMetrics.counter(INDEX_PROJECTION_PAGES_METRIC)
+                .tag(SERVED_FROM_INDEX_TAG, String.valueOf(true));
+        pagesNotServedFromIndex = DittoMetrics.counter(INDEX_PROJECTION_PAGES_METRIC)
+                .tag(SERVED_FROM_INDEX_TAG, String.valueOf(false));
     }
 
     /**
@@ -123,10 +178,68 @@ public final class SearchActor extends AbstractActor {
             final QueryParser queryFactory,
             final ThingsSearchPersistence searchPersistence) {
 
-        return Props.create(SearchActor.class, queryFactory, searchPersistence)
+        return props(queryFactory, searchPersistence, DefaultStatefulCursorConfig.of(ConfigFactory.empty()));
+    }
+
+    /**
+     * Creates Akka configuration object Props for this SearchActor.
+     *
+     * @param queryFactory factory of query objects.
+     * @param searchPersistence the {@link ThingsSearchPersistence} to use in order to execute queries.
+     * @param statefulCursorConfig the configuration of stateful cursors.
+     * @return the Akka configuration Props object.
+     * @since 2.0.0
+     */
+    static Props props(
+            final QueryParser queryFactory,
+            final ThingsSearchPersistence searchPersistence,
+            final StatefulCursorConfig statefulCursorConfig) {
+
+        return props(queryFactory, searchPersistence, statefulCursorConfig, false);
+    }
+
+    /**
+     * Creates Akka configuration object Props for this SearchActor.
+     *
+     * @param queryFactory factory of query objects.
+     * @param searchPersistence the {@link ThingsSearchPersistence} to use in order to execute queries.
+     * @param statefulCursorConfig the configuration of stateful cursors.
+     * @param indexProjectionEnabled whether to serve the things of search results from the search index.
+     * @return the Akka configuration Props object.
+     * @since 2.0.0
+     */
+    static Props props(
+            final QueryParser queryFactory,
+            final ThingsSearchPersistence searchPersistence,
+            final StatefulCursorConfig statefulCursorConfig,
+            final boolean indexProjectionEnabled) {
+
+        return Props.create(SearchActor.class, queryFactory, searchPersistence, statefulCursorConfig,
+                indexProjectionEnabled)
                 .withDispatcher(SEARCH_DISPATCHER_ID);
     }
 
+    @Override
+    public void preStart() {
+        if (statefulCursorConfig.isEnabled()) {
+            final Duration idleTimeout = statefulCursorConfig.getIdleTimeout();
+            getTimers().startTimerWithFixedDelay(Control.CLOSE_IDLE_CURSORS, Control.CLOSE_IDLE_CURSORS,
+                    idleTimeout.dividedBy(2L));
+            if (getSystem().provider().getDefaultAddress().hasGlobalScope()) {
+                // search nodes are only known in a cluster
+                Cluster.get(getSystem())
+                        .subscribe(getSelf(), ClusterEvent.initialStateAsEvents(), ClusterEvent.MemberUp.class,
+                                ClusterEvent.MemberRemoved.class);
+            }
+        }
+    }
+
+    @Override
+    public void postStop() {
+        pinnedCursors.values().forEach(this::closePinnedCursor);
+        pinnedCursors.clear();
+    }
+
     @Override
     public Receive createReceive() {
         return ReceiveBuilder.create()
@@ -135,10 +248,20 @@ public final class SearchActor extends AbstractActor {
                 .match(QueryThings.class, this::query)
                 .match(SudoRetrieveNamespaceReport.class, this::namespaceReport)
                 .match(StreamThings.class, this::stream)
+                .matchEquals(Control.CLOSE_IDLE_CURSORS, control -> closeIdleCursors())
+                .match(ClusterEvent.MemberUp.class, memberUp -> addSearchNode(memberUp.member()))
+                .match(ClusterEvent.MemberRemoved.class,
+                        memberRemoved -> searchNodes.remove(memberRemoved.member().address()))
                 .matchAny(any -> log.warning("Got unknown message '{}'", any))
                 .build();
     }
 
+    private void addSearchNode(final Member member) {
+        if (member.hasRole(SearchUpdaterRootActor.CLUSTER_ROLE)) {
+            searchNodes.add(member.address());
+        }
+    }
+
     private void namespaceReport(final SudoRetrieveNamespaceReport namespaceReport) {
         final DittoHeaders dittoHeaders = namespaceReport.getDittoHeaders();
         log.withCorrelationId(dittoHeaders)
@@ -150,16 +273,20 @@ public final class SearchActor extends AbstractActor {
     }
 
     private void count(final CountThings countThings) {
-        executeCount(countThings, queryParser::parse, false);
+        final List<String> authorizationSubjectIds =
+                countThings.getDittoHeaders().getAuthorizationContext().getAuthorizationSubjectIds();
+        final Set<String> namespaces = countThings.getNamespaces().orElse(null);
+        executeCount(countThings, queryParser::parse, query -> searchPersistence.count(query,
+                authorizationSubjectIds, namespaces, countThings.isApproximate()));
     }
 
     private void sudoCount(final SudoCountThings sudoCountThings) {
-        executeCount(sudoCountThings, queryParser::parseSudoCountThings, true);
+        executeCount(sudoCountThings, queryParser::parseSudoCountThings, searchPersistence::sudoCount);
     }
 
     private <T extends Command> void executeCount(final T countCommand,
             final Function<T, Query> queryParseFunction,
-            final boolean isSudo) {
+            final Function<Query, Source<Long, NotUsed>> countFunction) {
         final DittoHeaders dittoHeaders = countCommand.getDittoHeaders();
         final Optional<String> correlationIdOpt = dittoHeaders.getCorrelationId();
         LogUtil.enhanceLogWithCorrelationId(log, correlationIdOpt);
@@ -181,10 +308,7 @@ public final class SearchActor extends AbstractActor {
                     final StartedTimer databaseAccessTimer =
                             countTimer.startNewSegment(DATABASE_ACCESS_SEGMENT_NAME);
 
-                    final Source<Long, NotUsed> countResultSource = isSudo
-                            ? searchPersistence.sudoCount(query)
-                            : searchPersistence.count(query,
-                            countCommand.getDittoHeaders().getAuthorizationContext().getAuthorizationSubjectIds());
+                    final Source<Long, NotUsed> countResultSource = countFunction.apply(query);
 
                     return processSearchPersistenceResult(countResultSource, dittoHeaders)
                             .via(Flow.fromFunction(result -> {
@@ -247,30 +371,20 @@ public final class SearchActor extends AbstractActor {
 
         final Source<Object, ?> replySource = cursorSource.flatMapConcat(cursor -> {
             cursor.ifPresent(c -> c.logCursorCorrelationId(log, queryThings));
-            final QueryThings command = ThingsSearchCursor.adjust(cursor, queryThings);
-            final DittoHeaders dittoHeaders = command.getDittoHeaders();
-            LogUtil.enhanceLogWithCorrelationId(log, queryThings);
-            log.info("Processing QueryThings command: {}", queryThings);
-            return createQuerySource(queryParser::parse, command)
-                    .flatMapConcat(parsedQuery -> {
-                        final Query query =
-                                ThingsSearchCursor.adjust(cursor, parsedQuery, queryParser.getCriteriaFactory());
-
-                        stopTimer(queryParsingTimer);
-                        final StartedTimer databaseAccessTimer =
-                                searchTimer.startNewSegment(DATABASE_ACCESS_SEGMENT_NAME);
-
-                        final List<String> subjectIds = command.getDittoHeaders().getAuthorizationContext()
-                                .getAuthorizationSubjectIds();
-                        final Source<ResultList<ThingId>, NotUsed> findAllResult =
-                                searchPersistence.findAll(query, subjectIds, namespaces);
-                        return processSearchPersistenceResult(findAllResult, dittoHeaders)
-                                .via(Flow.fromFunction(result -> {
-                                    stopTimer(databaseAccessTimer);
-                                    return result;
-                                }))
-                                .map(ids -> toQueryThingsResponse(command, cursor.orElse(null), ids));
-                    });
+            final Source<Object, NotUsed> localReplySource =
+                    Source.lazySource(() -> executeQuery(queryThings, cursor, namespaces, searchTimer,
+                            queryParsingTimer))
+                            .mapMaterializedValue(future -> NotUsed.getInstance());
+            // a routed command is answered here even if the search nodes known here disagree with the router's
+            final Optional<Address> foreignNode = cursor.flatMap(ThingsSearchCursor::getPinKey)
+                    .filter(pinKey -> statefulCursorConfig.isEnabled() && !isRouted(queryThings))
+                    .map(searchNodes::getNodeFor)
+                    .filter(node -> !searchNodes.isSelf(node));
+            if (foreignNode.isPresent()) {
+                return askPinningSearchActor(queryThings, foreignNode.get(), localReplySource);
+            } else {
+                return localReplySource;
+            }
         });
 
         final Source<Object, ?> replySourceWithErrorHandling =
@@ -280,6 +394,248 @@ public final class SearchActor extends AbstractActor {
                 .to(sender);
     }
 
+    @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
+    private Source<Object, NotUsed> executeQuery(final QueryThings queryThings,
+            final Optional<ThingsSearchCursor> cursor,
+            @Nullable final Set<String> namespaces,
+            final StartedTimer searchTimer,
+            final StartedTimer queryParsingTimer) {
+
+        final QueryThings command = ThingsSearchCursor.adjust(cursor, queryThings);
+        final DittoHeaders dittoHeaders = command.getDittoHeaders();
+        LogUtil.enhanceLogWithCorrelationId(log, queryThings);
+        log.info("Processing QueryThings command: {}", queryThings);
+        return createQuerySource(queryParser::parse, command)
+                .flatMapConcat(parsedQuery -> {
+                    final Query query =
+                            ThingsSearchCursor.adjust(cursor, parsedQuery, queryParser.getCriteriaFactory());
+
+                    stopTimer(queryParsingTimer);
+                    final StartedTimer databaseAccessTimer =
+                            searchTimer.startNewSegment(DATABASE_ACCESS_SEGMENT_NAME);
+
+                    final List<String> subjectIds = command.getDittoHeaders().getAuthorizationContext()
+                            .getAuthorizationSubjectIds();
+                    final Source<Object, NotUsed> statelessReplySource;
+                    if (isIndexProjectionApplicable(command)) {
+                        statelessReplySource = processSearchPersistenceResult(
+                                searchPersistence.findAllWithThings(query, subjectIds, namespaces,
+                                        command.getFields().orElse(null)),
+                                dittoHeaders)
+                                .via(Flow.fromFunction(result -> {
+                                    stopTimer(databaseAccessTimer);
+                                    return result;
+                                }))
+                                .map(idsAndThings -> {
+                                    final JsonArray things = idsAndThings.second().orElse(null);
+                                    recordIndexProjection(searchTimer, null != things);
+                                    return toQueryThingsResponse(command, cursor.orElse(null), idsAndThings.first(),
+                                            things, null);
+                                });
+                    } else {
+                        statelessReplySource = processSearchPersistenceResult(
+                                searchPersistence.findAll(query, subjectIds, namespaces), dittoHeaders)
+                                .via(Flow.fromFunction(result -> {
+                                    stopTimer(databaseAccessTimer);
+                                    return result;
+                                }))
+                                .map(ids -> toQueryThingsResponse(command, cursor.orElse(null), ids, null, null));
+                    }
+
+                    final Optional<PinnedSearchCursor> pinnedCursor =
+                            getPinnedCursor(command, cursor, query, subjectIds, namespaces);
+                    if (pinnedCursor.isPresent()) {
+                        final PinnedSearchCursor openCursor = pinnedCursor.get();
+                        // whether the open cursor was pinned again or closed by the reply stream
+                        final AtomicBoolean handedOver = new AtomicBoolean(false);
+                        return processSearchPersistenceResult(
+                                Source.completionStage(openCursor.nextPage(query.getLimit()))
+                                        .mapMaterializedValue(future -> NotUsed.getInstance()),
+                                dittoHeaders)
+                                .via(Flow.fromFunction(result -> {
+                                    stopTimer(databaseAccessTimer);
+                                    return result;
+                                }))
+                                .<Object>map(ids -> {
+                                    if (isIndexProjectionApplicable(command)) {
+                                        recordIndexProjection(searchTimer, false);
+                                    }
+                                    final String pinKey = pinAgain(openCursor);
+                                    handedOver.set(true);
+                                    return toQueryThingsResponse(command, cursor.orElse(null), ids, null, pinKey);
+                                })
+                                .recoverWithRetries(1, new PFBuilder<Throwable, Graph<SourceShape<Object>, NotUsed>>()
+                                        .matchAny(error -> {
+                                            log.withCorrelationId(dittoHeaders)
+                                                    .warning("Open cursor failed, continuing without it: {}", error);
+                                            handedOver.set(true);
+                                            closePinnedCursor(openCursor);
+                                            return statelessReplySource;
+                                        })
+                                        .build())
+                                .watchTermination((notUsed, termination) -> {
+                                    termination.whenComplete((done, error) -> {
+                                        if (!handedOver.get()) {
+                                            // the reply stream was cancelled before it pinned or closed the cursor
+                                            closePinnedCursor(openCursor);
+                                        }
+                                    });
+                                    return NotUsed.getInstance();
+                                });
+                    } else {
+                        return statelessReplySource;
+                    }
+                });
+    }
+
+    private boolean isIndexProjectionApplicable(final QueryThings queryThings) {
+        return indexProjectionEnabled && JsonSchemaVersion.V_2 == queryThings.getImplementedSchemaVersion();
+    }
+
+    private void recordIndexProjection(final StartedTimer searchTimer, final boolean servedFromIndex) {
+        searchTimer.tag(SERVED_FROM_INDEX_TAG, String.valueOf(servedFromIndex));
+        if (servedFromIndex) {
+            pagesServedFromIndex.increment();
+        } else {
+            pagesNotServedFromIndex.increment();
+        }
+    }
+
+    /**
+     * Get the open database cursor to compute a page from: the open cursor the cursor of the command is pinned to
+     * or a new open cursor for the first page of a cursor search.
+     * The open cursor is removed from the open cursors of this actor until it is pinned again.
+     */
+    @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
+    private Optional<PinnedSearchCursor> getPinnedCursor(final QueryThings command,
+            final Optional<ThingsSearchCursor> cursor,
+            final Query query,
+            final List<String> subjectIds,
+            @Nullable final Set<String> namespaces) {
+
+        if (!statefulCursorConfig.isEnabled()) {
+            return Optional.empty();
+        } else if (cursor.isPresent()) {
+            return cursor.get().getPinKey().flatMap(pinKey -> unpin(pinKey, command));
+        } else if (ThingsSearchCursor.hasLimitOption(command) || !reserveOpenCursor()) {
+            return Optional.empty();
+        } else {
+            return Optional.of(PinnedSearchCursor.open(
+                    searchPersistence.findAllWithSortValues(query, subjectIds, namespaces), command,
+                    SystemMaterializer.get(getSystem()).materializer()));
+        }
+    }
+
+    /**
+     * Remove the open database cursor of a pin key from the open cursors of this actor if the command continues the
+     * search it was opened for. Otherwise the open cursor stays with its key until it is idle.
+     */
+    private Optional<PinnedSearchCursor> unpin(final String pinKey, final QueryThings command) {
+        final PinnedSearchCursor pinnedCursor = pinnedCursors.get(pinKey);
+        if (null == pinnedCursor) {
+            return Optional.empty();
+        } else if (!pinnedCursor.isContinuedBy(command)) {
+            log.withCorrelationId(command)
+                    .info("Cursor <{}> was opened for another search, continuing without it.", pinKey);
+            return Optional.empty();
+        } else if (pinnedCursors.remove(pinKey, pinnedCursor)) {
+            return Optional.of(pinnedCursor);
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Keep an open database cursor open for the next page if there is one.
+     *
+     * @return the opaque key of the open cursor, or null if it was closed.
+     */
+    @Nullable
+    private String pinAgain(final PinnedSearchCursor pinnedCursor) {
+        final Optional<String> pinKey =
+                pinnedCursor.hasNextPage() ? searchNodes.generateKeyOfSelf() : Optional.empty();
+        if (pinKey.isPresent()) {
+            pinnedCursor.touch();
+            pinnedCursors.put(pinKey.get(), pinnedCursor);
+            return pinKey.get();
+        } else {
+            closePinnedCursor(pinnedCursor);
+            return null;
+        }
+    }
+
+    private boolean reserveOpenCursor() {
+        final int reserved = openCursors.incrementAndGet();
+        if (reserved > statefulCursorConfig.getMaxOpenCursors()) {
+            openCursors.decrementAndGet();
+            return false;
+        } else {
+            openCursorsGauge.set((long) reserved);
+            return true;
+        }
+    }
+
+    private void closePinnedCursor(final PinnedSearchCursor pinnedCursor) {
+        if (pinnedCursor.close()) {
+            openCursorsGauge.set((long) openCursors.decrementAndGet());
+        }
+    }
+
+    private void closeIdleCursors() {
+        final long now = System.nanoTime();
+        final Duration idleTimeout = statefulCursorConfig.getIdleTimeout();
+        pinnedCursors.forEach((key, pinnedCursor) -> {
+            if (pinnedCursor.isIdle(now, idleTimeout) && pinnedCursors.remove(key, pinnedCursor)) {
+                log.debug("Closing idle cursor <{}>.", key);
+                closePinnedCursor(pinnedCursor);
+            }
+        });
+    }
+
+    /**
+     * Ask the search actor holding the open database cursor of a cursor for the next page. Compute the next page
+     * locally if it does not answer in time. The command is marked as routed so that it is not routed again.
+     */
+    private Source<Object, NotUsed> askPinningSearchActor(final QueryThings queryThings,
+            final Address node,
+            final Source<Object, NotUsed> localReplySource) {
+
+        final ActorSelection pinningSearchActor = getSystem().actorSelection(selfPath.toStringWithAddress(node));
+        final QueryThings routedQueryThings = queryThings.setDittoHeaders(queryThings.getDittoHeaders()
+                .toBuilder()
+                .putHeader(DittoHeaderDefinition.SEARCH_CURSOR_ROUTED.getKey(), String.valueOf(true))
+                .build());
+        return Source.completionStage(
+                Patterns.ask(pinningSearchActor, routedQueryThings, statefulCursorConfig.getRoutingTimeout()))
+                .mapMaterializedValue(future -> NotUsed.getInstance())
+                .map(SearchActor::withoutRoutedHeader)
+                .recoverWithRetries(1, new PFBuilder<Throwable, Graph<SourceShape<Object>, NotUsed>>()
+                        .matchAny(error -> {
+                            log.withCorrelationId(queryThings)
+                                    .info("Search actor on <{}> of the cursor did not answer, continuing without it: {}",
+                                            node, error.getMessage());
+                            return localReplySource;
+                        })
+                        .build());
+    }
+
+    private static boolean isRouted(final QueryThings queryThings) {
+        return Boolean.parseBoolean(queryThings.getDittoHeaders()
+                .get(DittoHeaderDefinition.SEARCH_CURSOR_ROUTED.getKey()));
+    }
+
+    private static Object withoutRoutedHeader(final Object response) {
+        if (response instanceof WithDittoHeaders) {
+            final WithDittoHeaders<?> withDittoHeaders = (WithDittoHeaders<?>) response;
+            return withDittoHeaders.setDittoHeaders(withDittoHeaders.getDittoHeaders()
+                    .toBuilder()
+                    .removeHeader(DittoHeaderDefinition.SEARCH_CURSOR_ROUTED.getKey())
+                    .build());
+        } else {
+            return response;
+        }
+    }
+
     private ActorSystem getSystem() {
         return getContext().getSystem();
     }
@@ -328,13 +684,25 @@ public final class SearchActor extends AbstractActor {
 
     private QueryThingsResponse toQueryThingsResponse(final QueryThings queryThings,
             @Nullable ThingsSearchCursor cursor,
-            final ResultList<ThingId> thingIds) {
+            final ResultList<ThingId> thingIds,
+            @Nullable final JsonArray things,
+            @Nullable final String pinKey) {
 
         final DittoHeaders dittoHeaders = queryThings.getDittoHeaders();
         final Optional<String> correlationIdOpt = dittoHeaders.getCorrelationId();
         LogUtil.enhanceLogWithCorrelationId(log, correlationIdOpt);
         if (thingIds.isEmpty()) {
             return QueryThingsResponse.of(SearchModelFactory.emptySearchResult(), dittoHeaders);
+        } else if (things != null) {
+            // the things were reconstructed from the search index, no lookup in gateway needed:
+            final SearchResult searchResults = SearchModelFactory.newSearchResult(things, thingIds.nextPageOffset());
+            final SearchResult processedResults =
+                    ThingsSearchCursor.processSearchResult(queryThings, cursor, searchResults, thingIds, pinKey);
+            final DittoHeaders headersWithIndexProjection = dittoHeaders.toBuilder()
+                    .putHeader(DittoHeaderDefinition.SEARCH_INDEX_PROJECTION.getKey(), String.valueOf(true))
+                    .build();
+
+            return QueryThingsResponse.of(processedResults, headersWithIndexProjection);
         } else {
             // only respond with the determined "thingIds", the lookup of the things is done in gateway:
             final JsonArray items = thingIds.stream()
@@ -346,7 +714,7 @@ public final class SearchActor extends AbstractActor {
                     .collect(JsonCollectors.valuesToArray());
             final SearchResult searchResults = SearchModelFactory.newSearchResult(items, thingIds.nextPageOffset());
             final SearchResult processedResults =
-                    ThingsSearchCursor.processSearchResult(queryThings, cursor, searchResults, thingIds);
+                    ThingsSearchCursor.processSearchResult(queryThings, cursor, searchResults, thingIds, pinKey);
 
             return QueryThingsResponse.of(processedResults, dittoHeaders);
         }
@@ -369,6 +737,10 @@ public final class SearchActor extends AbstractActor {
         }
     }
 
+    private enum Control {
+        CLOSE_IDLE_CURSORS
+    }
+
     private static void stopTimer(final StartedTimer timer) {
         try {
             timer.stop();
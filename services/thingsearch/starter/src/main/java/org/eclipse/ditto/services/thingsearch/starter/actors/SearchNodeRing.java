@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.starter.actors;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import akka.actor.Address;
+import akka.routing.ConsistentHash;
+
+/**
+ * Package-private consistent hashing of the keys of pinned cursors onto the known search nodes.
+ * <p>
+ * The key of a pinned cursor is generated such that it hashes to the node holding the open database cursor. Follow-up
+ * pages are routed by their key to the search actor of one of the known nodes only. If the known nodes changed in the
+ * meantime, the key may hash to another node, which computes the page from the stateless cursor.
+ * </p>
+ * <p>
+ * Nodes are added and removed by the search actor; keys are generated and routed by any thread.
+ * </p>
+ */
+final class SearchNodeRing {
+
+    private static final int VIRTUAL_NODES_FACTOR = 10;
+    private static final int KEY_ATTEMPTS_PER_NODE = 10;
+
+    private final Address selfAddress;
+    private final Set<Address> nodes;
+    private volatile ConsistentHash<Address> consistentHash;
+    private volatile int numberOfNodes;
+
+    /**
+     * Create a ring containing this node only.
+     *
+     * @param selfAddress the address of this node.
+     */
+    SearchNodeRing(final Address selfAddress) {
+        this.selfAddress = selfAddress;
+        nodes = new HashSet<>();
+        nodes.add(selfAddress);
+        update();
+    }
+
+    /**
+     * Add a search node.
+     *
+     * @param address the address of the node.
+     */
+    void add(final Address address) {
+        if (nodes.add(address)) {
+            update();
+        }
+    }
+
+    /**
+     * Remove a search node. This node is never removed.
+     *
+     * @param address the address of the node.
+     */
+    void remove(final Address address) {
+        if (!selfAddress.equals(address) && nodes.remove(address)) {
+            update();
+        }
+    }
+
+    /**
+     * Get the node a key hashes to.
+     *
+     * @param key the key of a pinned cursor.
+     * @return the address of the node.
+     */
+    Address getNodeFor(final String key) {
+        return consistentHash.nodeFor(key);
+    }
+
+    /**
+     * @param address the address of a node.
+     * @return whether it is the address of this node.
+     */
+    boolean isSelf(final Address address) {
+        return selfAddress.equals(address);
+    }
+
+    /**
+     * Generate a random key which hashes to this node.
+     *
+     * @return the key, or an empty optional if no such key was found after a number of attempts proportional to the
+     * number of nodes.
+     */
+    Optional<String> generateKeyOfSelf() {
+        final ConsistentHash<Address> currentConsistentHash = consistentHash;
+        final int maxAttempts = KEY_ATTEMPTS_PER_NODE * numberOfNodes;
+        for (int i = 0; i < maxAttempts; i++) {
+            final String key = UUID.randomUUID().toString();
+            if (selfAddress.equals(currentConsistentHash.nodeFor(key))) {
+                return Optional.of(key);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private void update() {
+        consistentHash = ConsistentHash.create(new ArrayList<>(nodes), VIRTUAL_NODES_FACTOR);
+        numberOfNodes = nodes.size();
+    }
+
+}
@@ -32,6 +32,7 @@ import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.services.base.actors.DittoRootActor;
 import org.eclipse.ditto.services.base.config.limits.LimitsConfig;
 import org.eclipse.ditto.services.thingsearch.common.config.SearchConfig;
+import org.eclipse.ditto.services.thingsearch.common.config.StatefulCursorConfig;
 import org.eclipse.ditto.services.thingsearch.persistence.query.QueryParser;
 import org.eclipse.ditto.services.thingsearch.persistence.read.MongoThingsSearchPersistence;
 import org.eclipse.ditto.services.thingsearch.persistence.read.ThingsSearchPersistence;
@@ -85,7 +86,9 @@ public final class SearchRootActor extends DittoRootActor {
                 .build();
 
         final ThingsSearchPersistence thingsSearchPersistence = getThingsSearchPersistence(searchConfig, mongoDbClient);
-        final ActorRef searchActor = initializeSearchActor(searchConfig.getLimitsConfig(), thingsSearchPersistence);
+        final ActorRef searchActor = initializeSearchActor(searchConfig.getLimitsConfig(),
+                searchConfig.getStatefulCursorConfig(), searchConfig.isIndexProjectionEnabled(),
+                thingsSearchPersistence);
         pubSubMediator.tell(DistPubSubAccess.put(searchActor), getSelf());
 
         final ActorSystem actorSystem = getContext().getSystem();
@@ -120,7 +123,8 @@ public final class SearchRootActor extends DittoRootActor {
 
         final ActorContext context = getContext();
         final MongoThingsSearchPersistence persistence =
-                new MongoThingsSearchPersistence(mongoDbClient, context.getSystem());
+                new MongoThingsSearchPersistence(mongoDbClient, context.getSystem())
+                        .withCountConfig(searchConfig.getCountConfig());
 
         final IndexInitializationConfig indexInitializationConfig = searchConfig.getIndexInitializationConfig();
         if (indexInitializationConfig.isIndexInitializationConfigEnabled()) {
@@ -138,11 +142,15 @@ public final class SearchRootActor extends DittoRootActor {
     }
 
     private ActorRef initializeSearchActor(final LimitsConfig limitsConfig,
+            final StatefulCursorConfig statefulCursorConfig,
+            final boolean indexProjectionEnabled,
             final ThingsSearchPersistence thingsSearchPersistence) {
 
         final QueryParser queryParser = getQueryParser(limitsConfig);
 
-        return startChildActor(SearchActor.ACTOR_NAME, SearchActor.props(queryParser, thingsSearchPersistence));
+        return startChildActor(SearchActor.ACTOR_NAME,
+                SearchActor.props(queryParser, thingsSearchPersistence, statefulCursorConfig,
+                        indexProjectionEnabled));
     }
 
     static QueryParser getQueryParser(final LimitsConfig limitsConfig) {
@@ -94,10 +94,13 @@ import scala.PartialFunction;
  * <li>{@code adjust(Optional<ThingsSearchCursor>, Query, CriteriaFactory)}:
  * Adjust a {@code Query} so that its results start from the location marked by the cursor.
  * </li>
- * <li>{@code processSearchResult(QueryThings, ThingsSearchCursor, SearchResult, ResultList)}:
+ * <li>{@code processSearchResult(QueryThings, ThingsSearchCursor, SearchResult, ResultList, String)}:
  * Compute a cursor pointing at the end of the search result if there are more results.
  * </li>
  * </ul>
+ * A cursor may be pinned to an open database cursor of a search actor, which continues it for the next page.
+ * The pin is an opaque key generated by the search actor and reveals nothing about where the open database cursor is.
+ * The sort values of a pinned cursor remain valid such that the next page can always be computed without it.
  */
 final class ThingsSearchCursor {
 
@@ -120,6 +123,7 @@ final class ThingsSearchCursor {
     private static final JsonFieldDefinition<String> CORRELATION_ID = JsonFactory.newStringFieldDefinition("C");
     private static final JsonFieldDefinition<JsonArray> VALUES = JsonFactory.newJsonArrayFieldDefinition("V");
     private static final JsonFieldDefinition<String> SORT_OPTION = JsonFactory.newStringFieldDefinition("S");
+    private static final JsonFieldDefinition<String> PIN_KEY = JsonFactory.newStringFieldDefinition("K");
 
     /*
      * Data encoded in a cursor.
@@ -130,15 +134,23 @@ final class ThingsSearchCursor {
     @Nullable final String correlationId;
     private final SortOption sortOption;
     private final JsonArray values;
+    @Nullable private final String pinKey;
 
     ThingsSearchCursor(@Nullable final Set<String> namespaces, @Nullable final String correlationId,
             final SortOption sortOption, @Nullable final String filter, final JsonArray values) {
+        this(namespaces, correlationId, sortOption, filter, values, null);
+    }
+
+    ThingsSearchCursor(@Nullable final Set<String> namespaces, @Nullable final String correlationId,
+            final SortOption sortOption, @Nullable final String filter, final JsonArray values,
+            @Nullable final String pinKey) {
         this.namespaces = namespaces;
         this.filter = filter;
 
         this.correlationId = correlationId;
         this.sortOption = sortOption;
         this.values = values;
+        this.pinKey = pinKey;
 
         if (sortOption.getSize() != values.getSize()) {
             // Cursor corrupted. Offer no more information.
@@ -153,20 +165,27 @@ final class ThingsSearchCursor {
 
     @Override
     public int hashCode() {
-        return Objects.hash(filter, namespaces, correlationId, sortOption, values);
+        return Objects.hash(filter, namespaces, correlationId, sortOption, values, pinKey);
     }
 
     @Override
     public boolean equals(final Object that) {
         if (that instanceof ThingsSearchCursor) {
             final ThingsSearchCursor c = (ThingsSearchCursor) that;
-            return Arrays.asList(filter, namespaces, correlationId, sortOption, values)
-                    .equals(Arrays.asList(c.filter, c.namespaces, c.correlationId, c.sortOption, c.values));
+            return Arrays.asList(filter, namespaces, correlationId, sortOption, values, pinKey)
+                    .equals(Arrays.asList(c.filter, c.namespaces, c.correlationId, c.sortOption, c.values, c.pinKey));
         } else {
             return false;
         }
     }
 
+    /**
+     * @return the key of the open database cursor this cursor is pinned to, if any.
+     */
+    Optional<String> getPinKey() {
+        return Optional.ofNullable(pinKey);
+    }
+
     /**
      * Log the correlation ID of the query that generated the cursor.
      *
@@ -234,14 +253,15 @@ final class ThingsSearchCursor {
      *
      * @param searchResult the search result.
      * @param resultList items in the search result.
+     * @param newPinKey the key of the open database cursor to pin the new cursor to, or null.
      * @return search result augmented by a new cursor.
      */
     private SearchResult searchResultWithExistingCursor(final SearchResult searchResult,
-            final ResultList<?> resultList) {
+            final ResultList<?> resultList, @Nullable final String newPinKey) {
         final Optional<JsonArray> newValues = resultList.lastResultSortValues();
         if (newValues.isPresent()) {
             final ThingsSearchCursor newCursor =
-                    new ThingsSearchCursor(namespaces, correlationId, sortOption, filter, newValues.get());
+                    new ThingsSearchCursor(namespaces, correlationId, sortOption, filter, newValues.get(), newPinKey);
             return searchResult.toBuilder()
                     .cursor(newCursor.encode())
                     .nextPageOffset(null)
@@ -291,6 +311,7 @@ final class ThingsSearchCursor {
                 .set(CORRELATION_ID, correlationId, notNull)
                 .set(SORT_OPTION, RqlOptionParser.unparse(Collections.singletonList(sortOption)))
                 .set(VALUES, values)
+                .set(PIN_KEY, pinKey, notNull)
                 .build();
     }
 
@@ -458,18 +479,58 @@ final class ThingsSearchCursor {
             final SearchResult searchResult,
             final ResultList<ThingId> resultList) {
 
-        if (!findAll(LimitOption.class, getOptions(queryThings)).isEmpty()) {
+        return processSearchResult(queryThings, cursor, searchResult, resultList, null);
+    }
+
+    /**
+     * Augment a search result by the next cursor as needed and pin the next cursor to an open database cursor.
+     *
+     * @param queryThings the command that produced the results.
+     * @param cursor cursor given by the command, if any.
+     * @param searchResult the search result.
+     * @param resultList items in the search result.
+     * @param newPinKey the key of the open database cursor continuing after the search result, or null if there is
+     * none.
+     * @return search result with cursor or next-page-offset or both as appropriate.
+     */
+    static SearchResult processSearchResult(final QueryThings queryThings,
+            @Nullable final ThingsSearchCursor cursor,
+            final SearchResult searchResult,
+            final ResultList<ThingId> resultList,
+            @Nullable final String newPinKey) {
+
+        if (hasLimitOption(queryThings)) {
             // do not deliver cursor if "limit" is specified
             return searchResult;
         } else if (cursor != null) {
             // adjust next cursor by search result, do not deliver nextPageOffset
-            return cursor.searchResultWithExistingCursor(searchResult, resultList);
+            return cursor.searchResultWithExistingCursor(searchResult, resultList, newPinKey);
         } else {
             // compute new cursor, deliver both
-            return searchResultWithNewCursor(queryThings, searchResult, resultList);
+            return searchResultWithNewCursor(queryThings, searchResult, resultList, newPinKey);
         }
     }
 
+    /**
+     * Test whether a {@code QueryThings} command has a limit option, whose results are never delivered with a cursor.
+     *
+     * @param queryThings the command.
+     * @return whether the command has a limit option.
+     */
+    static boolean hasLimitOption(final QueryThings queryThings) {
+        return !findAll(LimitOption.class, getOptions(queryThings)).isEmpty();
+    }
+
+    /**
+     * Render the sort option of the cursors of a {@code QueryThings} command, which is the same for all its pages.
+     *
+     * @param queryThings the command, adjusted by its cursor if it has one.
+     * @return the sort option of the cursors of the command.
+     */
+    static String renderCursorSortOption(final QueryThings queryThings) {
+        return RqlOptionParser.unparse(Collections.singletonList(sortOptionForNewCursor(queryThings)));
+    }
+
     /**
      * Locate instances of a class within a collection.
      *
@@ -554,7 +615,8 @@ final class ThingsSearchCursor {
                 json.getValue(CORRELATION_ID).orElse(null),
                 findUniqueSortOption(RqlOptionParser.parseOptions(json.getValueOrThrow(SORT_OPTION))),
                 json.getValue(FILTER).orElse(null),
-                json.getValueOrThrow(VALUES));
+                json.getValueOrThrow(VALUES),
+                json.getValue(PIN_KEY).orElse(null));
     }
 
     /**
@@ -586,10 +648,11 @@ final class ThingsSearchCursor {
      * @param queryThings the command that produced the search result.
      * @param searchResult the search result.
      * @param resultList items in the search result.
+     * @param newPinKey the key of the open database cursor to pin the new cursor to, or null.
      * @return the augmented search result.
      */
     private static SearchResult searchResultWithNewCursor(final QueryThings queryThings,
-            final SearchResult searchResult, final ResultList<?> resultList) {
+            final SearchResult searchResult, final ResultList<?> resultList, @Nullable final String newPinKey) {
 
         final List<Option> commandOptions = getOptions(queryThings);
         final boolean hasLimitOption = !findAll(LimitOption.class, commandOptions).isEmpty();
@@ -604,7 +667,7 @@ final class ThingsSearchCursor {
                 builder.cursor(null);
             } else {
                 // limit option is absent. Compute cursor.
-                final ThingsSearchCursor newCursor = computeNewCursor(queryThings, resultList);
+                final ThingsSearchCursor newCursor = computeNewCursor(queryThings, resultList, newPinKey);
                 builder.cursor(newCursor.encode());
 
                 // size option is present. Remove next-page-offset.
@@ -628,15 +691,18 @@ final class ThingsSearchCursor {
      *
      * @param queryThings the command.
      * @param resultList search result produced by the command.
+     * @param newPinKey the key of the open database cursor to pin the new cursor to, or null.
      * @return cursor at the end of the search result.
      */
-    private static ThingsSearchCursor computeNewCursor(final QueryThings queryThings, final ResultList<?> resultList) {
+    private static ThingsSearchCursor computeNewCursor(final QueryThings queryThings, final ResultList<?> resultList,
+            @Nullable final String newPinKey) {
 
         return new ThingsSearchCursor(queryThings.getNamespaces().orElse(null),
                 queryThings.getDittoHeaders().getCorrelationId().orElse(null),
                 sortOptionForNewCursor(queryThings),
                 queryThings.getFilter().orElse(null),
-                resultList.lastResultSortValues().orElse(JsonArray.empty()));
+                resultList.lastResultSortValues().orElse(JsonArray.empty()),
+                newPinKey);
     }
 
     /**
@@ -854,4 +920,5 @@ final class ThingsSearchCursor {
             return Optional.empty();
         }
     }
+
 }
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.starter.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
+import org.eclipse.ditto.model.base.auth.DittoAuthorizationContextType;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.signals.commands.thingsearch.query.QueryThings;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import akka.actor.ActorSystem;
+import akka.stream.SystemMaterializer;
+import akka.stream.javadsl.Source;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests {@link PinnedSearchCursor}.
+ */
+public final class PinnedSearchCursorTest {
+
+    private static final String FILTER = "eq(attributes/x,5)";
+    private static final Set<String> NAMESPACES = Set.of("namespace");
+
+    private ActorSystem actorSystem;
+
+    @Before
+    public void init() {
+        actorSystem = ActorSystem.create();
+    }
+
+    @After
+    public void stop() {
+        if (actorSystem != null) {
+            TestKit.shutdownActorSystem(actorSystem);
+            actorSystem = null;
+        }
+    }
+
+    @Test
+    public void isContinuedByTheSearchItWasOpenedFor() {
+        final PinnedSearchCursor underTest = open(queryThings("subject", FILTER, NAMESPACES, "sort(+thingId)"));
+
+        assertThat(underTest.isContinuedBy(queryThings("subject", FILTER, NAMESPACES, "sort(+thingId)")))
+                .isTrue();
+        assertThat(underTest.isContinuedBy(queryThings("subject", FILTER, NAMESPACES, "size(5)"))).isTrue();
+    }
+
+    @Test
+    public void isNotContinuedByAnotherSearch() {
+        final PinnedSearchCursor underTest = open(queryThings("subject", FILTER, NAMESPACES, "sort(+thingId)"));
+
+        assertThat(underTest.isContinuedBy(queryThings("other-subject", FILTER, NAMESPACES, "sort(+thingId)")))
+                .isFalse();
+        assertThat(underTest.isContinuedBy(queryThings("subject", "exists(thingId)", NAMESPACES, "sort(+thingId)")))
+                .isFalse();
+        assertThat(underTest.isContinuedBy(queryThings("subject", FILTER, null, "sort(+thingId)"))).isFalse();
+        assertThat(underTest.isContinuedBy(queryThings("subject", FILTER, NAMESPACES, "sort(-thingId)")))
+                .isFalse();
+    }
+
+    private PinnedSearchCursor open(final QueryThings queryThings) {
+        final PinnedSearchCursor pinnedCursor = PinnedSearchCursor.open(Source.empty(), queryThings,
+                SystemMaterializer.get(actorSystem).materializer());
+        pinnedCursor.close();
+        return pinnedCursor;
+    }
+
+    private static QueryThings queryThings(final String subjectId, final String filter,
+            @Nullable final Set<String> namespaces, final String option) {
+
+        final DittoHeaders dittoHeaders = DittoHeaders.newBuilder()
+                .authorizationContext(AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED,
+                        AuthorizationSubject.newInstance(subjectId)))
+                .build();
+        return QueryThings.of(filter, List.of(option), null, namespaces, dittoHeaders);
+    }
+
+}
@@ -36,6 +36,8 @@ import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.model.things.ThingsModelFactory;
 import org.eclipse.ditto.services.base.config.limits.DefaultLimitsConfig;
+import org.eclipse.ditto.services.thingsearch.common.config.DefaultStatefulCursorConfig;
+import org.eclipse.ditto.services.thingsearch.common.config.StatefulCursorConfig;
 import org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants;
 import org.eclipse.ditto.services.thingsearch.persistence.query.QueryParser;
 import org.eclipse.ditto.services.thingsearch.persistence.read.MongoThingsSearchPersistence;
@@ -214,6 +216,38 @@ public final class SearchActorIT {
         }};
     }
 
+    @Test
+    public void testStatefulCursorSearch() {
+        new TestKit(actorSystem) {{
+            final StatefulCursorConfig statefulCursorConfig = DefaultStatefulCursorConfig.of(
+                    ConfigFactory.parseString("stateful-cursor.enabled = true"));
+            final ActorRef underTest =
+                    actorSystem.actorOf(SearchActor.props(queryParser, readPersistence, statefulCursorConfig));
+            final Supplier<AssertionError> noCursor =
+                    () -> new AssertionError("No cursor where a cursor is expected");
+
+            insertTestThings();
+
+            underTest.tell(queryThings(2, null), getRef());
+            final QueryThingsResponse response0 = expectMsgClass(QueryThingsResponse.class);
+            assertThat(response0.getSearchResult().getItems()).isEqualTo(expectedIds(4, 2));
+
+            underTest.tell(queryThings(2, response0.getSearchResult().getCursor().orElseThrow(noCursor)), getRef());
+            final QueryThingsResponse response1 = expectMsgClass(QueryThingsResponse.class);
+            assertThat(response1.getSearchResult().getItems()).isEqualTo(expectedIds(0, 1));
+
+            // a stale cursor is served statelessly
+            underTest.tell(queryThings(2, response0.getSearchResult().getCursor().orElseThrow(noCursor)), getRef());
+            final QueryThingsResponse staleResponse = expectMsgClass(QueryThingsResponse.class);
+            assertThat(staleResponse.getSearchResult().getItems()).isEqualTo(expectedIds(0, 1));
+
+            underTest.tell(queryThings(2, response1.getSearchResult().getCursor().orElseThrow(noCursor)), getRef());
+            final QueryThingsResponse response2 = expectMsgClass(QueryThingsResponse.class);
+            assertThat(response2.getSearchResult().getItems()).isEqualTo(expectedIds(3));
+            assertThat(response2.getSearchResult().getCursor()).isEmpty();
+        }};
+    }
+
     private static ThingSearchQueryCommand<?> queryThings(@Nullable final Integer size, final @Nullable String cursor) {
         final List<String> options = new ArrayList<>();
         final String sort = "sort(-attributes/c,+attributes/b,-attributes/a,+attributes/null/1,-attributes/null/2)";
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.starter.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+import akka.actor.Address;
+
+/**
+ * Tests {@link SearchNodeRing}.
+ */
+public final class SearchNodeRingTest {
+
+    private static final Address SELF = new Address("akka", "ditto-cluster", "10.0.0.1", 2551);
+    private static final Address OTHER = new Address("akka", "ditto-cluster", "10.0.0.2", 2551);
+    private static final Address REMOVED = new Address("akka", "ditto-cluster", "10.0.0.3", 2551);
+
+    @Test
+    public void generatedKeysHashToSelf() {
+        final SearchNodeRing underTest = new SearchNodeRing(SELF);
+        underTest.add(OTHER);
+
+        for (int i = 0; i < 100; i++) {
+            final String key = underTest.generateKeyOfSelf().orElseThrow();
+            assertThat(underTest.isSelf(underTest.getNodeFor(key))).isTrue();
+        }
+    }
+
+    @Test
+    public void keysHashToKnownNodesOnly() {
+        final SearchNodeRing underTest = new SearchNodeRing(SELF);
+        underTest.add(OTHER);
+        underTest.add(REMOVED);
+        underTest.remove(REMOVED);
+
+        final Set<Address> nodes = IntStream.range(0, 100)
+                .mapToObj(i -> underTest.getNodeFor(UUID.randomUUID().toString()))
+                .collect(Collectors.toSet());
+
+        assertThat(nodes).containsExactlyInAnyOrder(SELF, OTHER);
+    }
+
+    @Test
+    public void selfIsNeverRemoved() {
+        final SearchNodeRing underTest = new SearchNodeRing(SELF);
+        underTest.remove(SELF);
+
+        assertThat(underTest.getNodeFor(UUID.randomUUID().toString())).isEqualTo(SELF);
+        assertThat(underTest.generateKeyOfSelf()).isNotEmpty();
+    }
+
+}
@@ -75,6 +75,21 @@ public final class ThingsSearchCursorTest {
         assertThat(decoded).isEqualTo(input);
     }
 
+    @Test
+    public void encodeAndDecodeRetainPinKey() {
+        final String pinKey = UUID.randomUUID().toString();
+        final ThingsSearchCursor input = randomCursor(pinKey);
+
+        final ThingsSearchCursor decoded =
+                ThingsSearchCursor.decode(input.encode(), actorSystem)
+                        .runWith(Sink.head(), actorSystem)
+                        .toCompletableFuture().join();
+
+        assertThat(decoded).isEqualTo(input);
+        assertThat(decoded.getPinKey()).contains(pinKey);
+        assertThat(randomCursor().getPinKey()).isEmpty();
+    }
+
     @Test
     public void correlationIdIsUnchanged() {
         // GIVEN: cursor and command have different correlation IDs
@@ -111,12 +126,17 @@ public final class ThingsSearchCursorTest {
     }
 
     private static ThingsSearchCursor randomCursor() {
+        return randomCursor(null);
+    }
+
+    private static ThingsSearchCursor randomCursor(@Nullable final String pinKey) {
         return new ThingsSearchCursor(
                 new HashSet<>(Arrays.asList(UUID.randomUUID().toString(), UUID.randomUUID().toString())),
                 "correlation-id-" + UUID.randomUUID().toString(),
                 SortOption.of(Collections.singletonList(ThingsSearchCursor.DEFAULT_SORT_OPTION_ENTRY)),
                 "eq(attributes/x,\"" + UUID.randomUUID().toString() + "\")",
-                JsonArray.of(JsonValue.of("thingId:" + UUID.randomUUID().toString())));
+                JsonArray.of(JsonValue.of("thingId:" + UUID.randomUUID().toString())),
+                pinKey);
     }
 
     private static QueryThings withCursor(final QueryThings queryThings, final ThingsSearchCursor cursor) {
@@ -108,7 +108,8 @@ public final class SearchUpdaterRootActor extends AbstractActor {
                 shardRegionFactory.getSearchUpdaterShardRegion(numberOfShards, thingUpdaterProps, CLUSTER_ROLE);
         updaterStreamKillSwitch =
                 startSearchUpdaterStream(searchConfig, actorSystem, shardRegionFactory, numberOfShards,
-                        updaterShardRegion, changeQueueActor, dittoMongoClient.getDefaultDatabase(), blockedNamespaces);
+                        updaterShardRegion, changeQueueActor, dittoMongoClient.getDefaultDatabase(), blockedNamespaces,
+                        thingsSearchPersistence);
 
         final ThingsSearchUpdaterPersistence searchUpdaterPersistence =
                 MongoThingsSearchUpdaterPersistence.of(dittoMongoClient.getDefaultDatabase());
@@ -228,14 +229,15 @@ public final class SearchUpdaterRootActor extends AbstractActor {
             final ActorRef updaterShard,
             final ActorRef changeQueueActor,
             final MongoDatabase mongoDatabase,
-            final BlockedNamespaces blockedNamespaces) {
+            final BlockedNamespaces blockedNamespaces,
+            final ThingsSearchPersistence thingsSearchPersistence) {
 
         final ActorRef thingsShard = shardRegionFactory.getThingsShardRegion(numberOfShards);
         final ActorRef policiesShard = shardRegionFactory.getPoliciesShardRegion(numberOfShards);
 
         final SearchUpdaterStream searchUpdaterStream =
                 SearchUpdaterStream.of(searchConfig, actorSystem, thingsShard, policiesShard, updaterShard,
-                        changeQueueActor, mongoDatabase, blockedNamespaces);
+                        changeQueueActor, mongoDatabase, blockedNamespaces, thingsSearchPersistence);
 
         return searchUpdaterStream.start(getContext());
     }
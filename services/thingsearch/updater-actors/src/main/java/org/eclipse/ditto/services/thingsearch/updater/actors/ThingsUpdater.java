@@ -37,11 +37,11 @@ import org.eclipse.ditto.services.utils.akka.logging.DittoDiagnosticLoggingAdapt
 import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
 import org.eclipse.ditto.services.utils.akka.streaming.StreamAck;
 import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
+import org.eclipse.ditto.services.utils.cluster.LocalShardedMessageEnvelope;
 import org.eclipse.ditto.services.utils.cluster.RetrieveStatisticsDetailsResponseSupplier;
 import org.eclipse.ditto.services.utils.namespaces.BlockNamespaceBehavior;
 import org.eclipse.ditto.services.utils.namespaces.BlockedNamespaces;
 import org.eclipse.ditto.services.utils.pubsub.DistributedSub;
-import org.eclipse.ditto.signals.base.ShardedMessageEnvelope;
 import org.eclipse.ditto.signals.commands.devops.RetrieveStatisticsDetails;
 import org.eclipse.ditto.signals.events.base.Event;
 import org.eclipse.ditto.signals.events.things.ThingEvent;
@@ -230,7 +230,7 @@ final class ThingsUpdater extends AbstractActorWithTimers {
                 Event::getDittoHeaders);
     }
 
-    private <M> void forwardToShardRegion(final M message,
+    private <M extends Jsonifiable<?>> void forwardToShardRegion(final M message,
             final Function<M, EntityId> getId,
             final Function<M, String> getType,
             final Function<M, JsonObject> toJson,
@@ -239,9 +239,10 @@ final class ThingsUpdater extends AbstractActorWithTimers {
         final EntityId id = getId.apply(message);
         log.debug("Forwarding incoming {} to shard region of {}", message.getClass().getSimpleName(), id);
         final String type = getType.apply(message);
-        final JsonObject jsonObject = toJson.apply(message);
         final DittoHeaders dittoHeaders = getDittoHeaders.apply(message);
-        final ShardedMessageEnvelope messageEnvelope = ShardedMessageEnvelope.of(id, type, jsonObject, dittoHeaders);
+        // the message is converted to JSON only if its shard is located on another cluster node
+        final LocalShardedMessageEnvelope<M> messageEnvelope =
+                LocalShardedMessageEnvelope.of(id, type, message, toJson, dittoHeaders);
 
         final ActorRef sender = getSender();
         final ActorRef deadLetters = getContext().getSystem().deadLetters();
@@ -32,6 +32,7 @@ import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 
 import org.awaitility.Awaitility;
+import org.eclipse.ditto.json.JsonArray;
 import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.entity.id.DefaultNamespacedEntityId;
 import org.eclipse.ditto.model.base.entity.id.EntityId;
@@ -381,6 +382,12 @@ public final class BackgroundSyncActorTest {
             throw new UnsupportedOperationException();
         }
 
+        @Override
+        public Source<Pair<ThingId, JsonArray>, NotUsed> findAllWithSortValues(final Query query,
+                final List<String> authorizationSubjectIds, @Nullable final Set<String> namespaces) {
+            throw new UnsupportedOperationException();
+        }
+
         @Override
         public Source<Metadata, NotUsed> sudoStreamMetadata(final EntityId lowerBound) {
             checkNotNull(this.metadata,
@@ -42,6 +42,7 @@ import org.eclipse.ditto.services.models.thingsearch.commands.sudo.UpdateThing;
 import org.eclipse.ditto.services.thingsearch.common.config.DefaultUpdaterConfig;
 import org.eclipse.ditto.services.thingsearch.common.config.UpdaterConfig;
 import org.eclipse.ditto.services.utils.akka.streaming.StreamAck;
+import org.eclipse.ditto.services.utils.cluster.LocalShardedMessageEnvelope;
 import org.eclipse.ditto.services.utils.ddata.DistributedData;
 import org.eclipse.ditto.services.utils.namespaces.BlockedNamespaces;
 import org.eclipse.ditto.services.utils.pubsub.DistributedSub;
@@ -145,7 +146,8 @@ public final class ThingsUpdaterTest {
             final Set<EntityId> expectedIds = new HashSet<>(thingIds);
             for (final NamespacedEntityId ignored : thingIds) {
                 final ShardedMessageEnvelope envelope =
-                        shardMessageReceiver.expectMsgClass(ShardedMessageEnvelope.class);
+                        shardMessageReceiver.expectMsgClass(LocalShardedMessageEnvelope.class)
+                                .toShardedMessageEnvelope();
                 final EntityId envelopeId = envelope.getEntityId();
                 assertThat(expectedIds).contains(envelopeId);
                 expectedIds.remove(envelopeId);
@@ -197,7 +199,8 @@ public final class ThingsUpdaterTest {
     }
 
     private static void expectShardedMessage(final TestProbe probe, final Jsonifiable event, final EntityId id) {
-        final ShardedMessageEnvelope envelope = probe.expectMsgClass(ShardedMessageEnvelope.class);
+        final ShardedMessageEnvelope envelope =
+                probe.expectMsgClass(LocalShardedMessageEnvelope.class).toShardedMessageEnvelope();
 
         assertThat(envelope.getMessage()).isEqualTo(event.toJson());
         assertThat((CharSequence) envelope.getEntityId()).isEqualTo(id);
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.aggregator;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
+
+import akka.NotUsed;
+import akka.stream.javadsl.Source;
+
+/**
+ * Response of the {@link ThingsAggregatorProxyActor} to a
+ * {@link org.eclipse.ditto.signals.commands.things.query.RetrieveThings} command with the header
+ * {@link org.eclipse.ditto.model.base.headers.DittoHeaderDefinition#STREAMED_RESPONSE}. Instead of collecting all
+ * things into one response, it emits the JSON of the retrieved things one after the other in the requested order.
+ * The things are enclosed by a JSON prefix and suffix which are the brackets of a JSON array by default.
+ * <p>
+ * The response is only sent to actors in the same JVM and is not serializable. Its source may be run only once.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+@Immutable
+public final class StreamedThingsResponse implements WithDittoHeaders<StreamedThingsResponse> {
+
+    private static final String JSON_ARRAY_START = "[";
+    private static final String JSON_ARRAY_SEPARATOR = ",";
+    private static final String JSON_ARRAY_END = "]";
+
+    private final Source<String, NotUsed> things;
+    private final String prefix;
+    private final String suffix;
+    private final DittoHeaders dittoHeaders;
+
+    private StreamedThingsResponse(final Source<String, NotUsed> things, final String prefix, final String suffix,
+            final DittoHeaders dittoHeaders) {
+
+        this.things = checkNotNull(things, "things");
+        this.prefix = checkNotNull(prefix, "prefix");
+        this.suffix = checkNotNull(suffix, "suffix");
+        this.dittoHeaders = checkNotNull(dittoHeaders, "dittoHeaders");
+    }
+
+    /**
+     * Returns a new {@code StreamedThingsResponse} whose things are enclosed in a JSON array.
+     *
+     * @param things the source of the JSON strings of the things.
+     * @param dittoHeaders the headers of the response.
+     * @return the response.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static StreamedThingsResponse of(final Source<String, NotUsed> things, final DittoHeaders dittoHeaders) {
+        return new StreamedThingsResponse(things, JSON_ARRAY_START, JSON_ARRAY_END, dittoHeaders);
+    }
+
+    /**
+     * Returns the source of the JSON strings of the things.
+     *
+     * @return the source.
+     */
+    public Source<String, NotUsed> getThings() {
+        return things;
+    }
+
+    /**
+     * Returns a copy of this response with the specified source of JSON strings of things.
+     *
+     * @param things the new source.
+     * @return the copy.
+     * @throws NullPointerException if {@code things} is {@code null}.
+     */
+    public StreamedThingsResponse setThings(final Source<String, NotUsed> things) {
+        return new StreamedThingsResponse(things, prefix, suffix, dittoHeaders);
+    }
+
+    /**
+     * Returns a copy of this response whose JSON array of things is enclosed by the specified JSON, e.g. to embed the
+     * array in a JSON object.
+     *
+     * @param jsonBeforeArray the JSON to emit before the array of things.
+     * @param jsonAfterArray the JSON to emit after the array of things.
+     * @return the copy.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public StreamedThingsResponse enclose(final String jsonBeforeArray, final String jsonAfterArray) {
+        return new StreamedThingsResponse(things, checkNotNull(jsonBeforeArray, "jsonBeforeArray") + prefix,
+                suffix + checkNotNull(jsonAfterArray, "jsonAfterArray"), dittoHeaders);
+    }
+
+    /**
+     * Returns the JSON of the whole response as source of chunks.
+     *
+     * @return the chunks of the JSON.
+     */
+    public Source<String, NotUsed> toJsonChunks() {
+        return things.intersperse(prefix, JSON_ARRAY_SEPARATOR, suffix);
+    }
+
+    @Override
+    public DittoHeaders getDittoHeaders() {
+        return dittoHeaders;
+    }
+
+    @Override
+    public StreamedThingsResponse setDittoHeaders(final DittoHeaders dittoHeaders) {
+        return new StreamedThingsResponse(things, prefix, suffix, dittoHeaders);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "prefix=" + prefix +
+                ", suffix=" + suffix +
+                ", dittoHeaders=" + dittoHeaders +
+                "]";
+    }
+
+}
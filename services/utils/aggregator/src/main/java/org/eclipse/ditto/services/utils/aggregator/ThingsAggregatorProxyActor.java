@@ -17,9 +17,13 @@ import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -28,6 +32,7 @@ import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.model.base.headers.DittoHeaderDefinition;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.json.Jsonifiable;
 import org.eclipse.ditto.model.things.Thing;
@@ -77,6 +82,11 @@ public final class ThingsAggregatorProxyActor extends AbstractActor {
 
     private static final int ASK_TIMEOUT = 60;
 
+    /**
+     * Maximum number of things which are held back for a thing requested before them when streaming things.
+     */
+    static final int REORDER_BUFFER_SIZE = 32;
+
     private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
 
     private final ActorRef targetActor;
@@ -186,38 +196,67 @@ public final class ThingsAggregatorProxyActor extends AbstractActor {
                 .tag("size", Integer.toString(thingIds.size()))
                 .build();
 
+        final Source<PlainJson, NotUsed> plainJsonSource = toPlainJsonSource(sourceRef, thingPlainJsonSupplier);
+
+        if (originatingCommand instanceof RetrieveThings && isStreamedResponse(originatingCommand)) {
+            final Source<String, NotUsed> things = reorder(plainJsonSource, thingIds)
+                    .map(PlainJson::getJson)
+                    .watchTermination((notUsed, done) -> {
+                        done.thenRun(() -> stopTimer(timer));
+                        return notUsed;
+                    });
+            originatingSender.tell(StreamedThingsResponse.of(things, originatingCommand.getDittoHeaders()),
+                    getSelf());
+        } else {
+            final CompletionStage<List<PlainJson>> o = plainJsonSource.runWith(Sink.seq(), materializer);
+
+            final CompletionStage<? extends CommandResponse<?>> commandResponseCompletionStage = o
+                    .thenApply(plainJsonSorter)
+                    .thenApply(overallResponseSupplier::apply)
+                    .thenApply(list -> {
+                        stopTimer(timer);
+                        return list;
+                    });
+
+            Patterns.pipe(commandResponseCompletionStage, getContext().dispatcher()).to(originatingSender);
+        }
+    }
+
+    private static Source<PlainJson, NotUsed> reorder(final Source<PlainJson, NotUsed> plainJsonSource,
+            final List<ThingId> thingIds) {
+
+        return plainJsonSource.map(Optional::of)
+                .concat(Source.single(Optional.<PlainJson>empty()))
+                .statefulMapConcat(() -> new PlainJsonReorderer(thingIds, REORDER_BUFFER_SIZE));
+    }
+
+    private Source<PlainJson, NotUsed> toPlainJsonSource(final SourceRef<?> sourceRef,
+            final Function<Jsonifiable<?>, PlainJson> thingPlainJsonSupplier) {
+
         final Source<Jsonifiable<?>, NotUsed> thingNotAccessibleExceptionSource = Source.single(
                 ThingNotAccessibleException.fromMessage("Thing could not be accessed.", DittoHeaders.empty())
         );
 
-        final CompletionStage<List<PlainJson>> o =
-                sourceRef.getSource()
-                        .<Jsonifiable<?>>map(Jsonifiable.class::cast)
-                        .orElse(thingNotAccessibleExceptionSource)
-                        .filterNot(el -> el instanceof DittoRuntimeException)
-                        .map(thingPlainJsonSupplier::apply)
-                        .log("retrieve-thing-response", log)
-                        .recoverWithRetries(1, new PFBuilder<Throwable, Source<PlainJson, NotUsed>>()
-                                .match(NoSuchElementException.class, nsee -> Source.single(PlainJson.empty()))
-                                .match(IllegalStateException.class, ise -> {
-                                    // TODO: remove this workaround after akka/akka#28852 is resolved.
-                                    // It prevents spurious failures due to upstream crashing but also
-                                    // hides legitimate errors.
-                                    return Source.single(PlainJson.empty());
-                                })
-                                .build()
-                        )
-                        .runWith(Sink.seq(), materializer);
-
-        final CompletionStage<? extends CommandResponse<?>> commandResponseCompletionStage = o
-                .thenApply(plainJsonSorter)
-                .thenApply(overallResponseSupplier::apply)
-                .thenApply(list -> {
-                    stopTimer(timer);
-                    return list;
-                });
+        return sourceRef.getSource()
+                .<Jsonifiable<?>>map(Jsonifiable.class::cast)
+                .orElse(thingNotAccessibleExceptionSource)
+                .filterNot(el -> el instanceof DittoRuntimeException)
+                .map(thingPlainJsonSupplier::apply)
+                .log("retrieve-thing-response", log)
+                .recoverWithRetries(1, new PFBuilder<Throwable, Source<PlainJson, NotUsed>>()
+                        .match(NoSuchElementException.class, nsee -> Source.single(PlainJson.empty()))
+                        .match(IllegalStateException.class, ise -> {
+                            // TODO: remove this workaround after akka/akka#28852 is resolved.
+                            // It prevents spurious failures due to upstream crashing but also
+                            // hides legitimate errors.
+                            return Source.single(PlainJson.empty());
+                        })
+                        .build()
+                );
+    }
 
-        Patterns.pipe(commandResponseCompletionStage, getContext().dispatcher()).to(originatingSender);
+    private static boolean isStreamedResponse(final Command<?> command) {
+        return Boolean.parseBoolean(command.getDittoHeaders().get(DittoHeaderDefinition.STREAMED_RESPONSE.getKey()));
     }
 
     private Function<Jsonifiable<?>, PlainJson> supplyPlainJsonFromRetrieveThingResponse() {
@@ -281,10 +320,69 @@ public final class ThingsAggregatorProxyActor extends AbstractActor {
                 .collect(Collectors.toList()), dittoHeaders);
     }
 
+    /**
+     * Brings the things emitted by the aggregator into the requested order. A thing is held back until all things
+     * requested before it were emitted, the end of the stream is reached (signalled by an empty Optional) or more than
+     * {@code maxBufferSize} things are held back. Things which are not retrieved at all therefore delay the things
+     * requested after them only for a bounded number of elements.
+     */
+    static final class PlainJsonReorderer
+            implements akka.japi.function.Function<Optional<PlainJson>, Iterable<PlainJson>> {
+
+        private final Map<String, Integer> positions;
+        private final int maxBufferSize;
+        private final TreeMap<Integer, List<PlainJson>> buffer;
+        private int bufferSize;
+        private int nextPosition;
+
+        PlainJsonReorderer(final List<ThingId> thingIds, final int maxBufferSize) {
+            positions = new HashMap<>();
+            for (int i = 0; i < thingIds.size(); i++) {
+                positions.putIfAbsent(thingIds.get(i).toString(), i);
+            }
+            this.maxBufferSize = maxBufferSize;
+            buffer = new TreeMap<>();
+            bufferSize = 0;
+            nextPosition = 0;
+        }
+
+        @Override
+        public Iterable<PlainJson> apply(final Optional<PlainJson> element) {
+            final List<PlainJson> result = new ArrayList<>();
+            if (element.isEmpty()) {
+                buffer.values().forEach(result::addAll);
+                buffer.clear();
+                bufferSize = 0;
+            } else if (!element.get().isEmpty()) {
+                final PlainJson plainJson = element.get();
+                final int position = positions.getOrDefault(plainJson.getId(), -1);
+                if (position < nextPosition) {
+                    // unknown or overtaken by the buffer limit: emit as soon as possible
+                    result.add(plainJson);
+                } else {
+                    buffer.computeIfAbsent(position, p -> new ArrayList<>(1)).add(plainJson);
+                    bufferSize++;
+                    emitInOrder(result);
+                }
+            }
+            return result;
+        }
+
+        private void emitInOrder(final List<PlainJson> result) {
+            while (!buffer.isEmpty() && (buffer.firstKey() == nextPosition || bufferSize > maxBufferSize)) {
+                final Map.Entry<Integer, List<PlainJson>> first = buffer.pollFirstEntry();
+                result.addAll(first.getValue());
+                bufferSize -= first.getValue().size();
+                nextPosition = first.getKey() + 1;
+            }
+        }
+
+    }
+
     /**
      * Internal representation of an entity's JSON string.
      */
-    private static final class PlainJson {
+    static final class PlainJson {
 
         private final String id;
         private final String json;
@@ -12,13 +12,19 @@
  */
 package org.eclipse.ditto.services.utils.aggregator;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import org.eclipse.ditto.model.base.common.HttpStatusCode;
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.model.base.headers.DittoHeaderDefinition;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.signals.commands.base.exceptions.GatewayInternalErrorException;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThingResponse;
 import org.eclipse.ditto.signals.commands.things.query.RetrieveThings;
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
@@ -27,6 +33,11 @@ import org.junit.Test;
 import akka.actor.ActorRef;
 import akka.actor.ActorSystem;
 import akka.actor.Props;
+import akka.stream.Materializer;
+import akka.stream.SourceRef;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
+import akka.stream.javadsl.StreamRefs;
 import akka.testkit.TestActor.AutoPilot;
 import akka.testkit.TestProbe;
 import akka.testkit.javadsl.TestKit;
@@ -79,6 +90,75 @@ public class ThingsAggregatorProxyActorTest {
         }};
     }
 
+    @Test
+    public void testStreamedResponseEmitsThingsInRequestedOrder() {
+        new TestKit(actorSystem) {{
+            final ThingId first = ThingId.of("ditto", "first");
+            final ThingId second = ThingId.of("ditto", "second");
+            final ThingId third = ThingId.of("ditto", "third");
+            final TestProbe targetActor = new TestProbe(actorSystem);
+            targetActor.setAutoPilot(new AutoPilotAnsweringWithSourceRef(List.of(
+                    RetrieveThingResponse.of(third, "{\"thingId\":\"ditto:third\"}", DITTO_HEADERS),
+                    RetrieveThingResponse.of(first, "{\"thingId\":\"ditto:first\"}", DITTO_HEADERS),
+                    RetrieveThingResponse.of(second, "{\"thingId\":\"ditto:second\"}", DITTO_HEADERS))));
+
+            final ActorRef proxyActor = actorSystem.actorOf(ThingsAggregatorProxyActor.props(targetActor.ref()));
+            final DittoHeaders streamedHeaders = DITTO_HEADERS.toBuilder()
+                    .putHeader(DittoHeaderDefinition.STREAMED_RESPONSE.getKey(), "true")
+                    .build();
+
+            proxyActor.tell(RetrieveThings.getBuilder(first, second, third).dittoHeaders(streamedHeaders).build(),
+                    getRef());
+
+            final StreamedThingsResponse response = expectMsgClass(StreamedThingsResponse.class);
+            assertThat(response.getDittoHeaders()).isEqualTo(streamedHeaders);
+            final String json = response.toJsonChunks()
+                    .runWith(Sink.fold("", String::concat), Materializer.createMaterializer(actorSystem))
+                    .toCompletableFuture()
+                    .join();
+            assertThat(json)
+                    .isEqualTo("[{\"thingId\":\"ditto:first\"},{\"thingId\":\"ditto:second\"}," +
+                            "{\"thingId\":\"ditto:third\"}]");
+        }};
+    }
+
+    @Test
+    public void reordererHoldsBackOnlyBoundedNumberOfThings() {
+        final List<ThingId> thingIds = List.of(ThingId.of("ditto", "missing"), ThingId.of("ditto", "a"),
+                ThingId.of("ditto", "b"), ThingId.of("ditto", "c"));
+        final ThingsAggregatorProxyActor.PlainJsonReorderer underTest =
+                new ThingsAggregatorProxyActor.PlainJsonReorderer(thingIds, 1);
+
+        assertThat(underTest.apply(plainJson("ditto:b"))).isEmpty();
+        assertThat(underTest.apply(plainJson("ditto:a"))).extracting(ThingsAggregatorProxyActor.PlainJson::getId)
+                .containsExactly("ditto:a", "ditto:b");
+        assertThat(underTest.apply(plainJson("ditto:missing")))
+                .extracting(ThingsAggregatorProxyActor.PlainJson::getId)
+                .containsExactly("ditto:missing");
+        assertThat(underTest.apply(Optional.empty())).isEmpty();
+    }
+
+    private static Optional<ThingsAggregatorProxyActor.PlainJson> plainJson(final String thingId) {
+        return Optional.of(ThingsAggregatorProxyActor.PlainJson.of(thingId, "{}"));
+    }
+
+    private static final class AutoPilotAnsweringWithSourceRef extends AutoPilot {
+
+        private final List<RetrieveThingResponse> responses;
+
+        private AutoPilotAnsweringWithSourceRef(final List<RetrieveThingResponse> responses) {
+            this.responses = responses;
+        }
+
+        @Override
+        public AutoPilot run(final ActorRef sender, final Object msg) {
+            final SourceRef<RetrieveThingResponse> sourceRef = Source.from(responses)
+                    .runWith(StreamRefs.sourceRef(), Materializer.createMaterializer(actorSystem));
+            sender.tell(sourceRef, ActorRef.noSender());
+            return keepRunning();
+        }
+    }
+
     private static class AutoPilotAnsweringWithException extends AutoPilot {
 
         private final Exception exceptionToRespond;
@@ -79,10 +79,12 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
     private static final String CONFIG_DIRECT_BUFFER_SIZE = "akka.actor.serializers-json.direct-buffer-size";
     private static final String CONFIG_DIRECT_BUFFER_POOL_LIMIT =
             "akka.actor.serializers-json.direct-buffer-pool-limit";
+    private static final String CONFIG_LAZY_DESERIALIZATION = "akka.actor.serializers-json.lazy-deserialization";
 
     private static final Config FALLBACK_CONF = ConfigFactory.empty()
             .withValue(CONFIG_DIRECT_BUFFER_SIZE, ConfigValueFactory.fromAnyRef("64 KiB"))
-            .withValue(CONFIG_DIRECT_BUFFER_POOL_LIMIT, ConfigValueFactory.fromAnyRef("500"));
+            .withValue(CONFIG_DIRECT_BUFFER_POOL_LIMIT, ConfigValueFactory.fromAnyRef("500"))
+            .withValue(CONFIG_LAZY_DESERIALIZATION, ConfigValueFactory.fromAnyRef(false));
 
     private static final String METRIC_NAME_SUFFIX = "_serializer_messages";
     private static final String METRIC_DIRECTION = "direction";
@@ -92,6 +94,7 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
     private final Function<Object, String> manifestProvider;
     private final BufferPool byteBufferPool;
     private final Long defaultBufferSize;
+    private final boolean lazyDeserialization;
     private final Counter inCounter;
     private final Counter outCounter;
     private final String serializerName;
@@ -119,6 +122,7 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
         defaultBufferSize = config.withFallback(FALLBACK_CONF).getBytes(CONFIG_DIRECT_BUFFER_SIZE);
         final int maxPoolEntries = config.withFallback(FALLBACK_CONF).getInt(CONFIG_DIRECT_BUFFER_POOL_LIMIT);
         byteBufferPool = new DirectByteBufferPool(defaultBufferSize.intValue(), maxPoolEntries);
+        lazyDeserialization = config.withFallback(FALLBACK_CONF).getBoolean(CONFIG_LAZY_DESERIALIZATION);
 
         inCounter = DittoMetrics.counter(serializerName.toLowerCase() + METRIC_NAME_SUFFIX)
                 .tag(METRIC_DIRECTION, "in");
@@ -288,6 +292,16 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
         return mappingStrategy.parse(payload, dittoHeadersBuilder.build());
     }
 
+    /**
+     * Indicates whether deserialized JSON objects should only index their top-level fields and parse the field values
+     * on first access.
+     *
+     * @return {@code true} if JSON objects should be deserialized lazily.
+     */
+    protected boolean isLazyDeserialization() {
+        return lazyDeserialization;
+    }
+
     /**
      * Deserializes the passed {@code byteBuffer} into a JsonValue.
      *
@@ -60,6 +60,9 @@ public final class CborJsonifiableSerializer extends AbstractJsonifiableWithDitt
 
     @Override
     protected JsonValue deserializeFromByteBuffer(final ByteBuffer byteBuffer) {
+        if (isLazyDeserialization()) {
+            return CBOR_FACTORY.readFromLazily(byteBuffer);
+        }
         return CBOR_FACTORY.readFrom(byteBuffer);
     }
 }
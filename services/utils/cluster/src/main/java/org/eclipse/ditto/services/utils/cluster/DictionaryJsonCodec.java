@@ -0,0 +1,282 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonArrayBuilder;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonParseException;
+import org.eclipse.ditto.json.JsonValue;
+
+/**
+ * Binary encoding of JSON values whose object keys are written as indexes of the {@link JsonKeyDictionary} if
+ * possible.
+ * <p>
+ * Each value starts with a tag byte. Integral numbers are written as zig-zag encoded variable-length integers, sizes
+ * and lengths as variable-length integers and strings as UTF-8. An object key is written as its dictionary index plus
+ * one, or as {@code 0} followed by the key string if the key is not in the dictionary.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+@Immutable
+final class DictionaryJsonCodec {
+
+    private static final byte NULL = 0;
+    private static final byte FALSE = 1;
+    private static final byte TRUE = 2;
+    private static final byte INTEGER = 3;
+    private static final byte DOUBLE = 4;
+    private static final byte STRING = 5;
+    private static final byte OBJECT = 6;
+    private static final byte ARRAY = 7;
+
+    private static final int LITERAL_KEY = 0;
+
+    // integral doubles report to be longs as well; their class tells them apart
+    private static final Class<?> DOUBLE_CLASS = JsonFactory.newValue(0.5).getClass();
+
+    private DictionaryJsonCodec() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Writes a JSON value into a byte buffer.
+     *
+     * @param jsonValue the JSON value.
+     * @param byteBuffer the byte buffer to write into.
+     * @throws java.nio.BufferOverflowException if the byte buffer is too small.
+     */
+    static void write(final JsonValue jsonValue, final ByteBuffer byteBuffer) {
+        if (jsonValue.isNull()) {
+            byteBuffer.put(NULL);
+        } else if (jsonValue.isBoolean()) {
+            byteBuffer.put(jsonValue.asBoolean() ? TRUE : FALSE);
+        } else if (jsonValue.isNumber()) {
+            if (jsonValue.isLong() && jsonValue.getClass() != DOUBLE_CLASS) {
+                byteBuffer.put(INTEGER);
+                writeVarLong(zigZag(jsonValue.asLong()), byteBuffer);
+            } else {
+                byteBuffer.put(DOUBLE);
+                byteBuffer.putDouble(jsonValue.asDouble());
+            }
+        } else if (jsonValue.isString()) {
+            byteBuffer.put(STRING);
+            writeString(jsonValue.asString(), byteBuffer);
+        } else if (jsonValue.isObject()) {
+            writeObject(jsonValue.asObject(), byteBuffer);
+        } else if (jsonValue.isArray()) {
+            writeArray(jsonValue.asArray(), byteBuffer);
+        } else {
+            throw new IllegalArgumentException(MessageFormat.format("Unsupported JSON value <{0}>!", jsonValue));
+        }
+    }
+
+    /**
+     * Reads a JSON value from a byte buffer.
+     *
+     * @param byteBuffer the byte buffer positioned at the start of the value.
+     * @return the JSON value.
+     * @throws JsonParseException if the byte buffer does not contain a valid value.
+     * @throws BufferUnderflowException if the value is truncated.
+     */
+    static JsonValue read(final ByteBuffer byteBuffer) {
+        final byte tag = byteBuffer.get();
+        switch (tag) {
+            case NULL:
+                return JsonFactory.nullLiteral();
+            case FALSE:
+                return JsonFactory.newValue(false);
+            case TRUE:
+                return JsonFactory.newValue(true);
+            case INTEGER:
+                final long value = unZigZag(readVarLong(byteBuffer));
+                final int intValue = (int) value;
+                return intValue == value ? JsonFactory.newValue(intValue) : JsonFactory.newValue(value);
+            case DOUBLE:
+                return JsonFactory.newValue(byteBuffer.getDouble());
+            case STRING:
+                return JsonFactory.newValue(readString(byteBuffer));
+            case OBJECT:
+                return readObject(byteBuffer);
+            case ARRAY:
+                return readArray(byteBuffer);
+            default:
+                throw JsonParseException.newBuilder()
+                        .message(MessageFormat.format("Unknown tag <{0}> at position <{1}>.", tag,
+                                byteBuffer.position() - 1))
+                        .build();
+        }
+    }
+
+    private static void writeObject(final JsonObject jsonObject, final ByteBuffer byteBuffer) {
+        byteBuffer.put(OBJECT);
+        writeVarLong(jsonObject.getSize(), byteBuffer);
+        for (final JsonField field : jsonObject) {
+            final String key = field.getKeyName();
+            final int index = JsonKeyDictionary.indexOf(key);
+            if (index < 0) {
+                writeVarLong(LITERAL_KEY, byteBuffer);
+                writeString(key, byteBuffer);
+            } else {
+                writeVarLong(index + 1L, byteBuffer);
+            }
+            write(field.getValue(), byteBuffer);
+        }
+    }
+
+    private static JsonObject readObject(final ByteBuffer byteBuffer) {
+        final int size = readSize(byteBuffer);
+        final JsonObjectBuilder builder = JsonFactory.newObjectBuilder();
+        for (int i = 0; i < size; i++) {
+            final long keyIndex = readVarLong(byteBuffer);
+            final JsonKey key;
+            if (keyIndex == LITERAL_KEY) {
+                key = JsonFactory.newKey(readString(byteBuffer));
+            } else {
+                @Nullable final JsonKey dictionaryKey =
+                        keyIndex <= Integer.MAX_VALUE ? JsonKeyDictionary.getKey((int) keyIndex - 1) : null;
+                if (null == dictionaryKey) {
+                    throw JsonParseException.newBuilder()
+                            .message(MessageFormat.format("Unknown dictionary key <{0}>.", keyIndex - 1))
+                            .build();
+                }
+                key = dictionaryKey;
+            }
+            builder.set(JsonFactory.newField(key, read(byteBuffer)));
+        }
+        return builder.build();
+    }
+
+    private static void writeArray(final JsonArray jsonArray, final ByteBuffer byteBuffer) {
+        byteBuffer.put(ARRAY);
+        writeVarLong(jsonArray.getSize(), byteBuffer);
+        for (final JsonValue element : jsonArray) {
+            write(element, byteBuffer);
+        }
+    }
+
+    private static JsonArray readArray(final ByteBuffer byteBuffer) {
+        final int size = readSize(byteBuffer);
+        final JsonArrayBuilder builder = JsonFactory.newArrayBuilder();
+        for (int i = 0; i < size; i++) {
+            builder.add(read(byteBuffer));
+        }
+        return builder.build();
+    }
+
+    private static void writeString(final String string, final ByteBuffer byteBuffer) {
+        final int length = string.length();
+        if (isAscii(string, length)) {
+            writeVarLong(length, byteBuffer);
+            for (int i = 0; i < length; i++) {
+                byteBuffer.put((byte) string.charAt(i));
+            }
+        } else {
+            final byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(bytes.length, byteBuffer);
+            byteBuffer.put(bytes);
+        }
+    }
+
+    private static boolean isAscii(final String string, final int length) {
+        for (int i = 0; i < length; i++) {
+            if (string.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String readString(final ByteBuffer byteBuffer) {
+        final int length = readSize(byteBuffer);
+        final String result;
+        if (byteBuffer.hasArray()) {
+            if (length > byteBuffer.remaining()) {
+                throw new BufferUnderflowException();
+            }
+            result = new String(byteBuffer.array(), byteBuffer.arrayOffset() + byteBuffer.position(), length,
+                    StandardCharsets.UTF_8);
+            byteBuffer.position(byteBuffer.position() + length);
+        } else {
+            final byte[] bytes = new byte[length];
+            byteBuffer.get(bytes);
+            result = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return result;
+    }
+
+    private static int readSize(final ByteBuffer byteBuffer) {
+        final long size = readVarLong(byteBuffer);
+        if (size < 0L || size > byteBuffer.capacity()) {
+            throw JsonParseException.newBuilder()
+                    .message(MessageFormat.format("Invalid size <{0}>.", size))
+                    .build();
+        }
+        return (int) size;
+    }
+
+    /**
+     * Writes a non-negative number as variable-length integer of 7 bits per byte, least significant group first.
+     *
+     * @param value the number.
+     * @param byteBuffer the byte buffer to write into.
+     */
+    static void writeVarLong(final long value, final ByteBuffer byteBuffer) {
+        long remaining = value;
+        while ((remaining & ~0x7FL) != 0L) {
+            byteBuffer.put((byte) ((remaining & 0x7FL) | 0x80L));
+            remaining >>>= 7;
+        }
+        byteBuffer.put((byte) remaining);
+    }
+
+    /**
+     * Reads a variable-length integer written by {@link #writeVarLong(long, ByteBuffer)}.
+     *
+     * @param byteBuffer the byte buffer to read from.
+     * @return the number.
+     */
+    static long readVarLong(final ByteBuffer byteBuffer) {
+        long result = 0L;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            final byte b = byteBuffer.get();
+            result |= (b & 0x7FL) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw JsonParseException.newBuilder().message("Malformed variable-length integer.").build();
+    }
+
+    private static long zigZag(final long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(final long value) {
+        return (value >>> 1) ^ -(value & 1L);
+    }
+
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.text.MessageFormat;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonParseException;
+import org.eclipse.ditto.json.JsonValue;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigValueFactory;
+
+import akka.actor.ExtendedActorSystem;
+
+/**
+ * Serializer of Eclipse Ditto for Jsonifiables via a compact binary format: header names and JSON field names known
+ * by the {@link JsonKeyDictionary} are written as small integers instead of strings. Messages above a configurable
+ * size are additionally compressed with Deflate.
+ * <p>
+ * Nodes must be able to deserialize the format before any node sends it. Therefore the serializer is registered as
+ * {@code dictionary} but not bound to any class by default.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public final class DictionaryJsonifiableSerializer extends AbstractJsonifiableWithDittoHeadersSerializer {
+
+    private static final int UNIQUE_IDENTIFIER = 350771536;
+
+    private static final byte FORMAT_PLAIN = 1;
+    private static final byte FORMAT_DEFLATED = 2;
+
+    private static final String CONFIG_COMPRESSION_ENABLED =
+            "akka.actor.serializers-dictionary.compression-enabled";
+    private static final String CONFIG_COMPRESSION_THRESHOLD =
+            "akka.actor.serializers-dictionary.compression-threshold";
+
+    private static final Config FALLBACK_CONF = ConfigFactory.empty()
+            .withValue(CONFIG_COMPRESSION_ENABLED, ConfigValueFactory.fromAnyRef(true))
+            .withValue(CONFIG_COMPRESSION_THRESHOLD, ConfigValueFactory.fromAnyRef("4 KiB"));
+
+    private static final ThreadLocal<Deflater> DEFLATER =
+            ThreadLocal.withInitial(() -> new Deflater(Deflater.BEST_SPEED, true));
+    private static final ThreadLocal<Inflater> INFLATER = ThreadLocal.withInitial(() -> new Inflater(true));
+
+    private final boolean compressionEnabled;
+    private final long compressionThreshold;
+
+    /**
+     * Constructs a new {@code DictionaryJsonifiableSerializer} object.
+     *
+     * @param actorSystem the ExtendedActorSystem to use in order to dynamically load mapping strategies in parent.
+     */
+    public DictionaryJsonifiableSerializer(final ExtendedActorSystem actorSystem) {
+        super(UNIQUE_IDENTIFIER, actorSystem, ManifestProvider.getInstance(), "DICTIONARY");
+        final Config config = actorSystem.settings().config().withFallback(FALLBACK_CONF);
+        compressionEnabled = config.getBoolean(CONFIG_COMPRESSION_ENABLED);
+        compressionThreshold = config.getBytes(CONFIG_COMPRESSION_THRESHOLD);
+    }
+
+    @Override
+    protected void serializeIntoByteBuffer(final JsonObject jsonObject, final ByteBuffer byteBuffer) {
+        final int start = byteBuffer.position();
+        byteBuffer.put(FORMAT_PLAIN);
+        DictionaryJsonCodec.write(jsonObject, byteBuffer);
+        final int plainLength = byteBuffer.position() - start - 1;
+        if (compressionEnabled && plainLength > compressionThreshold) {
+            compress(byteBuffer, start, plainLength);
+        }
+    }
+
+    @Override
+    protected JsonValue deserializeFromByteBuffer(final ByteBuffer byteBuffer) {
+        try {
+            final byte format = byteBuffer.get();
+            switch (format) {
+                case FORMAT_PLAIN:
+                    return DictionaryJsonCodec.read(byteBuffer);
+                case FORMAT_DEFLATED:
+                    return DictionaryJsonCodec.read(decompress(byteBuffer));
+                default:
+                    throw JsonParseException.newBuilder()
+                            .message(MessageFormat.format("Unknown format <{0}>.", format))
+                            .build();
+            }
+        } catch (final BufferUnderflowException e) {
+            throw JsonParseException.newBuilder()
+                    .message("The message ended unexpectedly.")
+                    .cause(e)
+                    .build();
+        }
+    }
+
+    /**
+     * Replaces the plain bytes written at {@code start} by their compressed form if that is shorter.
+     */
+    private static void compress(final ByteBuffer byteBuffer, final int start, final int plainLength) {
+        final ByteBuffer plain = byteBuffer.duplicate();
+        plain.position(start + 1).limit(start + 1 + plainLength);
+
+        final Deflater deflater = DEFLATER.get();
+        deflater.reset();
+        deflater.setInput(plain);
+        deflater.finish();
+        final byte[] compressed = new byte[plainLength];
+        int compressedLength = 0;
+        while (!deflater.finished() && compressedLength < compressed.length) {
+            compressedLength += deflater.deflate(compressed, compressedLength, compressed.length - compressedLength);
+        }
+
+        // the format byte and the plain length take at most 6 bytes
+        if (deflater.finished() && compressedLength + 6 < plainLength) {
+            byteBuffer.position(start);
+            byteBuffer.put(FORMAT_DEFLATED);
+            DictionaryJsonCodec.writeVarLong(plainLength, byteBuffer);
+            byteBuffer.put(compressed, 0, compressedLength);
+        }
+    }
+
+    private static ByteBuffer decompress(final ByteBuffer byteBuffer) {
+        final long plainLength = DictionaryJsonCodec.readVarLong(byteBuffer);
+        if (plainLength < 0L || plainLength > Integer.MAX_VALUE) {
+            throw JsonParseException.newBuilder()
+                    .message(MessageFormat.format("Invalid uncompressed length <{0}>.", plainLength))
+                    .build();
+        }
+        final byte[] plain = new byte[(int) plainLength];
+        final Inflater inflater = INFLATER.get();
+        inflater.reset();
+        inflater.setInput(byteBuffer);
+        try {
+            int inflatedLength = 0;
+            while (!inflater.finished() && inflatedLength < plain.length) {
+                final int inflated = inflater.inflate(plain, inflatedLength, plain.length - inflatedLength);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                inflatedLength += inflated;
+            }
+            if (inflatedLength != plain.length) {
+                throw JsonParseException.newBuilder()
+                        .message(MessageFormat.format("Expected <{0}> uncompressed bytes but got <{1}>.",
+                                plain.length, inflatedLength))
+                        .build();
+            }
+        } catch (final DataFormatException e) {
+            throw JsonParseException.newBuilder()
+                    .message("The compressed message is corrupt.")
+                    .cause(e)
+                    .build();
+        }
+        return ByteBuffer.wrap(plain);
+    }
+
+}
@@ -47,7 +47,10 @@ public final class JsonJsonifiableSerializer extends AbstractJsonifiableWithDitt
 
     @Override
     protected JsonValue deserializeFromByteBuffer(final ByteBuffer byteBuffer) {
-        String json = CHARSET.decode(byteBuffer).toString();
+        final String json = CHARSET.decode(byteBuffer).toString();
+        if (isLazyDeserialization() && json.startsWith("{")) {
+            return JsonFactory.newObjectLazily(json);
+        }
         return JsonFactory.readFrom(json);
     }
 }
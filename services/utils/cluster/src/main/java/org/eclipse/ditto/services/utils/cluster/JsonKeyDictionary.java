@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonKey;
+
+/**
+ * Static dictionary of the header names and JSON field names which occur in most messages between cluster nodes.
+ * The {@link DictionaryJsonifiableSerializer} writes the keys contained in the dictionary as their indexes.
+ * <p>
+ * The indexes are part of the wire format. Keys may therefore only be appended to the dictionary; existing keys must
+ * neither be removed nor reordered.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+@Immutable
+final class JsonKeyDictionary {
+
+    private static final List<String> KEYS = List.of(
+            // envelope of the serializer
+            "dittoHeaders",
+            "payload",
+
+            // Ditto headers
+            "ditto-auth-context",
+            "correlation-id",
+            "version",
+            "response-required",
+            "ditto-dry-run",
+            "ditto-read-subjects",
+            "ditto-read-revoked-subjects",
+            "content-type",
+            "reply-to",
+            "ditto-channel",
+            "ditto-origin",
+            "etag",
+            "if-match",
+            "if-none-match",
+            "ditto-reply-target",
+            "ditto-expected-response-types",
+            "ditto-inbound-payload-mapper",
+            "ditto-originator",
+            "requested-acks",
+            "timeout",
+            "ditto-entity-id",
+            "www-authenticate",
+            "location",
+            "ditto-connection-id",
+            "put-metadata",
+            "allow-policy-lockout",
+
+            // signals and their entities
+            "type",
+            "status",
+            "revision",
+            "timestamp",
+            "path",
+            "value",
+            "id",
+            "entityId",
+            "entityType",
+            "namespace",
+            "thingId",
+            "thing",
+            "policyId",
+            "policy",
+            "attributes",
+            "attribute",
+            "features",
+            "feature",
+            "featureId",
+            "definition",
+            "properties",
+            "desiredProperties",
+            "property",
+            "_revision",
+            "_modified",
+            "_created",
+            "_namespace",
+            "_policy",
+            "_metadata",
+            "__lifecycle",
+            "label",
+            "entries",
+            "subjects",
+            "subject",
+            "subjectId",
+            "resources",
+            "resource",
+            "resourceKey",
+            "grant",
+            "revoke",
+            "connectionId",
+            "connection",
+            "authorizationContext",
+            "subscriptionId",
+            "acknowledgements",
+            "headers",
+
+            // search and sudo commands
+            "filter",
+            "options",
+            "namespaces",
+            "selectedFields",
+            "thingIds",
+            "things",
+            "items",
+            "nextPageOffset",
+            "cursor",
+            "count",
+
+            // errors
+            "error",
+            "message",
+            "description",
+            "href"
+    );
+
+    private static final JsonKey[] JSON_KEYS;
+    private static final Map<String, Integer> INDEXES;
+
+    static {
+        JSON_KEYS = new JsonKey[KEYS.size()];
+        INDEXES = new HashMap<>();
+        for (int i = 0; i < KEYS.size(); i++) {
+            JSON_KEYS[i] = JsonFactory.newKey(KEYS.get(i));
+            INDEXES.put(KEYS.get(i), i);
+        }
+    }
+
+    private JsonKeyDictionary() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Returns the index of a key.
+     *
+     * @param key the key.
+     * @return the index of the key or {@code -1} if the key is not in the dictionary.
+     */
+    static int indexOf(final String key) {
+        @Nullable final Integer index = INDEXES.get(key);
+        return null != index ? index : -1;
+    }
+
+    /**
+     * Returns the key at an index.
+     *
+     * @param index the index.
+     * @return the key or {@code null} if the index is not in the dictionary.
+     */
+    @Nullable
+    static JsonKey getKey(final int index) {
+        return index >= 0 && index < JSON_KEYS.length ? JSON_KEYS[index] : null;
+    }
+
+}
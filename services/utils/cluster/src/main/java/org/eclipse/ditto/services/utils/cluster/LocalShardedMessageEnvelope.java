@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.entity.id.EntityId;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
+import org.eclipse.ditto.model.base.headers.WithManifest;
+import org.eclipse.ditto.model.base.json.Jsonifiable;
+import org.eclipse.ditto.signals.base.ShardedMessageEnvelope;
+import org.eclipse.ditto.signals.base.WithId;
+
+/**
+ * Variant of {@link ShardedMessageEnvelope} which carries its message as object instead of JSON. The
+ * {@link ShardRegionExtractor} delivers the message as it is if the envelope reaches its shard on the same cluster
+ * node. The message is converted to JSON only if the envelope is serialized for another cluster node, where it is
+ * deserialized as {@code ShardedMessageEnvelope}.
+ *
+ * @param <J> the type of the message.
+ * @since 2.0.0
+ */
+@Immutable
+public final class LocalShardedMessageEnvelope<J extends Jsonifiable<?>>
+        implements Jsonifiable<JsonObject>, WithDittoHeaders<LocalShardedMessageEnvelope<J>>, WithId, WithManifest {
+
+    private final EntityId id;
+    private final String type;
+    private final J message;
+    private final Function<? super J, JsonObject> toJson;
+    private final DittoHeaders dittoHeaders;
+
+    private LocalShardedMessageEnvelope(final EntityId id,
+            final String type,
+            final J message,
+            final Function<? super J, JsonObject> toJson,
+            final DittoHeaders dittoHeaders) {
+
+        this.id = checkNotNull(id, "Message ID");
+        this.type = checkNotNull(type, "Type");
+        this.message = checkNotNull(message, "Message");
+        this.toJson = checkNotNull(toJson, "toJson");
+        this.dittoHeaders = checkNotNull(dittoHeaders, "Command Headers");
+    }
+
+    /**
+     * Returns a new {@code LocalShardedMessageEnvelope}.
+     *
+     * @param id the identifier.
+     * @param type the type of the message by which the receiving cluster node parses the JSON of the message.
+     * @param message the message.
+     * @param toJson the function to convert the message to JSON with if the envelope is sent to another cluster node.
+     * @param dittoHeaders the command headers.
+     * @param <J> the type of the message.
+     * @return the LocalShardedMessageEnvelope.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static <J extends Jsonifiable<?>> LocalShardedMessageEnvelope<J> of(final EntityId id,
+            final String type,
+            final J message,
+            final Function<? super J, JsonObject> toJson,
+            final DittoHeaders dittoHeaders) {
+
+        return new LocalShardedMessageEnvelope<>(id, type, message, toJson, dittoHeaders);
+    }
+
+    @Override
+    public EntityId getEntityId() {
+        return id;
+    }
+
+    /**
+     * Returns the type of the message.
+     *
+     * @return the type of the message.
+     */
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * Returns the message of the envelope.
+     *
+     * @return the message of the envelope.
+     */
+    public J getMessage() {
+        return message;
+    }
+
+    @Override
+    public DittoHeaders getDittoHeaders() {
+        return dittoHeaders;
+    }
+
+    @Override
+    public LocalShardedMessageEnvelope<J> setDittoHeaders(final DittoHeaders dittoHeaders) {
+        return of(id, type, message, toJson, dittoHeaders);
+    }
+
+    /**
+     * Converts this envelope to a {@code ShardedMessageEnvelope} with the message as JSON.
+     *
+     * @return the ShardedMessageEnvelope.
+     */
+    public ShardedMessageEnvelope toShardedMessageEnvelope() {
+        return ShardedMessageEnvelope.of(id, type, toJson.apply(message), dittoHeaders);
+    }
+
+    /**
+     * Returns the manifest of {@code ShardedMessageEnvelope} so that other cluster nodes deserialize this envelope as
+     * {@code ShardedMessageEnvelope}.
+     *
+     * @return the manifest.
+     */
+    @Override
+    public String getManifest() {
+        return ShardedMessageEnvelope.class.getSimpleName();
+    }
+
+    @Override
+    public JsonObject toJson() {
+        return toShardedMessageEnvelope().toJson();
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final LocalShardedMessageEnvelope<?> that = (LocalShardedMessageEnvelope<?>) o;
+        return Objects.equals(id, that.id) && Objects.equals(type, that.type) && Objects.equals(message, that.message)
+                && Objects.equals(dittoHeaders, that.dittoHeaders);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, type, message, dittoHeaders);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" + "id=" + id + ", type=" + type + ", message=" + message
+                + ", dittoHeaders=" + dittoHeaders + "]";
+    }
+
+}
@@ -25,6 +25,8 @@ import javax.annotation.Nullable;
 
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.model.base.json.Jsonifiable;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
 import org.eclipse.ditto.signals.base.JsonParsable;
 import org.eclipse.ditto.signals.base.ShardedMessageEnvelope;
 import org.eclipse.ditto.signals.base.WithId;
@@ -38,6 +40,13 @@ import akka.cluster.sharding.ShardRegion;
  */
 public final class ShardRegionExtractor implements ShardRegion.MessageExtractor {
 
+    private static final String ENVELOPES_METRIC_NAME = "sharded_message_envelopes";
+    private static final String DELIVERY_TAG = "delivery";
+    private static final Counter LOCAL_ENVELOPES_COUNTER =
+            DittoMetrics.counter(ENVELOPES_METRIC_NAME).tag(DELIVERY_TAG, "local");
+    private static final Counter REMOTE_ENVELOPES_COUNTER =
+            DittoMetrics.counter(ENVELOPES_METRIC_NAME).tag(DELIVERY_TAG, "remote");
+
     private final int numberOfShards;
     private final MappingStrategies mappingStrategies;
 
@@ -88,10 +97,16 @@ public final class ShardRegionExtractor implements ShardRegion.MessageExtractor
         if (message instanceof JsonObject) {
             // message was sent from another cluster node and therefor is serialized as json
             final ShardedMessageEnvelope shardedMessageEnvelope = ShardedMessageEnvelope.fromJson((JsonObject) message);
+            REMOTE_ENVELOPES_COUNTER.increment();
             entity = createJsonifiableFrom(shardedMessageEnvelope);
         } else if (message instanceof ShardedMessageEnvelope) {
-            // message was sent from the same cluster node
+            // message was either sent from another cluster node or wrapped as JSON on the same cluster node
+            REMOTE_ENVELOPES_COUNTER.increment();
             entity = createJsonifiableFrom((ShardedMessageEnvelope) message);
+        } else if (message instanceof LocalShardedMessageEnvelope) {
+            // message was sent from the same cluster node and needs no parsing
+            LOCAL_ENVELOPES_COUNTER.increment();
+            entity = ((LocalShardedMessageEnvelope<?>) message).getMessage();
         } else {
             entity = message;
         }
@@ -99,19 +114,31 @@ public final class ShardRegionExtractor implements ShardRegion.MessageExtractor
         return entity;
     }
 
-    @SuppressWarnings({"squid:S2676"})
     @Override
     public String shardId(final Object message) {
         final String entityId = entityId(message);
         if (entityId != null) {
-            final int hashcode = entityId.hashCode();
-            // make sure not to negate Integer.MIN_VALUE because -Integer.MIN_VALUE == Integer.MIN_VALUE < 0.
-            final int nonNegativeHashcode = hashcode == Integer.MIN_VALUE ? 0 : Math.abs(hashcode);
-            return Integer.toString(nonNegativeHashcode % numberOfShards);
+            return getShardId(entityId, numberOfShards);
         }
         return null;
     }
 
+    /**
+     * Compute the ID of the shard an entity belongs to. Messages for the entity are routed to this shard by every
+     * {@code ShardRegionExtractor} with the same number of shards.
+     *
+     * @param entityId the ID of the entity.
+     * @param numberOfShards the amount of shards.
+     * @return the shard ID.
+     */
+    @SuppressWarnings({"squid:S2676"})
+    public static String getShardId(final CharSequence entityId, final int numberOfShards) {
+        final int hashcode = entityId.toString().hashCode();
+        // make sure not to negate Integer.MIN_VALUE because -Integer.MIN_VALUE == Integer.MIN_VALUE < 0.
+        final int nonNegativeHashcode = hashcode == Integer.MIN_VALUE ? 0 : Math.abs(hashcode);
+        return Integer.toString(nonNegativeHashcode % numberOfShards);
+    }
+
     /**
      * Get shard IDs that are not active.
      *
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.NotSerializableException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Map;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.things.Attributes;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.signals.base.GlobalErrorRegistry;
+import org.eclipse.ditto.signals.commands.base.GlobalCommandRegistry;
+import org.eclipse.ditto.signals.commands.things.modify.CreateThing;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ExtendedActorSystem;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Unit test for {@link DictionaryJsonifiableSerializer}.
+ */
+public final class DictionaryJsonifiableSerializerTest {
+
+    private static final DittoHeaders DITTO_HEADERS = DittoHeaders.newBuilder()
+            .correlationId("correlationId")
+            .responseRequired(true)
+            .build();
+
+    private static ExtendedActorSystem actorSystem;
+    private static ExtendedActorSystem actorSystemWithoutCompression;
+
+    @BeforeClass
+    public static void setUpClass() {
+        actorSystem = createActorSystem(Map.of());
+        actorSystemWithoutCompression =
+                createActorSystem(Map.of("akka.actor.serializers-dictionary.compression-enabled", false));
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+        TestKit.shutdownActorSystem(actorSystem);
+        TestKit.shutdownActorSystem(actorSystemWithoutCompression);
+    }
+
+    @Test
+    public void jsonValuesSurviveRoundTrip() {
+        final JsonObject jsonObject = JsonObject.newBuilder()
+                .set("thingId", "org.eclipse.ditto:thing")
+                .set(JsonFactory.newField(JsonFactory.newKey("unknown/key"), JsonFactory.newValue("ünïcødé ✓")))
+                .set("int", -42)
+                .set("long", Long.MIN_VALUE)
+                .set("double", 5.0)
+                .set("fraction", -0.125)
+                .set("boolean", true)
+                .set("null", JsonFactory.nullLiteral())
+                .set("emptyObject", JsonObject.empty())
+                .set("attributes", JsonObject.newBuilder().set("nested", JsonArray.newBuilder().add(1).add("two").add(false).build()).build())
+                .build();
+
+        final JsonValue deserialized = roundTrip(new DictionaryJsonifiableSerializer(actorSystem), jsonObject);
+
+        assertThat(deserialized).isEqualTo(jsonObject);
+        assertThat(deserialized.toString()).isEqualTo(jsonObject.toString());
+    }
+
+    @Test
+    public void signalsAreSmallerThanWithCbor() {
+        final CreateThing createThing = CreateThing.of(Thing.newBuilder()
+                .setId(ThingId.of("org.eclipse.ditto:thing"))
+                .setAttributes(Attributes.newBuilder().set("location", "kitchen").build())
+                .build(), null, DITTO_HEADERS);
+
+        final byte[] dictionaryBytes = new DictionaryJsonifiableSerializer(actorSystem).toBinary(createThing);
+        final byte[] cborBytes = new CborJsonifiableSerializer(actorSystem).toBinary(createThing);
+
+        assertThat(dictionaryBytes.length).isLessThan(cborBytes.length);
+    }
+
+    @Test
+    public void bigMessagesAreCompressed() {
+        final JsonObject jsonObject = createBigObject();
+        final DictionaryJsonifiableSerializer underTest = new DictionaryJsonifiableSerializer(actorSystem);
+
+        final ByteBuffer byteBuffer = serialize(underTest, jsonObject);
+
+        assertThat(byteBuffer.get(0)).isEqualTo((byte) 2);
+        assertThat(byteBuffer.remaining()).isLessThan(1024);
+        assertThat(underTest.deserializeFromByteBuffer(byteBuffer)).isEqualTo(jsonObject);
+    }
+
+    @Test
+    public void compressionCanBeDisabled() {
+        final JsonObject jsonObject = createBigObject();
+        final DictionaryJsonifiableSerializer underTest =
+                new DictionaryJsonifiableSerializer(actorSystemWithoutCompression);
+
+        final ByteBuffer byteBuffer = serialize(underTest, jsonObject);
+
+        assertThat(byteBuffer.get(0)).isEqualTo((byte) 1);
+        assertThat(underTest.deserializeFromByteBuffer(byteBuffer)).isEqualTo(jsonObject);
+    }
+
+    @Test
+    public void truncatedMessageIsNotSerializable() {
+        final CreateThing createThing = CreateThing.of(Thing.newBuilder()
+                .setId(ThingId.of("org.eclipse.ditto:thing"))
+                .build(), null, DITTO_HEADERS);
+        final DictionaryJsonifiableSerializer underTest = new DictionaryJsonifiableSerializer(actorSystem);
+        final byte[] bytes = underTest.toBinary(createThing);
+
+        final Object deserialized =
+                underTest.fromBinary(Arrays.copyOf(bytes, bytes.length / 2), underTest.manifest(createThing));
+
+        assertThat(deserialized).isInstanceOf(NotSerializableException.class);
+    }
+
+    private static JsonValue roundTrip(final DictionaryJsonifiableSerializer underTest, final JsonObject jsonObject) {
+        return underTest.deserializeFromByteBuffer(serialize(underTest, jsonObject));
+    }
+
+    private static ByteBuffer serialize(final DictionaryJsonifiableSerializer underTest,
+            final JsonObject jsonObject) {
+
+        final ByteBuffer byteBuffer = ByteBuffer.allocate(64 * 1024);
+        underTest.serializeIntoByteBuffer(jsonObject, byteBuffer);
+        byteBuffer.flip();
+        return byteBuffer;
+    }
+
+    private static JsonObject createBigObject() {
+        final JsonObject feature = JsonObject.newBuilder()
+                .set("properties", JsonObject.newBuilder().set("temperature", 21.5).set("unit", "celsius").build())
+                .build();
+        final JsonObjectBuilder features = JsonObject.newBuilder();
+        for (int i = 0; i < 200; i++) {
+            features.set("sensor-" + i, feature);
+        }
+        return JsonObject.newBuilder().set("features", features.build()).build();
+    }
+
+    private static ExtendedActorSystem createActorSystem(final Map<String, Object> config) {
+        final Config cfg = ConfigFactory.parseMap(config)
+                .withFallback(ConfigFactory.parseMap(
+                        Map.of("ditto.mapping-strategy.implementation", CommandsStrategy.class.getName())));
+        return (ExtendedActorSystem) ExtendedActorSystem.create("DictionaryJsonifiableSerializerTest", cfg);
+    }
+
+    private static final class CommandsStrategy extends MappingStrategies {
+
+        CommandsStrategy() {
+            super(MappingStrategiesBuilder.newInstance()
+                    .add(GlobalErrorRegistry.getInstance())
+                    .add(GlobalCommandRegistry.getInstance())
+                    .build());
+        }
+
+    }
+
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
+import org.eclipse.ditto.model.base.auth.DittoAuthorizationContextType;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.model.things.Feature;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingBuilder;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.signals.base.GlobalErrorRegistry;
+import org.eclipse.ditto.signals.commands.base.GlobalCommandRegistry;
+import org.eclipse.ditto.signals.commands.things.modify.CreateThing;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ExtendedActorSystem;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * JMH Benchmark comparing {@link DictionaryJsonifiableSerializer} with {@link CborJsonifiableSerializer} for a small
+ * and a big {@code CreateThing} command.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonifiableSerializerBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    private static final DittoHeaders DITTO_HEADERS = DittoHeaders.newBuilder()
+            .authorizationContext(AuthorizationContext.newInstance(DittoAuthorizationContextType.PRE_AUTHENTICATED_HTTP,
+                    AuthorizationSubject.newInstance("nginx:ditto")))
+            .correlationId("e4ab2b0c-0fbb-4d0f-9b8f-f3a1ee8d0e2c")
+            .schemaVersion(JsonSchemaVersion.LATEST)
+            .responseRequired(true)
+            .contentType("application/json")
+            .build();
+
+    @Param({"CBOR", "DICTIONARY"})
+    public String serializerName;
+
+    @Param({"1", "100"})
+    public int features;
+
+    private ExtendedActorSystem actorSystem;
+    private AbstractJsonifiableWithDittoHeadersSerializer serializer;
+    private CreateThing createThing;
+    private String manifest;
+    private byte[] bytes;
+
+    @Setup
+    public void setUp() {
+        actorSystem = (ExtendedActorSystem) ExtendedActorSystem.create("JsonifiableSerializerBenchmark",
+                ConfigFactory.parseMap(Map.of("ditto.mapping-strategy.implementation",
+                        CommandsStrategy.class.getName())));
+        serializer = "CBOR".equals(serializerName)
+                ? new CborJsonifiableSerializer(actorSystem)
+                : new DictionaryJsonifiableSerializer(actorSystem);
+
+        final ThingBuilder.FromScratch thingBuilder = Thing.newBuilder()
+                .setId(ThingId.of("org.eclipse.ditto:benchmark-thing"))
+                .setAttributes(JsonObject.newBuilder()
+                        .set("manufacturer", "ACME")
+                        .set("location", JsonObject.newBuilder().set("latitude", 47.68).set("longitude", 9.38).build())
+                        .build());
+        for (int i = 0; i < features; i++) {
+            thingBuilder.setFeature(Feature.newBuilder()
+                    .properties(JsonObject.newBuilder()
+                            .set("value", 21.5 + i)
+                            .set("unit", "celsius")
+                            .set("lastUpdate", "2021-02-15T09:30:00Z")
+                            .build())
+                    .withId("sensor-" + i)
+                    .build());
+        }
+        createThing = CreateThing.of(thingBuilder.build(), null, DITTO_HEADERS);
+        manifest = serializer.manifest(createThing);
+        bytes = serializer.toBinary(createThing);
+    }
+
+    @TearDown
+    public void tearDown() {
+        TestKit.shutdownActorSystem(actorSystem);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public byte[] serialize() {
+        return serializer.toBinary(createThing);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public Object deserialize() {
+        return serializer.fromBinary(bytes, manifest);
+    }
+
+    private static final class CommandsStrategy extends MappingStrategies {
+
+        CommandsStrategy() {
+            super(MappingStrategiesBuilder.newInstance()
+                    .add(GlobalErrorRegistry.getInstance())
+                    .add(GlobalCommandRegistry.getInstance())
+                    .build());
+        }
+
+    }
+
+}
@@ -115,4 +115,42 @@ public final class ShardRegionExtractorTest {
         assertThat(actual).isEqualTo(errorResponse);
     }
 
+    @Test
+    public void deliverLocalThingCommandWithoutParsing() {
+        final Thing thing = Thing.newBuilder().setId(THING_ID).build();
+        final CreateThing createThing = CreateThing.of(thing, null, dittoHeaders);
+        final LocalShardedMessageEnvelope<CreateThing> localMessageEnvelope =
+                LocalShardedMessageEnvelope.of(THING_ID, createThing.getType(), createThing,
+                        command -> command.toJson(JsonSchemaVersion.V_2, FieldType.regularOrSpecial()),
+                        createThing.getDittoHeaders());
+
+        final Object actual = underTest.entityMessage(localMessageEnvelope);
+
+        assertThat(actual).isSameAs(createThing);
+    }
+
+    @Test
+    public void localAndSerializedEnvelopesGoToSameShard() {
+        final Thing thing = Thing.newBuilder().setId(THING_ID).build();
+        final CreateThing createThing = CreateThing.of(thing, null, dittoHeaders);
+        final LocalShardedMessageEnvelope<CreateThing> localMessageEnvelope =
+                LocalShardedMessageEnvelope.of(THING_ID, createThing.getType(), createThing,
+                        command -> command.toJson(JsonSchemaVersion.V_2, FieldType.regularOrSpecial()),
+                        createThing.getDittoHeaders());
+        final ShardedMessageEnvelope shardedMessageEnvelope = localMessageEnvelope.toShardedMessageEnvelope();
+
+        assertThat(underTest.entityId(localMessageEnvelope)).isEqualTo(underTest.entityId(shardedMessageEnvelope));
+        assertThat(underTest.shardId(localMessageEnvelope)).isEqualTo(underTest.shardId(shardedMessageEnvelope));
+        assertThat(underTest.entityMessage(shardedMessageEnvelope)).isEqualTo(createThing);
+    }
+
+    @Test
+    public void shardIdOfEntityIdEqualsShardIdOfMessage() {
+        final Thing thing = Thing.newBuilder().setId(THING_ID).build();
+        final CreateThing createThing = CreateThing.of(thing, null, dittoHeaders);
+
+        assertThat(ShardRegionExtractor.getShardId(THING_ID, NUMBER_OF_SHARDS))
+                .isEqualTo(underTest.shardId(createThing));
+    }
+
 }
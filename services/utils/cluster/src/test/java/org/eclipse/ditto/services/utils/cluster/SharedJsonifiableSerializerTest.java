@@ -51,7 +51,8 @@ import akka.actor.ExtendedActorSystem;
 import akka.testkit.javadsl.TestKit;
 
 /**
- * Unit test for {@link JsonJsonifiableSerializer} and {@link CborJsonifiableSerializer}.
+ * Unit test for {@link JsonJsonifiableSerializer}, {@link CborJsonifiableSerializer} and
+ * {@link DictionaryJsonifiableSerializer}.
  */
 @RunWith(Enclosed.class)
 public final class SharedJsonifiableSerializerTest {
@@ -69,6 +70,12 @@ public final class SharedJsonifiableSerializerTest {
             public AbstractJsonifiableWithDittoHeadersSerializer getInstance(final ExtendedActorSystem actorSystem) {
                 return new CborJsonifiableSerializer(actorSystem);
             }
+        },
+        DICTIONARY_JSONIFIABLE_SERIALIZER {
+            @Override
+            public AbstractJsonifiableWithDittoHeadersSerializer getInstance(final ExtendedActorSystem actorSystem) {
+                return new DictionaryJsonifiableSerializer(actorSystem);
+            }
         };
 
         abstract AbstractJsonifiableWithDittoHeadersSerializer getInstance(ExtendedActorSystem actorSystem);
@@ -177,6 +184,21 @@ public final class SharedJsonifiableSerializerTest {
             }
         }
 
+        @Test
+        public void localShardedMessageEnvelopeIsDeserializedAsShardedMessageEnvelope() {
+            final CreateThing createThing = CreateThing.of(thing, null, DITTO_HEADERS);
+            final LocalShardedMessageEnvelope<CreateThing> localMessageEnvelope =
+                    LocalShardedMessageEnvelope.of(thingId, createThing.getType(), createThing,
+                            command -> command.toJson(JsonSchemaVersion.V_2, FieldType.regularOrSpecial()),
+                            createThing.getDittoHeaders());
+
+            final byte[] serialized = underTest.toBinary(localMessageEnvelope);
+            final Object deserialized = underTest.fromBinary(serialized, underTest.manifest(localMessageEnvelope));
+
+            assertThat(deserialized).isInstanceOf(ShardedMessageEnvelope.class);
+            assertThat(((ShardedMessageEnvelope) deserialized).toJson()).isEqualTo(localMessageEnvelope.toJson());
+        }
+
         private static final class ThingCommandsStrategy extends MappingStrategies {
 
             ThingCommandsStrategy() {
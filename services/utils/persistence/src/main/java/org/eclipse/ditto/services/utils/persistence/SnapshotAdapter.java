@@ -12,6 +12,8 @@
  */
 package org.eclipse.ditto.services.utils.persistence;
 
+import java.util.OptionalLong;
+
 import javax.annotation.Nullable;
 
 import akka.persistence.SelectedSnapshot;
@@ -54,4 +56,42 @@ public interface SnapshotAdapter<T> {
     @Nullable
     T fromSnapshotStore(SelectedSnapshot selectedSnapshot);
 
+    /**
+     * Converts a "domain model snapshot" type to a delta snapshot which contains only the parts changed relative to
+     * a base snapshot. Adapters not supporting delta snapshots return the full snapshot.
+     *
+     * @param snapshot the domain model type to do a Snapshot for.
+     * @param baseSnapshot the domain model type of the base snapshot.
+     * @param baseSequenceNumber the sequence number of the base snapshot.
+     * @return the transformed Database type which should be persisted into Snapshot-Store.
+     */
+    default Object toDeltaSnapshotStore(final T snapshot, final T baseSnapshot, final long baseSequenceNumber) {
+        return toSnapshotStore(snapshot);
+    }
+
+    /**
+     * Returns the sequence number of the base snapshot of a "database snapshot" if it is a delta snapshot.
+     *
+     * @param rawSnapshot the snapshot as loaded from the database.
+     * @return the sequence number of the base snapshot, or an empty optional if {@code rawSnapshot} is a full
+     * snapshot.
+     */
+    default OptionalLong getBaseSequenceNumber(final Object rawSnapshot) {
+        return OptionalLong.empty();
+    }
+
+    /**
+     * Converts a "database delta snapshot" (directly loaded from the database) to a domain model snapshot type by
+     * applying it to its base snapshot. Adapters not supporting delta snapshots never write them and convert the
+     * offered snapshot as a full snapshot.
+     *
+     * @param deltaSnapshotOffer the SnapshotOffer as offered from Akka Persistence including the db delta snapshot.
+     * @param baseSnapshot the domain model type of the base snapshot.
+     * @return the transformed domain model type or {@code null}.
+     */
+    @Nullable
+    default T fromDeltaSnapshotStore(final SnapshotOffer deltaSnapshotOffer, final T baseSnapshot) {
+        return fromSnapshotStore(deltaSnapshotOffer);
+    }
+
 }
@@ -14,6 +14,7 @@ package org.eclipse.ditto.services.utils.persistence.mongo;
 
 import java.util.function.Predicate;
 
+import org.bson.BsonDocument;
 import org.bson.BsonValue;
 import org.eclipse.ditto.json.JsonField;
 import org.eclipse.ditto.json.JsonObject;
@@ -67,7 +68,7 @@ public abstract class AbstractMongoEventAdapter<T extends Event> implements Even
             final JsonSchemaVersion schemaVersion = theEvent.getImplementedSchemaVersion();
             final JsonObject jsonObject =
                     theEvent.toJson(schemaVersion, IS_REVISION.negate().and(FieldType.regularOrSpecial()));
-            return DittoBsonJson.getInstance().parse(jsonObject);
+            return JsonObjectCodec.getInstance().toBsonDocument(jsonObject);
         } else {
             throw new IllegalArgumentException("Unable to toJournal a non-'Event' object! Was: " + event.getClass());
         }
@@ -75,7 +76,9 @@ public abstract class AbstractMongoEventAdapter<T extends Event> implements Even
 
     @Override
     public EventSeq fromJournal(final Object event, final String manifest) {
-        if (event instanceof BsonValue) {
+        if (event instanceof BsonDocument) {
+            return EventSeq.single(tryParseEvent(JsonObjectCodec.getInstance().fromBsonDocument((BsonDocument) event)));
+        } else if (event instanceof BsonValue) {
             return EventSeq.single(tryParseEvent(DittoBsonJson.getInstance().serialize((BsonValue) event)));
         } else {
             throw new IllegalArgumentException(
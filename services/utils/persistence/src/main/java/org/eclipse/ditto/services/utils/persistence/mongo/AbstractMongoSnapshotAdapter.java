@@ -15,14 +15,23 @@ package org.eclipse.ditto.services.utils.persistence.mongo;
 import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 
 import java.text.MessageFormat;
+import java.util.OptionalLong;
 
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
 
+import org.bson.BsonDocument;
 import org.bson.BsonValue;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonKey;
 import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
 import org.eclipse.ditto.json.JsonParseException;
+import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.exceptions.DittoJsonException;
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.model.base.json.FieldType;
@@ -35,6 +44,11 @@ import akka.persistence.SnapshotOffer;
 
 /**
  * Abstract implementation of a MongoDB specific {@link SnapshotAdapter} for a {@link Jsonifiable}.
+ * <p>
+ * A delta snapshot contains the top-level fields of the JSON representation which are no objects, the top-level
+ * objects which differ from the base snapshot, the keys of top-level fields removed since the base snapshot and the
+ * sequence number of the base snapshot.
+ * </p>
  *
  * @param <T> the jsonifiable type to snapshot.
  */
@@ -42,6 +56,14 @@ import akka.persistence.SnapshotOffer;
 public abstract class AbstractMongoSnapshotAdapter<T extends Jsonifiable.WithFieldSelectorAndPredicate<JsonField>>
         implements SnapshotAdapter<T> {
 
+    private static final String BASE_SEQUENCE_NUMBER_KEY = "__snapshotBase";
+    private static final String REMOVED_FIELDS_KEY = "__removedFields";
+
+    private static final JsonFieldDefinition<Long> BASE_SEQUENCE_NUMBER =
+            JsonFactory.newLongFieldDefinition(BASE_SEQUENCE_NUMBER_KEY);
+    private static final JsonFieldDefinition<JsonArray> REMOVED_FIELDS =
+            JsonFactory.newJsonArrayFieldDefinition(REMOVED_FIELDS_KEY);
+
     private final Logger logger;
 
     protected AbstractMongoSnapshotAdapter(final Logger logger) {
@@ -54,8 +76,68 @@ public abstract class AbstractMongoSnapshotAdapter<T extends Jsonifiable.WithFie
 
         onSnapshotStoreConversion(snapshotEntity, json);
 
-        final DittoBsonJson dittoBsonJson = DittoBsonJson.getInstance();
-        return dittoBsonJson.parse(json);
+        return JsonObjectCodec.getInstance().toBsonDocument(json);
+    }
+
+    @Override
+    public Object toDeltaSnapshotStore(final T snapshotEntity, final T baseSnapshotEntity,
+            final long baseSequenceNumber) {
+
+        final JsonObject json = convertToJson(checkNotNull(snapshotEntity, "snapshot entity"));
+        final JsonObject baseJson = convertToJson(checkNotNull(baseSnapshotEntity, "base snapshot entity"));
+
+        onSnapshotStoreConversion(snapshotEntity, json);
+
+        final JsonObjectBuilder deltaBuilder = JsonFactory.newObjectBuilder();
+        for (final JsonField field : json) {
+            final JsonValue value = field.getValue();
+            // non-object fields are small and may be read from the snapshot store directly
+            if (!value.isObject() || !baseJson.getValue(field.getKey()).filter(value::equals).isPresent()) {
+                deltaBuilder.set(field);
+            }
+        }
+        final JsonArray removedFields = baseJson.getKeys()
+                .stream()
+                .filter(key -> !json.contains(key))
+                .map(JsonKey::toString)
+                .map(JsonValue::of)
+                .collect(JsonCollectors.valuesToArray());
+        deltaBuilder.set(BASE_SEQUENCE_NUMBER, baseSequenceNumber)
+                .set(REMOVED_FIELDS, removedFields);
+
+        return JsonObjectCodec.getInstance().toBsonDocument(deltaBuilder.build());
+    }
+
+    @Override
+    public OptionalLong getBaseSequenceNumber(final Object rawSnapshot) {
+        if (rawSnapshot instanceof BsonDocument) {
+            final BsonValue baseSequenceNumber = ((BsonDocument) rawSnapshot).get(BASE_SEQUENCE_NUMBER_KEY);
+            if (baseSequenceNumber != null && baseSequenceNumber.isNumber()) {
+                return OptionalLong.of(baseSequenceNumber.asNumber().longValue());
+            }
+        }
+        return OptionalLong.empty();
+    }
+
+    @Override
+    @Nullable
+    public T fromDeltaSnapshotStore(final SnapshotOffer deltaSnapshotOffer, final T baseSnapshotEntity) {
+        final JsonObject delta = convertSnapshotEntityToJson(deltaSnapshotOffer.snapshot());
+        final JsonObjectBuilder builder = convertToJson(checkNotNull(baseSnapshotEntity, "base snapshot entity"))
+                .toBuilder();
+        delta.getValue(REMOVED_FIELDS)
+                .ifPresent(removedFields -> removedFields.stream()
+                        .filter(JsonValue::isString)
+                        .map(JsonValue::asString)
+                        .map(JsonKey::of)
+                        .forEach(builder::remove));
+        for (final JsonField field : delta) {
+            final String key = field.getKeyName();
+            if (!BASE_SEQUENCE_NUMBER_KEY.equals(key) && !REMOVED_FIELDS_KEY.equals(key)) {
+                builder.set(field);
+            }
+        }
+        return tryToCreateJsonifiableFrom(builder.build());
     }
 
     /**
@@ -124,9 +206,12 @@ public abstract class AbstractMongoSnapshotAdapter<T extends Jsonifiable.WithFie
      */
     private static JsonObject convertToJson(final BsonValue bsonValue) {
         checkNotNull(bsonValue, "BsonValue to be converted");
-        final DittoBsonJson dittoBsonJson = DittoBsonJson.getInstance();
-        final JsonObject jsonObject = dittoBsonJson.serialize(bsonValue).asObject();
-        return DittoJsonException.wrapJsonRuntimeException(() -> jsonObject);
+        return DittoJsonException.wrapJsonRuntimeException(() -> {
+            if (bsonValue instanceof BsonDocument) {
+                return JsonObjectCodec.getInstance().fromBsonDocument((BsonDocument) bsonValue);
+            }
+            return DittoBsonJson.getInstance().serialize(bsonValue).asObject();
+        });
     }
 
     @Nullable
@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.time.Instant;
+import java.util.function.Function;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonArrayBuilder;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonValue;
+
+/**
+ * MongoDB codec which writes a {@link JsonObject} directly to a {@link BsonWriter} and reads it directly from a
+ * {@link BsonReader} without building an intermediate tree of {@link org.bson.BsonValue}s. Like
+ * {@link DittoBsonJson}, it replaces dots {@code "."} and dollar signs {@code "$"} in JSON keys by their unicode
+ * representations when writing and vice versa when reading.
+ *
+ * @since 2.0.0
+ */
+@Immutable
+public final class JsonObjectCodec implements Codec<JsonObject> {
+
+    private static final JsonObjectCodec INSTANCE = new JsonObjectCodec(KeyNameReviser.escapeProblematicPlainChars(),
+            KeyNameReviser.decodeKnownUnicodeChars());
+
+    private static final EncoderContext ENCODER_CONTEXT = EncoderContext.builder().build();
+    private static final DecoderContext DECODER_CONTEXT = DecoderContext.builder().build();
+
+    private final Function<String, String> encodingKeyNameReviser;
+    private final Function<String, String> decodingKeyNameReviser;
+
+    private JsonObjectCodec(final Function<String, String> encodingKeyNameReviser,
+            final Function<String, String> decodingKeyNameReviser) {
+
+        this.encodingKeyNameReviser = encodingKeyNameReviser;
+        this.decodingKeyNameReviser = decodingKeyNameReviser;
+    }
+
+    /**
+     * Returns an instance of {@code JsonObjectCodec}.
+     *
+     * @return the instance.
+     */
+    public static JsonObjectCodec getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Encodes the specified {@link JsonObject} into a {@link RawBsonDocument} which is backed by the BSON bytes.
+     *
+     * @param jsonObject the JSON object to be encoded.
+     * @return the encoded JSON object.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     */
+    public RawBsonDocument toBsonDocument(final JsonObject jsonObject) {
+        return new RawBsonDocument(checkNotNull(jsonObject, "JSON object to be encoded"), this);
+    }
+
+    /**
+     * Decodes the specified {@link BsonDocument} into a {@link JsonObject}. A {@link RawBsonDocument} is decoded from
+     * its bytes.
+     *
+     * @param bsonDocument the BsonDocument to be decoded.
+     * @return the decoded BsonDocument.
+     * @throws NullPointerException if {@code bsonDocument} is {@code null}.
+     */
+    public JsonObject fromBsonDocument(final BsonDocument bsonDocument) {
+        checkNotNull(bsonDocument, "BsonDocument to be decoded");
+        if (bsonDocument instanceof RawBsonDocument) {
+            return ((RawBsonDocument) bsonDocument).decode(this);
+        }
+        try (final BsonDocumentReader reader = new BsonDocumentReader(bsonDocument)) {
+            return decode(reader, DECODER_CONTEXT);
+        }
+    }
+
+    @Override
+    public void encode(final BsonWriter writer, final JsonObject jsonObject, final EncoderContext encoderContext) {
+        writer.writeStartDocument();
+        for (final JsonField jsonField : jsonObject) {
+            writer.writeName(encodingKeyNameReviser.apply(jsonField.getKeyName()));
+            writeValue(writer, jsonField.getValue());
+        }
+        writer.writeEndDocument();
+    }
+
+    @Override
+    public JsonObject decode(final BsonReader reader, final DecoderContext decoderContext) {
+        return readObject(reader);
+    }
+
+    @Override
+    public Class<JsonObject> getEncoderClass() {
+        return JsonObject.class;
+    }
+
+    private void writeValue(final BsonWriter writer, final JsonValue jsonValue) {
+        if (jsonValue.isNull()) {
+            writer.writeNull();
+        } else if (jsonValue.isString()) {
+            writer.writeString(jsonValue.asString());
+        } else if (jsonValue.isNumber()) {
+            if (jsonValue.isInt()) {
+                writer.writeInt32(jsonValue.asInt());
+            } else if (jsonValue.isLong()) {
+                writer.writeInt64(jsonValue.asLong());
+            } else {
+                writer.writeDouble(jsonValue.asDouble());
+            }
+        } else if (jsonValue.isObject()) {
+            encode(writer, jsonValue.asObject(), ENCODER_CONTEXT);
+        } else if (jsonValue.isArray()) {
+            writer.writeStartArray();
+            for (final JsonValue element : jsonValue.asArray()) {
+                writeValue(writer, element);
+            }
+            writer.writeEndArray();
+        } else {
+            writer.writeBoolean(jsonValue.asBoolean());
+        }
+    }
+
+    private JsonObject readObject(final BsonReader reader) {
+        final JsonObjectBuilder builder = JsonFactory.newObjectBuilder();
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            final String keyName = decodingKeyNameReviser.apply(reader.readName());
+            builder.set(JsonFactory.newField(JsonFactory.newKey(keyName), readValue(reader)));
+        }
+        reader.readEndDocument();
+        return builder.build();
+    }
+
+    private JsonArray readArray(final BsonReader reader) {
+        final JsonArrayBuilder builder = JsonFactory.newArrayBuilder();
+        reader.readStartArray();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            builder.add(readValue(reader));
+        }
+        reader.readEndArray();
+        return builder.build();
+    }
+
+    private JsonValue readValue(final BsonReader reader) {
+        final JsonValue result;
+        switch (reader.getCurrentBsonType()) {
+            case STRING:
+                result = JsonFactory.newValue(reader.readString());
+                break;
+            case INT32:
+                result = JsonFactory.newValue(reader.readInt32());
+                break;
+            case INT64:
+                result = JsonFactory.newValue(reader.readInt64());
+                break;
+            case DOUBLE:
+                result = JsonFactory.newValue(reader.readDouble());
+                break;
+            case DOCUMENT:
+                result = readObject(reader);
+                break;
+            case ARRAY:
+                result = readArray(reader);
+                break;
+            case BOOLEAN:
+                result = JsonFactory.newValue(reader.readBoolean());
+                break;
+            case TIMESTAMP:
+                result = JsonFactory.newValue(Instant.ofEpochSecond(reader.readTimestamp().getTime()).toString());
+                break;
+            default:
+                // like DittoBsonJson, map null and all types without JSON representation to null
+                reader.skipValue();
+                result = JsonFactory.nullLiteral();
+        }
+        return result;
+    }
+
+}
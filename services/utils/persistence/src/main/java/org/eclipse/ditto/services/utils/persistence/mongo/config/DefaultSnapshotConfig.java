@@ -34,17 +34,25 @@ public final class DefaultSnapshotConfig implements SnapshotConfig {
 
     private final Duration interval;
     private final long threshold;
+    private final boolean snapshotOnPassivation;
+    private final boolean deltaEnabled;
+    private final long deltaThreshold;
 
     private DefaultSnapshotConfig(final ScopedConfig config) {
         interval = config.getDuration(SnapshotConfigValue.INTERVAL.getConfigPath());
-        threshold = getThreshold(config);
+        threshold = getPositiveLong(config, SnapshotConfigValue.THRESHOLD, "snapshot threshold");
+        snapshotOnPassivation = config.getBoolean(SnapshotConfigValue.ON_PASSIVATION.getConfigPath());
+        deltaEnabled = config.getBoolean(SnapshotConfigValue.DELTA_ENABLED.getConfigPath());
+        deltaThreshold = getPositiveLong(config, SnapshotConfigValue.DELTA_THRESHOLD, "delta snapshot threshold");
     }
 
-    private static long getThreshold(final ScopedConfig config) {
-        final long result = config.getLong(SnapshotConfigValue.THRESHOLD.getConfigPath());
+    private static long getPositiveLong(final ScopedConfig config, final SnapshotConfigValue configValue,
+            final String description) {
+
+        final long result = config.getLong(configValue.getConfigPath());
         if (1 > result) {
-            final String msgPattern = "The snapshot threshold must be positive but it was <{0}>!";
-            throw new DittoConfigError(MessageFormat.format(msgPattern, result));
+            final String msgPattern = "The {0} must be positive but it was <{1}>!";
+            throw new DittoConfigError(MessageFormat.format(msgPattern, description, result));
         }
         return result;
     }
@@ -71,6 +79,21 @@ public final class DefaultSnapshotConfig implements SnapshotConfig {
         return threshold;
     }
 
+    @Override
+    public boolean isSnapshotOnPassivation() {
+        return snapshotOnPassivation;
+    }
+
+    @Override
+    public boolean isDeltaEnabled() {
+        return deltaEnabled;
+    }
+
+    @Override
+    public long getDeltaThreshold() {
+        return deltaThreshold;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -80,12 +103,16 @@ public final class DefaultSnapshotConfig implements SnapshotConfig {
             return false;
         }
         final DefaultSnapshotConfig that = (DefaultSnapshotConfig) o;
-        return threshold == that.threshold && Objects.equals(interval, that.interval);
+        return threshold == that.threshold &&
+                snapshotOnPassivation == that.snapshotOnPassivation &&
+                deltaEnabled == that.deltaEnabled &&
+                deltaThreshold == that.deltaThreshold &&
+                Objects.equals(interval, that.interval);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(interval, threshold);
+        return Objects.hash(interval, threshold, snapshotOnPassivation, deltaEnabled, deltaThreshold);
     }
 
     @Override
@@ -93,6 +120,9 @@ public final class DefaultSnapshotConfig implements SnapshotConfig {
         return getClass().getSimpleName() + " [" +
                 "interval=" + interval +
                 ", threshold=" + threshold +
+                ", snapshotOnPassivation=" + snapshotOnPassivation +
+                ", deltaEnabled=" + deltaEnabled +
+                ", deltaThreshold=" + deltaThreshold +
                 "]";
     }
 
@@ -38,6 +38,30 @@ public interface SnapshotConfig {
      */
     long getThreshold();
 
+    /**
+     * Indicates whether to take a snapshot when the actor of an entity stops and events exist beyond the latest
+     * snapshot, so that the next recovery reads the snapshot only.
+     *
+     * @return whether to take a snapshot on passivation.
+     */
+    boolean isSnapshotOnPassivation();
+
+    /**
+     * Indicates whether to take delta snapshots which contain only the top-level fields of an entity changed
+     * relative to the latest full snapshot.
+     *
+     * @return whether delta snapshots are enabled.
+     */
+    boolean isDeltaEnabled();
+
+    /**
+     * Returns the threshold after how many changes to an entity since the latest full snapshot to take a full
+     * snapshot instead of a delta snapshot.
+     *
+     * @return the threshold.
+     */
+    long getDeltaThreshold();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code SnapshotConfig}.
@@ -52,7 +76,22 @@ public interface SnapshotConfig {
         /**
          * The threshold after how many changes to an entity to do a snapshot.
          */
-        THRESHOLD("threshold", 500L);
+        THRESHOLD("threshold", 500L),
+
+        /**
+         * Whether to take a snapshot when the actor of an entity stops and events exist beyond the latest snapshot.
+         */
+        ON_PASSIVATION("on-passivation", false),
+
+        /**
+         * Whether to take delta snapshots relative to the latest full snapshot.
+         */
+        DELTA_ENABLED("delta-enabled", false),
+
+        /**
+         * The threshold after how many changes since the latest full snapshot to take a full snapshot again.
+         */
+        DELTA_THRESHOLD("delta-threshold", 2000L);
 
         private final String path;
         private final Object defaultValue;
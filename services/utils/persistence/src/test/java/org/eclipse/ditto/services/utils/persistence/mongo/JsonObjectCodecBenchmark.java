@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo;
+
+import java.util.concurrent.TimeUnit;
+
+import org.bson.BsonDocument;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH Benchmark comparing {@link JsonObjectCodec} with {@link DittoBsonJson} for converting a thing snapshot to the
+ * BSON bytes written by the MongoDB driver and for converting a BSON document read by the driver back to JSON.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonObjectCodecBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    private static final BsonDocumentCodec BSON_DOCUMENT_CODEC = new BsonDocumentCodec();
+
+    @Param({"1", "100"})
+    public int features;
+
+    private JsonObject jsonObject;
+    private BsonDocument bsonDocument;
+    private RawBsonDocument rawBsonDocument;
+
+    @Setup
+    public void setUp() {
+        final JsonObjectBuilder featuresBuilder = JsonFactory.newObjectBuilder();
+        for (int i = 0; i < features; i++) {
+            featuresBuilder.set("sensor-" + i, JsonObject.newBuilder()
+                    .set("properties", JsonObject.newBuilder()
+                            .set("value", 21.5 + i)
+                            .set("unit", "celsius")
+                            .set("lastUpdate", "2021-02-15T09:30:00Z")
+                            .set(JsonFactory.newField(JsonFactory.newKey("org.eclipse.ditto"), JsonFactory.newValue(i)))
+                            .build())
+                    .build());
+        }
+        jsonObject = JsonObject.newBuilder()
+                .set("thingId", "org.eclipse.ditto:benchmark-thing")
+                .set("policyId", "org.eclipse.ditto:benchmark-thing")
+                .set("_revision", 42L)
+                .set("attributes", JsonObject.newBuilder().set("manufacturer", "ACME").build())
+                .set("features", featuresBuilder.build())
+                .build();
+        bsonDocument = DittoBsonJson.getInstance().parse(jsonObject);
+        rawBsonDocument = JsonObjectCodec.getInstance().toBsonDocument(jsonObject);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public RawBsonDocument encodeWithDittoBsonJson() {
+        return new RawBsonDocument(DittoBsonJson.getInstance().parse(jsonObject), BSON_DOCUMENT_CODEC);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public RawBsonDocument encodeWithJsonObjectCodec() {
+        return JsonObjectCodec.getInstance().toBsonDocument(jsonObject);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonObject decodeWithDittoBsonJson() {
+        return DittoBsonJson.getInstance().serialize(bsonDocument);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonObject decodeWithJsonObjectCodec() {
+        return JsonObjectCodec.getInstance().fromBsonDocument(bsonDocument);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonObject decodeBytesWithJsonObjectCodec() {
+        return JsonObjectCodec.getInstance().fromBsonDocument(rawBsonDocument);
+    }
+
+}
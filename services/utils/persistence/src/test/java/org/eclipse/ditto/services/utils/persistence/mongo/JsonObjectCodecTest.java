@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.bson.BsonDocument;
+import org.bson.BsonTimestamp;
+import org.bson.RawBsonDocument;
+import org.bson.types.ObjectId;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link JsonObjectCodec}.
+ */
+public final class JsonObjectCodecTest {
+
+    private static final JsonObject JSON_OBJECT = JsonObject.newBuilder()
+            .set("thingId", "org.eclipse.ditto:thing")
+            .set(JsonFactory.newField(JsonFactory.newKey("org.eclipse.ditto"), JsonFactory.newValue(42)))
+            .set(JsonFactory.newField(JsonFactory.newKey("$something"), JsonFactory.newValue("ünïcødé")))
+            .set("long", Long.MAX_VALUE)
+            .set("double", 5.0)
+            .set("fraction", -0.125)
+            .set("boolean", true)
+            .set("null", JsonFactory.nullLiteral())
+            .set("emptyObject", JsonObject.empty())
+            .set("attributes", JsonObject.newBuilder()
+                    .set(JsonFactory.newField(JsonFactory.newKey("a.b"), JsonArray.newBuilder()
+                            .add(1)
+                            .add("two")
+                            .add(JsonObject.newBuilder()
+                                    .set(JsonFactory.newField(JsonFactory.newKey("$c"), JsonFactory.newValue(false)))
+                                    .build())
+                            .build()))
+                    .build())
+            .build();
+
+    private final JsonObjectCodec underTest = JsonObjectCodec.getInstance();
+
+    @Test
+    public void encodesLikeDittoBsonJson() {
+        final RawBsonDocument encoded = underTest.toBsonDocument(JSON_OBJECT);
+
+        assertThat((BsonDocument) encoded).isEqualTo(DittoBsonJson.getInstance().parse(JSON_OBJECT));
+    }
+
+    @Test
+    public void decodesLikeDittoBsonJson() {
+        final BsonDocument bsonDocument = DittoBsonJson.getInstance().parse(JSON_OBJECT);
+
+        final JsonObject decoded = underTest.fromBsonDocument(bsonDocument);
+
+        assertThat(decoded).isEqualTo(DittoBsonJson.getInstance().serialize(bsonDocument));
+        assertThat(decoded).isEqualTo(JSON_OBJECT);
+    }
+
+    @Test
+    public void jsonObjectSurvivesRoundTripThroughBytes() {
+        final RawBsonDocument encoded = underTest.toBsonDocument(JSON_OBJECT);
+        final RawBsonDocument copy = new RawBsonDocument(encoded.getByteBuffer().array(), 0,
+                encoded.getByteBuffer().remaining());
+
+        assertThat(underTest.fromBsonDocument(copy)).isEqualTo(JSON_OBJECT);
+    }
+
+    @Test
+    public void decodesBsonTypesWithoutJsonRepresentation() {
+        final BsonDocument bsonDocument = new BsonDocument()
+                .append("timestamp", new BsonTimestamp(1613381400, 1))
+                .append("objectId", new org.bson.BsonObjectId(new ObjectId()));
+
+        final JsonObject decoded = underTest.fromBsonDocument(bsonDocument);
+
+        assertThat(decoded).isEqualTo(DittoBsonJson.getInstance().serialize(bsonDocument));
+        assertThat(decoded.getValue("timestamp")).contains(JsonFactory.newValue("2021-02-15T09:30:00Z"));
+    }
+
+}
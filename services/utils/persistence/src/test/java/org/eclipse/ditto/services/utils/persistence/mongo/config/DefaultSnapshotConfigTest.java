@@ -65,6 +65,15 @@ public final class DefaultSnapshotConfigTest {
         softly.assertThat(underTest.getThreshold())
                 .as(SnapshotConfig.SnapshotConfigValue.THRESHOLD.getConfigPath())
                 .isEqualTo(SnapshotConfig.SnapshotConfigValue.THRESHOLD.getDefaultValue());
+        softly.assertThat(underTest.isSnapshotOnPassivation())
+                .as(SnapshotConfig.SnapshotConfigValue.ON_PASSIVATION.getConfigPath())
+                .isEqualTo(SnapshotConfig.SnapshotConfigValue.ON_PASSIVATION.getDefaultValue());
+        softly.assertThat(underTest.isDeltaEnabled())
+                .as(SnapshotConfig.SnapshotConfigValue.DELTA_ENABLED.getConfigPath())
+                .isEqualTo(SnapshotConfig.SnapshotConfigValue.DELTA_ENABLED.getDefaultValue());
+        softly.assertThat(underTest.getDeltaThreshold())
+                .as(SnapshotConfig.SnapshotConfigValue.DELTA_THRESHOLD.getConfigPath())
+                .isEqualTo(SnapshotConfig.SnapshotConfigValue.DELTA_THRESHOLD.getDefaultValue());
     }
 
     @Test
@@ -77,5 +86,14 @@ public final class DefaultSnapshotConfigTest {
         softly.assertThat(underTest.getThreshold())
                 .as(SnapshotConfig.SnapshotConfigValue.THRESHOLD.getConfigPath())
                 .isEqualTo(2);
+        softly.assertThat(underTest.isSnapshotOnPassivation())
+                .as(SnapshotConfig.SnapshotConfigValue.ON_PASSIVATION.getConfigPath())
+                .isTrue();
+        softly.assertThat(underTest.isDeltaEnabled())
+                .as(SnapshotConfig.SnapshotConfigValue.DELTA_ENABLED.getConfigPath())
+                .isTrue();
+        softly.assertThat(underTest.getDeltaThreshold())
+                .as(SnapshotConfig.SnapshotConfigValue.DELTA_THRESHOLD.getConfigPath())
+                .isEqualTo(20);
     }
 }
@@ -103,6 +103,16 @@ public abstract class AbstractPersistenceSupervisor<E extends EntityId> extends
      */
     protected abstract DittoRuntimeExceptionBuilder<?> getUnavailableExceptionBuilder(@Nullable E entityId);
 
+    /**
+     * Create the behavior for messages which this actor handles itself instead of forwarding them to the persistence
+     * actor. By default, all messages except the control messages of the supervisor are forwarded.
+     *
+     * @return the behavior for messages handled by the supervisor while the persistence actor is active.
+     */
+    protected Receive activeBehaviour() {
+        return ReceiveBuilder.create().build();
+    }
+
     /**
      * Return a preferably static supervisor strategy for this actor. By default, child actor is stopped when killed
      * or failing, triggering restart after exponential back-off.
@@ -143,8 +153,11 @@ public abstract class AbstractPersistenceSupervisor<E extends EntityId> extends
                 .match(Terminated.class, this::childTerminated)
                 .matchEquals(Control.START_CHILD, this::startChild)
                 .matchEquals(Control.PASSIVATE, this::passivate)
-                .matchAny(this::forwardToChildIfAvailable)
-                .build());
+                .build()
+                .orElse(activeBehaviour())
+                .orElse(ReceiveBuilder.create()
+                        .matchAny(this::forwardToChildIfAvailable)
+                        .build()));
     }
 
     private void becomeCorrupted() {
@@ -13,6 +13,13 @@
 package org.eclipse.ditto.services.utils.persistentactors;
 
 import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
@@ -20,12 +27,17 @@ import javax.annotation.Nullable;
 
 import org.eclipse.ditto.model.base.acks.DittoAcknowledgementLabel;
 import org.eclipse.ditto.model.base.entity.id.EntityId;
+import org.eclipse.ditto.model.base.entity.id.EntityIdWithType;
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeExceptionBuilder;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.histogram.Histogram;
+import org.eclipse.ditto.services.utils.metrics.instruments.timer.PreparedTimer;
+import org.eclipse.ditto.services.utils.metrics.instruments.timer.StartedTimer;
 import org.eclipse.ditto.services.utils.persistence.SnapshotAdapter;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.ActivityCheckConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.SnapshotConfig;
@@ -37,17 +49,33 @@ import org.eclipse.ditto.signals.commands.base.Command;
 import org.eclipse.ditto.signals.events.base.Event;
 
 import akka.actor.ActorRef;
+import akka.japi.Pair;
 import akka.japi.pf.ReceiveBuilder;
 import akka.persistence.RecoveryCompleted;
 import akka.persistence.RecoveryTimedOut;
 import akka.persistence.SaveSnapshotFailure;
 import akka.persistence.SaveSnapshotSuccess;
+import akka.persistence.SelectedSnapshot;
 import akka.persistence.SnapshotOffer;
+import akka.persistence.SnapshotProtocol;
+import akka.persistence.SnapshotSelectionCriteria;
 import scala.Option;
 
 /**
  * PersistentActor which "knows" the state of a single entity supervised by a sharded
  * {@code AbstractPersistenceSupervisor}.
+ * <p>
+ * Subclasses may opt in to group commit by overriding {@link #isGroupCommitEnabled()}. In group-commit mode, the
+ * events of mutations are applied to the entity immediately so that subsequent commands see them, and all events
+ * created while a journal write is in flight are persisted together by the next journal write. Responses and
+ * published events are held back until the events they depend on are persisted.
+ * </p>
+ * <p>
+ * If enabled in the {@link SnapshotConfig}, a snapshot is taken when the actor stops with events newer than its
+ * latest snapshot, and snapshots are stored as deltas relative to the latest full snapshot until the delta threshold
+ * is reached. A delta snapshot is recovered by loading its base snapshot after the replay of the journal; messages
+ * arriving meanwhile are stashed. Cleanup never deletes the base snapshot of the latest delta snapshot.
+ * </p>
  *
  * @param <C> the base type of the Commands this actor handles
  * @param <S> the entity type this actor manages
@@ -62,10 +90,14 @@ public abstract class AbstractShardedPersistenceActor<
         K,
         E extends Event> extends AbstractPersistentActorWithTimersAndCleanup implements ResultVisitor<E> {
 
+    private static final String SNAPSHOT_TAG = "snapshot";
+
     private final SnapshotAdapter<S> snapshotAdapter;
     private final Receive handleEvents;
     private final Receive handleCleanups;
     private long lastSnapshotRevision;
+
+    // the revision up to which older snapshots and events may be cleaned up; the base of the latest delta snapshot
     private long confirmedSnapshotRevision;
 
     /**
@@ -81,6 +113,34 @@ public abstract class AbstractShardedPersistenceActor<
 
     private long accessCounter = 0L;
 
+    // the sequence number of the latest event applied to the entity, whether the journal confirmed it or not
+    private long currentRevision = 0L;
+
+    // group commit: events applied to the entity but not yet confirmed by the journal
+    private final Deque<UncommittedEvent<E, S>> inFlightEvents = new ArrayDeque<>();
+    private final Deque<DeferredResponse> deferredResponses = new ArrayDeque<>();
+    private List<UncommittedEvent<E, S>> unwrittenEvents = new ArrayList<>();
+    private long appliedEventCount = 0L;
+    private long persistedEventCount = 0L;
+    @Nullable private S committedEntity;
+    @Nullable private Histogram groupCommitBatchSize;
+    @Nullable private PreparedTimer groupCommitLatency;
+    @Nullable private StartedTimer inFlightBatchTimer;
+
+    // delta snapshots: the latest confirmed full snapshot, the full snapshot being saved and the bases of deltas
+    @Nullable private S baseSnapshotEntity;
+    private long baseSnapshotRevision = 0L;
+    @Nullable private S unconfirmedBaseSnapshotEntity;
+    private long unconfirmedBaseSnapshotRevision = 0L;
+    private final Map<Long, Long> baseRevisionsOfUnconfirmedSnapshots = new HashMap<>();
+
+    // recovery from a delta snapshot: the delta and the events replayed after it until its base is loaded
+    @Nullable private SnapshotOffer recoveredDeltaSnapshot;
+    private final List<Pair<E, Long>> eventsAfterDeltaSnapshot = new ArrayList<>();
+    private boolean recovered = false;
+    private boolean persistFailed = false;
+    private final StartedTimer recoveryTimer;
+
     /**
      * Instantiate the actor.
      *
@@ -95,8 +155,16 @@ public abstract class AbstractShardedPersistenceActor<
         lastSnapshotRevision = 0L;
         confirmedSnapshotRevision = 0L;
 
+        recoveryTimer = DittoMetrics.timer("persistence_recovery_time")
+                .tag("entity_type", getEntityType(entityId))
+                .tag(SNAPSHOT_TAG, "none")
+                .start();
+
         handleEvents = ReceiveBuilder.create()
-                .match(getEventClass(), event -> entity = getEventStrategy().handle(event, entity, getRevisionNumber()))
+                .match(getEventClass(), event -> {
+                    currentRevision = lastSequenceNr();
+                    entity = getEventStrategy().handle(event, entity, currentRevision);
+                })
                 .build();
 
         handleCleanups = super.createReceive();
@@ -173,6 +241,31 @@ public abstract class AbstractShardedPersistenceActor<
      */
     protected abstract JsonSchemaVersion getEntitySchemaVersion(S entity);
 
+    /**
+     * Publish an event on behalf of the sender of the command which caused it. Overridable in subclasses which use
+     * the sender when publishing; in group-commit mode, {@link #getSender()} is not the sender of the command when
+     * the event is published.
+     *
+     * @param event the event.
+     * @param sender the sender of the command which caused the event.
+     * @since 2.0.0
+     */
+    protected void publishEvent(final E event, final ActorRef sender) {
+        publishEvent(event);
+    }
+
+    /**
+     * Whether events of mutations are persisted in groups: all events created while a journal write is in flight
+     * are persisted by one subsequent journal write. Disabled by default. The value must not change during the
+     * lifetime of the actor.
+     *
+     * @return whether group commit is enabled.
+     * @since 2.0.0
+     */
+    protected boolean isGroupCommitEnabled() {
+        return false;
+    }
+
     /**
      * Callback at the end of recovery. Overridable in subclasses.
      *
@@ -199,12 +292,20 @@ public abstract class AbstractShardedPersistenceActor<
      * @return the current revision number for event handling.
      */
     protected long getRevisionNumber() {
-        return lastSequenceNr();
+        // events applied in group-commit mode count although the journal did not confirm them yet
+        return currentRevision;
     }
 
     @Override
     public void postStop() throws Exception {
         log.debug("Stopping PersistenceActor for entity with ID <{}>.", entityId);
+        if (recoveryTimer.isRunning()) {
+            recoveryTimer.tag("success", false).stop();
+        } else if (recovered && !persistFailed && !hasUncommittedEvents() &&
+                getSnapshotConfig().isSnapshotOnPassivation() && lastSnapshotRevision < getRevisionNumber()) {
+            // covers passivation after inactivity as well as shard hand-off; never after a failed journal write
+            takeSnapshot("the actor is stopped");
+        }
         super.postStop();
     }
 
@@ -221,7 +322,11 @@ public abstract class AbstractShardedPersistenceActor<
     @Override
     public Receive createReceiveRecover() {
         // defines how state is updated during recovery
-        return handleEvents.orElse(ReceiveBuilder.create()
+        return ReceiveBuilder.create()
+                .match(getEventClass(), event -> null != recoveredDeltaSnapshot, this::deferUntilBaseSnapshotIsLoaded)
+                .build()
+                .orElse(handleEvents)
+                .orElse(ReceiveBuilder.create()
                 // # Snapshot handling
                 .match(SnapshotOffer.class, ss -> {
                     log.debug("Got SnapshotOffer: {}", ss);
@@ -232,7 +337,7 @@ public abstract class AbstractShardedPersistenceActor<
                         log.warning("RecoveryTimeout occurred during recovery for entity with ID {}", entityId)
                 )
                 // # Recovery handling
-                .match(RecoveryCompleted.class, this::recoveryCompleted)
+                .match(RecoveryCompleted.class, this::handleRecoveryCompleted)
                 .matchAny(m -> log.warning("Unknown recover message: {}", m))
                 .build());
     }
@@ -277,17 +382,7 @@ public abstract class AbstractShardedPersistenceActor<
      */
     protected void persistAndApplyEvent(final E event, final BiConsumer<E, S> handler) {
 
-        final E modifiedEvent;
-        if (null != entity) {
-            // set version of event to the version of the entity
-            final DittoHeaders newHeaders = event.getDittoHeaders().toBuilder()
-                    .schemaVersion(getEntitySchemaVersion(entity))
-                    .build();
-            modifiedEvent = (E) event.setDittoHeaders(newHeaders);
-        } else {
-            modifiedEvent = event;
-        }
-
+        final E modifiedEvent = setEntitySchemaVersion(event);
         if (modifiedEvent.getDittoHeaders().isDryRun()) {
             handler.accept(modifiedEvent, entity);
         } else {
@@ -299,6 +394,18 @@ public abstract class AbstractShardedPersistenceActor<
         }
     }
 
+    private E setEntitySchemaVersion(final E event) {
+        if (null != entity) {
+            // set version of event to the version of the entity
+            final DittoHeaders newHeaders = event.getDittoHeaders().toBuilder()
+                    .schemaVersion(getEntitySchemaVersion(entity))
+                    .build();
+            return (E) event.setDittoHeaders(newHeaders);
+        } else {
+            return event;
+        }
+    }
+
     /**
      * Check for activity. Shutdown actor if it is lacking.
      *
@@ -311,8 +418,8 @@ public abstract class AbstractShardedPersistenceActor<
             // - the latest snapshot is out of date or is still ongoing.
             takeSnapshot("the entity is deleted and has no up-to-date snapshot");
             scheduleCheckForActivity(getActivityCheckConfig().getDeletedInterval());
-        } else if (accessCounter > message.accessCounter) {
-            // if the entity was accessed in any way since the last check
+        } else if (accessCounter > message.accessCounter || hasUncommittedEvents()) {
+            // if the entity was accessed in any way since the last check or events are not yet persisted
             scheduleCheckForActivity(getActivityCheckConfig().getInactiveInterval());
         } else {
             // safe to shutdown after a period of inactivity if:
@@ -385,7 +492,7 @@ public abstract class AbstractShardedPersistenceActor<
         try {
             result = strategy.apply(getStrategyContext(), entity, getNextRevisionNumber(), command);
         } catch (final DittoRuntimeException e) {
-            getSender().tell(e, getSelf());
+            notifySender(getSender(), e);
             return;
         }
         result.accept(this);
@@ -395,6 +502,17 @@ public abstract class AbstractShardedPersistenceActor<
     public void onMutation(final Command command, final E event, final WithDittoHeaders response,
             final boolean becomeCreated, final boolean becomeDeleted) {
 
+        if (isGroupCommitEnabled() && !event.getDittoHeaders().isDryRun()) {
+            applyEventUncommitted(command, setEntitySchemaVersion(event), response);
+            if (becomeDeleted) {
+                becomeDeletedHandler();
+            }
+            if (becomeCreated) {
+                becomeCreatedHandler();
+            }
+            return;
+        }
+
         persistAndApplyEvent(event, (persistedEvent, resultingEntity) -> {
             if (shouldSendResponse(command.getDittoHeaders())) {
                 notifySender(response);
@@ -454,32 +572,162 @@ public abstract class AbstractShardedPersistenceActor<
         });
     }
 
+    /**
+     * Apply the event of a mutation to the entity before it is persisted and schedule it for the next journal write.
+     * The event is published and the response is sent after the journal confirmed the event.
+     */
+    private void applyEventUncommitted(final Command command, final E event, final WithDittoHeaders response) {
+        if (!hasUncommittedEvents()) {
+            committedEntity = entity;
+        }
+        appliedEventCount++;
+        applyEventToEntity(event);
+        final ActorRef sender = getSender();
+        final boolean sendResponse = shouldSendResponse(command.getDittoHeaders());
+        unwrittenEvents.add(new UncommittedEvent<>(event, entity, sender, sendResponse ? response : null));
+        if (inFlightEvents.isEmpty()) {
+            writeUnwrittenEvents();
+        }
+    }
+
+    private void writeUnwrittenEvents() {
+        final List<UncommittedEvent<E, S>> batch = unwrittenEvents;
+        unwrittenEvents = new ArrayList<>();
+        inFlightEvents.addAll(batch);
+
+        final List<E> events = new ArrayList<>(batch.size());
+        for (final UncommittedEvent<E, S> uncommittedEvent : batch) {
+            events.add(uncommittedEvent.event);
+        }
+        if (null == groupCommitBatchSize || null == groupCommitLatency) {
+            groupCommitBatchSize = DittoMetrics.histogram("persistence_group_commit_batch_size");
+            groupCommitLatency = DittoMetrics.timer("persistence_group_commit_latency");
+        }
+        groupCommitBatchSize.record((long) events.size());
+        inFlightBatchTimer = groupCommitLatency.start();
+        log.debug("Persisting <{}> events in one journal write.", events.size());
+        persistAllAsync(events, this::uncommittedEventPersisted);
+    }
+
+    private void uncommittedEventPersisted(final E persistedEvent) {
+        final UncommittedEvent<E, S> uncommittedEvent = inFlightEvents.removeFirst();
+        persistedEventCount++;
+        committedEntity = uncommittedEvent.entity;
+        LogUtil.enhanceLogWithCorrelationId(log, persistedEvent.getDittoHeaders().getCorrelationId());
+        log.info("Successfully persisted Event <{}>.", persistedEvent.getType());
+
+        publishEvent(persistedEvent, uncommittedEvent.sender);
+        if (null != uncommittedEvent.response) {
+            tellSender(uncommittedEvent.sender, uncommittedEvent.response);
+        }
+        while (!deferredResponses.isEmpty() &&
+                deferredResponses.getFirst().appliedEventCount <= persistedEventCount) {
+            final DeferredResponse deferredResponse = deferredResponses.removeFirst();
+            tellSender(deferredResponse.sender, deferredResponse.message);
+        }
+
+        if (inFlightEvents.isEmpty()) {
+            if (null != inFlightBatchTimer) {
+                inFlightBatchTimer.stop();
+                inFlightBatchTimer = null;
+            }
+            if (snapshotThresholdPassed()) {
+                takeSnapshot("snapshot threshold is reached");
+            }
+            if (!unwrittenEvents.isEmpty()) {
+                writeUnwrittenEvents();
+            }
+        }
+    }
+
+    private long getUncommittedEventCount() {
+        return appliedEventCount - persistedEventCount;
+    }
+
+    private boolean hasUncommittedEvents() {
+        return appliedEventCount > persistedEventCount;
+    }
+
+    private long getCommittedRevision() {
+        return currentRevision - getUncommittedEventCount();
+    }
+
+    @Override
+    public void onPersistRejected(final Throwable cause, final Object event, final long seqNr) {
+        super.onPersistRejected(cause, event, seqNr);
+        persistFailed = true;
+        if (hasUncommittedEvents()) {
+            // the entity contains the rejected event; recover it from the journal instead
+            log.error("Stopping because the entity contains <{}> rejected or unconfirmed events.",
+                    getUncommittedEventCount());
+            getContext().stop(getSelf());
+        } else {
+            // the rejected event was not applied but used up its sequence number
+            currentRevision = lastSequenceNr();
+        }
+    }
+
+    @Override
+    public void onPersistFailure(final Throwable cause, final Object event, final long seqNr) {
+        persistFailed = true;
+        super.onPersistFailure(cause, event, seqNr);
+    }
+
     private void takeSnapshot(final String reason) {
-        final long revision = getRevisionNumber();
-        if (entity != null && lastSnapshotRevision != revision) {
+        // snapshots contain persisted events only
+        final S snapshotEntity = hasUncommittedEvents() ? committedEntity : entity;
+        final long revision = getCommittedRevision();
+        if (revision != lastSequenceNr()) {
+            // the snapshot store takes the sequence number of the latest event passed to the journal
+            log.debug("Not taking snapshot for entity <{}> while events after revision <{}> are written even if {}.",
+                    entityId, revision, reason);
+        } else if (snapshotEntity != null && lastSnapshotRevision != revision) {
             log.debug("Taking snapshot for entity with ID <{}> and sequence number <{}> because {}.", entityId,
                     revision,
                     reason);
 
-            final Object snapshotSubject = snapshotAdapter.toSnapshotStore(entity);
+            final Object snapshotSubject;
+            if (isDeltaSnapshotApplicable(revision)) {
+                snapshotSubject =
+                        snapshotAdapter.toDeltaSnapshotStore(snapshotEntity, baseSnapshotEntity, baseSnapshotRevision);
+                baseRevisionsOfUnconfirmedSnapshots.put(revision, baseSnapshotRevision);
+            } else {
+                snapshotSubject = snapshotAdapter.toSnapshotStore(snapshotEntity);
+                if (getSnapshotConfig().isDeltaEnabled()) {
+                    unconfirmedBaseSnapshotEntity = snapshotEntity;
+                    unconfirmedBaseSnapshotRevision = revision;
+                }
+            }
             saveSnapshot(snapshotSubject);
 
             lastSnapshotRevision = revision;
         } else if (lastSnapshotRevision == revision) {
-            log.debug("Not taking duplicate snapshot for entity <{}> with revision <{}> even if {}.", entity, revision,
-                    reason);
+            log.debug("Not taking duplicate snapshot for entity <{}> with revision <{}> even if {}.", snapshotEntity,
+                    revision, reason);
         } else {
             log.debug("Not taking snapshot for nonexistent entity <{}> even if {}.", entityId, reason);
         }
     }
 
+    private boolean isDeltaSnapshotApplicable(final long revision) {
+        // no delta while a full snapshot is unconfirmed: its confirmation allows to clean up the current base
+        final SnapshotConfig snapshotConfig = getSnapshotConfig();
+        return snapshotConfig.isDeltaEnabled() && null != baseSnapshotEntity && null == unconfirmedBaseSnapshotEntity &&
+                revision - baseSnapshotRevision < snapshotConfig.getDeltaThreshold();
+    }
+
     private boolean snapshotThresholdPassed() {
-        return getRevisionNumber() - lastSnapshotRevision >= getSnapshotConfig().getThreshold();
+        return getCommittedRevision() - lastSnapshotRevision >= getSnapshotConfig().getThreshold();
     }
 
     private void applyEvent(final E event) {
-        handleEvents.onMessage().apply(event);
-        publishEvent(event);
+        applyEventToEntity(event);
+        publishEvent(event, getSender());
+    }
+
+    private void applyEventToEntity(final E event) {
+        currentRevision++;
+        entity = getEventStrategy().handle(event, entity, currentRevision);
     }
 
     private void notifySender(final WithDittoHeaders message) {
@@ -487,6 +735,15 @@ public abstract class AbstractShardedPersistenceActor<
     }
 
     private void notifySender(final ActorRef sender, final WithDittoHeaders message) {
+        if (hasUncommittedEvents()) {
+            // the message may depend on events not yet persisted
+            deferredResponses.addLast(new DeferredResponse(appliedEventCount, sender, message));
+        } else {
+            tellSender(sender, message);
+        }
+    }
+
+    private void tellSender(final ActorRef sender, final WithDittoHeaders message) {
         accessCounter++;
         sender.tell(message, getSelf());
     }
@@ -497,16 +754,114 @@ public abstract class AbstractShardedPersistenceActor<
 
     private void saveSnapshotSuccess(final SaveSnapshotSuccess s) {
         log.debug("Got {}", s);
-        confirmedSnapshotRevision = s.metadata().sequenceNr();
+        final long revision = s.metadata().sequenceNr();
+        final Long baseRevision = baseRevisionsOfUnconfirmedSnapshots.remove(revision);
+        confirmedSnapshotRevision = null != baseRevision ? baseRevision : revision;
+        if (null != unconfirmedBaseSnapshotEntity && unconfirmedBaseSnapshotRevision == revision) {
+            setBaseSnapshot(unconfirmedBaseSnapshotEntity, revision);
+            unconfirmedBaseSnapshotEntity = null;
+        }
     }
 
     private void saveSnapshotFailure(final SaveSnapshotFailure s) {
         log.error(s.cause(), "Got {}", s);
+        final long revision = s.metadata().sequenceNr();
+        baseRevisionsOfUnconfirmedSnapshots.remove(revision);
+        if (unconfirmedBaseSnapshotRevision == revision) {
+            unconfirmedBaseSnapshotEntity = null;
+        }
+    }
+
+    private void setBaseSnapshot(@Nullable final S snapshotEntity, final long revision) {
+        if (getSnapshotConfig().isDeltaEnabled()) {
+            baseSnapshotEntity = snapshotEntity;
+            baseSnapshotRevision = revision;
+        }
     }
 
     private void recoverFromSnapshotOffer(final SnapshotOffer snapshotOffer) {
-        entity = snapshotAdapter.fromSnapshotStore(snapshotOffer);
-        lastSnapshotRevision = confirmedSnapshotRevision = snapshotOffer.metadata().sequenceNr();
+        final long revision = snapshotOffer.metadata().sequenceNr();
+        final OptionalLong baseRevision = snapshotAdapter.getBaseSequenceNumber(snapshotOffer.snapshot());
+        if (baseRevision.isPresent()) {
+            // the entity is restored after the replay when the base snapshot is loaded
+            recoveredDeltaSnapshot = snapshotOffer;
+            baseSnapshotRevision = baseRevision.getAsLong();
+            confirmedSnapshotRevision = baseSnapshotRevision;
+            recoveryTimer.tag(SNAPSHOT_TAG, "delta");
+        } else {
+            entity = snapshotAdapter.fromSnapshotStore(snapshotOffer);
+            setBaseSnapshot(entity, revision);
+            confirmedSnapshotRevision = revision;
+            recoveryTimer.tag(SNAPSHOT_TAG, "full");
+        }
+        lastSnapshotRevision = revision;
+    }
+
+    private void deferUntilBaseSnapshotIsLoaded(final E event) {
+        currentRevision = lastSequenceNr();
+        eventsAfterDeltaSnapshot.add(Pair.create(event, currentRevision));
+    }
+
+    private void handleRecoveryCompleted(final RecoveryCompleted event) {
+        currentRevision = lastSequenceNr();
+        if (null != recoveredDeltaSnapshot) {
+            log.debug("Loading base snapshot <{}> of delta snapshot <{}> for entity with ID <{}>.",
+                    baseSnapshotRevision, lastSnapshotRevision, entityId);
+            loadSnapshot(persistenceId(),
+                    SnapshotSelectionCriteria.create(baseSnapshotRevision, Long.MAX_VALUE, baseSnapshotRevision, 0L),
+                    baseSnapshotRevision);
+            getContext().become(createLoadingBaseSnapshotBehavior(event));
+        } else {
+            finishRecovery(event);
+        }
+    }
+
+    private Receive createLoadingBaseSnapshotBehavior(final RecoveryCompleted recoveryCompleted) {
+        return ReceiveBuilder.create()
+                .match(SnapshotProtocol.LoadSnapshotResult.class,
+                        result -> baseSnapshotLoaded(result, recoveryCompleted))
+                .match(SnapshotProtocol.LoadSnapshotFailed.class, failed -> baseSnapshotNotLoaded(failed.cause()))
+                .matchAny(message -> stash())
+                .build();
+    }
+
+    private void baseSnapshotLoaded(final SnapshotProtocol.LoadSnapshotResult result,
+            final RecoveryCompleted recoveryCompleted) {
+
+        final Option<SelectedSnapshot> selectedSnapshot = result.snapshot();
+        if (selectedSnapshot.isEmpty() || selectedSnapshot.get().metadata().sequenceNr() != baseSnapshotRevision) {
+            baseSnapshotNotLoaded(new IllegalStateException("Base snapshot <" + baseSnapshotRevision + "> not found."));
+            return;
+        }
+        final S baseEntity = snapshotAdapter.fromSnapshotStore(selectedSnapshot.get());
+        entity = null != baseEntity ? snapshotAdapter.fromDeltaSnapshotStore(recoveredDeltaSnapshot, baseEntity) : null;
+        setBaseSnapshot(baseEntity, baseSnapshotRevision);
+        for (final Pair<E, Long> eventWithRevision : eventsAfterDeltaSnapshot) {
+            entity = getEventStrategy().handle(eventWithRevision.first(), entity, eventWithRevision.second());
+        }
+        eventsAfterDeltaSnapshot.clear();
+        recoveredDeltaSnapshot = null;
+        finishRecovery(recoveryCompleted);
+        unstashAll();
+    }
+
+    private void baseSnapshotNotLoaded(final Throwable cause) {
+        log.error(cause, "Failed to load base snapshot <{}> of delta snapshot <{}> for entity with ID <{}>. " +
+                "Stopping ...", baseSnapshotRevision, lastSnapshotRevision, entityId);
+        getContext().stop(getSelf());
+    }
+
+    private void finishRecovery(final RecoveryCompleted event) {
+        recoveryTimer.tag("success", true).stop();
+        recovered = true;
+        recoveryCompleted(event);
+    }
+
+    private static String getEntityType(final EntityId entityId) {
+        if (entityId instanceof EntityIdWithType) {
+            return String.valueOf(((EntityIdWithType) entityId).getEntityType());
+        }
+        return "unknown";
     }
 
     @Override
@@ -575,4 +930,42 @@ public abstract class AbstractShardedPersistenceActor<
         TAKE_SNAPSHOT
     }
 
+    /**
+     * An event applied to the entity in group-commit mode which is not yet confirmed by the journal.
+     */
+    private static final class UncommittedEvent<E, S> {
+
+        private final E event;
+        @Nullable private final S entity;
+        private final ActorRef sender;
+        @Nullable private final WithDittoHeaders response;
+
+        private UncommittedEvent(final E event, @Nullable final S entity, final ActorRef sender,
+                @Nullable final WithDittoHeaders response) {
+
+            this.event = event;
+            this.entity = entity;
+            this.sender = sender;
+            this.response = response;
+        }
+    }
+
+    /**
+     * A response held back until all events applied before it are persisted.
+     */
+    private static final class DeferredResponse {
+
+        private final long appliedEventCount;
+        private final ActorRef sender;
+        private final WithDittoHeaders message;
+
+        private DeferredResponse(final long appliedEventCount, final ActorRef sender,
+                final WithDittoHeaders message) {
+
+            this.appliedEventCount = appliedEventCount;
+            this.sender = sender;
+            this.message = message;
+        }
+    }
+
 }
@@ -12,10 +12,12 @@
  */
 package org.eclipse.ditto.services.utils.pubsub.actors;
 
-import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.eclipse.ditto.services.utils.akka.LogUtil;
 import org.eclipse.ditto.services.utils.pubsub.ddata.DData;
+import org.eclipse.ditto.signals.base.WithId;
 
 import akka.actor.ActorRef;
 import akka.actor.Props;
@@ -33,14 +35,15 @@ import akka.japi.pf.ReceiveBuilder;
  *             |                        |
  *             |                        |
  *             v                        v
- *        Publisher                PubUpdater
+ *        Publishers               PubUpdater
  *         +                         +
  *         |                         |
  *         |                         |
  *         |                         |Member removed:
  *         |                         |write local
  *         |                         |to be distributed later
- *         |read local               |
+ *         |read local or            |
+ *         |subscribe for changes    |
  *         |                         v
  *         +--------------------> DDataReplicator
  * }
@@ -52,7 +55,7 @@ public final class PubSupervisor extends AbstractPubSubSupervisor {
 
     private final DData<?, ?> ddata;
 
-    @Nullable private ActorRef publisher;
+    private final List<ActorRef> publishers = new ArrayList<>();
 
     @SuppressWarnings("unused")
     private PubSupervisor(final DData<?, ?> ddata) {
@@ -80,22 +83,39 @@ public final class PubSupervisor extends AbstractPubSubSupervisor {
 
     @Override
     protected void onChildFailure() {
-        publisher = null;
+        publishers.clear();
     }
 
     @Override
     protected void startChildren() {
         startChild(PubUpdater.props(ddata.getWriter()), PubUpdater.ACTOR_NAME_PREFIX);
-        publisher = startChild(Publisher.props(ddata.getReader()), Publisher.ACTOR_NAME_PREFIX);
+        publishers.clear();
+        final Props publisherProps = Publisher.props(ddata.getReader(), config.isPublishFromLocalSnapshot());
+        for (int i = 0; i < config.getPublisherParallelism(); i++) {
+            publishers.add(startChild(publisherProps, Publisher.ACTOR_NAME_PREFIX));
+        }
     }
 
     private boolean isPublisherAvailable() {
-        return publisher != null;
+        return !publishers.isEmpty();
     }
 
-    @SuppressWarnings("ConstantConditions")
     private void publish(final Publisher.Publish publish) {
-        publisher.tell(publish, getSender());
+        publishers.get(getPublisherIndex(publish, publishers.size())).tell(publish, getSender());
+    }
+
+    /**
+     * Select the publisher of a message. Messages of the same entity go through the same publisher so that they keep
+     * their order regardless of their senders; messages without entity ID are distributed by their topics.
+     *
+     * @param publish the message to publish.
+     * @param numberOfPublishers the number of publishers.
+     * @return the index of the publisher.
+     */
+    static int getPublisherIndex(final Publisher.Publish publish, final int numberOfPublishers) {
+        final Object message = publish.getMessage();
+        final Object routingKey = message instanceof WithId ? ((WithId) message).getEntityId() : publish.getTopics();
+        return Math.floorMod(routingKey.hashCode(), numberOfPublishers);
     }
 
     private void publisherUnavailable(final Publisher.Publish publish) {
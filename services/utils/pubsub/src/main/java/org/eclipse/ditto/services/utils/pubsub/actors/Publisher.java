@@ -12,25 +12,40 @@
  */
 package org.eclipse.ditto.services.utils.pubsub.actors;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import javax.annotation.Nullable;
+
 import org.eclipse.ditto.services.utils.akka.LogUtil;
 import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
 import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.services.utils.metrics.instruments.gauge.Gauge;
+import org.eclipse.ditto.services.utils.metrics.instruments.timer.PreparedTimer;
 import org.eclipse.ditto.services.utils.pubsub.ddata.DDataReader;
 
 import akka.actor.AbstractActor;
 import akka.actor.ActorRef;
 import akka.actor.Props;
+import akka.cluster.ddata.Replicator;
 import akka.event.DiagnosticLoggingAdapter;
 import akka.japi.pf.ReceiveBuilder;
 
 /**
  * Publishes messages according to topic Bloom filters.
+ * <p>
+ * By default, subscribers of each message are read from the distributed data replicator and messages are published
+ * one after another. If publishing from a local snapshot is enabled, the publisher keeps the subscriptions of the
+ * latest change notification of the replicator and publishes each message as soon as it arrives.
+ * </p>
  *
  * @param <T> representation of topics in the distributed data.
  */
@@ -41,18 +56,27 @@ public final class Publisher<T> extends AbstractActor {
      */
     public static final String ACTOR_NAME_PREFIX = "publisher";
 
+    private static final String LATENCY_METRIC_NAME = "pubsub-publish-latency";
+    private static final String SOURCE_TAG = "source";
+
     private DiagnosticLoggingAdapter log = LogUtil.obtain(this);
 
     private final DDataReader<T> ddataReader;
+    private final boolean publishFromLocalSnapshot;
 
     private final Counter messageCounter = DittoMetrics.counter("pubsub-published-messages");
     private final Counter topicCounter = DittoMetrics.counter("pubsub-published-topics");
+    private final Gauge backlog = DittoMetrics.gauge("pubsub-publish-backlog");
+    private final PreparedTimer ddataLatency = DittoMetrics.timer(LATENCY_METRIC_NAME).tag(SOURCE_TAG, "ddata");
+    private final PreparedTimer snapshotLatency = DittoMetrics.timer(LATENCY_METRIC_NAME).tag(SOURCE_TAG, "snapshot");
 
     private CompletionStage<Void> currentPublication = CompletableFuture.completedFuture(null);
+    @Nullable private Map<ActorRef, Set<T>> subscriptions;
 
     @SuppressWarnings("unused")
-    private Publisher(final DDataReader<T> ddataReader) {
+    private Publisher(final DDataReader<T> ddataReader, final boolean publishFromLocalSnapshot) {
         this.ddataReader = ddataReader;
+        this.publishFromLocalSnapshot = publishFromLocalSnapshot;
     }
 
     /**
@@ -63,14 +87,35 @@ public final class Publisher<T> extends AbstractActor {
      * @return a Props object.
      */
     public static <T> Props props(final DDataReader<T> ddataReader) {
+        return props(ddataReader, false);
+    }
 
-        return Props.create(Publisher.class, ddataReader);
+    /**
+     * Create Props for this actor.
+     *
+     * @param ddataReader reader of remote subscriptions.
+     * @param publishFromLocalSnapshot whether to look up subscribers in a local snapshot of the distributed data.
+     * @param <T> representation of topics in the distributed data.
+     * @return a Props object.
+     * @since 2.0.0
+     */
+    public static <T> Props props(final DDataReader<T> ddataReader, final boolean publishFromLocalSnapshot) {
+
+        return Props.create(Publisher.class, ddataReader, publishFromLocalSnapshot);
+    }
+
+    @Override
+    public void preStart() {
+        if (publishFromLocalSnapshot) {
+            ddataReader.subscribeForChanges(getSelf());
+        }
     }
 
     @Override
     public Receive createReceive() {
         return ReceiveBuilder.create()
                 .match(Publish.class, this::publish)
+                .match(Replicator.Changed.class, this::updateSubscriptions)
                 .matchAny(this::logUnhandled)
                 .build();
     }
@@ -79,18 +124,58 @@ public final class Publisher<T> extends AbstractActor {
         messageCounter.increment();
         topicCounter.increment(publish.getTopics().size());
         final List<T> hashes = publish.getTopics().stream().map(ddataReader::approximate).collect(Collectors.toList());
-        final Object message = publish.getMessage();
         final ActorRef sender = getSender();
+        final Map<ActorRef, Set<T>> snapshot = subscriptions;
+        if (snapshot == null) {
+            enqueue(publish, sender, ddataLatency, () -> ddataReader.getSubscribers(hashes));
+        } else if (currentPublication.toCompletableFuture().isDone()) {
+            dispatch(publish, sender, snapshotLatency, getSubscribers(snapshot, hashes));
+        } else {
+            // publications from before the first snapshot are still running; keep the order of messages
+            enqueue(publish, sender, snapshotLatency,
+                    () -> CompletableFuture.completedFuture(getSubscribers(snapshot, hashes)));
+        }
+    }
+
+    private void enqueue(final Publish publish, final ActorRef sender, final PreparedTimer latency,
+            final Supplier<CompletionStage<Collection<ActorRef>>> subscribersSupplier) {
+
+        backlog.increment();
         currentPublication = currentPublication.thenCompose(_void ->
-                ddataReader.getSubscribers(hashes)
-                        .thenAccept(subscribers -> subscribers.forEach(subscriber -> subscriber.tell(message, sender)))
+                subscribersSupplier.get()
+                        .thenAccept(subscribers -> dispatch(publish, sender, latency, subscribers))
                         .exceptionally(e -> {
                             log.error(e, "Failed: <{}>", publish);
                             return null;
                         })
+                        .whenComplete((_void2, error) -> backlog.decrement())
         );
     }
 
+    private static void dispatch(final Publish publish, final ActorRef sender, final PreparedTimer latency,
+            final Collection<ActorRef> subscribers) {
+
+        final Object message = publish.getMessage();
+        subscribers.forEach(subscriber -> subscriber.tell(message, sender));
+        latency.record(System.nanoTime() - publish.startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void updateSubscriptions(final Replicator.Changed<?> changed) {
+        subscriptions = ddataReader.getSubscriptions(changed);
+    }
+
+    private static <T> Collection<ActorRef> getSubscribers(final Map<ActorRef, Set<T>> subscriptions,
+            final Collection<T> hashes) {
+
+        final List<ActorRef> subscribers = new ArrayList<>();
+        subscriptions.forEach((subscriber, topics) -> {
+            if (hashes.stream().anyMatch(topics::contains)) {
+                subscribers.add(subscriber);
+            }
+        });
+        return subscribers;
+    }
+
     private void logUnhandled(final Object message) {
         log.warning("Unhandled: <{}>", message);
     }
@@ -105,9 +190,12 @@ public final class Publisher<T> extends AbstractActor {
 
         private final Object message;
 
+        private final long startNanos;
+
         private Publish(final Collection<String> topics, final Object message) {
             this.topics = topics;
             this.message = message;
+            startNanos = System.nanoTime();
         }
 
         /**
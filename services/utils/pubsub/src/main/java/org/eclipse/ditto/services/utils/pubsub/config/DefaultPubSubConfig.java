@@ -41,6 +41,8 @@ final class DefaultPubSubConfig implements PubSubConfig {
     private final Duration restartDelay;
     private final Duration updateInterval;
     private final double forceUpdateProbability;
+    private final boolean publishFromLocalSnapshot;
+    private final int publisherParallelism;
 
     private DefaultPubSubConfig(final ConfigWithFallback config) {
         seed = config.getString(ConfigValue.SEED.getConfigPath());
@@ -48,6 +50,8 @@ final class DefaultPubSubConfig implements PubSubConfig {
         restartDelay = config.getDuration(ConfigValue.RESTART_DELAY.getConfigPath());
         updateInterval = config.getDuration(ConfigValue.UPDATE_INTERVAL.getConfigPath());
         forceUpdateProbability = config.getDouble(ConfigValue.FORCE_UPDATE_PROBABILITY.getConfigPath());
+        publishFromLocalSnapshot = config.getBoolean(ConfigValue.PUBLISH_FROM_LOCAL_SNAPSHOT.getConfigPath());
+        publisherParallelism = config.getPositiveIntOrThrow(ConfigValue.PUBLISHER_PARALLELISM);
     }
 
     static PubSubConfig of(final Config config) {
@@ -79,15 +83,27 @@ final class DefaultPubSubConfig implements PubSubConfig {
         return forceUpdateProbability;
     }
 
+    @Override
+    public boolean isPublishFromLocalSnapshot() {
+        return publishFromLocalSnapshot;
+    }
+
+    @Override
+    public int getPublisherParallelism() {
+        return publisherParallelism;
+    }
+
     private String[] getFieldNames() {
         return new String[]{
-                "seed", "hashFamilySize", "restartDelay", "updateInterval", "forceUpdateProbability"
+                "seed", "hashFamilySize", "restartDelay", "updateInterval", "forceUpdateProbability",
+                "publishFromLocalSnapshot", "publisherParallelism"
         };
     }
 
     private Object[] getFieldValues() {
         return new Object[]{
-                seed, hashFamilySize, restartDelay, updateInterval, forceUpdateProbability
+                seed, hashFamilySize, restartDelay, updateInterval, forceUpdateProbability, publishFromLocalSnapshot,
+                publisherParallelism
         };
     }
 
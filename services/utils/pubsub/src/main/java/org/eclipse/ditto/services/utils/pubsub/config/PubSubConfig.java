@@ -55,6 +55,20 @@ public interface PubSubConfig {
      */
     double getForceUpdateProbability();
 
+    /**
+     * @return Whether publishers look up subscribers in a local snapshot of the distributed data kept up to date by
+     * change notifications of the replicator instead of reading the distributed data for each message.
+     * @since 2.0.0
+     */
+    boolean isPublishFromLocalSnapshot();
+
+    /**
+     * @return How many publisher actors to start. Messages of the same sender are always published by the same
+     * publisher.
+     * @since 2.0.0
+     */
+    int getPublisherParallelism();
+
     /**
      * Create a {@code PubSubConfig} object from a {@code Config} object at the key {@code pubsub}.
      *
@@ -113,7 +127,18 @@ public interface PubSubConfig {
          * from temporary disassociation, during which a remove member may remove our subscriber
          * from the distributed data when prompted by a cluster event MemberRemoved.
          */
-        FORCE_UPDATE_PROBABILITY("force-update-probability", 0.01);
+        FORCE_UPDATE_PROBABILITY("force-update-probability", 0.01),
+
+        /**
+         * Whether to look up subscribers in a local snapshot of the distributed data. The snapshot is updated
+         * by change notifications of the replicator, which are delayed by its notify-subscribers-interval.
+         */
+        PUBLISH_FROM_LOCAL_SNAPSHOT("publish-from-local-snapshot", false),
+
+        /**
+         * How many publisher actors to start.
+         */
+        PUBLISHER_PARALLELISM("publisher-parallelism", 1);
 
         private final String path;
         private final Object defaultValue;
@@ -13,9 +13,12 @@
 package org.eclipse.ditto.services.utils.pubsub.ddata;
 
 import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletionStage;
 
 import akka.actor.ActorRef;
+import akka.cluster.ddata.Replicator;
 
 /**
  * Reader of distributed Bloom filters of subscribed topics.
@@ -32,6 +35,23 @@ public interface DDataReader<T> {
      */
     CompletionStage<Collection<ActorRef>> getSubscribers(Collection<T> topicHashes);
 
+    /**
+     * Request {@code Replicator.Changed} notifications whenever the distributed data changes.
+     *
+     * @param subscriber whom to notify of changes.
+     * @since 2.0.0
+     */
+    void subscribeForChanges(ActorRef subscriber);
+
+    /**
+     * Extract the subscriptions from a change notification of the distributed data.
+     *
+     * @param changed a change notification requested by {@link #subscribeForChanges(ActorRef)}.
+     * @return the approximations of subscribed topics of each subscriber.
+     * @since 2.0.0
+     */
+    Map<ActorRef, Set<T>> getSubscriptions(Replicator.Changed<?> changed);
+
     /**
      * Map a topic to a key with which to read distributed data.
      *
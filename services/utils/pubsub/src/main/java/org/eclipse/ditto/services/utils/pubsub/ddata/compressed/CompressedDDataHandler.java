@@ -14,8 +14,10 @@ package org.eclipse.ditto.services.utils.pubsub.ddata.compressed;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
@@ -111,6 +113,17 @@ public final class CompressedDDataHandler extends DistributedData<ORMultiMap<Act
         });
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map<ActorRef, Set<ByteString>> getSubscriptions(final Replicator.Changed<?> changed) {
+        final ORMultiMap<ActorRef, ByteString> mmap = (ORMultiMap<ActorRef, ByteString>) changed.dataValue();
+        ddataMetrics.set((long) mmap.size());
+        final Map<ActorRef, Set<ByteString>> subscriptions = new HashMap<>();
+        JavaConverters.mapAsJavaMap(mmap.entries())
+                .forEach((subscriber, topics) -> subscriptions.put(subscriber, JavaConverters.setAsJavaSet(topics)));
+        return subscriptions;
+    }
+
     /**
      * Lossy-compress a topic into a ByteString consisting of hash codes from the family of hash functions.
      *
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.pubsub.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.eclipse.ditto.model.base.entity.id.DefaultEntityId;
+import org.eclipse.ditto.model.base.entity.id.EntityId;
+import org.eclipse.ditto.signals.base.WithId;
+import org.junit.Test;
+
+/**
+ * Tests the selection of publishers by {@link PubSupervisor}.
+ */
+public final class PubSupervisorTest {
+
+    private static final int NUMBER_OF_PUBLISHERS = 4;
+
+    @Test
+    public void messagesOfOneEntityGoThroughTheSamePublisher() {
+        final EntityId entityId = DefaultEntityId.of("namespace:entity");
+
+        // messages of one entity may have different topics, e.g. after a policy change
+        final Set<Integer> publisherIndexes = IntStream.range(0, 100)
+                .mapToObj(i -> Publisher.Publish.of(List.of("subject" + i), (WithId) () -> entityId))
+                .map(publish -> PubSupervisor.getPublisherIndex(publish, NUMBER_OF_PUBLISHERS))
+                .collect(Collectors.toSet());
+
+        assertThat(publisherIndexes).hasSize(1);
+    }
+
+    @Test
+    public void messagesOfDifferentEntitiesAreDistributed() {
+        final Set<Integer> publisherIndexes = IntStream.range(0, 100)
+                .mapToObj(i -> DefaultEntityId.of("namespace:entity" + i))
+                .map(entityId -> Publisher.Publish.of(List.of("subject"), (WithId) () -> entityId))
+                .map(publish -> PubSupervisor.getPublisherIndex(publish, NUMBER_OF_PUBLISHERS))
+                .collect(Collectors.toSet());
+
+        assertThat(publisherIndexes).hasSize(NUMBER_OF_PUBLISHERS);
+    }
+
+    @Test
+    public void messagesWithoutEntityIdAreDistributedByTopics() {
+        final int publisherIndex =
+                PubSupervisor.getPublisherIndex(Publisher.Publish.of(List.of("a", "b"), "message"),
+                        NUMBER_OF_PUBLISHERS);
+
+        assertThat(PubSupervisor.getPublisherIndex(Publisher.Publish.of(List.of("a", "b"), "other message"),
+                NUMBER_OF_PUBLISHERS)).isEqualTo(publisherIndex);
+    }
+
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.pubsub.actors;
+
+import static java.util.Collections.singleton;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.awaitility.Awaitility;
+import org.eclipse.ditto.services.utils.pubsub.ddata.DDataReader;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.cluster.ddata.GCounter;
+import akka.cluster.ddata.GCounterKey;
+import akka.cluster.ddata.Replicator;
+import akka.testkit.TestProbe;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests {@link Publisher}.
+ */
+public final class PublisherTest {
+
+    private ActorSystem system;
+
+    @Before
+    public void setUp() {
+        system = ActorSystem.create();
+    }
+
+    @After
+    public void tearDown() {
+        TestKit.shutdownActorSystem(system);
+    }
+
+    @Test
+    public void publishFromLocalSnapshotAfterPendingPublicationsInOrder() {
+        new TestKit(system) {{
+            final TestProbe subscriber = TestProbe.apply(system);
+            final FakeDDataReader ddataReader = new FakeDDataReader(singletonMap(subscriber.ref(), "topic"));
+            final ActorRef underTest = system.actorOf(Publisher.props(ddataReader, true));
+            Awaitility.await().untilAsserted(() -> assertThat(ddataReader.changeSubscriber).isEqualTo(underTest));
+
+            // GIVEN: a publication is waiting for the distributed data before the first snapshot arrived
+            underTest.tell(Publisher.Publish.of(singleton("topic"), "first"), getRef());
+
+            // WHEN: the snapshot arrives and another message is published
+            underTest.tell(new Replicator.Changed<>(GCounterKey.create("key"), GCounter.create()), getRef());
+            underTest.tell(Publisher.Publish.of(singleton("topic"), "second"), getRef());
+
+            // THEN: the second message waits for the first
+            subscriber.expectNoMessage();
+            ddataReader.pendingSubscribers.complete(singletonList(subscriber.ref()));
+            subscriber.expectMsg("first");
+            subscriber.expectMsg("second");
+
+            // THEN: later messages are published from the snapshot without reading the distributed data
+            underTest.tell(Publisher.Publish.of(singleton("topic"), "third"), getRef());
+            underTest.tell(Publisher.Publish.of(singleton("other topic"), "fourth"), getRef());
+            subscriber.expectMsg("third");
+            subscriber.expectNoMessage();
+            assertThat(ddataReader.getSubscribersCalls.get()).isEqualTo(1);
+        }};
+    }
+
+    @Test
+    public void doNotSubscribeForChangesByDefault() {
+        new TestKit(system) {{
+            final TestProbe subscriber = TestProbe.apply(system);
+            final FakeDDataReader ddataReader = new FakeDDataReader(singletonMap(subscriber.ref(), "topic"));
+            final ActorRef underTest = system.actorOf(Publisher.props(ddataReader));
+            ddataReader.pendingSubscribers.complete(singletonList(subscriber.ref()));
+
+            underTest.tell(Publisher.Publish.of(singleton("topic"), "message"), getRef());
+
+            subscriber.expectMsg("message");
+            assertThat(ddataReader.changeSubscriber).isNull();
+        }};
+    }
+
+    private static Map<ActorRef, Set<String>> singletonMap(final ActorRef subscriber, final String topic) {
+        return Collections.singletonMap(subscriber, singleton(topic));
+    }
+
+    private static final class FakeDDataReader implements DDataReader<String> {
+
+        private final Map<ActorRef, Set<String>> subscriptions;
+        private final CompletableFuture<Collection<ActorRef>> pendingSubscribers = new CompletableFuture<>();
+        private final AtomicInteger getSubscribersCalls = new AtomicInteger();
+        private volatile ActorRef changeSubscriber;
+
+        private FakeDDataReader(final Map<ActorRef, Set<String>> subscriptions) {
+            this.subscriptions = subscriptions;
+        }
+
+        @Override
+        public CompletionStage<Collection<ActorRef>> getSubscribers(final Collection<String> topicHashes) {
+            getSubscribersCalls.incrementAndGet();
+            return pendingSubscribers;
+        }
+
+        @Override
+        public void subscribeForChanges(final ActorRef subscriber) {
+            changeSubscriber = subscriber;
+        }
+
+        @Override
+        public Map<ActorRef, Set<String>> getSubscriptions(final Replicator.Changed<?> changed) {
+            return subscriptions;
+        }
+
+        @Override
+        public String approximate(final String topic) {
+            return topic;
+        }
+    }
+
+}
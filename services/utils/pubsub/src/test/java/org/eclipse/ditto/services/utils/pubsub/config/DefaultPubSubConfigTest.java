@@ -76,6 +76,14 @@ public final class DefaultPubSubConfigTest {
         softly.assertThat(underTest.getForceUpdateProbability())
                 .as(PubSubConfig.ConfigValue.FORCE_UPDATE_PROBABILITY.getConfigPath())
                 .isCloseTo(0.01, Percentage.withPercentage(1.0));
+
+        softly.assertThat(underTest.isPublishFromLocalSnapshot())
+                .as(PubSubConfig.ConfigValue.PUBLISH_FROM_LOCAL_SNAPSHOT.getConfigPath())
+                .isFalse();
+
+        softly.assertThat(underTest.getPublisherParallelism())
+                .as(PubSubConfig.ConfigValue.PUBLISHER_PARALLELISM.getConfigPath())
+                .isEqualTo(1);
     }
 
     @Test
@@ -101,6 +109,14 @@ public final class DefaultPubSubConfigTest {
         softly.assertThat(underTest.getForceUpdateProbability())
                 .as(PubSubConfig.ConfigValue.FORCE_UPDATE_PROBABILITY.getConfigPath())
                 .isCloseTo(0.011, Percentage.withPercentage(1.0));
+
+        softly.assertThat(underTest.isPublishFromLocalSnapshot())
+                .as(PubSubConfig.ConfigValue.PUBLISH_FROM_LOCAL_SNAPSHOT.getConfigPath())
+                .isTrue();
+
+        softly.assertThat(underTest.getPublisherParallelism())
+                .as(PubSubConfig.ConfigValue.PUBLISHER_PARALLELISM.getConfigPath())
+                .isEqualTo(3);
     }
 
 }
@@ -14,8 +14,11 @@ package org.eclipse.ditto.signals.commands.thingsearch.query;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.AllowedReason.assumingFields;
 import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
 
+import java.util.Collections;
+
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.json.FieldType;
@@ -57,7 +60,8 @@ public final class CountThingsTest {
 
     @Test
     public void assertImmutability() {
-        assertInstancesOf(CountThings.class, areImmutable());
+        assertInstancesOf(CountThings.class, areImmutable(),
+                assumingFields("options").areSafelyCopiedUnmodifiableCollectionsWithImmutableElements());
     }
 
 
@@ -120,6 +124,20 @@ public final class CountThingsTest {
         assertAllFieldsSet(CountThings.fromJson(JSON_ALL_FIELDS_V2, DittoHeaders.empty()));
     }
 
+    @Test
+    public void approximateOptionSurvivesJsonRoundTrip() {
+        final CountThings command = CountThings.of(TestConstants.KNOWN_FILTER_STR,
+                Collections.singletonList(CountThings.OPTION_APPROXIMATE), TestConstants.KNOWN_NAMESPACES_SET,
+                DittoHeaders.empty());
+
+        final CountThings deserialized = CountThings.fromJson(command.toJsonString(), DittoHeaders.empty());
+
+        assertThat(deserialized).isEqualTo(command);
+        assertThat(deserialized.isApproximate()).isTrue();
+        assertThat(deserialized.setNamespaces(null).isApproximate()).isTrue();
+        assertThat(CountThings.fromJson(JSON_ALL_FIELDS_V2, DittoHeaders.empty()).isApproximate()).isFalse();
+    }
+
     public void assertAllFieldsSet(final CountThings command) {
         assertThat(command).isNotNull();
         assertThat(command.getFilter()).contains(TestConstants.KNOWN_FILTER_STR);